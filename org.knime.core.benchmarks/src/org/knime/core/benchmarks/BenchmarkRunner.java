@@ -0,0 +1,124 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.benchmarks;
+
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collection;
+
+import org.junit.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks of this fragment inside the OSGi runtime of the test harness (<code>mvn -Pbenchmark
+ * verify</code>) and writes the results as JSON, so that runs of different releases can be compared.
+ *
+ * <p>
+ * <b>Known limitation:</b> the benchmarks run with <code>forks(0)</code>, i.e. in the JVM of the test harness, since
+ * forked JVMs would lack the bundle class loaders. JMH therefore cannot isolate the benchmarks from each other or from
+ * the harness: JIT profiles, heap state and class loading carry over from one benchmark to the next, and JVM options
+ * can only be set for the whole harness (<code>tycho-surefire-plugin</code> <code>argLine</code>). Results are only
+ * comparable between runs with the same selection of benchmarks and the same harness configuration; JMH prints a
+ * warning about the missing forks at the start of every run.
+ *
+ * <p>
+ * The run is controlled by the following system properties:
+ * <ul>
+ * <li><code>{@value #INCLUDE_PROPERTY}</code> - regular expression selecting the benchmarks to run, default all</li>
+ * <li><code>{@value #PARAMS_PROPERTY}</code> - overrides benchmark parameters, e.g.
+ * <code>rowCount=10000;compression=NONE,SNAPPY</code></li>
+ * <li><code>{@value #RESULT_PROPERTY}</code> - the file the JSON results are written to</li>
+ * </ul>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BenchmarkRunner {
+
+    /** System property holding the regular expression of the benchmarks to run. */
+    public static final String INCLUDE_PROPERTY = "knime.benchmark.include";
+
+    /** System property holding parameter overrides, <code>name=value,value;name=value</code>. */
+    public static final String PARAMS_PROPERTY = "knime.benchmark.params";
+
+    /** System property holding the path of the result file. */
+    public static final String RESULT_PROPERTY = "knime.benchmark.result";
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @throws RunnerException if a benchmark fails
+     */
+    @Test
+    public void runBenchmarks() throws RunnerException {
+        final ChainedOptionsBuilder options = new OptionsBuilder() //
+            .include(System.getProperty(INCLUDE_PROPERTY, "org\\.knime\\.core\\..*Benchmark")) //
+            .forks(0) // in-JVM only, see class comment
+            .shouldFailOnError(true) //
+            .resultFormat(ResultFormatType.JSON) //
+            .result(System.getProperty(RESULT_PROPERTY, "jmh-result.json"));
+        final String params = System.getProperty(PARAMS_PROPERTY, "").trim();
+        if (!params.isEmpty()) {
+            for (String param : params.split(";")) {
+                final String[] nameAndValues = param.split("=", 2);
+                if (nameAndValues.length != 2) {
+                    throw new IllegalArgumentException(
+                        "Invalid benchmark parameter \"" + param + "\" in property " + PARAMS_PROPERTY);
+                }
+                options.param(nameAndValues[0].trim(), nameAndValues[1].trim().split(","));
+            }
+        }
+        final Collection<RunResult> results = new Runner(options.build()).run();
+        assertFalse("No benchmark matches " + System.getProperty(INCLUDE_PROPERTY), results.isEmpty());
+    }
+}
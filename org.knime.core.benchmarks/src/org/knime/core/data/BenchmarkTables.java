@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import java.util.Random;
+
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Creates the synthetic tables the benchmarks run on. The shape of a table is given by a string of column type codes,
+ * one character per column:
+ * <ul>
+ * <li><code>i</code> - {@link IntCell}</li>
+ * <li><code>l</code> - {@link LongCell}</li>
+ * <li><code>d</code> - {@link DoubleCell}</li>
+ * <li><code>s</code> - {@link StringCell}</li>
+ * </ul>
+ * For instance <code>"idls"</code> describes a table with four columns of different types. The cell values are drawn
+ * from a fixed number of distinct values by a seeded random generator, so that all runs operate on the same data.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class BenchmarkTables {
+
+    /** The seed used for benchmark data unless specified otherwise. */
+    public static final long SEED = 42;
+
+    private BenchmarkTables() {
+    }
+
+    /**
+     * @param columnTypes the type codes of the columns, see class description
+     * @return a spec with columns named <code>c0</code>, <code>c1</code>, ...
+     */
+    public static DataTableSpec createSpec(final String columnTypes) {
+        final DataColumnSpec[] colSpecs = new DataColumnSpec[columnTypes.length()];
+        for (int i = 0; i < colSpecs.length; i++) {
+            colSpecs[i] = new DataColumnSpecCreator("c" + i, toType(columnTypes.charAt(i))).createSpec();
+        }
+        return new DataTableSpec(colSpecs);
+    }
+
+    /**
+     * Creates the rows of a table, all columns are filled (no missing values).
+     *
+     * @param columnTypes the type codes of the columns, see class description
+     * @param rowCount the number of rows
+     * @param distinctValues the number of distinct values per column
+     * @return the rows with keys <code>Row0</code>, <code>Row1</code>, ...
+     */
+    public static DataRow[] createRows(final String columnTypes, final int rowCount, final int distinctValues) {
+        return createRows(columnTypes, rowCount, distinctValues, SEED);
+    }
+
+    /**
+     * Creates the rows of a table from a different seed, for instance for the second input of a join.
+     *
+     * @param columnTypes the type codes of the columns, see class description
+     * @param rowCount the number of rows
+     * @param distinctValues the number of distinct values per column
+     * @param seed the seed of the random generator
+     * @return the rows with keys <code>Row0</code>, <code>Row1</code>, ...
+     */
+    public static DataRow[] createRows(final String columnTypes, final int rowCount, final int distinctValues,
+        final long seed) {
+        final Random random = new Random(seed);
+        final DataRow[] rows = new DataRow[rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            final DataCell[] cells = new DataCell[columnTypes.length()];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = createCell(columnTypes.charAt(c), random.nextInt(distinctValues));
+            }
+            rows[r] = new DefaultRow(RowKey.createRowKey((long)r), cells);
+        }
+        return rows;
+    }
+
+    /**
+     * Writes rows into a new table of the argument context.
+     *
+     * @param exec the context to create the table with
+     * @param spec the spec of the rows
+     * @param rows the rows to add
+     * @return the closed table
+     */
+    public static BufferedDataTable createTable(final ExecutionContext exec, final DataTableSpec spec,
+        final DataRow[] rows) {
+        final BufferedDataContainer container = exec.createDataContainer(spec);
+        for (DataRow row : rows) {
+            container.addRowToTable(row);
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /** @return a context of a node that isn't part of a workflow, for benchmarks that need to create tables */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static ExecutionContext createExecutionContext() {
+        return new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node((NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0])),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+    }
+
+    private static DataType toType(final char typeCode) {
+        switch (typeCode) {
+            case 'i':
+                return IntCell.TYPE;
+            case 'l':
+                return LongCell.TYPE;
+            case 'd':
+                return DoubleCell.TYPE;
+            case 's':
+                return StringCell.TYPE;
+            default:
+                throw new IllegalArgumentException("Unknown column type code '" + typeCode + "'");
+        }
+    }
+
+    private static DataCell createCell(final char typeCode, final int value) {
+        switch (typeCode) {
+            case 'i':
+                return new IntCell(value);
+            case 'l':
+                return new LongCell(value * 1_000_003L);
+            case 'd':
+                return new DoubleCell(value / 7.0);
+            case 's':
+                return new StringCell("value_" + value);
+            default:
+                throw new IllegalArgumentException("Unknown column type code '" + typeCode + "'");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.BenchmarkTables;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the time to iterate all cells of a table held by a {@link Buffer}, either from memory or read from disk
+ * with one of the {@link CompressionFormat CompressionFormats}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class BufferBenchmark {
+
+    /** The value of {@link #storage} for tables kept in memory. */
+    static final String IN_MEMORY = "MEMORY";
+
+    /** The number of rows of the table. */
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    /** The column types, see {@link BenchmarkTables}. */
+    @Param({"idls", "dddddddddddddddddddd", "ssss"})
+    public String columnTypes;
+
+    /** Either {@value #IN_MEMORY} or the name of the {@link CompressionFormat} of the file the table is read from. */
+    @Param({IN_MEMORY, "NONE", "GZIP", "SNAPPY"})
+    public String storage;
+
+    private ContainerTable m_table;
+
+    /** Writes the table. */
+    @Setup(Level.Trial)
+    public void setup() {
+        final boolean inMemory = IN_MEMORY.equals(storage);
+        final DataContainerSettings settings = DataContainerBenchmark.createSettings(
+            inMemory ? CompressionFormat.NONE : CompressionFormat.valueOf(storage), inMemory);
+        final DataContainer container = new DataContainer(BenchmarkTables.createSpec(columnTypes), settings);
+        for (DataRow row : BenchmarkTables.createRows(columnTypes, rowCount, rowCount)) {
+            container.addRowToTable(row);
+        }
+        container.close();
+        m_table = (ContainerTable)container.getTable();
+    }
+
+    /** @param blackhole consumes the cells */
+    @Benchmark
+    public void iterate(final Blackhole blackhole) {
+        try (CloseableRowIterator it = m_table.iterator()) {
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                for (int i = 0; i < row.getNumCells(); i++) {
+                    blackhole.consume(row.getCell(i));
+                }
+            }
+        }
+    }
+
+    /** Deletes the table. */
+    @TearDown(Level.Trial)
+    public void clearTable() {
+        m_table.clear();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.BenchmarkTables;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.BufferFromFileIteratorVersion20.DataCellStreamReader;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the serialization of cells by {@link DCObjectOutputVersion2} and their deserialization by
+ * {@link DCObjectInputVersion2}, that is, the per-cell cost of the table format without row blocking, compression and
+ * file I/O.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class CellSerializationBenchmark {
+
+    /** The number of rows whose cells are serialized per invocation. */
+    @Param({"100000"})
+    public int rowCount;
+
+    /** The column types, see {@link BenchmarkTables}. */
+    @Param({"i", "l", "d", "s", "idls"})
+    public String columnTypes;
+
+    private DataCell[] m_cells;
+
+    private DefaultTableStoreWriter m_writer;
+
+    private DataCellStreamReader m_cellReader;
+
+    private ByteArrayOutputStream m_out;
+
+    private byte[] m_serialized;
+
+    /**
+     * Creates the cells and serializes them once, so that the reader knows all cell types.
+     *
+     * @throws IOException if serialization fails
+     * @throws InvalidSettingsException if the writer's meta information can't be read
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException, InvalidSettingsException {
+        final DataTableSpec spec = BenchmarkTables.createSpec(columnTypes);
+        final DataRow[] rows = BenchmarkTables.createRows(columnTypes, rowCount, rowCount);
+        m_cells = new DataCell[rows.length * spec.getNumColumns()];
+        for (int r = 0; r < rows.length; r++) {
+            for (int c = 0; c < spec.getNumColumns(); c++) {
+                m_cells[r * spec.getNumColumns() + c] = rows[r].getCell(c);
+            }
+        }
+        // the writer's own stream stays empty, it's only used to look up the serializers of the cells
+        m_writer = new DefaultTableStoreWriter(spec, new ByteArrayOutputStream(), false, CompressionFormat.NONE);
+        m_out = new ByteArrayOutputStream();
+        m_serialized = write();
+        final NodeSettings meta = new NodeSettings("meta");
+        m_writer.writeMetaInfoAfterWrite(meta);
+        // the file is never opened, the cells are read from memory
+        final DefaultTableStoreReader reader =
+            new DefaultTableStoreReader(new File("unused.bin"), spec, meta, Buffer.IVERSION, false);
+        m_cellReader = new DataCellStreamReader(reader);
+    }
+
+    /**
+     * @return the serialized cells
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public byte[] write() throws IOException {
+        m_out.reset();
+        try (DCObjectOutputVersion2 out = new DCObjectOutputVersion2(m_out, m_writer)) {
+            for (DataCell cell : m_cells) {
+                m_writer.writeDataCell(cell, out);
+            }
+        }
+        return m_out.toByteArray();
+    }
+
+    /**
+     * @param blackhole consumes the cells
+     * @throws IOException if deserialization fails
+     */
+    @Benchmark
+    public void read(final Blackhole blackhole) throws IOException {
+        final DCObjectInputVersion2 in =
+            new DCObjectInputVersion2(new ByteArrayInputStream(m_serialized), m_cellReader);
+        for (int i = 0; i < m_cells.length; i++) {
+            blackhole.consume(m_cellReader.readDataCell(in));
+        }
+    }
+
+    /**
+     * Closes the writer.
+     *
+     * @throws IOException if that fails
+     */
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        m_writer.close();
+    }
+}
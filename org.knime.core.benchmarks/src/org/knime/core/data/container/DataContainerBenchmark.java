@@ -0,0 +1,149 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.BenchmarkTables;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.DefaultTableStoreSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to write a table to disk by means of a {@link DataContainer}, including the domain calculation,
+ * the serialization of the cells and the compression of the stream. No rows are kept in memory, so each invocation
+ * writes the complete table with the given {@link CompressionFormat}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class DataContainerBenchmark {
+
+    /** The number of rows written per invocation. */
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    /** The column types, see {@link BenchmarkTables}. */
+    @Param({"idls", "dddddddddddddddddddd", "ssss"})
+    public String columnTypes;
+
+    /** The name of the {@link CompressionFormat} of the written stream. */
+    @Param({"NONE", "GZIP", "SNAPPY"})
+    public String compression;
+
+    private DataTableSpec m_spec;
+
+    private DataRow[] m_rows;
+
+    private DataContainerSettings m_settings;
+
+    private ContainerTable m_table;
+
+    /** Creates the rows and the container settings. */
+    @Setup(Level.Trial)
+    public void setup() {
+        m_spec = BenchmarkTables.createSpec(columnTypes);
+        m_rows = BenchmarkTables.createRows(columnTypes, rowCount, rowCount);
+        m_settings = createSettings(CompressionFormat.valueOf(compression), false);
+    }
+
+    /** @return the written table, cleared after the invocation */
+    @Benchmark
+    public ContainerTable write() {
+        final DataContainer container = new DataContainer(m_spec, m_settings);
+        for (DataRow row : m_rows) {
+            container.addRowToTable(row);
+        }
+        container.close();
+        m_table = (ContainerTable)container.getTable();
+        return m_table;
+    }
+
+    /** Deletes the table written in the last invocation. */
+    @TearDown(Level.Invocation)
+    public void clearTable() {
+        if (m_table != null) {
+            m_table.clear();
+            m_table = null;
+        }
+    }
+
+    /**
+     * Creates container settings that bypass the table cache, so that tables are either always kept in memory or
+     * always written to disk.
+     *
+     * @param compression the format of the stream if the table is written to disk
+     * @param inMemory whether to keep all rows in memory
+     * @return the settings
+     */
+    static DataContainerSettings createSettings(final CompressionFormat compression, final boolean inMemory) {
+        final DefaultTableStoreFormat format =
+            new DefaultTableStoreFormat(DefaultTableStoreSettings.getDefault().withCompression(compression));
+        return DataContainerSettings.getDefault() //
+            .withMaxCellsInMemory(inMemory ? Integer.MAX_VALUE : 0) //
+            .withBufferSettings(BufferSettings.getDefault().withLRU(false).withOutputFormat(format));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.join;
+
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.BenchmarkTables;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.join.JoinSpecification.InputTable;
+import org.knime.core.data.join.JoinSpecification.OutputRowOrder;
+import org.knime.core.data.join.JoinTableSettings.JoinColumn;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures an inner equi-join by a {@link BlockHashJoin} of two tables of the same shape on their first column. The
+ * number of distinct values determines the number of matches, which is about
+ * <code>rowCount * rowCount / distinctValues</code>.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+public class BlockHashJoinBenchmark {
+
+    /** The number of rows of each input table. */
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    /** The column types, the first column is the join column, see {@link BenchmarkTables}. */
+    @Param({"idls", "sidl"})
+    public String columnTypes;
+
+    /** The number of distinct values per column. */
+    @Param({"10000", "1000000"})
+    public int distinctValues;
+
+    /** The name of the {@link OutputRowOrder}. */
+    @Param({"ARBITRARY", "LEFT_RIGHT"})
+    public String outputRowOrder;
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_left;
+
+    private BufferedDataTable m_right;
+
+    private JoinSpecification m_joinSpec;
+
+    private BufferedDataTable m_result;
+
+    /**
+     * Creates the input tables and the join specification.
+     *
+     * @throws InvalidSettingsException if the join specification is invalid
+     */
+    @Setup(Level.Trial)
+    public void setup() throws InvalidSettingsException {
+        m_exec = BenchmarkTables.createExecutionContext();
+        final DataTableSpec spec = BenchmarkTables.createSpec(columnTypes);
+        m_left = BenchmarkTables.createTable(m_exec, spec,
+            BenchmarkTables.createRows(columnTypes, rowCount, distinctValues, BenchmarkTables.SEED));
+        m_right = BenchmarkTables.createTable(m_exec, spec,
+            BenchmarkTables.createRows(columnTypes, rowCount, distinctValues, BenchmarkTables.SEED + 1));
+
+        final String[] columnNames = spec.getColumnNames();
+        final JoinColumn[] joinColumns = JoinColumn.array(columnNames[0]);
+        final JoinTableSettings leftSettings =
+            new JoinTableSettings(false, joinColumns, columnNames, InputTable.LEFT, m_left);
+        final JoinTableSettings rightSettings =
+            new JoinTableSettings(false, joinColumns, columnNames, InputTable.RIGHT, m_right);
+        m_joinSpec = new JoinSpecification.Builder(leftSettings, rightSettings)
+            .columnNameDisambiguator(name -> name.concat("*")).mergeJoinColumns(false).conjunctive(true)
+            .outputRowOrder(OutputRowOrder.valueOf(outputRowOrder))
+            .rowKeyFactory(JoinSpecification.createConcatRowKeysFactory("+")).retainMatched(true).build();
+    }
+
+    /**
+     * @return the joined table, cleared after the invocation
+     * @throws CanceledExecutionException not thrown, the join isn't canceled
+     * @throws InvalidSettingsException if the join specification is invalid
+     */
+    @Benchmark
+    public BufferedDataTable join() throws CanceledExecutionException, InvalidSettingsException {
+        m_result = new BlockHashJoin(m_joinSpec, m_exec).joinOutputCombined().getResults().getTable();
+        return m_result;
+    }
+
+    /** Deletes the table joined in the last invocation. */
+    @TearDown(Level.Invocation)
+    public void clearResult() {
+        if (m_result != null) {
+            m_exec.clearTable(m_result);
+            m_result = null;
+        }
+    }
+
+    /** Deletes the input tables. */
+    @TearDown(Level.Trial)
+    public void clearInput() {
+        m_exec.clearTable(m_left);
+        m_exec.clearTable(m_right);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.BenchmarkTables;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures sorting rows in memory with a {@link RowComparator} on all columns. Few distinct values cause many ties in
+ * the first columns, so that the comparator has to compare the following columns as well.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class RowComparatorBenchmark {
+
+    /** The number of rows. */
+    @Param({"10000", "1000000"})
+    public int rowCount;
+
+    /** The column types, see {@link BenchmarkTables}. */
+    @Param({"i", "idls", "ssss"})
+    public String columnTypes;
+
+    /** The number of distinct values per column. */
+    @Param({"10", "1000000"})
+    public int distinctValues;
+
+    private DataRow[] m_rows;
+
+    private RowComparator m_comparator;
+
+    /** Creates the rows and the comparator. */
+    @Setup(Level.Trial)
+    public void setup() {
+        final DataTableSpec spec = BenchmarkTables.createSpec(columnTypes);
+        m_rows = BenchmarkTables.createRows(columnTypes, rowCount, distinctValues);
+        final int[] indices = new int[spec.getNumColumns()];
+        final boolean[] sortAscending = new boolean[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+            sortAscending[i] = i % 2 == 0;
+        }
+        m_comparator = new RowComparator(indices, sortAscending, true, spec);
+    }
+
+    /** @return a sorted copy of the rows */
+    @Benchmark
+    public DataRow[] sort() {
+        final DataRow[] rows = m_rows.clone();
+        Arrays.sort(rows, m_comparator);
+        return rows;
+    }
+}
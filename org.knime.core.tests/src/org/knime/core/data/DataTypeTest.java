@@ -0,0 +1,146 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.knime.core.data.collection.ListCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests the (cached) type lookups in {@link DataType}, i.e. {@link DataType#getType(Class)},
+ * {@link DataType#getCommonSuperType(DataType, DataType)} and {@link DataType#isASuperTypeOf(DataType)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DataTypeTest {
+
+    /** Native types are singletons. */
+    @Test
+    public void testGetTypeReturnsSingleton() {
+        assertSame(DataType.getType(IntCell.class), DataType.getType(IntCell.class));
+        assertSame(ListCell.getCollectionType(StringCell.TYPE), ListCell.getCollectionType(StringCell.TYPE));
+    }
+
+    /** Repeated calls to getCommonSuperType return the same (cached) results as the first call. */
+    @Test
+    public void testCommonSuperTypeIsStable() {
+        DataType first = DataType.getCommonSuperType(IntCell.TYPE, StringCell.TYPE);
+        for (int i = 0; i < 10; i++) {
+            assertSame(first, DataType.getCommonSuperType(IntCell.TYPE, StringCell.TYPE));
+        }
+        assertEquals(first, DataType.getCommonSuperType(StringCell.TYPE, IntCell.TYPE));
+        assertTrue(first.isASuperTypeOf(IntCell.TYPE));
+        assertTrue(first.isASuperTypeOf(StringCell.TYPE));
+
+        assertSame(DoubleCell.TYPE, DataType.getCommonSuperType(DoubleCell.TYPE, IntCell.TYPE));
+        assertSame(DoubleCell.TYPE, DataType.getCommonSuperType(IntCell.TYPE, DoubleCell.TYPE));
+        assertSame(IntCell.TYPE, DataType.getCommonSuperType(IntCell.TYPE, IntCell.TYPE));
+        assertSame(IntCell.TYPE, DataType.getCommonSuperType(IntCell.TYPE, DataType.getMissingCell().getType()));
+    }
+
+    /** Results must not depend on the cache being cleared once the size limit is reached. */
+    @Test
+    public void testCacheOverflow() {
+        DataType intType = IntCell.TYPE;
+        DataType listType = ListCell.getCollectionType(intType);
+        for (int i = 0; i < 1500; i++) {
+            // nested list types are distinct types, hence new cache entries
+            listType = ListCell.getCollectionType(listType);
+            assertFalse(intType.isASuperTypeOf(listType));
+            assertEquals(DataType.getCommonSuperType(intType, StringCell.TYPE),
+                DataType.getCommonSuperType(intType, StringCell.TYPE));
+        }
+        assertTrue(DoubleCell.TYPE.isASuperTypeOf(intType));
+    }
+
+    /**
+     * Concurrent lookups of types and super types yield consistent results.
+     *
+     * @throws Exception if a task fails
+     */
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        final DataType expected = DataType.getCommonSuperType(IntCell.TYPE, StringCell.TYPE);
+        ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(service.submit((Callable<Boolean>)() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        if (!expected.equals(DataType.getCommonSuperType(IntCell.TYPE, StringCell.TYPE))
+                            || !DoubleCell.TYPE.isASuperTypeOf(IntCell.TYPE)
+                            || DataType.getType(StringCell.class) != StringCell.TYPE) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> f : futures) {
+                assertTrue(f.get());
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ClosedByInterruptException;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Test cases for the class {@link PackedBlobStore}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PackedBlobStoreTest {
+
+    private File m_blobDir;
+
+    /**
+     * Creates the blob directory.
+     *
+     * @throws IOException if the directory can't be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        m_blobDir = FileUtil.createTempDir("packedBlobStoreTest");
+    }
+
+    /** Deletes the blob directory. */
+    @After
+    public void tearDown() {
+        FileUtil.deleteRecursively(m_blobDir);
+    }
+
+    /**
+     * Tests that blobs of different columns can be read back while the store is written and after it is re-opened.
+     *
+     * @throws IOException if reading or writing fails
+     */
+    @Test
+    public void testWriteAndRead() throws IOException {
+        PackedBlobStore store = new PackedBlobStore(m_blobDir);
+        assertFalse("Column packed before blobs were written", store.isPacked(0));
+        for (int i = 0; i < 10; i++) {
+            write(store, 0, i, blob(i));
+            write(store, 2, i, blob(100 + i));
+            assertArrayEquals("Unexpected blob content while writing", blob(i), read(store, 0, i));
+        }
+        assertTrue("Column not packed", store.isPacked(0));
+        assertFalse("Column without blobs packed", store.isPacked(1));
+        store.close();
+
+        PackedBlobStore reopened = new PackedBlobStore(m_blobDir);
+        for (int i = 9; i >= 0; i--) {
+            assertArrayEquals("Unexpected blob content", blob(i), read(reopened, 0, i));
+            assertArrayEquals("Unexpected blob content", blob(100 + i), read(reopened, 2, i));
+        }
+        reopened.close();
+    }
+
+    /**
+     * Tests that the format of a column is determined once and not re-checked on the file system for each blob.
+     *
+     * @throws IOException if reading or writing fails
+     */
+    @Test
+    public void testIsPackedCached() throws IOException {
+        PackedBlobStore store = new PackedBlobStore(m_blobDir);
+        write(store, 0, 0, blob(0));
+        store.close();
+
+        PackedBlobStore reopened = new PackedBlobStore(m_blobDir);
+        assertTrue("Column not packed after re-opening", reopened.isPacked(0));
+        assertFalse("Column without blobs packed", reopened.isPacked(1));
+        File indexFile = new File(new File(m_blobDir, "col_0"), PackedBlobStore.INDEX_FILE_NAME);
+        assertTrue("Index file not deleted", indexFile.delete());
+        assertTrue("Packed state of column not cached", reopened.isPacked(0));
+        reopened.close();
+    }
+
+    /**
+     * Tests that an interrupted reader, which closes the shared channel of the segment, doesn't break the readers of
+     * other threads.
+     *
+     * @throws Exception if reading or writing fails
+     */
+    @Test
+    public void testInterruptedReader() throws Exception {
+        PackedBlobStore store = new PackedBlobStore(m_blobDir);
+        try {
+            write(store, 0, 0, blob(0));
+            write(store, 0, 1, blob(1));
+            try (InputStream in = store.openInputStream(0, 1)) {
+                final Throwable[] interruptedFailure = new Throwable[1];
+                Thread reader = new Thread(() -> {
+                    Thread.currentThread().interrupt();
+                    try (InputStream interruptedIn = store.openInputStream(0, 0)) {
+                        IOUtils.toByteArray(interruptedIn);
+                    } catch (Throwable t) {
+                        interruptedFailure[0] = t;
+                    }
+                });
+                reader.start();
+                reader.join();
+                assertTrue("Interrupted read didn't fail", interruptedFailure[0] instanceof ClosedByInterruptException);
+                assertArrayEquals("Read after interrupt of other reader", blob(1), IOUtils.toByteArray(in));
+            }
+            assertArrayEquals("Read after interrupt of other reader", blob(0), read(store, 0, 0));
+        } finally {
+            store.close();
+        }
+    }
+
+    /**
+     * Tests that reading a blob that was never written fails.
+     *
+     * @throws IOException if reading or writing fails
+     */
+    @Test(expected = IOException.class)
+    public void testReadMissingBlob() throws IOException {
+        PackedBlobStore store = new PackedBlobStore(m_blobDir);
+        try {
+            write(store, 0, 0, blob(0));
+            read(store, 0, 1);
+        } finally {
+            store.close();
+        }
+    }
+
+    private static byte[] blob(final int seed) {
+        byte[] bytes = new byte[seed * 37 % 1000 + 1];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte)(seed + i);
+        }
+        return bytes;
+    }
+
+    private static void write(final PackedBlobStore store, final int column, final int index, final byte[] bytes)
+        throws IOException {
+        try (OutputStream out = store.openOutputStream(column, index)) {
+            out.write(bytes);
+        }
+    }
+
+    private static byte[] read(final PackedBlobStore store, final int column, final int index) throws IOException {
+        try (InputStream in = store.openInputStream(column, index)) {
+            return IOUtils.toByteArray(in);
+        }
+    }
+}
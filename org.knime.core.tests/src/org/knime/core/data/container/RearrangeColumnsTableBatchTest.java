@@ -0,0 +1,190 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests batched processing of cell factories in {@link RearrangeColumnsTable}, see
+ * {@link AbstractCellFactory#setBatchSize(int)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RearrangeColumnsTableBatchTest {
+
+    private static final int ROW_COUNT = 1003;
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ExecutionContext exec() {
+        return new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node((NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0])),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+    }
+
+    private static BufferedDataTable createTable(final ExecutionContext exec) {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+        final BufferedDataContainer cont = exec.createDataContainer(spec);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /** Doubles the value of the first column and counts the batch invocations. */
+    private static final class DoublingCellFactory extends SingleCellFactory {
+
+        private final AtomicInteger m_nrBatches = new AtomicInteger();
+
+        private final AtomicInteger m_maxBatchSize = new AtomicInteger();
+
+        DoublingCellFactory() {
+            super(new DataColumnSpecCreator("doubled", IntCell.TYPE).createSpec());
+        }
+
+        @Override
+        public DataCell getCell(final DataRow row) {
+            return new IntCell(2 * ((IntCell)row.getCell(0)).getIntValue());
+        }
+
+        @Override
+        public DataCell[][] getCellsForBatch(final DataRow[] rows) {
+            m_nrBatches.incrementAndGet();
+            m_maxBatchSize.accumulateAndGet(rows.length, Math::max);
+            return super.getCellsForBatch(rows);
+        }
+    }
+
+    private static void checkResult(final BufferedDataTable result) {
+        assertEquals("Unexpected row count", ROW_COUNT, result.size());
+        int i = 0;
+        for (DataRow row : result) {
+            assertEquals("Unexpected row key", RowKey.createRowKey((long)i), row.getKey());
+            assertEquals("Unexpected input value", i, ((IntCell)row.getCell(0)).getIntValue());
+            assertEquals("Unexpected computed value", 2 * i, ((IntCell)row.getCell(1)).getIntValue());
+            i++;
+        }
+    }
+
+    /**
+     * Checks sequential processing in batches.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSequentialBatches() throws Exception {
+        final ExecutionContext exec = exec();
+        final BufferedDataTable table = createTable(exec);
+        final DoublingCellFactory factory = new DoublingCellFactory();
+        factory.setBatchSize(100);
+        final ColumnRearranger rearranger = new ColumnRearranger(table.getDataTableSpec());
+        rearranger.append(factory);
+        checkResult(exec.createColumnRearrangeTable(table, rearranger, exec));
+        assertEquals("Unexpected number of batches", 11, factory.m_nrBatches.get());
+        assertEquals("Unexpected maximum batch size", 100, factory.m_maxBatchSize.get());
+    }
+
+    /**
+     * Checks parallel processing in batches keeps the row order.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testParallelBatches() throws Exception {
+        final ExecutionContext exec = exec();
+        final BufferedDataTable table = createTable(exec);
+        final DoublingCellFactory factory = new DoublingCellFactory();
+        factory.setParallelProcessing(true, 4, 8);
+        factory.setBatchSize(64);
+        final ColumnRearranger rearranger = new ColumnRearranger(table.getDataTableSpec());
+        rearranger.append(factory);
+        checkResult(exec.createColumnRearrangeTable(table, rearranger, exec));
+        assertEquals("Unexpected number of batches", 16, factory.m_nrBatches.get());
+        assertTrue("Batch size exceeded", factory.m_maxBatchSize.get() <= 64);
+    }
+
+    /**
+     * Checks that row-by-row processing (batch size 1) is unchanged.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testParallelWithoutBatches() throws Exception {
+        final ExecutionContext exec = exec();
+        final BufferedDataTable table = createTable(exec);
+        final DoublingCellFactory factory = new DoublingCellFactory();
+        factory.setParallelProcessing(true, 4, 8);
+        final ColumnRearranger rearranger = new ColumnRearranger(table.getDataTableSpec());
+        rearranger.append(factory);
+        checkResult(exec.createColumnRearrangeTable(table, rearranger, exec));
+        assertEquals("Factory unexpectedly invoked with batches", 0, factory.m_nrBatches.get());
+    }
+}
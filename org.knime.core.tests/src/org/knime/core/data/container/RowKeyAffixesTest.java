@@ -0,0 +1,169 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests {@link RowKeyAffixes} and their use to skip the duplicate check in {@link ConcatenateTable}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowKeyAffixesTest {
+
+    private static RowKeyAffixes affixes(final String... keys) {
+        final RowKeyAffixes result = new RowKeyAffixes();
+        Arrays.stream(keys).forEach(result::add);
+        return result;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ExecutionContext exec() {
+        return new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node((NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0])),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+    }
+
+    private static BufferedDataTable createTable(final ExecutionContext exec, final String keySuffix,
+        final int rowCount) {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+        final BufferedDataContainer cont = exec.createDataContainer(spec);
+        for (int i = 0; i < rowCount; i++) {
+            cont.addRowToTable(new DefaultRow(new RowKey("Row" + i + keySuffix), new IntCell(i)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /** Tests the common prefix and suffix of added keys. */
+    @Test
+    public void testAddAndMerge() {
+        assertTrue("No key added", new RowKeyAffixes().isEmpty());
+        final RowKeyAffixes a = affixes("Row0#1", "Row1#1", "Row10#1");
+        assertEquals("Unexpected prefix", "Row", a.getPrefix());
+        assertEquals("Unexpected suffix", "#1", a.getSuffix());
+        a.merge(affixes("Row5#11"));
+        assertEquals("Unexpected prefix after merge", "Row", a.getPrefix());
+        assertEquals("Unexpected suffix after merge", "1", a.getSuffix());
+        a.merge(new RowKeyAffixes());
+        assertEquals("Unexpected suffix after merge with empty", "1", a.getSuffix());
+        final RowKeyAffixes single = affixes("foo");
+        assertEquals("Unexpected prefix of single key", "foo", single.getPrefix());
+        assertEquals("Unexpected suffix of single key", "foo", single.getSuffix());
+    }
+
+    /** Tests the disjointness proof by prefixes and suffixes. */
+    @Test
+    public void testAreDisjoint() {
+        assertTrue("Different iteration suffixes",
+            RowKeyAffixes.areDisjoint(Arrays.asList(affixes("Row0#0", "Row1#0"), affixes("Row0#1", "Row1#1"),
+                affixes("Row0#10", "Row1#10"), affixes("Row0#11", "Row1#11"))));
+        assertTrue("Different prefixes",
+            RowKeyAffixes.areDisjoint(Arrays.asList(affixes("a_1", "a_2"), affixes("b_1", "b_2"))));
+        assertTrue("Empty tables are disjoint with everything", RowKeyAffixes
+            .areDisjoint(Arrays.asList(affixes("Row0", "Row1"), new RowKeyAffixes(), new RowKeyAffixes())));
+        assertFalse("Same suffix", RowKeyAffixes
+            .areDisjoint(Arrays.asList(affixes("Row0#1", "Row1#1"), affixes("Row2#1", "Row3#1"))));
+        assertFalse("Suffix of other suffix",
+            RowKeyAffixes.areDisjoint(Arrays.asList(affixes("Row0#1", "Row1#1"), affixes("Row5#1"))));
+        assertFalse("No common affixes",
+            RowKeyAffixes.areDisjoint(Arrays.asList(affixes("a1", "b2"), affixes("c3", "d4"))));
+    }
+
+    /** Tests that the affixes are resolved through concatenated tables. */
+    @Test
+    public void testConcatenateTableAffixes() throws Exception {
+        final ExecutionContext exec = exec();
+        final BufferedDataTable t0 = createTable(exec, "#0", 10);
+        final BufferedDataTable t1 = createTable(exec, "#1", 10);
+        final Optional<RowKeyAffixes> a0 = t0.getRowKeyAffixes();
+        assertTrue("Affixes of container table not tracked", a0.isPresent());
+        assertEquals("Unexpected suffix", "#0", a0.get().getSuffix());
+        final BufferedDataTable concat = exec.createConcatenateTable(exec, t0, t1);
+        assertEquals("Unexpected row count", 20, concat.size());
+        final Optional<RowKeyAffixes> concatAffixes = concat.getRowKeyAffixes();
+        assertTrue("Affixes of concatenated table not resolved", concatAffixes.isPresent());
+        assertEquals("Unexpected prefix", "Row", concatAffixes.get().getPrefix());
+        assertEquals("Unexpected suffix", "", concatAffixes.get().getSuffix());
+        final BufferedDataTable suffixed =
+            exec.createConcatenateTable(exec, Optional.of("_dup"), false, t0, t0);
+        assertFalse("Affixes must be unknown if duplicates get a suffix", suffixed.getRowKeyAffixes().isPresent());
+    }
+
+    /** Tests that duplicates are still found if the affixes don't prove disjointness. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConcatenateTableDuplicates() throws Exception {
+        final ExecutionContext exec = exec();
+        final BufferedDataTable t0 = createTable(exec, "#0", 10);
+        final BufferedDataTable t1 = createTable(exec, "#0", 5);
+        exec.createConcatenateTable(exec, t0, t1);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.filestore.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Test cases for {@link ContentDeduplicator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ContentDeduplicatorTest {
+
+    private File m_dir;
+
+    /**
+     * Creates the directory for the test files.
+     *
+     * @throws IOException if the directory can't be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        m_dir = FileUtil.createTempDir("contentDeduplicatorTest");
+    }
+
+    /** Deletes the test files. */
+    @After
+    public void tearDown() {
+        FileUtil.deleteRecursively(m_dir);
+    }
+
+    /**
+     * Tests that identical files are deduplicated and that deleting one of them doesn't affect the other.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testDeduplicateAndRelease() throws IOException {
+        byte[] content = content(1);
+        File f1 = write(new File(m_dir, "a/f1"), content);
+        File f2 = write(new File(m_dir, "b/f2"), content);
+        File f3 = write(new File(m_dir, "b/f3"), content(2));
+
+        ContentDeduplicator deduplicator = new ContentDeduplicator();
+        assertFalse("First file deduplicated", deduplicator.deduplicate(f1));
+        deduplicator.deduplicate(f2);
+        assertFalse("File with different content deduplicated", deduplicator.deduplicate(f3));
+        assertEquals("Unexpected number of contents", 2, deduplicator.getNrContents());
+        assertEquals("Unexpected number of references", 3, deduplicator.getNrReferences());
+
+        deduplicator.release(new File(m_dir, "a"));
+        assertTrue("Deleting directory failed", FileUtil.deleteRecursively(new File(m_dir, "a")));
+        assertEquals("Unexpected number of references after release", 2, deduplicator.getNrReferences());
+        assertArrayEquals("Content changed by deleting other reference", content, Files.readAllBytes(f2.toPath()));
+
+        File f4 = write(new File(m_dir, "c/f4"), content);
+        deduplicator.deduplicate(f4);
+        assertArrayEquals("Unexpected content", content, Files.readAllBytes(f4.toPath()));
+        assertEquals("Unexpected number of contents", 2, deduplicator.getNrContents());
+    }
+
+    /**
+     * Tests that copies have the same content as the source.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testCopy() throws IOException {
+        byte[] content = content(3);
+        File source = write(new File(m_dir, "src/dir/f"), content);
+        ContentDeduplicator deduplicator = new ContentDeduplicator();
+        deduplicator.deduplicate(source);
+        deduplicator.copy(new File(m_dir, "src"), new File(m_dir, "dest"));
+        assertArrayEquals("Unexpected content of copy", content,
+            Files.readAllBytes(new File(m_dir, "dest/dir/f").toPath()));
+    }
+
+    /**
+     * Tests that a digest computed while writing a file identifies its content without reading it again.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testDeduplicateWithDigest() throws IOException {
+        byte[] content = content(5);
+        File f1 = write(new File(m_dir, "f1"), content);
+        ContentDeduplicator deduplicator = new ContentDeduplicator();
+        deduplicator.deduplicate(f1);
+
+        File f2 = new File(m_dir, "f2");
+        MessageDigest digest = ContentDeduplicator.createDigest();
+        try (OutputStream out = new DigestOutputStream(new FileOutputStream(f2), digest)) {
+            out.write(content);
+        }
+        deduplicator.deduplicate(f2, digest);
+        assertEquals("Unexpected number of contents", 1, deduplicator.getNrContents());
+        assertEquals("Unexpected number of references", 2, deduplicator.getNrReferences());
+        assertArrayEquals("Unexpected content", content, Files.readAllBytes(f2.toPath()));
+    }
+
+    /**
+     * Tests that files which are not registered (and hence may still change) are copied rather than linked.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testCopyUnregisteredFile() throws IOException {
+        byte[] content = content(6);
+        File source = write(new File(m_dir, "src"), content);
+        ContentDeduplicator deduplicator = new ContentDeduplicator();
+        File dest = new File(m_dir, "dest");
+        deduplicator.copy(source, dest);
+        assertEquals("Copy of unregistered file registered", 0, deduplicator.getNrReferences());
+        write(dest, content(7));
+        assertArrayEquals("Source changed by modifying copy", content, Files.readAllBytes(source.toPath()));
+    }
+
+    /**
+     * Tests that a registered file that was modified is neither used as link target nor linked when copied.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testModifiedFileNotLinked() throws IOException {
+        byte[] content = content(8);
+        File f1 = write(new File(m_dir, "f1"), content);
+        ContentDeduplicator deduplicator = new ContentDeduplicator();
+        deduplicator.deduplicate(f1);
+        byte[] modified = content(9);
+        write(f1, modified);
+        assertTrue("Unable to set modification time", f1.setLastModified(f1.lastModified() - 10000));
+
+        File dest = new File(m_dir, "dest");
+        deduplicator.copy(f1, dest);
+        write(dest, content);
+        assertArrayEquals("Modified file changed by modifying copy", modified, Files.readAllBytes(f1.toPath()));
+        assertFalse("File linked to modified file", deduplicator.deduplicate(write(new File(m_dir, "f2"), content)));
+        assertArrayEquals("Modified file changed by deduplication", modified, Files.readAllBytes(f1.toPath()));
+        deduplicator.release(m_dir);
+        assertEquals("Paths not released", 0, deduplicator.getNrReferences());
+    }
+
+    /**
+     * Tests that small files are ignored.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testSmallFilesIgnored() throws IOException {
+        byte[] content = Arrays.copyOf(content(4), 10);
+        ContentDeduplicator deduplicator = new ContentDeduplicator();
+        deduplicator.deduplicate(write(new File(m_dir, "f1"), content));
+        assertFalse("Small file deduplicated", deduplicator.deduplicate(write(new File(m_dir, "f2"), content)));
+        assertEquals("Small files registered", 0, deduplicator.getNrReferences());
+    }
+
+    private static byte[] content(final int seed) {
+        byte[] bytes = new byte[(int)ContentDeduplicator.MIN_FILE_SIZE * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte)(seed * 31 + i);
+        }
+        return bytes;
+    }
+
+    private static File write(final File file, final byte[] content) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content);
+        return file;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.image.png;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Testcases for {@link PNGImageCellFactory}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PNGImageCellFactoryTest {
+
+    private static byte[] largeImageBytes;
+
+    /**
+     * Creates an image whose PNG encoding exceeds the blob threshold (noise doesn't compress).
+     *
+     * @throws Exception if an error occurs
+     */
+    @BeforeClass
+    public static void createLargeImage() throws Exception {
+        BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+        ByteArrayOutputStream pngBytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", pngBytes);
+        largeImageBytes = pngBytes.toByteArray();
+        assertTrue("Test image too small", largeImageBytes.length >= PNGImageContent.BLOB_SIZE_THRESHOLD);
+    }
+
+    /**
+     * Factories created by the framework keep large images in memory by default.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testInMemoryByDefault() throws Exception {
+        PNGImageCellFactory factory = new PNGImageCellFactory();
+        factory.initFactory(FileStoreFactory.createNotInWorkflowFileStoreFactory());
+        DataCell cell = factory.createCell(new ByteArrayInputStream(largeImageBytes));
+        assertFalse("Unexpected file store cell", cell instanceof PNGImageFileStoreCell);
+        assertArrayEquals("Unexpected image bytes", largeImageBytes,
+            ((PNGImageValue)cell).getImageContent().getByteArray());
+    }
+
+    /**
+     * Factories created by the framework keep large images in file stores if enabled by the system property.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFileStoresEnabledByProperty() throws Exception {
+        String oldValue = System.getProperty(KNIMEConstants.PROPERTY_PNG_FILE_STORE_CELLS);
+        System.setProperty(KNIMEConstants.PROPERTY_PNG_FILE_STORE_CELLS, "true");
+        try {
+            PNGImageCellFactory factory = new PNGImageCellFactory();
+            factory.initFactory(FileStoreFactory.createNotInWorkflowFileStoreFactory());
+            DataCell cell = factory.createCell(new ByteArrayInputStream(largeImageBytes));
+            assertTrue("Expected file store cell but got " + cell.getClass(), cell instanceof PNGImageFileStoreCell);
+            assertArrayEquals("Unexpected image bytes", largeImageBytes,
+                ((PNGImageValue)cell).getImageContent().getByteArray());
+        } finally {
+            if (oldValue == null) {
+                System.clearProperty(KNIMEConstants.PROPERTY_PNG_FILE_STORE_CELLS);
+            } else {
+                System.setProperty(KNIMEConstants.PROPERTY_PNG_FILE_STORE_CELLS, oldValue);
+            }
+        }
+    }
+}
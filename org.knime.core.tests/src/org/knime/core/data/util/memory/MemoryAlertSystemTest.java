@@ -195,6 +195,91 @@ protected boolean memoryAlert(final MemoryAlert alert) {
         }
     }
 
+    /**
+     * Checks whether memory can be reserved and is released again when the budget is closed.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testReserveAndRelease() throws Exception {
+        forceGC();
+        final long reservedBefore = m_memSystem.getReservedMemory();
+        final long size = 1024 * 1024;
+        try (MemoryBudget budget = m_memSystem.tryReserve("test", size).orElse(null)) {
+            assertThat("Reserving 1MB failed, available: " + m_memSystem.getAvailableMemory(), budget != null,
+                is(true));
+            assertThat("Unexpected reserved memory", m_memSystem.getReservedMemory(), is(reservedBefore + size));
+
+            assertThat("Growing budget by 1MB failed", budget.tryGrow(size), is(true));
+            assertThat("Unexpected budget size", budget.getReservedBytes(), is(2 * size));
+            budget.shrink(size);
+            assertThat("Unexpected budget size", budget.getReservedBytes(), is(size));
+
+            assertThat("Growing budget beyond maximum memory succeeded",
+                budget.tryGrow(MemoryAlertSystem.getMaximumMemory()), is(false));
+            assertThat("Unexpected budget size", budget.getReservedBytes(), is(size));
+        }
+        assertThat("Memory not released", m_memSystem.getReservedMemory(), is(reservedBefore));
+
+        assertThat("Reserving more than maximum memory succeeded",
+            m_memSystem.tryReserve("test", MemoryAlertSystem.getMaximumMemory()).isPresent(), is(false));
+        assertThat("Memory reserved by failed reservation", m_memSystem.getReservedMemory(), is(reservedBefore));
+    }
+
+    /**
+     * Checks the prediction of the live set from synthetic samples.
+     */
+    @Test
+    public void testPredictedLiveSet() {
+        final long max = MemoryAlertSystem.getMaximumMemory();
+        final MemoryAlertSystem mas = new MemoryAlertSystem(0.6, true, true);
+        mas.updateLiveSet(max / 10, 0);
+        assertThat("Unexpected predicted live set without growth", mas.getPredictedLiveSet(), is(max / 10));
+        assertThat("Predicted above threshold without growth", mas.isPredictedAboveThreshold(), is(false));
+        // growing by 10% per second, of which 30% enter the average: 20% + 10 * (0.3 * 10%) = 50%
+        mas.updateLiveSet(2 * max / 10, 1000);
+        assertThat("Unexpected predicted live set: " + mas.getPredictedLiveSet(),
+            Math.abs(mas.getPredictedLiveSet() - 5 * max / 10) < max / 1000, is(true));
+        assertThat("Predicted above threshold", mas.isPredictedAboveThreshold(), is(false));
+        // shrinking live set doesn't reduce the prediction below the live set
+        mas.updateLiveSet(max / 10, 2000);
+        assertThat("Predicted live set below live set", mas.getPredictedLiveSet() >= max / 10, is(true));
+    }
+
+    /**
+     * Feeds synthetic live set samples and checks that the alert fires once the live set is predicted to exceed the
+     * threshold and is reset once the growth stops.
+     */
+    @Test
+    public void testPredictiveAlert() {
+        final long max = MemoryAlertSystem.getMaximumMemory();
+        final MemoryAlertSystem mas = new MemoryAlertSystem(0.5, true, true);
+        mas.onLiveSet(20 * max / 100, max, 0);
+        assertThat("Alert without growth", mas.isMemoryLow(), is(false));
+        // predicted: 25% + 10 * (0.3 * 5%) = 40%
+        mas.onLiveSet(25 * max / 100, max, 1000);
+        assertThat("Alert although predicted live set is below threshold", mas.isMemoryLow(), is(false));
+        // predicted: 30% + 10 * (0.3 * 5% + 0.7 * 1.5%) = 55.5%
+        mas.onLiveSet(30 * max / 100, max, 2000);
+        assertThat("No alert although predicted live set is above threshold", mas.isMemoryLow(), is(true));
+        // predicted: 30% + 10 * (0.7 * 2.55%) = 47.85%
+        mas.onLiveSet(30 * max / 100, max, 3000);
+        assertThat("Alert not reset after growth slowed down", mas.isMemoryLow(), is(false));
+    }
+
+    /**
+     * Checks that the same samples don't fire an alert if predictive alerts are disabled.
+     */
+    @Test
+    public void testPredictiveAlertDisabled() {
+        final long max = MemoryAlertSystem.getMaximumMemory();
+        final MemoryAlertSystem mas = new MemoryAlertSystem(0.5, true, false);
+        for (int i = 0; i < 4; i++) {
+            mas.onLiveSet((20 + 5 * i) * max / 100, max, 1000 * i);
+            assertThat("Alert although predictive alerts are disabled", mas.isMemoryLow(), is(false));
+        }
+    }
+
     /**
      * Forces a GC run. By using weak reference {@link System#gc()} is called until the weak reference has been cleared.
      *
@@ -49,6 +49,7 @@
 package org.knime.core.data.xml;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -122,4 +123,38 @@ public void testEqualsAndHashcodeEqual() throws Exception {
         assertThat("equals and hashcode are not compatible", eq && hc || !eq , is(true));
     }
 
+    /**
+     * Checks that the document of unchecked content is parsed on access and cached afterwards.
+     *
+     * @throws Exception if an error occurs
+     */
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testLazyDocument() throws Exception {
+        String xml = "<root><child attr=\"value\"/></root>";
+        XMLCellContent c = new XMLCellContent(xml, false);
+        assertThat("Unexpected string value", c.getStringValue(), is(xml));
+
+        Document doc = c.getDocument();
+        assertThat("Unexpected root element", doc.getDocumentElement().getNodeName(), is("root"));
+        assertSame("Document not cached", doc, c.getDocument());
+        assertThat("String value changed by parsing", c.getStringValue(), is(xml));
+    }
+
+    /**
+     * Checks that lazily parsed and eagerly checked contents are equal and have the same hash code.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testEqualsLazyAndChecked() throws Exception {
+        String xml = "<root><child attr=\"value\"/></root>";
+        XMLCellContent checked = new XMLCellContent(xml, true);
+        XMLCellContent lazy = new XMLCellContent(checked.getStringValue(), false);
+        XMLCellContent other = new XMLCellContent("<root><child attr=\"other\"/></root>", false);
+
+        assertThat("Lazy and checked content not equal", lazy.equals(checked), is(true));
+        assertThat("Hash codes differ", lazy.hashCode(), is(checked.hashCode()));
+        assertThat("Different documents are equal", lazy.equals(other), is(false));
+    }
 }
@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ConcatenateTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests {@link AppendOnlyTableBuilder}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AppendOnlyTableBuilderTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+
+    private static final VirtualParallelizedChunkPortObjectInNodeFactory FACTORY =
+        new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ExecutionContext createExecutionContext() {
+        return new ExecutionContext(new DefaultNodeProgressMonitor(), new Node((NodeFactory)FACTORY),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+    }
+
+    private static BufferedDataTable createTable(final ExecutionContext exec, final int from, final int to) {
+        final BufferedDataContainer cont = exec.createDataContainer(SPEC);
+        for (int i = from; i < to; i++) {
+            cont.addRowToTable(new DefaultRow("Row" + i, new IntCell(i)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    private static List<Integer> values(final BufferedDataTable table) {
+        final List<Integer> result = new ArrayList<>();
+        for (DataRow r : table) {
+            result.add(((IntCell)r.getCell(0)).getIntValue());
+        }
+        return result;
+    }
+
+    /**
+     * Tables owned by the collecting node are adopted by reference and the result is a flat concatenation.
+     *
+     * @throws Exception ...
+     */
+    @Test
+    public void testAdoptOwnedTables() throws Exception {
+        final ExecutionContext exec = createExecutionContext();
+        final AppendOnlyTableBuilder builder = new AppendOnlyTableBuilder();
+        final List<BufferedDataTable> tables = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final BufferedDataTable t = createTable(exec, 10 * i, 10 * (i + 1));
+            tables.add(t);
+            builder.append(t, exec);
+        }
+        assertEquals(1000L, builder.size());
+        assertEquals(100, builder.getNrTables());
+        final BufferedDataTable result = builder.build(exec);
+        assertEquals(1000L, result.size());
+        final BufferedDataTable[] references = ((ConcatenateTable)result.getDelegate()).getReferenceTables();
+        assertEquals(100, references.length);
+        for (int i = 0; i < references.length; i++) {
+            assertSame(tables.get(i), references[i]);
+        }
+        final List<Integer> values = values(result);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), values.get(i));
+        }
+    }
+
+    /**
+     * Tables of other nodes are copied.
+     *
+     * @throws Exception ...
+     */
+    @Test
+    public void testCopyForeignTables() throws Exception {
+        final ExecutionContext exec = createExecutionContext();
+        final ExecutionContext foreignExec = createExecutionContext();
+        final AppendOnlyTableBuilder builder = new AppendOnlyTableBuilder();
+        final BufferedDataTable foreign = createTable(foreignExec, 0, 5);
+        builder.append(foreign, exec);
+        final BufferedDataTable result = builder.build(exec);
+        assertNotSame(foreign, result);
+        assertEquals(values(foreign), values(result));
+    }
+
+    /**
+     * Duplicate row keys are detected when the result is built.
+     *
+     * @throws Exception ...
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateRowKeys() throws Exception {
+        final ExecutionContext exec = createExecutionContext();
+        final AppendOnlyTableBuilder builder = new AppendOnlyTableBuilder();
+        builder.append(createTable(exec, 0, 10), exec);
+        builder.append(createTable(exec, 5, 15), exec);
+        builder.build(exec);
+    }
+
+    /**
+     * Row keys that are disjoint by their suffix (as added by loop end nodes) are neither checked nor renamed.
+     *
+     * @throws Exception ...
+     */
+    @Test
+    public void testDisjointRowKeys() throws Exception {
+        final ExecutionContext exec = createExecutionContext();
+        final AppendOnlyTableBuilder builder = new AppendOnlyTableBuilder(Optional.of("_dup"));
+        for (int i = 0; i < 3; i++) {
+            final BufferedDataContainer cont = exec.createDataContainer(SPEC);
+            for (int r = 0; r < 10; r++) {
+                cont.addRowToTable(new DefaultRow("Row" + r + "#" + i, new IntCell(r)));
+            }
+            cont.close();
+            builder.append(cont.getTable(), exec);
+        }
+        final BufferedDataTable result = builder.build(exec);
+        assertEquals(30L, result.size());
+        for (DataRow r : result) {
+            assertFalse("Disjoint key renamed: " + r.getKey(), r.getKey().getString().endsWith("_dup"));
+        }
+    }
+
+    /**
+     * Duplicate row keys are renamed if a suffix is set.
+     *
+     * @throws Exception ...
+     */
+    @Test
+    public void testDuplicateRowKeySuffix() throws Exception {
+        final ExecutionContext exec = createExecutionContext();
+        final AppendOnlyTableBuilder builder = new AppendOnlyTableBuilder(Optional.of("_dup"));
+        builder.append(createTable(exec, 0, 10), exec);
+        builder.append(createTable(exec, 0, 10), exec);
+        final BufferedDataTable result = builder.build(exec);
+        assertEquals(20L, result.size());
+        int count = 0;
+        for (DataRow r : result) {
+            if (r.getKey().getString().endsWith("_dup")) {
+                count++;
+            }
+        }
+        assertEquals(10, count);
+    }
+}
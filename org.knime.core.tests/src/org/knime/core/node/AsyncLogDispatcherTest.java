@@ -0,0 +1,229 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link AsyncLogDispatcher}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AsyncLogDispatcherTest {
+
+    private Logger m_logger;
+
+    private CollectingAppender m_appender;
+
+    /** Creates a detached logger with a collecting appender. */
+    @Before
+    public void setUp() {
+        m_logger = Logger.getLogger(AsyncLogDispatcherTest.class.getName() + "." + System.nanoTime());
+        m_logger.setAdditivity(false);
+        m_logger.setLevel(Level.DEBUG);
+        m_appender = new CollectingAppender();
+        m_logger.addAppender(m_appender);
+    }
+
+    /** Removes the appender. */
+    @After
+    public void tearDown() {
+        m_logger.removeAllAppenders();
+    }
+
+    private LoggingEvent event(final Level level, final String message) {
+        final LoggingEvent event = new LoggingEvent(NodeLogger.class.getName(), m_logger, level, message, null);
+        event.getThreadName();
+        return event;
+    }
+
+    /**
+     * Checks that all events of several threads are delivered and the events of each thread keep their order.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testAllEventsDeliveredInOrder() throws Exception {
+        final AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(64);
+        final int nrThreads = 4;
+        final int nrEvents = 10000;
+        try {
+            final List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < nrThreads; t++) {
+                final int threadIndex = t;
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < nrEvents; i++) {
+                        // warnings are never dropped
+                        dispatcher.dispatch(event(Level.WARN, threadIndex + ":" + i));
+                    }
+                }));
+            }
+            threads.forEach(Thread::start);
+            for (Thread t : threads) {
+                t.join();
+            }
+            assertTrue("Events not processed in time", dispatcher.flush(10000));
+            assertEquals("Unexpected number of dropped events", 0, dispatcher.getNrDropped());
+
+            final List<String> messages = m_appender.getMessages();
+            assertEquals("Unexpected number of events", nrThreads * nrEvents, messages.size());
+            final int[] next = new int[nrThreads];
+            for (String m : messages) {
+                final String[] parts = m.split(":");
+                final int threadIndex = Integer.parseInt(parts[0]);
+                assertEquals("Events out of order", next[threadIndex]++, Integer.parseInt(parts[1]));
+            }
+        } finally {
+            dispatcher.close(1000);
+        }
+    }
+
+    /**
+     * Checks that debug events are dropped and warnings block if the buffer is full.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDropAndBlockIfFull() throws Exception {
+        final AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(4);
+        final CountDownLatch release = new CountDownLatch(1);
+        m_appender.m_blockUntil = release;
+        try {
+            // the first event blocks the dispatcher thread, the following ones fill the buffer
+            dispatcher.dispatch(event(Level.DEBUG, "debug 0"));
+            assertTrue("Dispatcher thread didn't process event", m_appender.m_entered.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < 20; i++) {
+                dispatcher.dispatch(event(Level.DEBUG, "debug " + i));
+            }
+            assertTrue("No debug events dropped", dispatcher.getNrDropped() > 0);
+
+            final Thread warner = new Thread(() -> dispatcher.dispatch(event(Level.WARN, "warning")));
+            warner.start();
+            warner.join(200);
+            assertTrue("Warning not blocked", warner.isAlive());
+            assertEquals("Unexpected number of blocked events", 1, dispatcher.getNrBlocked());
+
+            release.countDown();
+            warner.join(5000);
+            assertTrue("Events not processed in time", dispatcher.flush(5000));
+            final List<String> messages = m_appender.getMessages();
+            assertEquals("Warning not logged", "warning", messages.get(messages.size() - 1));
+            assertEquals("Unexpected number of events", 20 - dispatcher.getNrDropped() + 1, messages.size());
+        } finally {
+            release.countDown();
+            dispatcher.close(1000);
+        }
+    }
+
+    /**
+     * Checks that events dispatched after closing are passed to the appenders directly.
+     */
+    @Test
+    public void testDispatchAfterClose() {
+        final AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(16);
+        dispatcher.dispatch(event(Level.INFO, "before"));
+        dispatcher.close(5000);
+        dispatcher.dispatch(event(Level.INFO, "after"));
+        assertEquals("Unexpected events", Arrays.asList("before", "after"), m_appender.getMessages());
+    }
+
+    private static final class CollectingAppender extends AppenderSkeleton {
+
+        private final List<String> m_messages = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile CountDownLatch m_blockUntil;
+
+        private final CountDownLatch m_entered = new CountDownLatch(1);
+
+        @Override
+        protected void append(final LoggingEvent event) {
+            m_entered.countDown();
+            final CountDownLatch latch = m_blockUntil;
+            if (latch != null) {
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            m_messages.add(event.getRenderedMessage());
+        }
+
+        List<String> getMessages() {
+            synchronized (m_messages) {
+                return new ArrayList<>(m_messages);
+            }
+        }
+
+        @Override
+        public boolean requiresLayout() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
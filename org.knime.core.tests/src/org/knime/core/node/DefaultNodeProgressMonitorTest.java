@@ -56,6 +56,8 @@
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.mutable.MutableLong;
@@ -116,6 +118,31 @@ private void internalTestManySmallIncrements(final NodeProgressMonitor toMonitor
         }
     }
 
+    /** Many threads report progress via (nested) sub progress monitors of the same parent concurrently. */
+    @Test(timeout=10000L)
+    public void testConcurrentSubProgress() throws Exception {
+        final DefaultNodeProgressMonitor m = new DefaultNodeProgressMonitor();
+        final SubNodeProgressMonitor outer = new SubNodeProgressMonitor(m, 1.0);
+        final int nrThreads = 8;
+        final int parts = 100000;
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < nrThreads; t++) {
+            final NodeProgressMonitor sub = new SubNodeProgressMonitor(t % 2 == 0 ? m : outer, 0.5 / nrThreads);
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < parts; i++) {
+                    final int index = i;
+                    sub.setProgress((i + 1) / (double)parts, () -> "Row " + index);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(outer.getProgress(), is(closeTo(0.25, PROG_EPSILON)));
+        assertThat(m.getProgress(), is(closeTo(0.5, PROG_EPSILON)));
+    }
+
     /** Calls internal test message for {@link DefaultNodeProgressMonitor}. */
     @Test(timeout=2000L)
     public void testManyMessageEventsDirect() throws Exception {
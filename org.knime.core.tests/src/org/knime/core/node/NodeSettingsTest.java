@@ -101,6 +101,7 @@ public void tearDown() throws Exception {
         testFile();
         testXML();
         testJSON();
+        testBinary();
     }
 
 //    /**
@@ -831,6 +832,17 @@ public void testXML() throws IOException {
         assertTrue(settings.equals(m_settings));
     }
 
+    /**
+     * Test binary read/write.
+     * @throws IOException
+     */
+    public void testBinary() throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        m_settings.saveToBinary(os);
+        NodeSettingsRO settings = NodeSettings.loadFromBinary(new ByteArrayInputStream(os.toByteArray()));
+        assertTrue(settings.equals(m_settings));
+    }
+
     public void testJSON() throws Exception {
         StringWriter writer = new StringWriter();
         JSONConfig.writeJSON(m_settings, writer, WriterConfig.PRETTY);
@@ -0,0 +1,173 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ConnectionPool}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ConnectionPoolTest {
+
+    private final AtomicInteger m_opened = new AtomicInteger();
+
+    private final AtomicInteger m_closed = new AtomicInteger();
+
+    /** Creates a connection stub that only supports isClosed, close and clearWarnings. */
+    private Connection newConnection() {
+        m_opened.incrementAndGet();
+        final AtomicBoolean closed = new AtomicBoolean();
+        return (Connection)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "isClosed":
+                        return closed.get();
+                    case "close":
+                        if (!closed.getAndSet(true)) {
+                            m_closed.incrementAndGet();
+                        }
+                        return null;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return null;
+                }
+            });
+    }
+
+    /** Returned connections are reused. */
+    @Test
+    public void testReuse() throws Exception {
+        final ConnectionPool pool = new ConnectionPool("test", 2, TimeUnit.MINUTES.toMillis(1));
+        final Connection c1 = pool.lease(this::newConnection, c -> true);
+        final Connection c2 = pool.lease(this::newConnection, c -> true);
+        assertNotSame(c1, c2);
+        assertEquals(2, pool.getNrLeased());
+        pool.release(c1, true);
+        assertSame(c1, pool.lease(this::newConnection, c -> true));
+        assertEquals(2, m_opened.get());
+        pool.release(c1, true);
+        pool.release(c2, true);
+        assertEquals(0, pool.getNrLeased());
+        assertEquals(2, pool.getNrIdle());
+        pool.close();
+        assertEquals(2, m_closed.get());
+    }
+
+    /** Broken connections are closed on release, invalid ones on lease. */
+    @Test
+    public void testInvalidConnections() throws Exception {
+        final ConnectionPool pool = new ConnectionPool("test", 2, TimeUnit.MINUTES.toMillis(1));
+        final Connection c1 = pool.lease(this::newConnection, c -> true);
+        pool.release(c1, false);
+        assertEquals(1, m_closed.get());
+        assertTrue(pool.isEmpty());
+
+        final Connection c2 = pool.lease(this::newConnection, c -> true);
+        pool.release(c2, true);
+        Thread.sleep(ConnectionPool.VALIDATION_INTERVAL_MILLIS + 50);
+        final Connection c3 = pool.lease(this::newConnection, c -> false);
+        assertNotSame(c2, c3);
+        assertEquals(2, m_closed.get());
+        pool.release(c3, true);
+    }
+
+    /** Idle connections are closed after the idle timeout. */
+    @Test
+    public void testIdleEviction() throws Exception {
+        final ConnectionPool pool = new ConnectionPool("test", 2, 50);
+        final Connection c1 = pool.lease(this::newConnection, c -> true);
+        pool.release(c1, true);
+        assertEquals(1, pool.getNrIdle());
+        Thread.sleep(100);
+        pool.evictIdle();
+        assertEquals(0, pool.getNrIdle());
+        assertEquals(1, m_closed.get());
+    }
+
+    /** Leasing blocks while all connections are in use. */
+    @Test(timeout = 10000)
+    public void testBounded() throws Exception {
+        final ConnectionPool pool = new ConnectionPool("test", 1, TimeUnit.MINUTES.toMillis(1));
+        final Connection c1 = pool.lease(this::newConnection, c -> true);
+        final CountDownLatch leased = new CountDownLatch(1);
+        final Thread t = new Thread(() -> {
+            try {
+                final Connection c = pool.lease(this::newConnection, c2 -> true);
+                leased.countDown();
+                pool.release(c, true);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        t.start();
+        assertFalse(leased.await(100, TimeUnit.MILLISECONDS));
+        pool.release(c1, true);
+        assertTrue(leased.await(5, TimeUnit.SECONDS));
+        t.join();
+        assertEquals(1, m_opened.get());
+    }
+}
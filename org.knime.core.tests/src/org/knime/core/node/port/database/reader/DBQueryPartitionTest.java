@@ -0,0 +1,132 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link DBQueryPartition}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBQueryPartitionTest {
+
+    /** Integral bounds are split into adjacent ranges, the last one including the maximum. */
+    @Test
+    public void testSplitIntegral() {
+        final List<DBQueryPartition> partitions = DBQueryPartition.split(0, 99, 4);
+        assertEquals(4, partitions.size());
+        assertEquals("[0, 25) + missing", partitions.get(0).toString());
+        assertEquals("[25, 50)", partitions.get(1).toString());
+        assertEquals("[75, 99]", partitions.get(3).toString());
+    }
+
+    /** Narrow ranges result in fewer partitions. */
+    @Test
+    public void testSplitNarrowRange() {
+        assertEquals(1, DBQueryPartition.split(5L, 6L, 8).size());
+        assertEquals(2, DBQueryPartition.split(5L, 7L, 8).size());
+        assertEquals(1, DBQueryPartition.split(new BigDecimal(7), new BigDecimal(7), 8).size());
+    }
+
+    /** Decimal and date bounds. */
+    @Test
+    public void testSplitDoubleAndDate() {
+        final List<DBQueryPartition> doubles = DBQueryPartition.split(0.0, 1.0, 2);
+        assertEquals("[0.0, 0.5) + missing", doubles.get(0).toString());
+        assertEquals("[0.5, 1.0]", doubles.get(1).toString());
+        assertEquals(3, DBQueryPartition.split(new Date(0), new Date(3000), 3).size());
+    }
+
+    /** Non-integral decimal bounds are split without converting them to double. */
+    @Test
+    public void testSplitDecimal() {
+        final List<DBQueryPartition> partitions =
+            DBQueryPartition.split(new BigDecimal("0.10"), new BigDecimal("1.10"), 4);
+        assertEquals(4, partitions.size());
+        assertEquals("[0.10, 0.35) + missing", partitions.get(0).toString());
+        assertEquals("[0.85, 1.10]", partitions.get(3).toString());
+    }
+
+    /** Only top level ORDER BY clauses prevent partitioning. */
+    @Test
+    public void testHasTopLevelOrderBy() {
+        assertTrue(DBQueryPartition.hasTopLevelOrderBy("SELECT * FROM t order  by c"));
+        assertTrue(DBQueryPartition.hasTopLevelOrderBy("SELECT * FROM (SELECT * FROM t) s ORDER BY c"));
+        assertFalse(DBQueryPartition.hasTopLevelOrderBy("SELECT * FROM t"));
+        assertFalse(DBQueryPartition.hasTopLevelOrderBy("SELECT ROW_NUMBER() OVER (ORDER BY c) FROM t"));
+        assertFalse(DBQueryPartition.hasTopLevelOrderBy("SELECT * FROM t WHERE s = 'ORDER BY'"));
+        assertFalse(DBQueryPartition.hasTopLevelOrderBy("SELECT \"order by\" FROM t"));
+    }
+
+    /** Unsupported or missing bounds yield no partitions. */
+    @Test
+    public void testSplitUnsupported() {
+        assertTrue(DBQueryPartition.split(null, null, 4).isEmpty());
+        assertTrue(DBQueryPartition.split("a", "z", 4).isEmpty());
+    }
+
+    /** The partition query wraps the select query and includes missing values in the first partition only. */
+    @Test
+    public void testCreateQuery() {
+        final List<DBQueryPartition> partitions = DBQueryPartition.split(0, 9, 2);
+        assertEquals("SELECT * FROM (SELECT * FROM t) p WHERE (\"c\" >= ? AND \"c\" < ?) OR \"c\" IS NULL",
+            partitions.get(0).createQuery("SELECT * FROM t", "\"c\"", "p"));
+        assertEquals("SELECT * FROM (SELECT * FROM t) p WHERE (\"c\" >= ? AND \"c\" <= ?)",
+            partitions.get(1).createQuery("SELECT * FROM t", "\"c\"", "p"));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests {@link DBReader#createPartitionedTable(ExecutionContext, CredentialsProvider, String, int)} against a SQLite
+ * database: the partitioned read must return the same rows as the read with a single query.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBReaderPartitionTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private static final CredentialsProvider CP = CredentialsProvider.EMPTY_CREDENTIALS_PROVIDER;
+
+    private File m_tempDir;
+
+    private DatabaseConnectionSettings m_settings;
+
+    private ExecutionContext m_exec;
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Before
+    public void setUp() throws Exception {
+        m_tempDir = FileUtil.createTempDir(getClass().getSimpleName());
+        m_settings = new DatabaseConnectionSettings(null, "org.sqlite.JDBC",
+            "jdbc:sqlite:" + new File(m_tempDir, "test.sqlite").getAbsolutePath(), null, null, null, "none");
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node((NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0])),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+        m_settings.execute(CP, conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE test_table (id INTEGER, val REAL, name TEXT)");
+            }
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO test_table VALUES (?, ?, ?)")) {
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    // every 100th id is missing, those rows end up in the first partition
+                    if (i % 100 == 0) {
+                        stmt.setNull(1, Types.INTEGER);
+                    } else {
+                        stmt.setInt(1, i);
+                    }
+                    stmt.setDouble(2, i / 7.0);
+                    stmt.setString(3, "Name " + i);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+            return null;
+        });
+    }
+
+    @After
+    public void tearDown() {
+        FileUtil.deleteRecursively(m_tempDir);
+    }
+
+    private DBReader createReader(final String query) {
+        final DatabaseQueryConnectionSettings querySettings = new DatabaseQueryConnectionSettings(m_settings, query);
+        return querySettings.getUtility().getReader(querySettings);
+    }
+
+    /** Partitions on an integer and a real column contain the same rows as the unpartitioned result. */
+    @Test
+    public void testPartitionedReadEqualsSingleRead() throws Exception {
+        final DBReader reader = createReader("SELECT * FROM test_table");
+        final BufferedDataTable expected = reader.createTable(m_exec, CP, false);
+        assertEquals(ROW_COUNT, expected.size());
+        for (String column : new String[]{"id", "val"}) {
+            final BufferedDataTable partitioned = reader.createPartitionedTable(m_exec, CP, column, 4);
+            assertEquals("Different rows when partitioning on \"" + column + "\"", sortedCells(expected),
+                sortedCells(partitioned));
+            final Set<String> keys = new HashSet<>();
+            for (DataRow row : partitioned) {
+                assertTrue("Row id without partition prefix: " + row.getKey(),
+                    row.getKey().getString().startsWith("Partition"));
+                keys.add(row.getKey().getString());
+            }
+            assertEquals("Duplicate row ids", ROW_COUNT, keys.size());
+        }
+    }
+
+    /** Sorted queries are read with a single query, retaining the order. */
+    @Test
+    public void testSortedQueryNotPartitioned() throws Exception {
+        final DBReader reader = createReader("SELECT * FROM test_table ORDER BY val DESC");
+        final BufferedDataTable expected = reader.createTable(m_exec, CP, false);
+        final BufferedDataTable partitioned = reader.createPartitionedTable(m_exec, CP, "id", 4);
+        assertEquals("Order of sorted query not retained", cells(expected), cells(partitioned));
+    }
+
+    private static List<String> cells(final BufferedDataTable table) {
+        final List<String> result = new ArrayList<>();
+        for (DataRow row : table) {
+            final StringBuilder b = new StringBuilder();
+            for (DataCell cell : row) {
+                b.append(cell).append(',');
+            }
+            result.add(b.toString());
+        }
+        return result;
+    }
+
+    private static List<String> sortedCells(final BufferedDataTable table) {
+        final List<String> result = cells(table);
+        Collections.sort(result);
+        return result;
+    }
+}
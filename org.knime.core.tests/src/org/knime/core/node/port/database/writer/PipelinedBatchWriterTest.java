@@ -0,0 +1,226 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.connection.CachedConnectionFactory;
+import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests {@link PipelinedBatchWriter} against an H2 database, with a single and with dedicated connections.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PipelinedBatchWriterTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT = "INSERT INTO test_table VALUES (?, ?)";
+
+    private static final CredentialsProvider CP = CredentialsProvider.EMPTY_CREDENTIALS_PROVIDER;
+
+    private File m_tempDir;
+
+    private DatabaseConnectionSettings m_settings;
+
+    @Before
+    public void setUp() throws Exception {
+        m_tempDir = FileUtil.createTempDir(getClass().getSimpleName());
+        m_settings = new DatabaseConnectionSettings(null, "org.h2.Driver",
+            "jdbc:h2:" + new File(m_tempDir, "test").getAbsolutePath(), null, null, null, "none");
+        try (Connection conn = createConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE test_table (id INTEGER, name VARCHAR(20))");
+        }
+    }
+
+    @After
+    public void tearDown() {
+        FileUtil.deleteRecursively(m_tempDir);
+    }
+
+    private Connection createConnection() throws Exception {
+        return ((CachedConnectionFactory)m_settings.getUtility().getConnectionFactory())
+            .createDedicatedConnection(CP, m_settings);
+    }
+
+    /**
+     * Writes rows in batches, without finishing the writer if canceled after the given number of rows (as the writer
+     * node does when the execution is canceled).
+     */
+    private void write(final int nrConnections, final int cancelAfterRows) throws Exception {
+        final List<Connection> connections = PipelinedBatchWriter.createConnections(this::createConnection,
+            nrConnections);
+        try (PipelinedBatchWriter writer =
+            new PipelinedBatchWriter(connections, INSERT, true, new ExecutionMonitor())) {
+            PreparedStatement stmt = writer.nextStatement();
+            for (int row = 1; row <= ROW_COUNT; row++) {
+                if (row > cancelAfterRows) {
+                    return;
+                }
+                stmt.setInt(1, row);
+                stmt.setString(2, "Row " + row);
+                stmt.addBatch();
+                if (row % BATCH_SIZE == 0) {
+                    writer.submit(row);
+                    stmt = writer.nextStatement();
+                }
+            }
+            writer.finish();
+            assertEquals("Unexpected number of errors", 0, writer.getErrorCount());
+        } finally {
+            PipelinedBatchWriter.closeConnections(connections);
+        }
+    }
+
+    private int countRows() throws Exception {
+        try (Connection conn = createConnection(); Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM test_table")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    /** All rows are written on a single connection. */
+    @Test
+    public void testSharedConnection() throws Exception {
+        write(1, Integer.MAX_VALUE);
+        assertEquals("Unexpected number of rows", ROW_COUNT, countRows());
+    }
+
+    /** All rows are written on dedicated connections. */
+    @Test
+    public void testDedicatedConnections() throws Exception {
+        write(3, Integer.MAX_VALUE);
+        assertEquals("Unexpected number of rows", ROW_COUNT, countRows());
+    }
+
+    /** Batches executed on a single connection before cancelation are rolled back. */
+    @Test
+    public void testCancelSharedConnection() throws Exception {
+        write(1, ROW_COUNT / 2 + 10);
+        assertEquals("Rows written despite cancelation", 0, countRows());
+    }
+
+    /** Batches executed on dedicated connections before cancelation are rolled back before closing them. */
+    @Test
+    public void testCancelDedicatedConnections() throws Exception {
+        write(3, ROW_COUNT / 2 + 10);
+        assertEquals("Rows written despite cancelation", 0, countRows());
+    }
+
+    /**
+     * If the commit of a connection fails, the connections committed before keep their rows and the remaining ones are
+     * rolled back.
+     */
+    @Test
+    public void testCommitFailure() throws Exception {
+        final int[] created = new int[1];
+        final List<Connection> connections = PipelinedBatchWriter.createConnections(() -> {
+            final Connection conn = createConnection();
+            return ++created[0] == 2 ? failingCommit(conn) : conn;
+        }, 3);
+        try (PipelinedBatchWriter writer =
+            new PipelinedBatchWriter(connections, INSERT, true, new ExecutionMonitor())) {
+            PreparedStatement stmt = writer.nextStatement();
+            for (int row = 1; row <= ROW_COUNT; row++) {
+                stmt.setInt(1, row);
+                stmt.setString(2, "Row " + row);
+                stmt.addBatch();
+                if (row % BATCH_SIZE == 0) {
+                    writer.submit(row);
+                    stmt = writer.nextStatement();
+                }
+            }
+            writer.finish();
+            fail("Commit failure not reported");
+        } catch (SQLException ex) {
+            assertTrue("Partial write not reported: " + ex.getMessage(),
+                ex.getMessage().contains("partially written"));
+        } finally {
+            PipelinedBatchWriter.closeConnections(connections);
+        }
+        // batches are distributed round-robin, the first connection got batches 1, 4, 7 and 10
+        assertEquals("Unexpected number of committed rows", 4 * BATCH_SIZE, countRows());
+    }
+
+    private static Connection failingCommit(final Connection conn) {
+        return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if ("commit".equals(method.getName())) {
+                    throw new SQLException("Commit failed");
+                }
+                try {
+                    return method.invoke(conn, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            });
+    }
+}
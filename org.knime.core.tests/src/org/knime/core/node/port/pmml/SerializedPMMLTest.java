@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.port.pmml;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.dmg.pmml.PMMLDocument;
+import org.junit.Test;
+import org.knime.core.pmml.PMMLModelType;
+import org.knime.core.pmml.PMMLUtils;
+
+/**
+ * Tests {@link SerializedPMML}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SerializedPMMLTest {
+
+    private static final String PMML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<PMML xmlns=\"http://www.dmg.org/PMML-4_2\" version=\"4.2\">"
+        + "<Header/><DataDictionary numberOfFields=\"0\"/>"
+        + "<TransformationDictionary>%s</TransformationDictionary>"
+        + "<TreeModel functionName=\"classification\"><MiningSchema/><Node><True/></Node></TreeModel>"
+        + "<RegressionModel functionName=\"regression\"><MiningSchema/></RegressionModel>"
+        + "<TreeModel functionName=\"classification\"><MiningSchema/><Node><True/></Node></TreeModel>"
+        + "</PMML>";
+
+    private static SerializedPMML read(final String xml) throws Exception {
+        return SerializedPMML.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /** Version and model types are read without parsing the document. */
+    @Test
+    public void testStreamingAccess() throws Exception {
+        final SerializedPMML pmml = read(String.format(PMML, ""));
+        assertTrue(pmml.isCurrentNamespace());
+        assertEquals("4.2", pmml.getVersion());
+        assertEquals(Arrays.asList(PMMLModelType.RegressionModel, PMMLModelType.TreeModel),
+            Arrays.asList(pmml.getModelTypes().toArray()));
+        assertFalse(pmml.hasGlobalDerivedFields());
+
+        final SerializedPMML withDerivedFields = read(String.format(PMML,
+            "<DerivedField name=\"d\" optype=\"continuous\" dataType=\"double\"><FieldRef field=\"x\"/></DerivedField>"));
+        assertTrue(withDerivedFields.hasGlobalDerivedFields());
+    }
+
+    /** The bytes are written unchanged. */
+    @Test
+    public void testWriteTo() throws Exception {
+        final String xml = String.format(PMML, "");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        read(xml).writeTo(out);
+        assertArrayEquals(xml.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    /** Documents in other namespaces need to be converted and are hence not kept serialized. */
+    @Test
+    public void testOtherNamespace() throws Exception {
+        assertFalse(read("<PMML xmlns=\"http://www.dmg.org/PMML-4_0\" version=\"4.0\"/>").isCurrentNamespace());
+        assertFalse(read("<Other/>").isCurrentNamespace());
+        assertFalse(read("no xml").isCurrentNamespace());
+    }
+
+    /** Truncated or malformed documents in the current namespace are rejected when they are read. */
+    @Test(expected = IOException.class)
+    public void testTruncatedDocument() throws Exception {
+        final String xml = String.format(PMML, "");
+        read(xml.substring(0, xml.indexOf("<RegressionModel")));
+    }
+
+    /** The model types are listed in the same order as for parsed documents. */
+    @Test
+    public void testModelTypeOrder() throws Exception {
+        final SerializedPMML pmml = read(String.format(PMML, ""));
+        final PMMLDocument parsed = (PMMLDocument)pmml.parse();
+        assertEquals(new ArrayList<>(PMMLUtils.getNumberOfModels(parsed).keySet()),
+            new ArrayList<>(pmml.getModelTypes()));
+    }
+
+    /** The namespace check doesn't depend on the version attribute, which is then reported as missing. */
+    @Test
+    public void testMissingVersion() throws Exception {
+        final SerializedPMML pmml = read("<PMML xmlns=\"http://www.dmg.org/PMML-4_2\"/>");
+        assertTrue(pmml.isCurrentNamespace());
+        assertNull(pmml.getVersion());
+        assertNull(read("<PMML xmlns=\"http://www.dmg.org/PMML-4_0\" version=\"4.0\"/>").getVersion());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.node.workflow.FlowVariable.Scope;
+import org.knime.core.node.workflow.VariableType.IntType;
+import org.knime.core.node.workflow.VariableType.StringType;
+
+/**
+ * Tests {@link FlowObjectStack}, in particular that stacks sharing elements don't affect each other.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class FlowObjectStackTest {
+
+    private static final NodeID UPSTREAM = new NodeID(1);
+
+    private static final NodeID DOWNSTREAM = new NodeID(2);
+
+    /** Push, peek and pop of loop contexts and variables. */
+    @Test
+    public void testPushPeekPop() {
+        final FlowObjectStack stack = new FlowObjectStack(UPSTREAM);
+        final int sizeBefore = stack.size();
+        final FlowLoopContext loop = new FlowLoopContext();
+        stack.push(loop);
+        stack.push(new FlowVariable("a", 1));
+        stack.push(new FlowVariable("b", "foo"));
+        assertEquals("size after push", sizeBefore + 3, stack.size());
+        assertSame("peeked loop context", loop, stack.peek(FlowLoopContext.class));
+        assertEquals("peeked variable", "foo",
+            stack.peekFlowVariable("b", StringType.INSTANCE).get().getStringValue());
+        assertSame("popped loop context", loop, stack.pop(FlowLoopContext.class));
+        assertEquals("size after pop", sizeBefore, stack.size());
+        assertFalse("variable above popped context", stack.peekFlowVariable("b", StringType.INSTANCE).isPresent());
+    }
+
+    /** Modifications of a stack merged from a single predecessor don't change the predecessor. */
+    @Test
+    public void testMergedStackIsIndependent() {
+        final FlowObjectStack upstream = new FlowObjectStack(UPSTREAM);
+        upstream.push(new FlowLoopContext());
+        upstream.push(new FlowVariable("a", 1));
+        final FlowObjectStack downstream = new FlowObjectStack(DOWNSTREAM, new FlowObjectStack[]{upstream});
+        assertEquals("merged variables", upstream.getAllAvailableFlowVariables(),
+            downstream.getAllAvailableFlowVariables());
+
+        downstream.push(new FlowVariable("a", 2));
+        assertEquals("upstream value after push downstream", 1,
+            upstream.peekFlowVariable("a", IntType.INSTANCE).get().getIntValue());
+        assertEquals("downstream value after push", 2,
+            downstream.peekFlowVariable("a", IntType.INSTANCE).get().getIntValue());
+
+        downstream.pop(FlowLoopContext.class);
+        assertTrue("upstream loop context after pop downstream", upstream.peek(FlowLoopContext.class) != null);
+        assertEquals("upstream value after pop downstream", 1,
+            upstream.peekFlowVariable("a", IntType.INSTANCE).get().getIntValue());
+        assertFalse("downstream value after pop", downstream.peekFlowVariable("a", IntType.INSTANCE).isPresent());
+    }
+
+    /** Local variables are not passed downstream and equal variables are only kept once (at the top-most position). */
+    @Test
+    public void testMergeRemovesLocalAndDuplicateVariables() {
+        final FlowObjectStack upstream = new FlowObjectStack(UPSTREAM);
+        upstream.push(new FlowVariable("a", 1));
+        upstream.push(new FlowVariable("b", 2));
+        upstream.push(new FlowVariable("a", 1));
+        upstream.push(new FlowVariable("local", "x", Scope.Local));
+        final FlowObjectStack downstream = new FlowObjectStack(DOWNSTREAM, new FlowObjectStack[]{upstream});
+        assertEquals("size after merge", upstream.size() - 2, downstream.size());
+        assertFalse("local variable downstream",
+            downstream.getAllAvailableFlowVariables().containsKey("local"));
+        final List<String> topMostNames = new ArrayList<>();
+        for (FlowObject o : downstream) {
+            if (o instanceof FlowVariable && topMostNames.size() < 2) {
+                topMostNames.add(((FlowVariable)o).getName());
+            }
+        }
+        assertEquals("order of variables", Arrays.asList("a", "b"), topMostNames);
+    }
+
+    /** Variables of a different type with the same name don't hide the variable of the requested type. */
+    @Test
+    public void testPeekVariableShadowedByOtherType() {
+        final FlowObjectStack stack = new FlowObjectStack(UPSTREAM);
+        stack.push(new FlowVariable("x", 1));
+        stack.push(new FlowVariable("x", "foo"));
+        assertEquals("shadowed int variable", 1, stack.peekFlowVariable("x", IntType.INSTANCE).get().getIntValue());
+        assertEquals("top-most variable", "foo",
+            stack.getAllAvailableFlowVariables().get("x").getStringValue());
+        assertEquals("available int variable", 1,
+            stack.getAvailableFlowVariables(IntType.INSTANCE).get("x").getIntValue());
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link HashingDuplicateChecker}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HashingDuplicateCheckerTest {
+
+    /**
+     * Many distinct keys, no duplicate must be reported and the key source must not be needed.
+     *
+     * @throws Exception ...
+     */
+    @Test
+    public void testNoDuplicates() throws Exception {
+        final HashingDuplicateChecker dc = new HashingDuplicateChecker(() -> {
+            fail("Key source must not be used without collisions");
+            return null;
+        });
+        for (int i = 0; i < 1000000; i++) {
+            dc.addKey("Row" + i);
+        }
+        dc.checkForDuplicates();
+    }
+
+    /**
+     * A key added twice is detected when checking for duplicates (using the key source).
+     *
+     * @throws Exception ...
+     */
+    @Test(expected = DuplicateKeyException.class)
+    public void testDuplicate() throws Exception {
+        final List<String> keys = IntStream.range(0, 10000).mapToObj(i -> "Row" + i).collect(Collectors.toList());
+        keys.add("Row4711");
+        final HashingDuplicateChecker dc = new HashingDuplicateChecker(keys::iterator);
+        for (String key : keys) {
+            dc.addKey(key);
+        }
+        dc.checkForDuplicates();
+    }
+
+    /**
+     * A key added three times is detected while adding.
+     *
+     * @throws Exception ...
+     */
+    @Test(expected = DuplicateKeyException.class)
+    public void testEarlyDuplicate() throws Exception {
+        final HashingDuplicateChecker dc = new HashingDuplicateChecker(() -> null);
+        dc.addKey("A");
+        dc.addKey("A");
+        dc.addKey("A");
+    }
+
+    /**
+     * Checker can be reused after {@link HashingDuplicateChecker#clear()}.
+     *
+     * @throws Exception ...
+     */
+    @Test
+    public void testClear() throws Exception {
+        final HashingDuplicateChecker dc = new HashingDuplicateChecker(() -> null);
+        dc.addKey("A");
+        dc.clear();
+        dc.addKey("A");
+        dc.checkForDuplicates();
+    }
+
+    /**
+     * Keys added concurrently from multiple threads.
+     *
+     * @throws Exception ...
+     */
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        final HashingDuplicateChecker dc = new HashingDuplicateChecker(() -> {
+            fail("Key source must not be used without collisions");
+            return null;
+        });
+        final int nrThreads = 8;
+        final int keysPerThread = 100000;
+        final ExecutorService service = Executors.newFixedThreadPool(nrThreads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < nrThreads; t++) {
+                final int offset = t * keysPerThread;
+                futures.add(service.submit(() -> {
+                    for (int i = offset; i < offset + keysPerThread; i++) {
+                        dc.addKey("Row" + i);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            service.shutdown();
+            assertTrue(service.awaitTermination(1, TimeUnit.MINUTES));
+        }
+        dc.checkForDuplicates();
+    }
+
+    /** Hashes of similar keys differ. */
+    @Test
+    public void testHash() {
+        assertEquals(HashingDuplicateChecker.hash("Row1"), HashingDuplicateChecker.hash(new String("Row1")));
+        assertNotEquals(HashingDuplicateChecker.hash("Row1"), HashingDuplicateChecker.hash("Row2"));
+        assertNotEquals(HashingDuplicateChecker.hash(""), HashingDuplicateChecker.hash("\0"));
+    }
+}
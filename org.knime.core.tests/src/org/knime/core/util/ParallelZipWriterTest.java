@@ -0,0 +1,338 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ParallelZipWriter} and the parallel extraction in {@link FileUtil#unzip(File, File)}, which are used
+ * if {@link org.knime.core.node.KNIMEConstants#PROPERTY_PARALLEL_ZIP} is set.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelZipWriterTest {
+
+    private File m_tempDir;
+
+    private File m_sourceDir;
+
+    private final Map<String, byte[]> m_contents = new HashMap<>();
+
+    /**
+     * Creates a directory with small, empty, large (multi chunk) and already compressed files.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Before
+    public void setUp() throws IOException {
+        m_tempDir = FileUtil.createTempDir(getClass().getSimpleName());
+        m_sourceDir = new File(m_tempDir, "workflow");
+        final Random random = new Random(42);
+        final StringBuilder text = new StringBuilder();
+        while (text.length() < 3 * ParallelZipWriter.CHUNK_SIZE + 12345) {
+            text.append("Row").append(random.nextInt(1000)).append(",some text,").append(random.nextDouble())
+                .append('\n');
+        }
+        final byte[] incompressible = new byte[ParallelZipWriter.CHUNK_SIZE + 17];
+        random.nextBytes(incompressible);
+        createFile("workflow.knime", "<config/>".getBytes("UTF-8"));
+        createFile("empty.txt", new byte[0]);
+        createFile("Node (#1)/port_1/data.csv", text.toString().getBytes("UTF-8"));
+        createFile("Node (#1)/port_1/data.zip", incompressible);
+        assertTrue("Could not create directory", new File(m_sourceDir, "Node (#2)").mkdirs());
+    }
+
+    private void createFile(final String path, final byte[] content) throws IOException {
+        final File f = new File(m_sourceDir, path);
+        f.getParentFile().mkdirs();
+        Files.write(f.toPath(), content);
+        m_contents.put("workflow/" + path, content);
+    }
+
+    /** Deletes the temporary files. */
+    @After
+    public void tearDown() {
+        FileUtil.deleteRecursively(m_tempDir);
+    }
+
+    /**
+     * Checks that the archive can be read by {@link ZipInputStream}, which relies on the local headers, and that
+     * already compressed files are stored.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testReadWithZipInputStream() throws Exception {
+        final File zipFile = new File(m_tempDir, "workflow.zip");
+        assertTrue("Archive incomplete", ParallelZipWriter.zipDir(zipFile, Arrays.asList(m_sourceDir),
+            Deflater.DEFAULT_COMPRESSION, FileUtil.ZIP_INCLUDEALL_FILTER, null));
+        final Map<String, byte[]> read = new HashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new FileInputStream(zipFile))) {
+            ZipEntry e;
+            while ((e = in.getNextEntry()) != null) {
+                if (e.getName().endsWith("data.zip")) {
+                    assertEquals("Compressed file not stored", ZipEntry.STORED, e.getMethod());
+                } else if (!e.isDirectory()) {
+                    assertEquals("File not deflated", ZipEntry.DEFLATED, e.getMethod());
+                }
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                FileUtil.copy(in, out);
+                read.put(e.getName(), out.toByteArray());
+            }
+        }
+        assertTrue("Empty directory missing", read.containsKey("workflow/Node (#2)/"));
+        for (Map.Entry<String, byte[]> e : m_contents.entrySet()) {
+            assertArrayEquals("Unexpected content of " + e.getKey(), e.getValue(), read.get(e.getKey()));
+        }
+        assertTrue("Text not compressed", zipFile.length() < m_contents.values().stream().mapToLong(c -> c.length)
+            .sum() - ParallelZipWriter.CHUNK_SIZE);
+    }
+
+    /**
+     * Writes and extracts an archive in parallel.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRoundTrip() throws Exception {
+        final File zipFile = new File(m_tempDir, "workflow.zip");
+        ParallelZipWriter.zipDir(zipFile, Arrays.asList(m_sourceDir), 9, FileUtil.ZIP_INCLUDEALL_FILTER, null);
+        final File destDir = new File(m_tempDir, "extracted");
+        assertTrue("Could not create directory", destDir.mkdir());
+        FileUtil.unzipParallel(zipFile, destDir, null);
+        assertTrue("Empty directory missing", new File(destDir, "workflow/Node (#2)").isDirectory());
+        for (Map.Entry<String, byte[]> e : m_contents.entrySet()) {
+            assertArrayEquals("Unexpected content of " + e.getKey(), e.getValue(),
+                Files.readAllBytes(new File(destDir, e.getKey()).toPath()));
+        }
+    }
+
+    /**
+     * Checks that duplicate entry names are rejected like in {@link java.util.zip.ZipOutputStream}.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(expected = ZipException.class)
+    public void testDuplicateEntries() throws Exception {
+        final File other = new File(new File(m_tempDir, "other"), "workflow.knime");
+        other.getParentFile().mkdirs();
+        Files.write(other.toPath(), new byte[10]);
+        ParallelZipWriter.zipDir(new File(m_tempDir, "dup.zip"),
+            Arrays.asList(new File(m_sourceDir, "workflow.knime"), other), Deflater.DEFAULT_COMPRESSION,
+            FileUtil.ZIP_INCLUDEALL_FILTER, null);
+    }
+
+    /**
+     * Checks that an archive that could not be written completely is deleted.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFailedArchiveDeleted() throws Exception {
+        final File other = new File(new File(m_tempDir, "other"), "workflow.knime");
+        other.getParentFile().mkdirs();
+        Files.write(other.toPath(), new byte[10]);
+        final File zipFile = new File(m_tempDir, "dup.zip");
+        try {
+            ParallelZipWriter.zipDir(zipFile, Arrays.asList(new File(m_sourceDir, "workflow.knime"), other),
+                Deflater.DEFAULT_COMPRESSION, FileUtil.ZIP_INCLUDEALL_FILTER, null);
+            fail("Expected ZipException for duplicate entry");
+        } catch (ZipException e) {
+            assertFalse("Incomplete archive not deleted", zipFile.exists());
+        }
+    }
+
+    /**
+     * Checks that files which are truncated or grow after the entries have been listed are written with the content
+     * read when compressing them.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFilesChangedWhileAdding() throws Exception {
+        final File shrinking = new File(m_sourceDir, "Node (#1)/port_1/data.csv");
+        final File growing = new File(m_sourceDir, "workflow.knime");
+        final List<ParallelZipWriter.Item> items = Arrays.asList(new ParallelZipWriter.Item("shrinking", shrinking),
+            new ParallelZipWriter.Item("growing", growing));
+        final byte[] shrunk = Arrays.copyOf(m_contents.get("workflow/Node (#1)/port_1/data.csv"),
+            ParallelZipWriter.CHUNK_SIZE + 100);
+        Files.write(shrinking.toPath(), shrunk);
+        final byte[] grown = new byte[2 * ParallelZipWriter.CHUNK_SIZE];
+        new Random(7).nextBytes(grown);
+        Files.write(growing.toPath(), grown);
+        final File zipFile = new File(m_tempDir, "changed.zip");
+        try (ParallelZipWriter writer =
+            new ParallelZipWriter(zipFile, Deflater.DEFAULT_COMPRESSION, ParallelZipWriter.createSubPool())) {
+            writer.addAll(items, null);
+        }
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            assertArrayEquals("Unexpected content of truncated file", shrunk, readEntry(zip, "shrinking"));
+            assertArrayEquals("Unexpected content of grown file", grown, readEntry(zip, "growing"));
+        }
+    }
+
+    /**
+     * Checks the Zip64 end of central directory record written for archives with more than 65535 entries.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testZip64EntryCount() throws Exception {
+        final File file = new File(m_sourceDir, "workflow.knime");
+        final int nrEntries = 70000;
+        final List<ParallelZipWriter.Item> items = new ArrayList<>(nrEntries);
+        for (int i = 0; i < nrEntries; i++) {
+            items.add(new ParallelZipWriter.Item("entry" + i, file));
+        }
+        final File zipFile = new File(m_tempDir, "many.zip");
+        try (ParallelZipWriter writer =
+            new ParallelZipWriter(zipFile, Deflater.DEFAULT_COMPRESSION, ParallelZipWriter.createSubPool())) {
+            writer.addAll(items, null);
+        }
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            assertEquals("Unexpected number of entries", nrEntries, zip.size());
+            assertArrayEquals("Unexpected content of last entry", m_contents.get("workflow/workflow.knime"),
+                readEntry(zip, "entry" + (nrEntries - 1)));
+        }
+        int count = 0;
+        try (ZipInputStream in = new ZipInputStream(new FileInputStream(zipFile))) {
+            while (in.getNextEntry() != null) {
+                count++;
+            }
+        }
+        assertEquals("Unexpected number of entries read from local headers", nrEntries, count);
+    }
+
+    /**
+     * Checks the Zip64 local and central headers of a file larger than 4GB and of an entry following it, whose offset
+     * exceeds 4GB. The large file is sparse where the file system supports it, so that only its tail takes up space.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 600000)
+    public void testZip64LargeFile() throws Exception {
+        final long length = (1L << 32) + ParallelZipWriter.CHUNK_SIZE + 5;
+        assumeTrue("Not enough disk space for large file", m_tempDir.getUsableSpace() > 2 * length);
+        final File large = new File(m_tempDir, "large.bin");
+        final byte[] tail = "end of large file".getBytes("UTF-8");
+        try (RandomAccessFile raf = new RandomAccessFile(large, "rw")) {
+            raf.setLength(length);
+            raf.seek(length - tail.length);
+            raf.write(tail);
+        }
+        final File small = new File(m_sourceDir, "workflow.knime");
+        final File zipFile = new File(m_tempDir, "large.zip");
+        try (ParallelZipWriter writer =
+            new ParallelZipWriter(zipFile, Deflater.BEST_SPEED, ParallelZipWriter.createSubPool())) {
+            writer.addAll(Arrays.asList(new ParallelZipWriter.Item("large.bin", large),
+                new ParallelZipWriter.Item("small", small)), null);
+        }
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            final ZipEntry e = zip.getEntry("large.bin");
+            assertEquals("Unexpected size in central directory", length, e.getSize());
+            assertTrue("Large file not compressed", e.getCompressedSize() < length);
+            assertArrayEquals("Unexpected content of entry after large file", m_contents.get("workflow/workflow.knime"),
+                readEntry(zip, "small"));
+        }
+        // ZipInputStream reads the sizes from the local headers and verifies the CRC
+        try (ZipInputStream in = new ZipInputStream(new FileInputStream(zipFile))) {
+            assertEquals("Unexpected first entry", "large.bin", in.getNextEntry().getName());
+            final byte[] buffer = new byte[1 << 16];
+            final byte[] lastBytes = new byte[tail.length];
+            long read = 0;
+            int r;
+            while ((r = in.read(buffer)) >= 0) {
+                read += r;
+                // keep the last bytes read, which may span several reads
+                final int n = Math.min(r, tail.length);
+                System.arraycopy(lastBytes, n, lastBytes, 0, tail.length - n);
+                System.arraycopy(buffer, r - n, lastBytes, tail.length - n, n);
+            }
+            assertEquals("Unexpected number of bytes read", length, read);
+            assertArrayEquals("Unexpected end of large file", tail, lastBytes);
+            assertEquals("Unexpected second entry", "small", in.getNextEntry().getName());
+        }
+    }
+
+    private static byte[] readEntry(final ZipFile zip, final String name) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = zip.getInputStream(zip.getEntry(name))) {
+            FileUtil.copy(in, out);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link RingBufferMultiThreadWorker}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RingBufferMultiThreadWorkerTest {
+
+    private ExecutorService m_executor;
+
+    /** Creates the executor for the workers. */
+    @Before
+    public void setUp() {
+        m_executor = Executors.newFixedThreadPool(4);
+    }
+
+    /** Shuts down the executor. */
+    @After
+    public void tearDown() {
+        m_executor.shutdownNow();
+    }
+
+    private static List<Integer> range(final int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+
+    /** Squares the input and collects the results. */
+    private static class SquareWorker extends RingBufferMultiThreadWorker<Integer, Long> {
+
+        private final List<Long> m_results = new ArrayList<>();
+
+        private final List<Long> m_indices = new ArrayList<>();
+
+        SquareWorker(final int maxQueueSize, final int workers) {
+            super(maxQueueSize, workers);
+        }
+
+        @Override
+        protected Long compute(final Integer in, final long index) throws Exception {
+            if (in % 97 == 0) {
+                // some slow elements to force out-of-order completion
+                Thread.sleep(2);
+            }
+            return (long)in * in;
+        }
+
+        @Override
+        protected void processFinished(final ComputationResult result) throws ExecutionException {
+            m_indices.add(result.getIndex());
+            m_results.add(result.get());
+        }
+    }
+
+    /**
+     * Checks that all elements are processed in input order.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testOrderedResults() throws Exception {
+        final int count = 10000;
+        final SquareWorker worker = new SquareWorker(16, 4);
+        worker.setExecutor(m_executor);
+        worker.run(range(count));
+        assertEquals("Unexpected number of results", count, worker.m_results.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals("Unexpected index", i, worker.m_indices.get(i).longValue());
+            assertEquals("Unexpected result", (long)i * i, worker.m_results.get(i).longValue());
+        }
+        assertEquals("Unexpected submitted count", count, worker.getSubmittedCount());
+        assertEquals("Unexpected finished count", count, worker.getFinishedCount());
+        assertEquals("Queue not empty", 0, worker.getQueueDepth());
+        assertTrue("Maximum queue depth exceeded: " + worker.getMaxQueueDepth(),
+            worker.getMaxQueueDepth() > 0 && worker.getMaxQueueDepth() <= 16);
+        assertTrue("Negative idle time", worker.getWorkerIdleTime(TimeUnit.NANOSECONDS) >= 0);
+    }
+
+    /**
+     * Checks that the input is processed even if the workers never start (all computed by the consumer).
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testWithoutWorkers() throws Exception {
+        final SquareWorker worker = new SquareWorker(4, 2);
+        worker.setExecutor(r -> {
+            // never runs the workers
+        });
+        worker.run(range(100));
+        assertEquals("Unexpected number of results", 100, worker.m_results.size());
+        assertEquals("Unexpected last result", 99L * 99, worker.m_results.get(99).longValue());
+    }
+
+    /**
+     * Checks that an exception in the computation is rethrown by the run method.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testExceptionInCompute() throws Exception {
+        final RingBufferMultiThreadWorker<Integer, Integer> worker =
+            new RingBufferMultiThreadWorker<Integer, Integer>(8, 4) {
+                @Override
+                protected Integer compute(final Integer in, final long index) throws Exception {
+                    if (in == 500) {
+                        throw new IllegalStateException("Expected test exception");
+                    }
+                    return in;
+                }
+
+                @Override
+                protected void processFinished(final ComputationResult result) throws ExecutionException {
+                    assertEquals("Unexpected order", result.getIndex(), result.get().longValue());
+                }
+            };
+        worker.setExecutor(m_executor);
+        try {
+            worker.run(range(1000));
+            fail("Expected exception not thrown");
+        } catch (ExecutionException e) {
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            assertTrue("Unexpected exception: " + cause, cause instanceof IllegalStateException);
+        }
+        assertEquals("Unexpected finished count", 500, worker.getFinishedCount());
+    }
+
+    /**
+     * Checks that the worker can't be configured with an invalid queue size.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidQueueSize() {
+        new SquareWorker(2, 4);
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.xmlbeans.XmlException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.container.SingleCellFactory;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NoDescriptionProxy;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeDescription;
+import org.knime.core.node.NodeDialogPane;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeView;
+import org.knime.core.util.FileUtil;
+import org.knime.testing.node.benchmark.BenchmarkLoopEndNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkLoopStartNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkLoopStartNodeModel;
+import org.knime.testing.node.benchmark.BenchmarkTableCreatorNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkTableCreatorNodeModel;
+import org.knime.testing.node.runtime.RuntimeNodeModel;
+import org.xml.sax.SAXException;
+
+/**
+ * Tests the loop restart without configuring the loop body, see {@link KNIMEConstants#PROPERTY_LOOP_FAST_PATH}. Each
+ * loop is executed with and without the fast path and must give the same result; the nodes in the loop body must
+ * always be configured with the specs of the iteration they execute in.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestLoopFastPath extends WorkflowTestCase {
+
+    private static final int ROW_COUNT = 100;
+
+    private static final int ITERATIONS = 6;
+
+    /** Iteration in which {@link SpecChangingLoopStartNodeFactory} changes its output spec. */
+    private static final int SPEC_CHANGE_ITERATION = 3;
+
+    /** Iteration in which {@link FailingLoopEndNodeFactory} fails to configure. */
+    private static final int FAILING_ITERATION = 3;
+
+    private static final AtomicInteger CONFIGURE_COUNT = new AtomicInteger();
+
+    private File m_workflowDir;
+
+    private String m_oldPropertyValue;
+
+    private NodeID m_creator;
+
+    @Before
+    public void setUp() throws Exception {
+        m_oldPropertyValue = System.getProperty(KNIMEConstants.PROPERTY_LOOP_FAST_PATH);
+        CONFIGURE_COUNT.set(0);
+        m_workflowDir = FileUtil.createTempDir(getClass().getSimpleName());
+        final WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDir).createContext());
+        setManager(WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper));
+        m_creator = getManager().createAndAddNode(new BenchmarkTableCreatorNodeFactory());
+        final NodeSettings settings = new NodeSettings("settings");
+        getManager().saveNodeSettings(m_creator, settings);
+        settings.getNodeSettings(Node.CFG_MODEL).addInt(BenchmarkTableCreatorNodeModel.CFG_ROW_COUNT, ROW_COUNT);
+        getManager().loadNodeSettings(m_creator, settings);
+    }
+
+    /** Loop start specs are the same in all iterations, the fast path must skip configure calls. */
+    @Test(timeout = 60000L)
+    public void testStableSpecs() throws Exception {
+        final NodeID start = addAfter(m_creator, new BenchmarkLoopStartNodeFactory());
+        final NodeSettings settings = new NodeSettings("settings");
+        getManager().saveNodeSettings(start, settings);
+        settings.getNodeSettings(Node.CFG_MODEL).addInt(BenchmarkLoopStartNodeModel.CFG_ITERATIONS, ITERATIONS);
+        getManager().loadNodeSettings(start, settings);
+        final NodeID body = addAfter(start, new SpecCheckingNodeFactory());
+        final NodeID end = addAfter(body, new BenchmarkLoopEndNodeFactory());
+
+        final List<String> expected = executeLoop(false, end);
+        assertEquals("Wrong number of rows", ITERATIONS * ROW_COUNT, expected.size());
+        final int regularConfigureCount = CONFIGURE_COUNT.getAndSet(0);
+
+        reset(m_creator);
+        assertEquals("Different results with fast path", expected, executeLoop(true, end));
+        final int fastPathConfigureCount = CONFIGURE_COUNT.get();
+        assertTrue("Loop body configured as often with the fast path (" + fastPathConfigureCount
+            + ") as without (" + regularConfigureCount + ")", fastPathConfigureCount < regularConfigureCount);
+    }
+
+    /** Loop start specs change in one iteration, the body must be configured with the new specs. */
+    @Test(timeout = 60000L)
+    public void testSpecsChangeInIteration() throws Exception {
+        final NodeID start = addAfter(m_creator, new SpecChangingLoopStartNodeFactory());
+        final NodeID body = addAfter(start, new SpecCheckingNodeFactory());
+        final NodeID end = addAfter(body, new BenchmarkLoopEndNodeFactory());
+
+        final List<String> expected = executeLoop(false, end);
+        assertEquals("Wrong number of rows", ITERATIONS * ROW_COUNT, expected.size());
+
+        reset(m_creator);
+        assertEquals("Different results with fast path", expected, executeLoop(true, end));
+    }
+
+    /** Loop end fails to configure in one iteration, the loop must stop in either case. */
+    @Test(timeout = 60000L)
+    public void testLoopEndFailsToConfigure() throws Exception {
+        final NodeID start = addAfter(m_creator, new BenchmarkLoopStartNodeFactory());
+        final NodeSettings settings = new NodeSettings("settings");
+        getManager().saveNodeSettings(start, settings);
+        settings.getNodeSettings(Node.CFG_MODEL).addInt(BenchmarkLoopStartNodeModel.CFG_ITERATIONS, ITERATIONS);
+        getManager().loadNodeSettings(start, settings);
+        final NodeID body = addAfter(start, new SpecCheckingNodeFactory());
+        final NodeID end = addAfter(body, new FailingLoopEndNodeFactory());
+
+        for (boolean isFastPath : new boolean[]{false, true}) {
+            reset(m_creator);
+            System.setProperty(KNIMEConstants.PROPERTY_LOOP_FAST_PATH, Boolean.toString(isFastPath));
+            executeAllAndWait();
+            final String mode = isFastPath ? "with fast path" : "without fast path";
+            assertFalse("Loop end executed despite failing configure " + mode,
+                findNodeContainer(end).getInternalState().isExecuted());
+            assertFalse("Loop still in execution " + mode,
+                getManager().getNodeContainerState().isExecutionInProgress());
+        }
+    }
+
+    private List<String> executeLoop(final boolean isFastPath, final NodeID end) throws Exception {
+        System.setProperty(KNIMEConstants.PROPERTY_LOOP_FAST_PATH, Boolean.toString(isFastPath));
+        executeAllAndWait();
+        checkState(end, InternalNodeContainerState.EXECUTED);
+        final BufferedDataTable table = (BufferedDataTable)findNodeContainer(end).getOutPort(1).getPortObject();
+        final List<String> rows = new ArrayList<>();
+        for (DataRow row : table) {
+            final StringBuilder b = new StringBuilder(row.getKey().getString());
+            for (DataCell cell : row) {
+                b.append(',').append(cell);
+            }
+            rows.add(b.toString());
+        }
+        return rows;
+    }
+
+    private NodeID addAfter(final NodeID predecessor, final NodeFactory<?> factory) {
+        final NodeID id = getManager().createAndAddNode(factory);
+        getManager().addConnection(predecessor, 1, id, 1);
+        return id;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        try {
+            super.tearDown();
+        } finally {
+            if (m_oldPropertyValue == null) {
+                System.clearProperty(KNIMEConstants.PROPERTY_LOOP_FAST_PATH);
+            } else {
+                System.setProperty(KNIMEConstants.PROPERTY_LOOP_FAST_PATH, m_oldPropertyValue);
+            }
+            FileUtil.deleteRecursively(m_workflowDir);
+        }
+    }
+
+    /** Factory of test nodes without views, dialog and description. */
+    abstract static class TestNodeFactory extends NodeFactory<RuntimeNodeModel> {
+
+        /** {@inheritDoc} */
+        @Override
+        protected int getNrNodeViews() {
+            return 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public NodeView<RuntimeNodeModel> createNodeView(final int viewIndex, final RuntimeNodeModel nodeModel) {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean hasDialog() {
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected NodeDialogPane createNodeDialogPane() {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected NodeDescription createNodeDescription() throws SAXException, IOException, XmlException {
+            return new NoDescriptionProxy(getClass());
+        }
+    }
+
+    /** Pass-through node that fails if executed with a table other than the one it was last configured with. */
+    public static final class SpecCheckingNodeFactory extends TestNodeFactory {
+
+        /** {@inheritDoc} */
+        @Override
+        public RuntimeNodeModel createNodeModel() {
+            return new RuntimeNodeModel(1, 1) {
+                private DataTableSpec m_configuredSpec;
+
+                @Override
+                protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+                    CONFIGURE_COUNT.incrementAndGet();
+                    m_configuredSpec = inSpecs[0];
+                    return inSpecs;
+                }
+
+                @Override
+                protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+                    throws Exception {
+                    if (m_configuredSpec == null || !m_configuredSpec.equalStructure(inData[0].getDataTableSpec())) {
+                        throw new IllegalStateException("Node executed with specs it was not configured with");
+                    }
+                    return inData;
+                }
+            };
+        }
+    }
+
+    /** Loop start that appends the iteration as column, which is renamed from {@link #SPEC_CHANGE_ITERATION} on. */
+    public static final class SpecChangingLoopStartNodeFactory extends TestNodeFactory {
+
+        /** {@inheritDoc} */
+        @Override
+        public RuntimeNodeModel createNodeModel() {
+            return new SpecChangingLoopStartNodeModel();
+        }
+    }
+
+    private static final class SpecChangingLoopStartNodeModel extends RuntimeNodeModel
+        implements LoopStartNodeTerminator {
+
+        private int m_iteration;
+
+        SpecChangingLoopStartNodeModel() {
+            super(1, 1);
+        }
+
+        private ColumnRearranger createRearranger(final DataTableSpec spec) {
+            final String name = m_iteration < SPEC_CHANGE_ITERATION ? "Iteration" : "Iteration (changed)";
+            final ColumnRearranger rearranger = new ColumnRearranger(spec);
+            rearranger.append(new SingleCellFactory(new DataColumnSpecCreator(name, IntCell.TYPE).createSpec()) {
+                private final IntCell m_cell = new IntCell(m_iteration);
+
+                @Override
+                public DataCell getCell(final DataRow row) {
+                    return m_cell;
+                }
+            });
+            return rearranger;
+        }
+
+        @Override
+        protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+            return new DataTableSpec[]{createRearranger(inSpecs[0]).createSpec()};
+        }
+
+        @Override
+        protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+            throws Exception {
+            final BufferedDataTable result = exec.createColumnRearrangeTable(inData[0],
+                createRearranger(inData[0].getDataTableSpec()), exec);
+            m_iteration++;
+            return new BufferedDataTable[]{result};
+        }
+
+        @Override
+        public boolean terminateLoop() {
+            return m_iteration >= ITERATIONS;
+        }
+
+        @Override
+        protected void reset() {
+            m_iteration = 0;
+        }
+    }
+
+    /** Loop end that fails to configure from {@link #FAILING_ITERATION} on. */
+    public static final class FailingLoopEndNodeFactory extends TestNodeFactory {
+
+        /** {@inheritDoc} */
+        @Override
+        public RuntimeNodeModel createNodeModel() {
+            return new FailingLoopEndNodeModel();
+        }
+    }
+
+    private static final class FailingLoopEndNodeModel extends RuntimeNodeModel implements LoopEndNode {
+
+        FailingLoopEndNodeModel() {
+            super(1, 1);
+        }
+
+        @Override
+        protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+            if (peekFlowVariableInt("currentIteration") >= FAILING_ITERATION) {
+                throw new InvalidSettingsException("Failing on purpose in iteration " + FAILING_ITERATION);
+            }
+            return inSpecs;
+        }
+
+        @Override
+        protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+            throws Exception {
+            if (((LoopStartNodeTerminator)getLoopStartNode()).terminateLoop()) {
+                return inData;
+            }
+            continueLoop();
+            return new BufferedDataTable[1];
+        }
+    }
+}
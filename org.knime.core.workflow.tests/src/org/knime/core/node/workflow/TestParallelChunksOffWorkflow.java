@@ -0,0 +1,384 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.xmlbeans.XmlException;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NoDescriptionProxy;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeDescription;
+import org.knime.core.node.NodeDialogPane;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.NodeView;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.NodeMessage.Type;
+import org.knime.core.node.workflow.virtual.parallelchunkend.ParallelChunkEndNodeFactory;
+import org.knime.core.node.workflow.virtual.parallelchunkstart.ParallelChunkStartNodeFactory;
+import org.knime.core.util.FileUtil;
+import org.knime.testing.node.benchmark.BenchmarkLoopEndNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkLoopStartNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkLoopStartNodeModel;
+import org.knime.testing.node.benchmark.BenchmarkTableCopyNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkTableCreatorNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkTableCreatorNodeModel;
+import org.knime.testing.node.blocking.BlockingNodeFactory;
+import org.knime.testing.node.blocking.BlockingRepository;
+import org.knime.testing.node.runtime.RuntimeNodeModel;
+import org.xml.sax.SAXException;
+
+/**
+ * Tests the execution of parallel chunks outside the workflow, see
+ * {@link KNIMEConstants#PROPERTY_PARALLEL_CHUNKS_OFF_WORKFLOW}: results must match those of the default
+ * implementation that copies the loop body into a 'Parallel Chunks' metanode, ineligible loop bodies must fall back to
+ * that implementation and cancelation and failures in a chunk must be reported by the end node.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestParallelChunksOffWorkflow extends WorkflowTestCase {
+
+    private static final String LOCK_ID = "parallel_chunks_off_workflow";
+
+    private static final int ROW_COUNT = 1000;
+
+    private static final int CHUNK_COUNT = 4;
+
+    private static final String PARALLEL_CHUNKS_METANODE = "Parallel Chunks";
+
+    private File m_workflowDir;
+
+    private String m_oldPropertyValue;
+
+    private NodeID m_creator;
+
+    @Before
+    public void setUp() throws Exception {
+        m_oldPropertyValue = System.getProperty(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_OFF_WORKFLOW);
+        System.setProperty(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_OFF_WORKFLOW, "true");
+        BlockingRepository.put(LOCK_ID, new ReentrantLock());
+        m_workflowDir = FileUtil.createTempDir(getClass().getSimpleName());
+        final WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDir).createContext());
+        setManager(WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper));
+        m_creator = getManager().createAndAddNode(new BenchmarkTableCreatorNodeFactory());
+        final NodeSettings settings = new NodeSettings("settings");
+        getManager().saveNodeSettings(m_creator, settings);
+        settings.getNodeSettings(Node.CFG_MODEL).addInt(BenchmarkTableCreatorNodeModel.CFG_ROW_COUNT, ROW_COUNT);
+        getManager().loadNodeSettings(m_creator, settings);
+    }
+
+    /** Results must be the same as if the loop body is copied into the workflow. */
+    @Test(timeout = 60000L)
+    public void testResultsMatchCopiedLoopBody() throws Exception {
+        final NodeID start = addChunkStart(false);
+        final NodeID copy = addAfter(start, new BenchmarkTableCopyNodeFactory());
+        final NodeID end = addChunkEnd(addAfter(copy, new BenchmarkTableCopyNodeFactory()));
+
+        System.setProperty(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_OFF_WORKFLOW, "false");
+        executeAllAndWait();
+        checkState(end, InternalNodeContainerState.EXECUTED);
+        assertTrue("Loop body not copied into the workflow", hasParallelChunksMetanode());
+        final List<String> expected = getRows(end);
+        assertEquals("Wrong number of rows", ROW_COUNT, expected.size());
+
+        reset(m_creator);
+        System.setProperty(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_OFF_WORKFLOW, "true");
+        executeAllAndWait();
+        checkState(end, InternalNodeContainerState.EXECUTED);
+        assertFalse("Loop body copied into the workflow", hasParallelChunksMetanode());
+        assertEquals("Different results when executing chunks outside the workflow", expected, getRows(end));
+
+        reset(m_creator);
+        assertEquals("Tables of chunks not disposed", 0, getNrTablesInGlobalRepository());
+    }
+
+    /** Loop bodies with a metanode are copied into the workflow. */
+    @Test(timeout = 60000L)
+    public void testFallbackForMetanode() throws Exception {
+        final NodeID start = addChunkStart(false);
+        final WorkflowManager metanode = getManager().createAndAddSubWorkflow(
+            new PortType[]{BufferedDataTable.TYPE}, new PortType[]{BufferedDataTable.TYPE}, "Metanode");
+        final NodeID copy = metanode.createAndAddNode(new BenchmarkTableCopyNodeFactory());
+        metanode.addConnection(metanode.getID(), 0, copy, 1);
+        metanode.addConnection(copy, 1, metanode.getID(), 0);
+        getManager().addConnection(start, 1, metanode.getID(), 0);
+        final NodeID end = getManager().createAndAddNode(new ParallelChunkEndNodeFactory());
+        getManager().addConnection(metanode.getID(), 0, end, 1);
+        checkFallback(end, ROW_COUNT);
+    }
+
+    /** Loop bodies with nested loops (scope start and end nodes) are copied into the workflow. */
+    @Test(timeout = 60000L)
+    public void testFallbackForNestedLoop() throws Exception {
+        final NodeID innerStart = addAfter(addChunkStart(false), new BenchmarkLoopStartNodeFactory());
+        final NodeSettings settings = new NodeSettings("settings");
+        getManager().saveNodeSettings(innerStart, settings);
+        settings.getNodeSettings(Node.CFG_MODEL).addInt(BenchmarkLoopStartNodeModel.CFG_ITERATIONS, 2);
+        getManager().loadNodeSettings(innerStart, settings);
+        final NodeID copy = addAfter(innerStart, new BenchmarkTableCopyNodeFactory());
+        final NodeID end = addChunkEnd(addAfter(copy, new BenchmarkLoopEndNodeFactory()));
+        checkFallback(end, 2 * ROW_COUNT);
+    }
+
+    /** Loop bodies with settings controlled by flow variables are copied into the workflow. */
+    @Test(timeout = 60000L)
+    public void testFallbackForVariableSettings() throws Exception {
+        getManager().addWorkflowVariables(true, new FlowVariable("lockVariable", LOCK_ID));
+        final NodeID blocking = addAfter(addChunkStart(false), new BlockingNodeFactory());
+        final NodeSettings settings = new NodeSettings("settings");
+        getManager().saveNodeSettings(blocking, settings);
+        final NodeSettingsWO variable = settings.addNodeSettings(Node.CFG_VARIABLES).addNodeSettings("lock_id");
+        variable.addString("used_variable", "lockVariable");
+        variable.addString("exposed_variable", null);
+        getManager().loadNodeSettings(blocking, settings);
+        checkFallback(addChunkEnd(blocking), ROW_COUNT);
+    }
+
+    /** Loop bodies with connections from nodes outside the loop are copied into the workflow. */
+    @Test(timeout = 60000L)
+    public void testFallbackForConnectionFromOutside() throws Exception {
+        final NodeID copy = addAfter(addChunkStart(false), new BenchmarkTableCopyNodeFactory());
+        // flow variable connection from the node upstream of the loop
+        getManager().addConnection(m_creator, 0, copy, 0);
+        checkFallback(addChunkEnd(copy), ROW_COUNT);
+    }
+
+    /** Canceling while chunks execute must fail the end node and allow for a clean re-execution. */
+    @Test(timeout = 60000L)
+    public void testCancelInChunk() throws Exception {
+        // all chunks are remote if the main branch is inactive
+        final NodeID start = addChunkStart(true);
+        final NodeID blocking = addAfter(start, new BlockingNodeFactory());
+        final NodeSettings settings = new NodeSettings("settings");
+        getManager().saveNodeSettings(blocking, settings);
+        settings.getNodeSettings(Node.CFG_MODEL).addString("lock_id", LOCK_ID);
+        getManager().loadNodeSettings(blocking, settings);
+        final NodeID end = addChunkEnd(blocking);
+
+        final ReentrantLock lock = BlockingRepository.get(LOCK_ID);
+        lock.lock();
+        try {
+            getManager().executeAll();
+            Awaitility.await().atMost(20, TimeUnit.SECONDS).pollInterval(50, TimeUnit.MILLISECONDS)
+                .until(() -> lock.getQueueLength() > 0);
+            assertFalse("Loop body copied into the workflow", hasParallelChunksMetanode());
+            getManager().cancelExecution();
+        } finally {
+            lock.unlock();
+        }
+        waitWhileInExecution();
+        assertFalse("End node executed despite cancelation",
+            findNodeContainer(end).getInternalState().isExecuted());
+        // chunks continue until the blocking node returns, they must not end up as executed
+        Awaitility.await().atMost(20, TimeUnit.SECONDS).pollInterval(50, TimeUnit.MILLISECONDS)
+            .until(() -> !lock.isLocked() && !lock.hasQueuedThreads());
+
+        reset(start);
+        executeAllAndWait();
+        checkState(end, InternalNodeContainerState.EXECUTED);
+        assertEquals("Wrong number of rows after re-execution", ROW_COUNT, getRows(end).size());
+    }
+
+    /** A node failing in a chunk must fail the end node and the nodes of all chunks must be disposed. */
+    @Test(timeout = 60000L)
+    public void testFailureInChunk() throws Exception {
+        // all chunks are remote if the main branch is inactive
+        final NodeID failing = addAfter(addChunkStart(true), new FailOnLastRowNodeFactory());
+        final NodeID end = addChunkEnd(failing);
+        executeAllAndWait();
+        checkState(end, InternalNodeContainerState.CONFIGURED);
+        assertEquals("End node should report failed chunk", Type.ERROR,
+            findNodeContainer(end).getNodeMessage().getMessageType());
+        assertFalse("Loop body copied into the workflow", hasParallelChunksMetanode());
+
+        reset(m_creator);
+        assertEquals("Tables of chunks not disposed", 0, getNrTablesInGlobalRepository());
+    }
+
+    private void checkFallback(final NodeID end, final int expectedRowCount) throws Exception {
+        executeAllAndWait();
+        checkState(end, InternalNodeContainerState.EXECUTED);
+        assertTrue("Loop body not copied into the workflow", hasParallelChunksMetanode());
+        assertEquals("Wrong number of rows", expectedRowCount, getRows(end).size());
+    }
+
+    private NodeID addChunkStart(final boolean inactiveMainBranch) throws InvalidSettingsException {
+        final NodeID start = addAfter(m_creator, new ParallelChunkStartNodeFactory());
+        final NodeSettings settings = new NodeSettings("settings");
+        getManager().saveNodeSettings(start, settings);
+        final NodeSettings model = settings.getNodeSettings(Node.CFG_MODEL);
+        model.addInt("chunkCount", CHUNK_COUNT);
+        model.addBoolean("inactiveMainBranch", inactiveMainBranch);
+        getManager().loadNodeSettings(start, settings);
+        return start;
+    }
+
+    private NodeID addChunkEnd(final NodeID predecessor) {
+        return addAfter(predecessor, new ParallelChunkEndNodeFactory());
+    }
+
+    private NodeID addAfter(final NodeID predecessor, final NodeFactory<?> factory) {
+        final NodeID id = getManager().createAndAddNode(factory);
+        getManager().addConnection(predecessor, 1, id, 1);
+        return id;
+    }
+
+    private boolean hasParallelChunksMetanode() {
+        return getManager().getNodeContainers().stream()
+            .anyMatch(nc -> nc instanceof WorkflowManager && PARALLEL_CHUNKS_METANODE.equals(nc.getName()));
+    }
+
+    private List<String> getRows(final NodeID id) {
+        final BufferedDataTable table = (BufferedDataTable)findNodeContainer(id).getOutPort(1).getPortObject();
+        final List<String> rows = new ArrayList<>();
+        for (DataRow row : table) {
+            final StringBuilder b = new StringBuilder(row.getKey().getString());
+            for (DataCell cell : row) {
+                b.append(',').append(cell);
+            }
+            rows.add(b.toString());
+        }
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        try {
+            super.tearDown();
+        } finally {
+            BlockingRepository.remove(LOCK_ID);
+            if (m_oldPropertyValue == null) {
+                System.clearProperty(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_OFF_WORKFLOW);
+            } else {
+                System.setProperty(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_OFF_WORKFLOW, m_oldPropertyValue);
+            }
+            FileUtil.deleteRecursively(m_workflowDir);
+        }
+    }
+
+    /** Factory of a pass-through node that fails if its input contains the last row of the test table. */
+    public static final class FailOnLastRowNodeFactory extends NodeFactory<RuntimeNodeModel> {
+
+        /** {@inheritDoc} */
+        @Override
+        public RuntimeNodeModel createNodeModel() {
+            return new RuntimeNodeModel(1, 1) {
+                @Override
+                protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+                    return inSpecs;
+                }
+
+                @Override
+                protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+                    throws Exception {
+                    for (DataRow row : inData[0]) {
+                        if (row.getKey().getString().equals("Row" + (ROW_COUNT - 1))) {
+                            throw new IllegalStateException("Failing on purpose on row " + row.getKey());
+                        }
+                    }
+                    return inData;
+                }
+            };
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected int getNrNodeViews() {
+            return 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public NodeView<RuntimeNodeModel> createNodeView(final int viewIndex, final RuntimeNodeModel nodeModel) {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean hasDialog() {
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected NodeDialogPane createNodeDialogPane() {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected NodeDescription createNodeDescription() throws SAXException, IOException, XmlException {
+            return new NoDescriptionProxy(getClass());
+        }
+    }
+}
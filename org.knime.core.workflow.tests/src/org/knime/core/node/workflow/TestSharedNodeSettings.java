@@ -0,0 +1,190 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.workflow.SingleNodeContainer.SingleNodeContainerSettings;
+import org.knime.core.util.FileUtil;
+import org.knime.testing.node.benchmark.BenchmarkTableCreatorNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkTableCreatorNodeModel;
+
+/**
+ * Tests that copies of a node share its model settings (see {@link SingleNodeContainerSettings}) and that flow
+ * variables and later changes of the settings don't affect the shared settings.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestSharedNodeSettings extends WorkflowTestCase {
+
+    private static final int ROW_COUNT = 20;
+
+    private File m_workflowDir;
+
+    private NodeID m_creator;
+
+    @Before
+    public void setUp() throws Exception {
+        m_workflowDir = FileUtil.createTempDir(getClass().getSimpleName());
+        final WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(m_workflowDir).createContext());
+        setManager(WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), creationHelper));
+        m_creator = getManager().createAndAddNode(new BenchmarkTableCreatorNodeFactory());
+        setRowCount(m_creator, ROW_COUNT);
+    }
+
+    /** A pasted node references the model settings of the original, but not its settings holder. */
+    @Test
+    public void testPastedNodeSharesModelSettings() throws Exception {
+        final NodeID copy = copyAndPaste(m_creator);
+        assertSame("Model settings not shared with pasted node", getModelSettings(m_creator),
+            getModelSettings(copy));
+        assertNotSame("Settings holder shared with pasted node", getSettings(m_creator), getSettings(copy));
+
+        executeAllAndWait();
+        checkState(copy, InternalNodeContainerState.EXECUTED);
+        assertEquals("Wrong number of rows in pasted node", ROW_COUNT, getRowCount(copy));
+    }
+
+    /** A parameter controlled by a flow variable is applied to a copy of the shared model settings. */
+    @Test
+    public void testFlowVariableDoesNotLeakIntoSharedSettings() throws Exception {
+        final int variableRowCount = 7;
+        getManager().addWorkflowVariables(true, new FlowVariable("rowCountVariable", variableRowCount));
+        final NodeSettings settings = new NodeSettings("settings");
+        getManager().saveNodeSettings(m_creator, settings);
+        final NodeSettingsWO variable = settings.addNodeSettings(Node.CFG_VARIABLES)
+            .addNodeSettings(BenchmarkTableCreatorNodeModel.CFG_ROW_COUNT);
+        variable.addString("used_variable", "rowCountVariable");
+        variable.addString("exposed_variable", null);
+        getManager().loadNodeSettings(m_creator, settings);
+        final NodeID copy = copyAndPaste(m_creator);
+
+        executeAllAndWait();
+        checkState(m_creator, InternalNodeContainerState.EXECUTED);
+        checkState(copy, InternalNodeContainerState.EXECUTED);
+        assertEquals("Flow variable not applied", variableRowCount, getRowCount(m_creator));
+        assertEquals("Flow variable not applied in pasted node", variableRowCount, getRowCount(copy));
+        assertSame("Model settings no longer shared after execution", getModelSettings(m_creator),
+            getModelSettings(copy));
+        assertEquals("Flow variable value leaked into shared model settings", ROW_COUNT,
+            getModelSettings(m_creator).getInt(BenchmarkTableCreatorNodeModel.CFG_ROW_COUNT));
+    }
+
+    /** Pasting the same copy twice creates nodes with independent settings holders. */
+    @Test
+    public void testPasteSamePersistorTwice() throws Exception {
+        final WorkflowPersistor persistor =
+            getManager().copy(WorkflowCopyContent.builder().setNodeIDs(m_creator).build());
+        final NodeID first = getManager().paste(persistor).getNodeIDs()[0];
+        final NodeID second = getManager().paste(persistor).getNodeIDs()[0];
+        assertNotSame("Settings holder shared by pasted nodes", getSettings(first), getSettings(second));
+        assertSame("Model settings not shared by pasted nodes", getModelSettings(first), getModelSettings(second));
+
+        setRowCount(first, 3);
+        assertEquals("Changed settings of first pasted node", 3,
+            getModelSettings(first).getInt(BenchmarkTableCreatorNodeModel.CFG_ROW_COUNT));
+        assertEquals("Changing first pasted node affected second one", ROW_COUNT,
+            getModelSettings(second).getInt(BenchmarkTableCreatorNodeModel.CFG_ROW_COUNT));
+        assertEquals("Changing first pasted node affected the original", ROW_COUNT,
+            getModelSettings(m_creator).getInt(BenchmarkTableCreatorNodeModel.CFG_ROW_COUNT));
+
+        executeAllAndWait();
+        assertEquals("Wrong number of rows in first pasted node", 3, getRowCount(first));
+        assertEquals("Wrong number of rows in second pasted node", ROW_COUNT, getRowCount(second));
+    }
+
+    private NodeID copyAndPaste(final NodeID id) {
+        return getManager().copyFromAndPasteHere(getManager(), WorkflowCopyContent.builder().setNodeIDs(id).build())
+            .getNodeIDs()[0];
+    }
+
+    private void setRowCount(final NodeID id, final int rowCount) throws InvalidSettingsException {
+        final NodeSettings settings = new NodeSettings("settings");
+        getManager().saveNodeSettings(id, settings);
+        settings.getNodeSettings(Node.CFG_MODEL).addInt(BenchmarkTableCreatorNodeModel.CFG_ROW_COUNT, rowCount);
+        getManager().loadNodeSettings(id, settings);
+    }
+
+    private SingleNodeContainerSettings getSettings(final NodeID id) {
+        return ((SingleNodeContainer)findNodeContainer(id)).getSingleNodeContainerSettings();
+    }
+
+    private NodeSettingsRO getModelSettings(final NodeID id) {
+        return getSettings(id).getModelSettings();
+    }
+
+    private long getRowCount(final NodeID id) {
+        return ((BufferedDataTable)findNodeContainer(id).getOutPort(1).getPortObject()).size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        try {
+            super.tearDown();
+        } finally {
+            FileUtil.deleteRecursively(m_workflowDir);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.json.JsonObject;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.util.FileUtil;
+import org.knime.testing.core.benchmark.BenchmarkResults;
+import org.knime.testing.core.benchmark.BenchmarkWorkflowCorpus;
+import org.knime.testing.core.benchmark.BenchmarkWorkflowCorpus.Scenario;
+import org.knime.testing.core.benchmark.WorkflowBenchmark;
+
+/**
+ * Tests the {@link WorkflowBenchmark} on a workflow of the {@link BenchmarkWorkflowCorpus}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowBenchmarkTest {
+
+    private File m_tempDir;
+
+    private File m_workflowDir;
+
+    /**
+     * Creates the deep loops workflow of the corpus.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        m_tempDir = FileUtil.createTempDir(getClass().getSimpleName());
+        m_workflowDir = BenchmarkWorkflowCorpus.create(Scenario.DEEP_LOOPS,
+            new File(m_tempDir, Scenario.DEEP_LOOPS.getWorkflowName()), 1);
+    }
+
+    /** Deletes the workflow and results. */
+    @After
+    public void tearDown() {
+        FileUtil.deleteRecursively(m_tempDir);
+    }
+
+    /**
+     * Executed after each test, checks that there are no open workflows dangling around.
+     */
+    @After
+    public void checkDanglingWorkflows() {
+        Collection<NodeContainer> openWorkflows = WorkflowManager.ROOT.getNodeContainers().stream()
+            .filter(nc -> !StringUtils.containsAny(nc.getName(), WorkflowTestCase.KNOWN_CHILD_WFM_NAME_SUBSTRINGS))
+            .collect(Collectors.toList());
+        assertTrue(openWorkflows.size() + " dangling workflow(s) detected: " + openWorkflows, openWorkflows.isEmpty());
+    }
+
+    /**
+     * Runs the workflow repeatedly and checks the written results.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testResults() throws Exception {
+        final File resultFile = new File(m_tempDir, "result.json");
+        assertEquals("Wrong return value", BatchExecutor.EXIT_SUCCESS, WorkflowBenchmark.mainRun(
+            "-workflowDir=" + m_workflowDir.getAbsolutePath(), "-repetitions=2", "-warmup=0",
+            "-result=" + resultFile.getAbsolutePath()));
+
+        final BenchmarkResults results = BenchmarkResults.read(resultFile);
+        final String name = Scenario.DEEP_LOOPS.getWorkflowName();
+        assertTrue("Workflow not executed successfully", results.isSuccessful(name));
+        final List<JsonObject> runs = results.getRuns(name);
+        assertEquals("Wrong number of repetitions", 2, runs.size());
+        for (JsonObject run : runs) {
+            // creator, 3 loop starts and ends with 4 iterations each, one copy node in the innermost body
+            assertEquals("Wrong number of node executions", 1 + 2 * (4 + 16 + 64) + 64,
+                run.getInt(BenchmarkResults.NODE_EXECUTIONS));
+            assertEquals("Wrong number of nodes", 8, run.getJsonObject(BenchmarkResults.NODES).size());
+            assertTrue("No state events", run.getInt(BenchmarkResults.STATE_EVENTS) > 0);
+            assertTrue("Negative wall time", run.getJsonNumber(BenchmarkResults.WALL_MILLIS).longValue() >= 0);
+            assertTrue("Negative overhead", run.getJsonNumber(BenchmarkResults.OVERHEAD_MILLIS).longValue() >= 0);
+        }
+        assertEquals("Wrong scale property", "1", results.getProperty("scale"));
+    }
+
+    /**
+     * Checks that a regression compared to the baseline is reported.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testBaseline() throws Exception {
+        final String name = Scenario.DEEP_LOOPS.getWorkflowName();
+        final File baselineFile = new File(m_tempDir, "baseline.json");
+        Files.write(baselineFile.toPath(), ("{\"properties\": {}, \"workflows\": {\"" + name
+            + "\": {\"successful\": true, \"runs\": [{\"wallMillis\": 1, \"allocatedBytes\": -1}]}}}")
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("Regression not detected", WorkflowBenchmark.EXIT_REGRESSION,
+            WorkflowBenchmark.mainRun("-workflowDir=" + m_workflowDir.getAbsolutePath(), "-repetitions=1",
+                "-warmup=0", "-baseline=" + baselineFile.getAbsolutePath(), "-tolerance=0"));
+        assertEquals("Regression reported within tolerance", BatchExecutor.EXIT_SUCCESS,
+            WorkflowBenchmark.mainRun("-workflowDir=" + m_workflowDir.getAbsolutePath(), "-repetitions=1",
+                "-warmup=0", "-baseline=" + baselineFile.getAbsolutePath(), "-tolerance=1000000"));
+    }
+
+    /** Checks that invalid benchmark options are rejected. */
+    @Test
+    public void testArguments() {
+        assertEquals("Wrong return value for invalid repetitions", BatchExecutor.EXIT_ERR_PRESTART,
+            WorkflowBenchmark.mainRun("-workflowDir=" + m_workflowDir.getAbsolutePath(), "-repetitions=0"));
+        assertEquals("Wrong return value for missing baseline", BatchExecutor.EXIT_ERR_PRESTART,
+            WorkflowBenchmark.mainRun("-workflowDir=" + m_workflowDir.getAbsolutePath(),
+                "-baseline=" + new File(m_tempDir, "missing.json").getAbsolutePath()));
+    }
+}
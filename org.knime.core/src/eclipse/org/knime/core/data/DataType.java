@@ -54,7 +54,6 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -219,10 +218,22 @@ public String toString() {
      * added to this map. This map makes sure that the <code>getType()</code>
      * method is fast and that there will be no duplicate <code>DataType</code>
      * instances for  different instances of the
-     * {@link org.knime.core.data.DataValue} implementation.
+     * {@link org.knime.core.data.DataValue} implementation. Concurrent as types are requested from many threads
+     * (e.g. parallel table writers); lookups of existing types are lock-free.
      */
     private static final Map<ClassAndSubDataTypePair, DataType>
-        CLASS_TO_TYPE_MAP = new HashMap<ClassAndSubDataTypePair, DataType>();
+        CLASS_TO_TYPE_MAP = new ConcurrentHashMap<ClassAndSubDataTypePair, DataType>();
+
+    /**
+     * Maximum number of entries held in {@link #COMMON_SUPER_TYPE_CACHE} and in each type's sub type cache. Types are
+     * cheap to re-compute but non-native types (loaded or merged ones) can be created in unbounded numbers, so the
+     * caches are cleared once they reach this size.
+     */
+    private static final int MAX_TYPE_CACHE_SIZE = 1000;
+
+    /** Caches the result of {@link #getCommonSuperType(DataType, DataType)} for an (ordered) pair of type instances. */
+    private static final Map<DataTypePair, DataType> COMMON_SUPER_TYPE_CACHE =
+        new ConcurrentHashMap<DataTypePair, DataType>();
 
     /**
      * The String representation comparator. Fall back comparator if no other is
@@ -256,7 +267,7 @@ protected int compareDataValues(
      */
     private static final Map<Class<? extends DataValue>, UtilityFactory>
         VALUE_CLASS_TO_UTILITY =
-            new HashMap<Class<? extends DataValue>, UtilityFactory>();
+            new ConcurrentHashMap<Class<? extends DataValue>, UtilityFactory>();
 
     /**
      * Recursive method that walks up the inheritance tree of a given class and
@@ -381,14 +392,34 @@ public static DataType getCommonSuperType(final DataType type1,
             return type1;
         }
 
-        // handles also the equals case
-        if (type1.isASuperTypeOf(type2)) {
+        if (type1 == type2) {
             return type1;
         }
-        if (type2.isASuperTypeOf(type1)) {
-            return type2;
+        final DataTypePair key = new DataTypePair(type1, type2);
+        DataType result = COMMON_SUPER_TYPE_CACHE.get(key);
+        if (result == null) {
+            // handles also the equals case
+            if (type1.isASuperTypeOf(type2)) {
+                result = type1;
+            } else if (type2.isASuperTypeOf(type1)) {
+                result = type2;
+            } else {
+                result = new DataType(type1, type2);
+            }
+            putIntoBoundedCache(COMMON_SUPER_TYPE_CACHE, key, result);
         }
-        return new DataType(type1, type2);
+        return result;
+    }
+
+    /**
+     * Puts a key-value pair into one of the type caches, clearing the cache first if it has reached
+     * {@link #MAX_TYPE_CACHE_SIZE}. Concurrent puts of the same key are harmless as the computed values are equal.
+     */
+    private static <K, V> void putIntoBoundedCache(final Map<K, V> cache, final K key, final V value) {
+        if (cache.size() >= MAX_TYPE_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(key, value);
     }
 
     /**
@@ -501,8 +532,12 @@ public static DataType getType(final Class<? extends DataCell> cell) {
         ClassAndSubDataTypePair key = new ClassAndSubDataTypePair(cell, null, null);
         DataType result = CLASS_TO_TYPE_MAP.get(key);
         if (result == null) {
+            // not using computeIfAbsent as the constructor may request other types (no recursive updates allowed)
             result = new DataType(cell, null, Collections.EMPTY_LIST);
-            CLASS_TO_TYPE_MAP.put(key, result);
+            DataType existing = CLASS_TO_TYPE_MAP.putIfAbsent(key, result);
+            if (existing != null) {
+                result = existing;
+            }
         }
         return result;
     }
@@ -556,7 +591,10 @@ public static DataType getType(final Class<? extends DataCell> cellClass,
         DataType result = CLASS_TO_TYPE_MAP.get(key);
         if (result == null) {
             result = new DataType(cellClass, collectionElementType, adapterList);
-            CLASS_TO_TYPE_MAP.put(key, result);
+            DataType existing = CLASS_TO_TYPE_MAP.putIfAbsent(key, result);
+            if (existing != null) {
+                result = existing;
+            }
         }
         return result;
     }
@@ -682,7 +720,8 @@ public static DataType load(final ConfigRO config)
 
     private final List<Class<? extends DataValue>> m_adapterValueList;
 
-    /** a map that caches whether certain encountered types are subtypes of this type */
+    /** a map that caches whether certain encountered types are subtypes of this type, bounded by
+     * {@link #MAX_TYPE_CACHE_SIZE} */
     private final Map<DataType, Boolean> m_subTypes = new ConcurrentHashMap<>(100, 1 / 3f);
 
     private String m_name;
@@ -1129,7 +1168,13 @@ public boolean isASuperTypeOf(final DataType type) {
         if (type == null) {
             throw new NullPointerException("Type argument must not be null.");
         }
-        return m_subTypes.computeIfAbsent(type, t -> isASuperTypeOfInternal(t));
+        // plain get first: cache hits are the common case and must not lock (computeIfAbsent might)
+        Boolean result = m_subTypes.get(type);
+        if (result == null) {
+            result = isASuperTypeOfInternal(type);
+            putIntoBoundedCache(m_subTypes, type, result);
+        }
+        return result;
     }
 
     private boolean isASuperTypeOfInternal(final DataType type) {
@@ -1498,4 +1543,40 @@ public boolean equals(final Object obj) {
             return d.m_adapterList.equals(m_adapterList);
         }
     }
+
+    /**
+     * Key for {@link DataType#COMMON_SUPER_TYPE_CACHE}, an ordered pair of types compared by identity. Equal types may
+     * still differ in cell class or value class order, so the cached result is only valid for the very same instances
+     * (which is the common case as {@link DataType#getType(Class)} returns singletons).
+     */
+    private static final class DataTypePair {
+        private final DataType m_first;
+        private final DataType m_second;
+        private final int m_hashCode;
+
+        DataTypePair(final DataType first, final DataType second) {
+            m_first = first;
+            m_second = second;
+            m_hashCode = 31 * first.hashCode() + second.hashCode();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return m_hashCode;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof DataTypePair)) {
+                return false;
+            }
+            DataTypePair p = (DataTypePair)obj;
+            return m_first == p.m_first && m_second == p.m_second;
+        }
+    }
 }
@@ -52,6 +52,7 @@
 import java.util.UUID;
 
 import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.filestore.internal.ContentDeduplicator;
 import org.knime.core.data.filestore.internal.IFileStoreHandler;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
 
@@ -138,6 +139,16 @@ public interface IDataRepository {
      */
     IFileStoreHandler getHandler(UUID storeHandlerUUID);
 
+    /**
+     * Get the index used to deduplicate file store and blob files in this repository, if enabled.
+     *
+     * @return the deduplicator, empty by default
+     * @since 4.3
+     */
+    default Optional<ContentDeduplicator> getContentDeduplicator() {
+        return Optional.empty();
+    }
+
     /**
      * Get handler to ID (which is part of a saved data stream). Throws exception when ID is unknown, returns never
      * <code>null</code>.
@@ -64,6 +64,9 @@
  * i.e. takes significantly longer than pure I/O and (ii) there are no
  * interdependency between the row calculations.
  *
+ * <p>As of v4.3 the input can also be passed to the factory in batches of rows, see {@link #setBatchSize(int)}. This
+ * reduces the overhead per row for cheap calculations, in particular in combination with parallel processing.
+ *
  * @see SingleCellFactory
  * @author Bernd Wiswedel, University of Konstanz
  */
@@ -73,6 +76,7 @@ public abstract class AbstractCellFactory implements CellFactory {
 
     private int m_maxParallelWorkers = -1;
     private int m_maxQueueSize = -1;
+    private int m_batchSize = 1;
 
     /** True if the deprecatd {@link #setProgress(int, int, RowKey, ExecutionMonitor)} method is overridden. If so,
      * it will be called by the default implementation of the (new) setProgress method. */
@@ -226,6 +230,27 @@ public final int getMaxQueueSize() {
         return m_maxQueueSize;
     }
 
+    /** Sets the number of rows that are passed to {@link #getCellsForBatch(org.knime.core.data.DataRow[])} at once.
+     * A value larger than 1 is useful if the calculation for an individual row is cheap compared to the overhead of
+     * invoking the factory, e.g. for simple expressions that are processed in parallel, where each batch is processed
+     * as one task. Note that the {@link #getMaxQueueSize() queue size} then refers to batches rather than rows and that
+     * progress is reported once per batch.
+     * @param batchSize The number of rows per batch, 1 (the default) for row-by-row processing.
+     * @since 4.3 */
+    public final void setBatchSize(final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be larger than 0: " + batchSize);
+        }
+        m_batchSize = batchSize;
+    }
+
+    /** The number of rows passed to the factory at once, see {@link #setBatchSize(int)}.
+     * @return the batch size, at least 1.
+     * @since 4.3 */
+    public final int getBatchSize() {
+        return m_batchSize;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DataColumnSpec[] getColumnSpecs() {
@@ -59,6 +59,8 @@
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -116,6 +118,7 @@
 import org.knime.core.data.filestore.FileStore;
 import org.knime.core.data.filestore.FileStoreCell;
 import org.knime.core.data.filestore.FileStoreUtil;
+import org.knime.core.data.filestore.internal.ContentDeduplicator;
 import org.knime.core.data.filestore.internal.EmptyFileStoreHandler;
 import org.knime.core.data.filestore.internal.IFileStoreHandler;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
@@ -310,6 +313,10 @@ public class Buffer implements KNIMEStreamConstants {
     /** Number of dirs/files per directory when blobs are saved. */
     private static final int BLOB_ENTRIES_PER_DIRECTORY = 1000;
 
+    /** Whether new blobs are written to a {@link PackedBlobStore}, see
+     * {@link KNIMEConstants#PROPERTY_PACKED_BLOB_STORE}. */
+    private static final boolean USE_PACKED_BLOB_STORE = Boolean.getBoolean(KNIMEConstants.PROPERTY_PACKED_BLOB_STORE);
+
     /**
      * Is executing the shutdown hook? If so, no logging is done, bug fix #862.
      */
@@ -463,6 +470,9 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
     /** The directory where blob cells are stored or null if none available. */
     private File m_blobDir;
 
+    /** Packed blobs in {@link #m_blobDir}, created on first access; null if not used (yet). */
+    private volatile PackedBlobStore m_packedBlobStore;
+
     /** true if any row contained in this buffer contains blob cells. */
     private boolean m_containsBlobs;
 
@@ -515,6 +525,9 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
     /** the current row count (how often has addRow been called). */
     private long m_size;
 
+    /** The common prefix and suffix of the row keys, only known for buffers written in this session. */
+    private RowKeyAffixes m_rowKeyAffixes;
+
     /** The buffer settings. */
     private final BufferSettings m_bufferSettings;
 
@@ -1058,9 +1071,8 @@ private DataCell handleIncomingBlob(final DataCell cell, final int col, final in
                 if (b != null && !isToCloneForVersionHop) {
                     int indexBlobInCol = m_indicesOfBlobInColumns[col]++;
                     rewrite.setIndexOfBlobInColumn(indexBlobInCol);
-                    File source = b.getBlobFile(ad.getIndexOfBlobInColumn(), ad.getColumn(), false, ad.isUseCompression());
-                    File dest = getBlobFile(indexBlobInCol, col, true, ad.isUseCompression());
-                    FileUtil.copy(source, dest);
+                    b.copyBlobTo(ad.getIndexOfBlobInColumn(), ad.getColumn(), ad.isUseCompression(), this,
+                        indexBlobInCol, col);
                     wc = new BlobWrapperDataCell(this, rewrite, cl);
                 } else {
                     BlobDataCell bc;
@@ -1115,7 +1127,6 @@ private void writeBlobDataCell(final BlobDataCell cell, final BlobAddress a) thr
         int indexInColumn = m_indicesOfBlobInColumns[column]++;
         a.setIndexOfBlobInColumn(indexInColumn);
         boolean isToCompress = Buffer.isUseCompressionForBlobs(CellClassInfo.get(cell));
-        File outFile = getBlobFile(indexInColumn, column, true, isToCompress);
         BlobAddress originalBA = cell.getBlobAddress();
         if (!Objects.equals(originalBA, a)) {
             int originalBufferIndex = originalBA.getBufferID();
@@ -1133,24 +1144,34 @@ private void writeBlobDataCell(final BlobDataCell cell, final BlobAddress a) thr
                 int index = originalBA.getIndexOfBlobInColumn();
                 int col = originalBA.getColumn();
                 boolean compress = originalBA.isUseCompression();
-                File source = originalBuffer.getBlobFile(index, col, false, compress);
-                FileUtil.copy(source, outFile);
+                originalBuffer.copyBlobTo(index, col, compress, this, indexInColumn, column);
                 return;
             }
         }
 
-        try (final OutputStream out = new BufferedOutputStream(new FileOutputStream(outFile));
+        Optional<ContentDeduplicator> deduplicator =
+            USE_PACKED_BLOB_STORE ? Optional.empty() : getDataRepository().getContentDeduplicator();
+        // the digest of the blob file is computed while writing, so that it needn't be read again
+        MessageDigest digest = deduplicator.isPresent() ? ContentDeduplicator.createDigest() : null;
+        OutputStream blobOut = openBlobOutputStream(indexInColumn, column, isToCompress);
+        if (digest != null) {
+            blobOut = new DigestOutputStream(blobOut, digest);
+        }
+        try (final OutputStream out = new BufferedOutputStream(blobOut);
                 final BlockableDCObjectOutputVersion2 outStream = new BlockableDCObjectOutputVersion2(
                     isToCompress ? new BufferedOutputStream(new GZIPOutputStream(out)) : out)) {
             // buffering the gzip stream brings another performance boost
             // (in one case from 5mins down to 2 mins)
-            Buffer.onFileCreated(outFile);
             if (ser != null) { // DataCell is datacell-serializable
                 outStream.writeDataCellPerKNIMESerializer(ser, cell);
             } else {
                 outStream.writeDataCellPerJavaSerialization(cell);
             }
         }
+        if (digest != null) {
+            // blob files are never changed once written
+            deduplicator.get().deduplicate(getBlobFile(indexInColumn, column, false, isToCompress), digest);
+        }
     }
 
     private boolean mustBeFlushedPriorSave(final DataCell cell, final boolean isWrapperCell,
@@ -1430,6 +1451,23 @@ public long size() {
         return m_size;
     }
 
+    /** @param rowKeyAffixes the common prefix and suffix of the row keys as tracked by the container, or null */
+    void setRowKeyAffixes(final RowKeyAffixes rowKeyAffixes) {
+        m_rowKeyAffixes = rowKeyAffixes;
+    }
+
+    /**
+     * Get the common prefix and suffix of the row keys. They are only known for buffers that were written in this
+     * session (as opposed to restored from disk) by a container that checked the row keys.
+     *
+     * @return the row key affixes or null if unknown
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 4.3
+     */
+    public RowKeyAffixes getRowKeyAffixes() {
+        return m_rowKeyAffixes;
+    }
+
     /**
      * Get whether the buffer wants to persist row keys. Here hard-coded to <code>true</code> but overwritten in
      * {@link NoKeyBuffer}.
@@ -1538,6 +1576,80 @@ long getBufferFileSize() {
         return -1L;
     }
 
+    /**
+     * Opens a stream to write the (possibly compressed) bytes of a blob. Blobs are either written to a file of their
+     * own or, if {@link KNIMEConstants#PROPERTY_PACKED_BLOB_STORE} is set, appended to a {@link PackedBlobStore}.
+     *
+     * @param indexBlobInCol The index in the column (generally the row number).
+     * @param column The column index.
+     * @param isCompressed If the bytes are compressed
+     * @return The stream to write to, which must be closed after the blob is written.
+     * @throws IOException If the blob file can't be created.
+     */
+    OutputStream openBlobOutputStream(final int indexBlobInCol, final int column, final boolean isCompressed)
+        throws IOException {
+        if (USE_PACKED_BLOB_STORE) {
+            ensureBlobDirExists();
+            return getPackedBlobStore().openOutputStream(column, indexBlobInCol);
+        }
+        File outFile = getBlobFile(indexBlobInCol, column, true, isCompressed);
+        OutputStream out = new FileOutputStream(outFile);
+        Buffer.onFileCreated(outFile);
+        return out;
+    }
+
+    /**
+     * Opens a stream to read the (possibly compressed) bytes of a blob, regardless of whether it's stored in a file of
+     * its own or in a {@link PackedBlobStore}.
+     *
+     * @param indexBlobInCol The index in the column (generally the row number).
+     * @param column The column index.
+     * @param isCompressed If the bytes are compressed
+     * @return The stream to read from.
+     * @throws IOException If the blob can't be found or read.
+     */
+    InputStream openBlobInputStream(final int indexBlobInCol, final int column, final boolean isCompressed)
+        throws IOException {
+        if (m_blobDir != null) {
+            PackedBlobStore packedStore = getPackedBlobStore();
+            if (packedStore.isPacked(column)) {
+                return packedStore.openInputStream(column, indexBlobInCol);
+            }
+        }
+        return new FileInputStream(getBlobFile(indexBlobInCol, column, false, isCompressed));
+    }
+
+    /** Copies the bytes of a blob of this buffer into another buffer. */
+    private void copyBlobTo(final int indexBlobInCol, final int column, final boolean isCompressed,
+        final Buffer dest, final int destIndexBlobInCol, final int destColumn) throws IOException {
+        Optional<ContentDeduplicator> deduplicator = dest.getDataRepository().getContentDeduplicator();
+        if (deduplicator.isPresent() && !USE_PACKED_BLOB_STORE
+            && (m_blobDir == null || !getPackedBlobStore().isPacked(column))) {
+            // both blobs are single files, link them instead of copying the bytes
+            deduplicator.get().copy(getBlobFile(indexBlobInCol, column, false, isCompressed),
+                dest.getBlobFile(destIndexBlobInCol, destColumn, true, isCompressed));
+            return;
+        }
+        try (InputStream in = openBlobInputStream(indexBlobInCol, column, isCompressed);
+                OutputStream out = dest.openBlobOutputStream(destIndexBlobInCol, destColumn, isCompressed)) {
+            FileUtil.copy(in, out);
+        }
+    }
+
+    private PackedBlobStore getPackedBlobStore() {
+        PackedBlobStore store = m_packedBlobStore;
+        if (store == null) {
+            synchronized (this) {
+                store = m_packedBlobStore;
+                if (store == null) {
+                    store = new PackedBlobStore(m_blobDir);
+                    m_packedBlobStore = store;
+                }
+            }
+        }
+        return store;
+    }
+
     /**
      * Determines the file location for a blob to be read/written with some given coordinates (column and index in
      * column).
@@ -1999,7 +2111,13 @@ synchronized void clear() {
                             // reason, we are OK with it as well, since we're clearing this buffer anyways.
                         }
                     }
+                    if (m_packedBlobStore != null) {
+                        m_packedBlobStore.close();
+                        m_packedBlobStore = null;
+                    }
                     if (m_blobDir != null) {
+                        final File blobDir = m_blobDir;
+                        getDataRepository().getContentDeduplicator().ifPresent(d -> d.release(blobDir));
                         DeleteInBackgroundThread.delete(m_binFile, m_blobDir);
                     } else {
                         DeleteInBackgroundThread.delete(m_binFile);
@@ -48,8 +48,6 @@
 package org.knime.core.data.container;
 
 import java.io.BufferedInputStream;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
@@ -272,8 +270,7 @@ static BlobDataCell readBlobDataCell(final BlobAddress blobAddress, final CellCl
         int column = blobAddress.getColumn();
         int indexInColumn = blobAddress.getIndexOfBlobInColumn();
         boolean isCompress = blobAddress.isUseCompression();
-        File inFile = buffer.getBlobFile(indexInColumn, column, false, isCompress);
-        InputStream in = new BufferedInputStream(new FileInputStream(inFile));
+        InputStream in = new BufferedInputStream(buffer.openBlobInputStream(indexInColumn, column, isCompress));
         if (isCompress) {
             in = new GZIPInputStream(in);
             // that buffering is important
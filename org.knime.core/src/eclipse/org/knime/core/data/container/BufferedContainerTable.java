@@ -187,6 +187,22 @@ public Buffer getBuffer() {
         return m_buffer;
     }
 
+    /**
+     * Get the common prefix and suffix of the row keys if they were tracked when this table was written. Does not
+     * restore the buffer of a table that was loaded lazily (such tables have no affixes anyway).
+     *
+     * @return the row key affixes or null if unknown
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 4.3
+     */
+    public RowKeyAffixes getRowKeyAffixes() {
+        if (m_readTask != null) {
+            return null;
+        }
+        final Buffer buffer = m_buffer;
+        return buffer == null ? null : buffer.getRowKeyAffixes();
+    }
+
     /**
      * Delegates to buffer to get its ID.
      *
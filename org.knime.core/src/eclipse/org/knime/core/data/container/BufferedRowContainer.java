@@ -55,6 +55,7 @@
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -236,6 +237,12 @@ public Thread newThread(final Runnable r) {
     /** Holds the keys of the added rows to check for duplicates. */
     private DuplicateChecker m_duplicateChecker;
 
+    /**
+     * The common prefix and suffix of the added row keys, attached to the buffer on close. <code>null</code> if the
+     * buffer doesn't store row keys.
+     */
+    private RowKeyAffixes m_rowKeyAffixes;
+
     /** The tablespec of the return table. */
     private DataTableSpec m_spec;
 
@@ -267,7 +274,9 @@ public Thread newThread(final Runnable r) {
         CheckUtils.checkArgument(settings.getMaxCellsInMemory() >= 0, "Cell count must be positive: %s",
             settings.getMaxCellsInMemory());
         m_spec = spec;
-        m_duplicateChecker = settings.createDuplicateChecker();
+        // keys are re-read from the (closed) buffer only if the duplicate checker needs them to resolve hash collisions
+        m_duplicateChecker = settings.createDuplicateChecker(() -> new RowKeyIterator(m_buffer.iterator()));
+        m_rowKeyAffixes = settings.isEnableRowKeys() ? new RowKeyAffixes() : null;
         m_forceSequentialRowHandling = settings.isForceSequentialRowHandling();
         m_batchSize = settings.getRowBatchSize();
         m_memoryLowState = false;
@@ -307,6 +316,9 @@ private void addRowToTableWrite(final DataRow row) {
         validateSpecCompatiblity(row);
         m_domainCreator.updateDomain(row);
         addRowKeyForDuplicateCheck(row.getKey());
+        if (m_rowKeyAffixes != null) {
+            m_rowKeyAffixes.add(row.getKey().getString());
+        }
         m_buffer.addRow(row, false, m_forceCopyOfBlobs);
     }
 
@@ -459,11 +471,13 @@ public void close() {
             String key = dke.getKey();
             throw new DuplicateKeyException("Found duplicate row ID \"" + key + "\" (at unknown position)", key);
         }
+        m_buffer.setRowKeyAffixes(m_rowKeyAffixes);
         m_table = new BufferedContainerTable(m_buffer);
         m_buffer = null;
         m_spec = null;
         m_duplicateChecker.clear();
         m_duplicateChecker = null;
+        m_rowKeyAffixes = null;
         m_domainCreator = null;
         m_size = -1;
     }
@@ -703,6 +717,16 @@ private void addRowKeyForDuplicateCheck(final RowKey key) {
         }
     }
 
+    /** Merges the row key affixes of a batch processed by a {@link ContainerRunnable}. */
+    private void mergeRowKeyAffixes(final RowKeyAffixes batchAffixes) {
+        final RowKeyAffixes affixes = m_rowKeyAffixes;
+        if (affixes != null) {
+            synchronized (affixes) {
+                affixes.merge(batchAffixes);
+            }
+        }
+    }
+
     /**
      * Returns <code>true</code> if the given argument table has been created by the DataContainer, <code>false</code>
      * otherwise.
@@ -759,12 +783,15 @@ public final void run() {
             try {
                 if (m_writeThrowable.get() == null) {
                     final List<BlobSupportDataRow> blobRows = new ArrayList<>(m_rows.size());
+                    final RowKeyAffixes batchAffixes = new RowKeyAffixes();
                     for (final DataRow row : m_rows) {
                         validateSpecCompatiblity(row);
                         m_dataTableDomainCreator.updateDomain(row);
                         addRowKeyForDuplicateCheck(row.getKey());
+                        batchAffixes.add(row.getKey().getString());
                         blobRows.add(m_buffer.saveBlobsAndFileStores(row, m_forceCopyOfBlobs));
                     }
+                    mergeRowKeyAffixes(batchAffixes);
                     boolean addRows;
                     synchronized (m_pendingBatchIdx) {
                         addRows = m_batchIdx == m_pendingBatchIdx.longValue();
@@ -1041,4 +1068,33 @@ public static void writeToStream(final DataTable table, final OutputStream out,
             os.flush();
         }
     }
+
+    /** Iterates the row keys (as strings) of a row iterator, closes the row iterator once exhausted or closed. */
+    private static final class RowKeyIterator implements Iterator<String>, AutoCloseable {
+
+        private final CloseableRowIterator m_rowIterator;
+
+        RowKeyIterator(final CloseableRowIterator rowIterator) {
+            m_rowIterator = rowIterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            final boolean hasNext = m_rowIterator.hasNext();
+            if (!hasNext) {
+                m_rowIterator.close();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public String next() {
+            return m_rowIterator.next().getKey().toString();
+        }
+
+        @Override
+        public void close() {
+            m_rowIterator.close();
+        }
+    }
 }
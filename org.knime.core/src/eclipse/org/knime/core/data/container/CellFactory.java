@@ -77,6 +77,26 @@ public interface CellFactory {
      */
     DataCell[] getCells(final DataRow row);
 
+    /**
+     * Get the new cells for a batch of consecutive rows. The framework calls this method instead of
+     * {@link #getCells(DataRow)} if the input is processed in batches, see
+     * {@link AbstractCellFactory#setBatchSize(int)}. The default implementation calls {@link #getCells(DataRow)} for
+     * each row. Factories with a noticeable per-call overhead (e.g. expression evaluation or calls into native code)
+     * can override it to process the batch in one go.
+     *
+     * @param rows The rows of interest, in table order.
+     * @return For each row the new cells, as described in {@link #getCells(DataRow)}; the array has the same length as
+     *         the argument.
+     * @since 4.3
+     */
+    default DataCell[][] getCellsForBatch(final DataRow[] rows) {
+        final DataCell[][] result = new DataCell[rows.length][];
+        for (int i = 0; i < rows.length; i++) {
+            result[i] = getCells(rows[i]);
+        }
+        return result;
+    }
+
     /**
      * The column specs for the cells that are generated in the getCells() method. This method is only called once,
      * there is no need to cache the return value. The length of the returned array must match the length of the array
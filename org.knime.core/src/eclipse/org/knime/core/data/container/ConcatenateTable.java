@@ -46,6 +46,9 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -63,6 +66,7 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.util.CheckUtils;
@@ -82,12 +86,22 @@ public final class ConcatenateTable implements KnowsRowCountTable {
     private static final String CFG_ROW_COUNT_L = "table_rowcount_long";
     private static final String CFG_DUPLICATE_ROW_KEY_SUFFIX = "duplicate_row_key_suffix";
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ConcatenateTable.class);
+
+    /** Number of rows after which the progress is updated while checking for duplicates. */
+    private static final int PROGRESS_INTERVAL = 1024;
+
     private AppendedRowsTable m_tablesWrapper;
     private long m_rowCount;
     private BufferedDataTable[] m_tables;
     private DataTableSpec m_spec;
     private String m_rowKeyDuplicateSuffix;
 
+    /** Lazily computed common prefix and suffix of all keys, see {@link #getRowKeyAffixes()}. */
+    private RowKeyAffixes m_rowKeyAffixes;
+
+    private boolean m_isRowKeyAffixesResolved;
+
     private ConcatenateTable(final BufferedDataTable[] tables,
         final String rowKeyDuplicateSuffix, final long rowCount) {
         m_rowCount = rowCount;
@@ -146,6 +160,23 @@ public BufferedDataTable[] getReferenceTables() {
         return m_tables;
     }
 
+    /**
+     * Get the common prefix and suffix of the row keys of all concatenated tables, see
+     * {@link BufferedDataTable#getRowKeyAffixes()}.
+     *
+     * @return the row key affixes, empty if unknown for any of the tables or if duplicates are made unique by suffix
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 4.3
+     */
+    public synchronized Optional<RowKeyAffixes> getRowKeyAffixes() {
+        if (!m_isRowKeyAffixesResolved) {
+            final List<RowKeyAffixes> affixes = m_rowKeyDuplicateSuffix == null ? collectRowKeyAffixes(m_tables) : null;
+            m_rowKeyAffixes = affixes == null ? null : RowKeyAffixes.union(affixes);
+            m_isRowKeyAffixesResolved = true;
+        }
+        return Optional.ofNullable(m_rowKeyAffixes);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -300,7 +331,8 @@ public static ConcatenateTable create(final ExecutionMonitor mon, final Optional
 
     /**
      * Creates a new table from argument tables. This methods checks for row key duplicates over all given tables before
-     * creating it.
+     * creating it. The check doesn't read the tables if their row keys are known to be disjoint by their common prefix
+     * or suffix (see {@link RowKeyAffixes}), e.g. when the keys carry a loop iteration suffix.
      *
      * @param mon for progress info/cancellation
      * @param tables Tables to put together.
@@ -317,29 +349,64 @@ public static ConcatenateTable create(final ExecutionMonitor mon, final Buffered
         return new ConcatenateTable(tables, null, rowCount);
     }
 
+    /**
+     * Checks that the keys of the argument tables are unique. This is free if the tables' row key affixes prove that
+     * they are disjoint (e.g. keys carry the iteration suffix of a loop). Otherwise all keys are read, using the
+     * duplicate checker of the {@link DataContainerSettings}.
+     */
     private static void checkForDuplicates(final ExecutionMonitor mon, final BufferedDataTable[] tables,
         final long rowCount) throws CanceledExecutionException {
-        DuplicateChecker check = new DuplicateChecker();
-        int r = 0;
-        for (int i = 0; i < tables.length; i++) {
-            for (DataRow row : tables[i]) {
-                RowKey key = row.getKey();
-                try {
-                    check.addKey(key.toString());
-                } catch (DuplicateKeyException | IOException ex) {
-                    throw new IllegalArgumentException("Duplicate row key \"" + key + "\" in table with index " + i);
+        final List<RowKeyAffixes> affixes = collectRowKeyAffixes(tables);
+        if (affixes != null && RowKeyAffixes.areDisjoint(affixes)) {
+            LOGGER.debug("Row keys of " + tables.length + " tables are disjoint by prefix or suffix, "
+                + "skipping duplicate check");
+            return;
+        }
+        final DuplicateChecker check =
+            DataContainerSettings.getDefault().createDuplicateChecker(() -> new RowKeyIterator(tables));
+        try {
+            long r = 0;
+            for (int i = 0; i < tables.length; i++) {
+                for (DataRow row : tables[i]) {
+                    RowKey key = row.getKey();
+                    try {
+                        check.addKey(key.toString());
+                    } catch (DuplicateKeyException | IOException ex) {
+                        throw new IllegalArgumentException(
+                            "Duplicate row key \"" + key + "\" in table with index " + i);
+                    }
+                    r++;
+                    if (r % PROGRESS_INTERVAL == 0) {
+                        mon.setProgress(r / (double)rowCount,
+                            "Checking tables, row " + r + "/" + rowCount + " (\"" + key + "\")");
+                        mon.checkCanceled();
+                    }
                 }
-                r++;
-                mon.setProgress(r / (double)rowCount,
-                    "Checking tables, row " + r + "/" + rowCount + " (\"" + row.getKey() + "\")");
+                mon.checkCanceled();
             }
-            mon.checkCanceled();
+            try {
+                check.checkForDuplicates();
+            } catch (DuplicateKeyException | IOException ex) {
+                throw new IllegalArgumentException("Duplicate row keys");
+            }
+        } finally {
+            check.clear();
         }
-        try {
-            check.checkForDuplicates();
-        } catch (DuplicateKeyException | IOException ex) {
-            throw new IllegalArgumentException("Duplicate row keys");
+    }
+
+    /** The affixes of all non-empty tables or null if they are unknown for any of them. */
+    private static List<RowKeyAffixes> collectRowKeyAffixes(final BufferedDataTable[] tables) {
+        final List<RowKeyAffixes> result = new ArrayList<>(tables.length);
+        for (BufferedDataTable table : tables) {
+            if (table.size() > 0) {
+                final Optional<RowKeyAffixes> affixes = table.getRowKeyAffixes();
+                if (!affixes.isPresent()) {
+                    return null;
+                }
+                result.add(affixes.get());
+            }
         }
+        return result;
     }
 
     /** Creates merged table spec.
@@ -485,4 +552,41 @@ DataRow internalNext() {
 
     }
 
+    /** Iterates the keys of all tables, re-read by the duplicate checker in case of hash collisions. */
+    private static final class RowKeyIterator implements Iterator<String> {
+
+        private final BufferedDataTable[] m_tables;
+
+        private int m_tableIndex = -1;
+
+        private CloseableRowIterator m_rowIterator;
+
+        RowKeyIterator(final BufferedDataTable[] tables) {
+            m_tables = tables;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (m_rowIterator == null || !m_rowIterator.hasNext()) {
+                if (m_rowIterator != null) {
+                    m_rowIterator.close();
+                }
+                if (++m_tableIndex >= m_tables.length) {
+                    m_rowIterator = null;
+                    m_tableIndex = m_tables.length;
+                    return false;
+                }
+                m_rowIterator = m_tables[m_tableIndex].iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return m_rowIterator.next().getKey().getString();
+        }
+    }
 }
@@ -48,6 +48,7 @@
  */
 package org.knime.core.data.container;
 
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -62,6 +63,7 @@
 import org.knime.core.node.workflow.WorkflowContext;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.util.DuplicateChecker;
+import org.knime.core.util.HashingDuplicateChecker;
 
 /**
  * The data container settings. Solely used for benchmarking.
@@ -215,6 +217,10 @@ DataContainerSettings build() {
 
     }
 
+    /** Whether to create {@link HashingDuplicateChecker} instances. */
+    private static final boolean USE_HASHING_DUPLICATE_CHECKER =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_HASHING_ROWID_DUPLICATE_CHECK);
+
     /** The function creating new instances of {@link DuplicateChecker}. */
     private final Supplier<DuplicateChecker> m_duplicateCheckerCreator;
 
@@ -390,6 +396,21 @@ DuplicateChecker createDuplicateChecker() {
         return m_duplicateCheckerCreator.get();
     }
 
+    /**
+     * Creates a {@link DuplicateChecker} ensuring that the row keys are unique. If enabled via
+     * {@link KNIMEConstants#PROPERTY_HASHING_ROWID_DUPLICATE_CHECK} this is a {@link HashingDuplicateChecker}, which
+     * allows concurrent insertion and uses the argument to re-read the keys in case of hash collisions.
+     *
+     * @param keySource supplies an iterator over all keys added to the checker
+     * @return a {@code DuplicateChecker}
+     */
+    DuplicateChecker createDuplicateChecker(final Supplier<? extends Iterator<String>> keySource) {
+        if (USE_HASHING_DUPLICATE_CHECKER) {
+            return new HashingDuplicateChecker(keySource);
+        }
+        return createDuplicateChecker();
+    }
+
     /**
      * Initializes a domain creator.
      *
@@ -0,0 +1,477 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.knime.core.data.util.NonClosableOutputStream;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Stores the blobs of a {@link Buffer} in a few large files instead of one file per blob. The blobs of each column are
+ * appended to segment files (<code>col_&lt;column&gt;/segment_&lt;n&gt;.bin</code>), an index file
+ * (<code>col_&lt;column&gt;/blobs.idx</code>) holds segment, offset and length of each blob, addressed by the index of
+ * the blob in its column. Hence {@link BlobDataCell.BlobAddress} objects keep their meaning; only the location of the
+ * bytes changes.
+ *
+ * <p>The bytes of a blob are the same as the content of the single blob file, i.e. compressed blobs are stored
+ * gzipped. Blobs are written by one thread at a time per column, reading is possible concurrently (also while
+ * writing) as the segments are read using positional reads. The readers of a segment share one channel, which is
+ * closed if a reading thread is interrupted; the other readers then reopen it.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PackedBlobStore {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PackedBlobStore.class);
+
+    /** Name of the index file in each column directory. */
+    static final String INDEX_FILE_NAME = "blobs.idx";
+
+    /** Segments are not extended once they are larger than this. */
+    static final long MAX_SEGMENT_SIZE = 64L << 20;
+
+    /** Size of an index entry: segment + 1 (int, 0 means no entry), offset (long), length (long). */
+    private static final int INDEX_ENTRY_SIZE = 4 + 8 + 8;
+
+    private final File m_blobDir;
+
+    private final Map<Integer, ColumnStore> m_columnStores = new HashMap<>();
+
+    /**
+     * @param blobDir the blob directory of the buffer, needs to exist when blobs are written
+     */
+    PackedBlobStore(final File blobDir) {
+        m_blobDir = blobDir;
+    }
+
+    /**
+     * @param column the column index
+     * @return <code>true</code> if the blobs of the given column are stored in this (packed) format, i.e. the column
+     *         has an index file (checked once per column)
+     */
+    boolean isPacked(final int column) {
+        return getColumnStore(column).isPacked();
+    }
+
+    /**
+     * Opens a stream to write a blob. The blob is added to the store when the stream is closed. Only one blob can be
+     * written per column at a time.
+     *
+     * @param column the column index
+     * @param indexInColumn the index of the blob in its column
+     * @return a stream to write the blob content to
+     * @throws IOException if the segment or index files can't be created
+     */
+    OutputStream openOutputStream(final int column, final int indexInColumn) throws IOException {
+        return getColumnStore(column).openOutputStream(indexInColumn);
+    }
+
+    /**
+     * Opens a stream to read a blob.
+     *
+     * @param column the column index
+     * @param indexInColumn the index of the blob in its column
+     * @return a stream positioned at the first byte of the blob, which ends with its last byte
+     * @throws IOException if there is no such blob or the files can't be read
+     */
+    InputStream openInputStream(final int column, final int indexInColumn) throws IOException {
+        return getColumnStore(column).openInputStream(indexInColumn);
+    }
+
+    /** Closes all open files. Reading or writing blobs re-opens them. */
+    synchronized void close() {
+        m_columnStores.values().forEach(ColumnStore::close);
+    }
+
+    private synchronized ColumnStore getColumnStore(final int column) {
+        return m_columnStores.computeIfAbsent(column, c -> new ColumnStore(new File(m_blobDir, "col_" + c)));
+    }
+
+    /** Segment files, index and in-memory copy of the index of one column. */
+    private static final class ColumnStore {
+
+        private final File m_dir;
+
+        private final File m_indexFile;
+
+        /** Whether the index file exists, <code>null</code> until checked or the first blob is written. */
+        private Boolean m_isPacked;
+
+        /** Per blob index: segment + 1 (0 if not present), offset and length; <code>null</code> until loaded. */
+        private int[] m_segments;
+
+        private long[] m_offsets;
+
+        private long[] m_lengths;
+
+        private final Map<Integer, FileChannel> m_readChannels = new HashMap<>();
+
+        private FileChannel m_indexChannel;
+
+        private FileOutputStream m_segmentOut;
+
+        private int m_segment = -1;
+
+        private long m_segmentSize;
+
+        private boolean m_isWriting;
+
+        ColumnStore(final File dir) {
+            m_dir = dir;
+            m_indexFile = new File(dir, INDEX_FILE_NAME);
+        }
+
+        synchronized boolean isPacked() {
+            if (m_isPacked == null) {
+                m_isPacked = m_indexFile.isFile();
+            }
+            return m_isPacked;
+        }
+
+        synchronized OutputStream openOutputStream(final int indexInColumn) throws IOException {
+            if (m_isWriting) {
+                throw new IllegalStateException(
+                    "Blob in column directory " + m_dir.getName() + " already being written");
+            }
+            ensureIndexLoaded();
+            if (m_indexChannel == null) {
+                if (!m_dir.isDirectory() && !m_dir.mkdirs()) {
+                    throw new IOException("Unable to create directory " + m_dir.getAbsolutePath());
+                }
+                m_indexChannel = FileChannel.open(m_indexFile.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+                m_isPacked = Boolean.TRUE;
+            }
+            if (m_segmentOut == null || m_segmentSize >= MAX_SEGMENT_SIZE) {
+                startNewSegment();
+            }
+            m_isWriting = true;
+            return new BlobOutputStream(this, indexInColumn, m_segment, m_segmentSize);
+        }
+
+        private void startNewSegment() throws IOException {
+            if (m_segmentOut != null) {
+                m_segmentOut.close();
+            }
+            // continue after the segments written before (if the store is re-opened after close)
+            int segment = m_segment + 1;
+            File segmentFile;
+            while ((segmentFile = getSegmentFile(segment)).exists()) {
+                segment += 1;
+            }
+            m_segmentOut = new FileOutputStream(segmentFile);
+            Buffer.onFileCreated(segmentFile);
+            m_segment = segment;
+            m_segmentSize = 0L;
+        }
+
+        /** Called when a blob stream is closed, records the blob in the index. */
+        synchronized void onBlobWritten(final int indexInColumn, final int segment, final long offset,
+            final long length) throws IOException {
+            m_isWriting = false;
+            m_segmentSize += length;
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+            entry.putInt(segment + 1).putLong(offset).putLong(length).flip();
+            long position = (long)indexInColumn * INDEX_ENTRY_SIZE;
+            while (entry.hasRemaining()) {
+                position += m_indexChannel.write(entry, position);
+            }
+            ensureCapacity(indexInColumn + 1);
+            m_segments[indexInColumn] = segment + 1;
+            m_offsets[indexInColumn] = offset;
+            m_lengths[indexInColumn] = length;
+        }
+
+        synchronized void onBlobWriteFailed() {
+            m_isWriting = false;
+            // the bytes written so far are unreferenced, new blobs go into a new segment
+            m_segmentSize = MAX_SEGMENT_SIZE;
+        }
+
+        InputStream openInputStream(final int indexInColumn) throws IOException {
+            final int segment;
+            final FileChannel channel;
+            final long offset;
+            final long length;
+            synchronized (this) {
+                ensureIndexLoaded();
+                if (indexInColumn < 0 || indexInColumn >= m_segments.length || m_segments[indexInColumn] == 0) {
+                    throw new IOException(
+                        "No blob with index " + indexInColumn + " in \"" + m_dir.getAbsolutePath() + "\"");
+                }
+                segment = m_segments[indexInColumn] - 1;
+                channel = getReadChannel(segment);
+                offset = m_offsets[indexInColumn];
+                length = m_lengths[indexInColumn];
+            }
+            return new ChannelRegionInputStream(this, segment, channel, offset, length);
+        }
+
+        /** @return the shared read channel of the segment, reopened if it was closed */
+        private synchronized FileChannel getReadChannel(final int segment) throws IOException {
+            FileChannel channel = m_readChannels.get(segment);
+            if (channel == null || !channel.isOpen()) {
+                channel = FileChannel.open(getSegmentFile(segment).toPath(), StandardOpenOption.READ);
+                m_readChannels.put(segment, channel);
+            }
+            return channel;
+        }
+
+        private File getSegmentFile(final int segment) {
+            return new File(m_dir, "segment_" + segment + ".bin");
+        }
+
+        private void ensureIndexLoaded() throws IOException {
+            if (m_segments != null) {
+                return;
+            }
+            int nrEntries = (int)(m_indexFile.length() / INDEX_ENTRY_SIZE);
+            m_segments = new int[Math.max(nrEntries, 16)];
+            m_offsets = new long[m_segments.length];
+            m_lengths = new long[m_segments.length];
+            if (nrEntries == 0) {
+                return;
+            }
+            try (FileChannel in = FileChannel.open(m_indexFile.toPath(), StandardOpenOption.READ)) {
+                ByteBuffer buf = ByteBuffer.allocate(nrEntries * INDEX_ENTRY_SIZE);
+                while (buf.hasRemaining() && in.read(buf) >= 0) {
+                    // read until full
+                }
+                buf.flip();
+                for (int i = 0; i < nrEntries; i++) {
+                    m_segments[i] = buf.getInt();
+                    m_offsets[i] = buf.getLong();
+                    m_lengths[i] = buf.getLong();
+                    m_segment = Math.max(m_segment, m_segments[i] - 1);
+                }
+            }
+        }
+
+        private void ensureCapacity(final int size) {
+            if (size > m_segments.length) {
+                int newLength = Math.max(size, m_segments.length + (m_segments.length >> 1));
+                m_segments = Arrays.copyOf(m_segments, newLength);
+                m_offsets = Arrays.copyOf(m_offsets, newLength);
+                m_lengths = Arrays.copyOf(m_lengths, newLength);
+            }
+        }
+
+        synchronized void close() {
+            try {
+                if (m_segmentOut != null) {
+                    m_segmentOut.close();
+                }
+                if (m_indexChannel != null) {
+                    m_indexChannel.close();
+                }
+                for (FileChannel channel : m_readChannels.values()) {
+                    channel.close();
+                }
+            } catch (IOException ex) {
+                LOGGER.debug("Unable to close blob files in \"" + m_dir.getAbsolutePath() + "\": " + ex.getMessage(),
+                    ex);
+            }
+            m_segmentOut = null;
+            m_indexChannel = null;
+            m_readChannels.clear();
+        }
+    }
+
+    /** Writes a single blob to the current segment and records it in the index when closed. */
+    private static final class BlobOutputStream extends OutputStream {
+
+        private final ColumnStore m_store;
+
+        private final OutputStream m_out;
+
+        private final int m_indexInColumn;
+
+        private final int m_segment;
+
+        private final long m_offset;
+
+        private long m_length;
+
+        private boolean m_isClosed;
+
+        BlobOutputStream(final ColumnStore store, final int indexInColumn, final int segment, final long offset) {
+            m_store = store;
+            // the segment stream is shared by all blobs of the column, hence it's not closed
+            m_out = new BufferedOutputStream(new NonClosableOutputStream(store.m_segmentOut));
+            m_indexInColumn = indexInColumn;
+            m_segment = segment;
+            m_offset = offset;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            m_out.write(b);
+            m_length += 1;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            m_out.write(b, off, len);
+            m_length += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            m_out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (m_isClosed) {
+                return;
+            }
+            m_isClosed = true;
+            boolean isSuccess = false;
+            try {
+                m_out.close();
+                m_store.onBlobWritten(m_indexInColumn, m_segment, m_offset, m_length);
+                isSuccess = true;
+            } finally {
+                if (!isSuccess) {
+                    m_store.onBlobWriteFailed();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a region of a segment file using positional reads, which don't affect other readers of the same channel.
+     * If the channel was closed because another reader was interrupted, the channel is reopened and the read retried.
+     */
+    private static final class ChannelRegionInputStream extends InputStream {
+
+        private final ColumnStore m_store;
+
+        private final int m_segment;
+
+        private FileChannel m_channel;
+
+        private long m_position;
+
+        private final long m_end;
+
+        ChannelRegionInputStream(final ColumnStore store, final int segment, final FileChannel channel,
+            final long offset, final long length) {
+            m_store = store;
+            m_segment = segment;
+            m_channel = channel;
+            m_position = offset;
+            m_end = offset + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : (b[0] & 0xFF);
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            long remaining = m_end - m_position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n;
+            while (true) {
+                try {
+                    n = m_channel.read(ByteBuffer.wrap(b, off, (int)Math.min(len, remaining)), m_position);
+                    break;
+                } catch (ClosedByInterruptException ex) {
+                    // this thread was interrupted (e.g. the node was canceled), not to be retried
+                    throw ex;
+                } catch (ClosedChannelException ex) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw ex;
+                    }
+                    // closed by the interrupt of another reader
+                    m_channel = m_store.getReadChannel(m_segment);
+                }
+            }
+            if (n < 0) {
+                throw new IOException("Unexpected end of blob segment file");
+            }
+            m_position += n;
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) {
+            long skipped = Math.max(0L, Math.min(n, m_end - m_position));
+            m_position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int)Math.min(Integer.MAX_VALUE, m_end - m_position);
+        }
+    }
+}
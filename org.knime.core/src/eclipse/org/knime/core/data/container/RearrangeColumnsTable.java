@@ -55,8 +55,10 @@
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.CancellationException;
@@ -88,8 +90,8 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.workflow.WorkflowDataRepository;
-import org.knime.core.util.MultiThreadWorker;
 import org.knime.core.util.Pair;
+import org.knime.core.util.RingBufferMultiThreadWorker;
 
 /**
  * Table implementation that is created based on a ColumnRearranger. This class is not intended for subclassing or to be
@@ -377,14 +379,18 @@ public static RearrangeColumnsTable create(final ColumnRearranger rearranger, fi
         // this field has the minimum worker count for all used factories
         // (or negative for sequential processing)
         int workerCount = Integer.MAX_VALUE;
+        // with v4.3 the rows can be passed to the factories in batches (minimum of all factories, 1 = row-by-row)
+        int batchSize = Integer.MAX_VALUE;
         for (SpecAndFactoryObject s : newColumnFactoryList) {
             CellFactory factory = s.getFactory();
             if (factory instanceof AbstractCellFactory) {
                 AbstractCellFactory acf = (AbstractCellFactory)factory;
                 workerCount = Math.min(workerCount, acf.getMaxParallelWorkers());
+                batchSize = Math.min(batchSize, acf.getBatchSize());
             } else {
                 // unknown factory - process sequentially
                 workerCount = -1;
+                batchSize = 1;
             }
             newColSpecsList.add(s.getColSpec());
         }
@@ -402,9 +408,9 @@ public static RearrangeColumnsTable create(final ColumnRearranger rearranger, fi
             assert newColumnFactoryList.size() == newColCount;
             try {
                 if (workerCount <= 0) {
-                    calcNewColsSynchronously(table, subProgress, newColsProducerMapping, container);
+                    calcNewColsSynchronously(table, subProgress, newColsProducerMapping, container, batchSize);
                 } else {
-                    calcNewColsASynchronously(table, subProgress, newColsProducerMapping, container);
+                    calcNewColsASynchronously(table, subProgress, newColsProducerMapping, container, batchSize);
                 }
             } finally {
                 container.close();
@@ -475,7 +481,7 @@ static void finishProcessing(final NewColumnsProducerMapping newColumnFactoryLis
 
     /** Processes input sequentially in the caller thread. */
     private static void calcNewColsSynchronously(final BufferedDataTable table, final ExecutionMonitor subProgress,
-        final NewColumnsProducerMapping newColsProducerMapping, final DataContainer container)
+        final NewColumnsProducerMapping newColsProducerMapping, final DataContainer container, final int batchSize)
         throws CanceledExecutionException {
         long finalRowCount = table.size();
         Set<CellFactory> newColsFactories = newColsProducerMapping.getUniqueCellFactoryMap().keySet();
@@ -483,6 +489,20 @@ private static void calcNewColsSynchronously(final BufferedDataTable table, fina
         int r = 0;
         CellFactory facForProgress = factoryCount > 0 ? newColsFactories.iterator().next() : null;
         try (CloseableRowIterator it = table.iterator()) {
+            if (batchSize > 1) {
+                for (RowBatchIterator batches = new RowBatchIterator(it, batchSize); batches.hasNext();) {
+                    DataRow[] batch = batches.next();
+                    for (DataRow append : calcNewCellsForBatch(batch, newColsProducerMapping)) {
+                        container.addRowToTable(append);
+                    }
+                    r += batch.length;
+                    if (facForProgress != null) {
+                        facForProgress.setProgress(r, finalRowCount, batch[batch.length - 1].getKey(), subProgress);
+                    }
+                    subProgress.checkCanceled();
+                }
+                return;
+            }
             for (; it.hasNext(); r++) {
                 DataRow row = it.next();
                 DataRow append = calcNewCellsForRow(row, newColsProducerMapping);
@@ -502,7 +522,7 @@ private static void calcNewColsSynchronously(final BufferedDataTable table, fina
      * Processes input concurrently using a {@link ConcurrentNewColCalculator}.
      */
     private static void calcNewColsASynchronously(final BufferedDataTable table, final ExecutionMonitor subProgress,
-        final NewColumnsProducerMapping newColsProducerMapping, final DataContainer container)
+        final NewColumnsProducerMapping newColsProducerMapping, final DataContainer container, final int batchSize)
         throws CanceledExecutionException {
         long finalRowCount = table.size();
         CellFactory facForProgress = null;
@@ -528,8 +548,10 @@ private static void calcNewColsASynchronously(final BufferedDataTable table, fin
         ConcurrentNewColCalculator calculator =
             new ConcurrentNewColCalculator(queueSize, workers, container, subProgress, finalRowCount,
                 newColsProducerMapping, facForProgress);
-        try {
-            calculator.run(table);
+        try (CloseableRowIterator it = table.iterator()) {
+            // each task processes a batch of rows (possibly of size 1)
+            final RowBatchIterator batches = new RowBatchIterator(it, batchSize);
+            calculator.run(() -> batches);
         } catch (InterruptedException e) {
             CanceledExecutionException cee = new CanceledExecutionException(e.getMessage());
             cee.initCause(e);
@@ -564,36 +586,85 @@ static DataRow calcNewCellsForRow(final DataRow unconvertedRow, final NewColumns
             producerMap.getUniqueCellFactoryMap();
         for (Map.Entry<CellFactory, List<Pair<Integer, Integer>>> e : uniqueCellFactoryMap.entrySet()) {
             CellFactory factory = e.getKey();
-            List<Pair<Integer, Integer>> list = e.getValue();
             DataCell[] fromFac = factory.getCells(row);
-            if (fromFac.length != list.size()) {
-                String error = String.format("New cells array length conflict: expected %d, actual %d (class %s)",
-                    list.size(), fromFac.length, factory.getClass().getName());
-                if (fromFac.length < list.size()) {
-                    throw new IndexOutOfBoundsException(error);
-                } else {
-                    // such problems were ignored until 2.6 -- print warning only
-                    if (codingProblemsCellFactoryClasses == null) {
-                        codingProblemsCellFactoryClasses = new HashSet<Class<? extends CellFactory>>();
-                    }
-                    if (codingProblemsCellFactoryClasses.add(factory.getClass())) {
-                        LOGGER.coding(error);
-                    }
-                }
+            copyFactoryCells(factory, e.getValue(), fromFac, newCells);
+        }
+        DataRow appendix = new DefaultRow(row.getKey(), newCells);
+        return appendix;
+    }
+
+    /**
+     * Calls for a batch of input rows the list of cell factories to produce the output rows (contain only the new
+     * cells, merged later). Each factory is invoked once via {@link CellFactory#getCellsForBatch(DataRow[])}.
+     *
+     * @param unconvertedRows The input rows to be processed
+     * @param producerMap For each new (or replaced) column the factory.
+     * @return The output rows, same length as the input.
+     */
+    static DataRow[] calcNewCellsForBatch(final DataRow[] unconvertedRows,
+        final NewColumnsProducerMapping producerMap) {
+        final int newColCount = producerMap.getAllNewColumnsList().size();
+        final int batchSize = unconvertedRows.length;
+        DataCell[][] newCells = new DataCell[batchSize][newColCount];
+        DataRow[] rows = new DataRow[batchSize];
+        for (int r = 0; r < batchSize; r++) {
+            rows[r] = applyDataTypeConverters(unconvertedRows[r], producerMap, newCells[r]);
+        }
+        for (Map.Entry<CellFactory, List<Pair<Integer, Integer>>> e : producerMap.getUniqueCellFactoryMap()
+            .entrySet()) {
+            CellFactory factory = e.getKey();
+            DataCell[][] fromFac = factory.getCellsForBatch(rows);
+            if (fromFac.length != batchSize) {
+                throw new IndexOutOfBoundsException(
+                    String.format("New cells batch length conflict: expected %d rows, actual %d (class %s)",
+                        batchSize, fromFac.length, factory.getClass().getName()));
             }
-            final int length = list.size();
-            for (int i = 0; i < length; i++) {
-                Pair<Integer, Integer> indexPair = list.get(i);
-                int indexInNewCellsArray = indexPair.getFirst();
-                int indexInFactory = indexPair.getSecond();
-                assert newCells[indexInNewCellsArray] == null : "New cells array at index expected to be null";
-                newCells[indexInNewCellsArray] = fromFac[indexInFactory];
+            for (int r = 0; r < batchSize; r++) {
+                copyFactoryCells(factory, e.getValue(), fromFac[r], newCells[r]);
             }
         }
-        DataRow appendix = new DefaultRow(row.getKey(), newCells);
+        DataRow[] appendix = new DataRow[batchSize];
+        for (int r = 0; r < batchSize; r++) {
+            appendix[r] = new DefaultRow(rows[r].getKey(), newCells[r]);
+        }
         return appendix;
     }
 
+    /**
+     * Copies the cells created by a factory for one row into the new cells array.
+     *
+     * @param factory The factory (for error messages)
+     * @param list The index pairs of that factory, see {@link NewColumnsProducerMapping#getUniqueCellFactoryMap()}
+     * @param fromFac The cells returned by the factory
+     * @param newCells The new cells of the row, filled by this method
+     */
+    private static void copyFactoryCells(final CellFactory factory, final List<Pair<Integer, Integer>> list,
+        final DataCell[] fromFac, final DataCell[] newCells) {
+        if (fromFac.length != list.size()) {
+            String error = String.format("New cells array length conflict: expected %d, actual %d (class %s)",
+                list.size(), fromFac.length, factory.getClass().getName());
+            if (fromFac.length < list.size()) {
+                throw new IndexOutOfBoundsException(error);
+            } else {
+                // such problems were ignored until 2.6 -- print warning only
+                if (codingProblemsCellFactoryClasses == null) {
+                    codingProblemsCellFactoryClasses = new HashSet<Class<? extends CellFactory>>();
+                }
+                if (codingProblemsCellFactoryClasses.add(factory.getClass())) {
+                    LOGGER.coding(error);
+                }
+            }
+        }
+        final int length = list.size();
+        for (int i = 0; i < length; i++) {
+            Pair<Integer, Integer> indexPair = list.get(i);
+            int indexInNewCellsArray = indexPair.getFirst();
+            int indexInFactory = indexPair.getSecond();
+            assert newCells[indexInNewCellsArray] == null : "New cells array at index expected to be null";
+            newCells[indexInNewCellsArray] = fromFac[indexInFactory];
+        }
+    }
+
     /**
      * Used when {@link ColumnRearranger#ensureColumnIsConverted(DataCellTypeConverter, int)} is called. It
      * preproccesses the row and replaces the column to be converted by the the result of the given converter.
@@ -745,11 +816,12 @@ public boolean removeFromTableRepository(final WorkflowDataRepository dataReposi
     }
 
     /**
-     * The MultiThreadWorker that processes the input rows concurrently. Only used if the cell factory is an
+     * The worker that processes the input rows concurrently. Only used if the cell factory is an
      * {@link AbstractCellFactory} with parallel processing ( {@link AbstractCellFactory#setParallelProcessing(boolean)}
-     * )
+     * ). Each task processes a batch of rows, see {@link AbstractCellFactory#setBatchSize(int)}.
      */
-    private static final class ConcurrentNewColCalculator extends MultiThreadWorker<DataRow, DataRow> {
+    private static final class ConcurrentNewColCalculator
+        extends RingBufferMultiThreadWorker<DataRow[], DataRow[]> {
 
         private final ExecutionMonitor m_subProgress;
 
@@ -761,6 +833,9 @@ private static final class ConcurrentNewColCalculator extends MultiThreadWorker<
 
         private final CellFactory m_facForProgress;
 
+        /** Number of rows added to the container so far (only accessed in processFinished). */
+        private long m_processedRowCount;
+
         /**
          * @param maxQueueSize
          * @param maxActiveInstanceSize
@@ -783,19 +858,23 @@ private ConcurrentNewColCalculator(final int maxQueueSize, final int maxActiveIn
 
         /** {@inheritDoc} */
         @Override
-        protected DataRow compute(final DataRow in, final long index) throws Exception {
-            return calcNewCellsForRow(in, m_reducedList);
+        protected DataRow[] compute(final DataRow[] in, final long index) throws Exception {
+            return in.length == 1 ? new DataRow[]{calcNewCellsForRow(in[0], m_reducedList)}
+                : calcNewCellsForBatch(in, m_reducedList);
         }
 
         /** {@inheritDoc} */
         @Override
-        protected void processFinished(final ComputationTask task) throws ExecutionException, CancellationException,
-            InterruptedException {
-            int r = (int)task.getIndex(); // row count in table is integer
-            RowKey key = task.getInput().getKey();
-            DataRow append = task.get(); // exception falls through
-            m_container.addRowToTable(append);
-            m_facForProgress.setProgress(r + 1, m_totalRowCount, key, m_subProgress);
+        protected void processFinished(final ComputationResult task) throws ExecutionException,
+            CancellationException, InterruptedException {
+            DataRow[] in = task.getInput();
+            RowKey key = in[in.length - 1].getKey();
+            DataRow[] append = task.get(); // exception falls through
+            for (DataRow row : append) {
+                m_container.addRowToTable(row);
+            }
+            m_processedRowCount += in.length;
+            m_facForProgress.setProgress(m_processedRowCount, m_totalRowCount, key, m_subProgress);
             try {
                 m_subProgress.checkCanceled();
             } catch (CanceledExecutionException cee) {
@@ -805,6 +884,36 @@ protected void processFinished(final ComputationTask task) throws ExecutionExcep
 
     }
 
+    /** Groups the rows of an iterator into arrays of a fixed size (the last one possibly smaller). */
+    private static final class RowBatchIterator implements Iterator<DataRow[]> {
+
+        private final Iterator<DataRow> m_rowIterator;
+
+        private final int m_batchSize;
+
+        RowBatchIterator(final Iterator<DataRow> rowIterator, final int batchSize) {
+            m_rowIterator = rowIterator;
+            m_batchSize = batchSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_rowIterator.hasNext();
+        }
+
+        @Override
+        public DataRow[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<DataRow> batch = new ArrayList<>(m_batchSize);
+            while (batch.size() < m_batchSize && m_rowIterator.hasNext()) {
+                batch.add(m_rowIterator.next());
+            }
+            return batch.toArray(new DataRow[batch.size()]);
+        }
+    }
+
     /**
      * A class that helps to distinguish SpecAndFactoryObjects. There are three kinds: representing input columns,
      * created with a cell factory, created with a converter (often molecular type adapter)
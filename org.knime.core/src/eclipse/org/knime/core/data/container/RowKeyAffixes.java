@@ -0,0 +1,199 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The longest common prefix and suffix of all row keys of a table, tracked while the table is written. They allow to
+ * prove that the row keys of several tables are disjoint without reading any of the tables, for instance if the keys
+ * of each table carry a different suffix (as added by loop end nodes).
+ *
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @noreference This class is not intended to be referenced by clients.
+ * @since 4.3
+ */
+public final class RowKeyAffixes {
+
+    /** The common prefix of all keys, <code>null</code> if no key was added. */
+    private String m_prefix;
+
+    /** The common suffix of all keys, <code>null</code> if no key was added. */
+    private String m_suffix;
+
+    /** Creates an empty instance, that is, for a table without rows. */
+    RowKeyAffixes() {
+    }
+
+    /**
+     * Shortens the prefix and suffix so that they are also common to the argument key.
+     *
+     * @param key the key of a row added to the table
+     */
+    void add(final String key) {
+        if (m_prefix == null) {
+            m_prefix = key;
+            m_suffix = key;
+            return;
+        }
+        if (!m_prefix.isEmpty()) {
+            m_prefix = m_prefix.substring(0, commonPrefixLength(m_prefix, key));
+        }
+        if (!m_suffix.isEmpty()) {
+            m_suffix = m_suffix.substring(m_suffix.length() - commonSuffixLength(m_suffix, key));
+        }
+    }
+
+    /**
+     * Shortens the prefix and suffix so that they are also common to all keys of the argument.
+     *
+     * @param other the affixes of the rows of another part of the same table
+     */
+    void merge(final RowKeyAffixes other) {
+        if (other.m_prefix == null) {
+            return;
+        }
+        if (m_prefix == null) {
+            m_prefix = other.m_prefix;
+            m_suffix = other.m_suffix;
+            return;
+        }
+        m_prefix = m_prefix.substring(0, commonPrefixLength(m_prefix, other.m_prefix));
+        m_suffix = m_suffix.substring(m_suffix.length() - commonSuffixLength(m_suffix, other.m_suffix));
+    }
+
+    /** @return <code>true</code> if no key was added, i.e. the table has no rows */
+    public boolean isEmpty() {
+        return m_prefix == null;
+    }
+
+    /** @return the longest common prefix of all keys, <code>null</code> if {@link #isEmpty() empty} */
+    public String getPrefix() {
+        return m_prefix;
+    }
+
+    /** @return the longest common suffix of all keys, <code>null</code> if {@link #isEmpty() empty} */
+    public String getSuffix() {
+        return m_suffix;
+    }
+
+    /**
+     * Creates the affixes of the concatenation of tables.
+     *
+     * @param affixes the affixes of the individual tables
+     * @return the affixes common to all keys of all tables
+     */
+    public static RowKeyAffixes union(final Collection<RowKeyAffixes> affixes) {
+        final RowKeyAffixes result = new RowKeyAffixes();
+        affixes.forEach(result::merge);
+        return result;
+    }
+
+    /**
+     * Determines whether the keys of different tables can't be equal, given their affixes. That is the case if no
+     * prefix is a prefix of another table's prefix or if no suffix is a suffix of another table's suffix. The test
+     * sorts the affixes and only compares neighbors, so it runs in <i>O(n log n)</i> for <i>n</i> tables.
+     *
+     * @param affixes the affixes of the individual tables
+     * @return <code>true</code> if the tables are known to have no key in common, <code>false</code> if they might
+     */
+    public static boolean areDisjoint(final Collection<RowKeyAffixes> affixes) {
+        final List<String> prefixes = new ArrayList<>(affixes.size());
+        final List<String> reversedSuffixes = new ArrayList<>(affixes.size());
+        for (RowKeyAffixes a : affixes) {
+            if (!a.isEmpty()) {
+                prefixes.add(a.m_prefix);
+                reversedSuffixes.add(new StringBuilder(a.m_suffix).reverse().toString());
+            }
+        }
+        return prefixes.size() < 2 || isPrefixFree(prefixes) || isPrefixFree(reversedSuffixes);
+    }
+
+    /** Whether no string is a prefix of (or equal to) another one. Sorts the argument list. */
+    private static boolean isPrefixFree(final List<String> strings) {
+        Collections.sort(strings);
+        // if a is a prefix of c and a <= b <= c then a is also a prefix of b, hence it suffices to check neighbors
+        for (int i = 1; i < strings.size(); i++) {
+            if (strings.get(i).startsWith(strings.get(i - 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int commonPrefixLength(final String a, final String b) {
+        final int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int commonSuffixLength(final String a, final String b) {
+        final int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(a.length() - 1 - i) == b.charAt(b.length() - 1 - i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return isEmpty() ? "<no keys>" : ("\"" + m_prefix + "...\", \"..." + m_suffix + "\"");
+    }
+}
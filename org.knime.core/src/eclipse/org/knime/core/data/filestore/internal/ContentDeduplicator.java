@@ -0,0 +1,373 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.filestore.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.apache.commons.codec.binary.Hex;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Content addressed index of the immutable files (file stores and blob files) of a workflow. Files with identical
+ * content (same SHA-256 hash and size) are replaced by hard links to a single copy, and copies of registered files are
+ * created as hard links. Each content entry counts the paths referencing it; as hard links keep the content alive until
+ * the last of them is deleted, deleting any of the paths is safe. Paths must be {@link #release(File) released} when
+ * they are deleted, so that they are no longer used as link targets.
+ *
+ * <p>A hard link shares the content with all other paths of its content entry, hence modifying one of them modifies
+ * all of them. Only registered files, i.e. files whose writer has finished, are linked when copying; other files (e.g.
+ * file stores of handlers outside the workflow, which may still change) are copied. Registered files whose
+ * modification time changed are no longer used as link targets and are reported when they are released.
+ *
+ * <p>If the file system doesn't support hard links, files are copied/kept as they are.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @noreference This class is not intended to be referenced by clients.
+ * @since 4.3
+ */
+public final class ContentDeduplicator {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ContentDeduplicator.class);
+
+    /** Whether deduplication is enabled, see {@link KNIMEConstants#PROPERTY_CONTENT_DEDUPLICATION}. */
+    public static final boolean ENABLED = Boolean.getBoolean(KNIMEConstants.PROPERTY_CONTENT_DEDUPLICATION);
+
+    /** Files smaller than this are not worth hashing and linking. */
+    static final long MIN_FILE_SIZE = 4096;
+
+    /** Content key (hash and size) to the paths having that content. */
+    private final Map<String, List<File>> m_contentToFiles = new HashMap<>();
+
+    /** Absolute path to its registration, sorted so that all paths in a directory can be released at once. */
+    private final NavigableMap<String, Registration> m_fileToContent = new TreeMap<>();
+
+    private boolean m_isLinkSupported = true;
+
+    private long m_nrLinked;
+
+    private long m_bytesSaved;
+
+    /**
+     * @return a new SHA-256 digest, to be updated with the content of a file while it is written and then passed to
+     *         {@link #deduplicate(File, MessageDigest)}
+     * @throws IOException if the digest is not available
+     */
+    public static MessageDigest createDigest() throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IOException("Couldn't get SHA-256 digest from system", ex);
+        }
+    }
+
+    /**
+     * Registers a newly written file or, if a file with identical content is registered, replaces it by a hard link to
+     * that file. The file is read to compute its hash. The file must not be changed afterwards.
+     *
+     * @param file a regular file
+     * @return <code>true</code> if the file was replaced by a link
+     * @throws IOException if the file can't be read
+     */
+    public boolean deduplicate(final File file) throws IOException {
+        return deduplicate(file, null);
+    }
+
+    /**
+     * Registers a newly written file or, if a file with identical content is registered, replaces it by a hard link to
+     * that file. The file must not be changed afterwards.
+     *
+     * @param file a regular file
+     * @param digest a digest from {@link #createDigest()} that was updated with the complete content of the file while
+     *            it was written, or <code>null</code> to read the file
+     * @return <code>true</code> if the file was replaced by a link
+     * @throws IOException if the file can't be read
+     */
+    public boolean deduplicate(final File file, final MessageDigest digest) throws IOException {
+        final long size = file.length();
+        if (size < MIN_FILE_SIZE || !m_isLinkSupported || isRegistered(file)) {
+            return false;
+        }
+        final String content = new String(Hex.encodeHex((digest != null ? digest : hash(file)).digest())) + "-" + size;
+        synchronized (this) {
+            final File existing = findValidFile(content, size);
+            if (existing != null && replaceByLink(file, existing)) {
+                register(content, file);
+                m_nrLinked += 1;
+                m_bytesSaved += size;
+                return true;
+            }
+            register(content, file);
+            return false;
+        }
+    }
+
+    /**
+     * Deduplicates all regular files in the given directory (recursively) that are not yet registered.
+     *
+     * @param dir a directory, may not exist
+     * @throws IOException if a file can't be read
+     */
+    public void deduplicateAll(final File dir) throws IOException {
+        final File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                deduplicateAll(child);
+            } else if (child.isFile()) {
+                deduplicate(child);
+            }
+        }
+    }
+
+    /**
+     * Copies a file or directory. Registered (and unmodified) files are hard linked if possible and the links are
+     * registered for the same content; all other files are copied.
+     *
+     * @param source the file or directory to copy
+     * @param dest the destination, must not exist (directories may exist)
+     * @throws IOException if copying fails
+     */
+    public void copy(final File source, final File dest) throws IOException {
+        if (source.isDirectory()) {
+            if (!dest.isDirectory() && !dest.mkdirs()) {
+                throw new IOException("Unable to create directory " + dest.getAbsolutePath());
+            }
+            final File[] children = source.listFiles();
+            if (children != null) {
+                for (File child : children) {
+                    copy(child, new File(dest, child.getName()));
+                }
+            }
+            return;
+        }
+        synchronized (this) {
+            final Registration registration = m_fileToContent.get(source.getAbsolutePath());
+            if (m_isLinkSupported && registration != null && !registration.isModified(source)) {
+                try {
+                    Files.deleteIfExists(dest.toPath());
+                    Files.createLink(dest.toPath(), source.toPath());
+                    register(registration.m_content, dest);
+                    m_nrLinked += 1;
+                    m_bytesSaved += source.length();
+                    return;
+                } catch (IOException | UnsupportedOperationException ex) {
+                    onLinkFailed(ex);
+                }
+            }
+        }
+        FileUtil.copy(source, dest);
+    }
+
+    /**
+     * Releases all registered paths that equal or are contained in the given file or directory, called before they
+     * are deleted. Paths that were modified after they have been registered are reported, as the modification also
+     * affected all other paths of their content.
+     *
+     * @param fileOrDir the file or directory that is about to be deleted
+     */
+    public synchronized void release(final File fileOrDir) {
+        final String path = fileOrDir.getAbsolutePath();
+        final NavigableMap<String, Registration> released =
+            m_fileToContent.subMap(path, true, path + File.separatorChar + Character.MAX_VALUE, true);
+        for (Iterator<Map.Entry<String, Registration>> it = released.entrySet().iterator(); it.hasNext();) {
+            final Map.Entry<String, Registration> e = it.next();
+            final String releasedPath = e.getKey();
+            if (!releasedPath.equals(path) && !releasedPath.startsWith(path + File.separatorChar)) {
+                continue;
+            }
+            final String content = e.getValue().m_content;
+            final List<File> files = m_contentToFiles.get(content);
+            if (e.getValue().isModified(new File(releasedPath))) {
+                reportModified(releasedPath, files == null ? 0 : files.size() - 1);
+            }
+            if (files != null) {
+                files.removeIf(f -> f.getAbsolutePath().equals(releasedPath));
+                if (files.isEmpty()) {
+                    m_contentToFiles.remove(content);
+                }
+            }
+            it.remove();
+        }
+    }
+
+    /** @return the number of distinct contents registered */
+    public synchronized int getNrContents() {
+        return m_contentToFiles.size();
+    }
+
+    /** @return the number of registered paths (i.e. the sum of all reference counts) */
+    public synchronized int getNrReferences() {
+        return m_fileToContent.size();
+    }
+
+    private synchronized boolean isRegistered(final File file) {
+        return m_fileToContent.containsKey(file.getAbsolutePath());
+    }
+
+    private void register(final String content, final File file) {
+        assert Thread.holdsLock(this);
+        m_contentToFiles.computeIfAbsent(content, k -> new ArrayList<>(2)).add(file);
+        m_fileToContent.put(file.getAbsolutePath(), new Registration(content, file.lastModified()));
+    }
+
+    /**
+     * Returns a registered file with the given content that still exists and wasn't modified, dropping stale entries
+     * on the way.
+     */
+    private File findValidFile(final String content, final long size) {
+        assert Thread.holdsLock(this);
+        final List<File> files = m_contentToFiles.get(content);
+        if (files == null) {
+            return null;
+        }
+        for (Iterator<File> it = files.iterator(); it.hasNext();) {
+            final File f = it.next();
+            final Registration registration = m_fileToContent.get(f.getAbsolutePath());
+            final boolean isModified = registration.isModified(f);
+            if (f.isFile() && f.length() == size && !isModified) {
+                return f;
+            }
+            if (isModified) {
+                reportModified(f.getAbsolutePath(), files.size() - 1);
+            }
+            // deleted without being released (e.g. workflow folder cleaned up) or modified (all links are)
+            it.remove();
+            m_fileToContent.remove(f.getAbsolutePath());
+        }
+        m_contentToFiles.remove(content);
+        return null;
+    }
+
+    private static void reportModified(final String path, final int nrOtherPaths) {
+        LOGGER.coding("File \"" + path + "\" was modified after it was deduplicated, the change also affects the "
+            + nrOtherPaths + " other path(s) linked to it");
+    }
+
+    private boolean replaceByLink(final File file, final File target) {
+        final Path tmp = file.toPath().resolveSibling("." + file.getName() + ".link");
+        try {
+            Files.deleteIfExists(tmp);
+            Files.createLink(tmp, target.toPath());
+            Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException | UnsupportedOperationException ex) {
+            onLinkFailed(ex);
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException e) {
+                LOGGER.debug("Unable to delete " + tmp + ": " + e.getMessage(), e);
+            }
+            return false;
+        }
+    }
+
+    private synchronized void onLinkFailed(final Exception ex) {
+        if (ex instanceof UnsupportedOperationException) {
+            LOGGER.debug("Hard links not supported, disabling content deduplication: " + ex.getMessage());
+            m_isLinkSupported = false;
+        } else {
+            LOGGER.debug("Unable to create hard link, keeping copy: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static MessageDigest hash(final File file) throws IOException {
+        final MessageDigest digest = createDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+            final byte[] buffer = new byte[8192];
+            while (in.read(buffer) >= 0) {
+                // digest is updated by the stream
+            }
+        }
+        return digest;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized String toString() {
+        return "ContentDeduplicator [" + m_contentToFiles.size() + " contents, " + m_fileToContent.size()
+            + " references, " + m_nrLinked + " links, " + (m_bytesSaved >> 20) + "MB saved]";
+    }
+
+    /** The content key of a registered path and its modification time when it was registered. */
+    private static final class Registration {
+
+        private final String m_content;
+
+        private final long m_lastModified;
+
+        Registration(final String content, final long lastModified) {
+            m_content = content;
+            m_lastModified = lastModified;
+        }
+
+        /** @return whether the file was modified since it was registered (all its links are modified then) */
+        boolean isModified(final File file) {
+            return file.exists() && file.lastModified() != m_lastModified;
+        }
+    }
+}
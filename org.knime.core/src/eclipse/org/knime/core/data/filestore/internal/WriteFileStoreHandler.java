@@ -49,6 +49,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.knime.core.data.IDataRepository;
@@ -124,6 +125,9 @@ public IDataRepository getDataRepository() {
     @Override
     public void clearAndDispose() {
         if (m_dataRepository != null) {
+            if (m_baseDir != null) {
+                m_dataRepository.getContentDeduplicator().ifPresent(d -> d.release(m_baseDir));
+            }
             m_dataRepository.removeFileStoreHandler(this);
             m_dataRepository = null;
         }
@@ -193,7 +197,14 @@ private synchronized FileStoreKey copyFileStore(final FileStore fs, final FlushC
             // notify them that a copy is taken place and that they need to flush their in memory content
             FileStoreUtil.invokeFlush(flushCallback);
             newStore = createFileStoreInternal(getNextIndex() + "_" + key.getName(), null, -1);
-            FileUtil.copyDir(fs.getFile(), newStore.getFile());
+            Optional<ContentDeduplicator> deduplicator =
+                m_dataRepository != null ? m_dataRepository.getContentDeduplicator() : Optional.empty();
+            if (deduplicator.isPresent()) {
+                // links files that are registered (i.e. written completely) instead of copying their bytes
+                deduplicator.get().copy(fs.getFile(), newStore.getFile());
+            } else {
+                FileUtil.copyDir(fs.getFile(), newStore.getFile());
+            }
         } catch (IOException e) {
             throw new RuntimeException("Failed copying file stores to local handler", e);
         }
@@ -367,6 +378,18 @@ public void close() {
             m_duplicateChecker.close();
             m_duplicateChecker = null;
         }
+        if (m_dataRepository != null && m_baseDir != null) {
+            Optional<ContentDeduplicator> deduplicator = m_dataRepository.getContentDeduplicator();
+            if (deduplicator.isPresent()) {
+                // the node has finished writing, file store content doesn't change from now on
+                try {
+                    deduplicator.get().deduplicateAll(m_baseDir);
+                    LOGGER.debug("Deduplicated file stores of " + this + " - " + deduplicator.get());
+                } catch (IOException ex) {
+                    LOGGER.warn("Unable to deduplicate file stores of " + this + ": " + ex.getMessage(), ex);
+                }
+            }
+        }
     }
 
     /** {@inheritDoc} */
@@ -48,19 +48,40 @@
  */
 package org.knime.core.data.image.png;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.DeferredFileOutputStream;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataCellFactory.FromInputStream;
 import org.knime.core.data.DataType;
 import org.knime.core.data.convert.DataCellFactoryMethod;
+import org.knime.core.data.filestore.FileStore;
+import org.knime.core.data.filestore.FileStoreFactory;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
 
 /**
  * Factory for {@link PNGImageCell}s.
  *
+ * <p>By default, all cells keep the image bytes in memory. A factory created by means of
+ * {@link #PNGImageCellFactory(ExecutionContext)} writes large images read by {@link #createCell(InputStream)} directly
+ * into a file store and represents them by a {@link PNGImageFileStoreCell}, i.e. their bytes are never held in memory.
+ * Factories created by the framework only do so if enabled by means of
+ * {@link KNIMEConstants#PROPERTY_PNG_FILE_STORE_CELLS}. The static methods always create cells that keep the bytes in
+ * memory.
+ *
  * @author Thorsten Meinl, KNIME AG, Zurich, Switzerland
  * @since 3.0
  */
@@ -70,6 +91,40 @@ public class PNGImageCellFactory implements FromInputStream {
      */
     public static final DataType TYPE = PNGImageContent.TYPE;
 
+    private FileStoreFactory m_fileStoreFactory;
+
+    /** Whether large images are kept in file stores, if a file store factory is available. */
+    private final boolean m_useFileStores;
+
+    private int m_fileNameIndex;
+
+    /** Factory that creates cells holding the image bytes in memory, unless file store cells are enabled by means
+     * of {@link KNIMEConstants#PROPERTY_PNG_FILE_STORE_CELLS} and {@link #initFactory(FileStoreFactory)} is called. */
+    public PNGImageCellFactory() {
+        // file store factory is set by the framework, if at all
+        m_useFileStores = Boolean.getBoolean(KNIMEConstants.PROPERTY_PNG_FILE_STORE_CELLS);
+    }
+
+    /** Factory that keeps large images in file stores created by the given execution context.
+     * @param exec Non-null execution context used to create file store cells
+     *             (using {@link ExecutionContext#createFileStore(String)}.
+     * @since 4.3
+     */
+    public PNGImageCellFactory(final ExecutionContext exec) {
+        m_useFileStores = true;
+        initFactory(FileStoreFactory.createWorkflowFileStoreFactory(exec));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.3
+     */
+    @Override
+    public void initFactory(final FileStoreFactory fileStore) {
+        m_fileStoreFactory = fileStore;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -84,7 +139,65 @@ public DataType getDataType() {
     @DataCellFactoryMethod(name = "InputStream")
     @Override
     public DataCell createCell(final InputStream input) throws IOException {
-        return create(input);
+        if (!m_useFileStores || m_fileStoreFactory == null) {
+            return create(input);
+        }
+        return createFileStoreCell(input);
+    }
+
+    /** Copies the stream into a temporary file unless the image is smaller than the blob threshold, validates the
+     * image header and moves the file into a new file store. The stream will not be closed. */
+    private DataCell createFileStoreCell(final InputStream input) throws IOException {
+        MessageDigest md5Digest;
+        try {
+            md5Digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Couldn't get MD5 digest from system", e);
+        }
+        DeferredFileOutputStream outStream = new DeferredFileOutputStream(
+            (int)Math.min(PNGImageContent.BLOB_SIZE_THRESHOLD, Integer.MAX_VALUE),
+            "knime-png-copy-", ".png", new File(System.getProperty("java.io.tmpdir")));
+        try {
+            IOUtils.copy(new DigestInputStream(input, md5Digest), outStream);
+        } finally {
+            outStream.close();
+        }
+        if (outStream.isInMemory()) {
+            return new PNGImageContent(outStream.getData()).toImageCell();
+        }
+        File tmpFile = outStream.getFile();
+        try {
+            checkImageHeader(tmpFile);
+            FileStore fs;
+            synchronized (this) {
+                fs = m_fileStoreFactory.createFileStore("pngImage-" + m_fileNameIndex++);
+            }
+            FileUtils.moveFile(tmpFile, fs.getFile());
+            return new PNGImageFileStoreCell(fs, md5Digest.digest());
+        } finally {
+            FileUtils.deleteQuietly(tmpFile);
+        }
+    }
+
+    /** Reads the image dimensions from the file to make sure it can be read, without decoding the pixels.
+     * @throws IllegalArgumentException If the file doesn't contain a readable image. */
+    private static void checkImageHeader(final File file) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(file)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("No image reader found for image bytes");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                reader.getWidth(0);
+                reader.getHeight(0);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Image can't be read", e);
+            } finally {
+                reader.dispose();
+            }
+        }
     }
 
     /**
@@ -52,10 +52,17 @@
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.ref.SoftReference;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 
 import javax.imageio.ImageIO;
@@ -74,6 +81,10 @@
  * Content of a PNG image. It only wraps a byte[] which is supposed to be
  * PNG content. The rendering methods will delegate all work to
  * {@link BufferedImage}.
+ *
+ * <p>Content created by a {@link PNGImageFileStoreCell} doesn't keep the bytes in memory but reads them from the
+ * file store file when needed. Saving, serializing and painting such content reads from the file directly; only
+ * {@link #getByteArrayReference()} and {@link #getByteArray()} load the bytes into memory.
  * @author Thomas Gabriel, KNIME AG, Zurich, Switzerland
  */
 public class PNGImageContent implements ImageContent {
@@ -81,9 +92,15 @@ public class PNGImageContent implements ImageContent {
     /** Type for PNG cells. */
     public static final DataType TYPE = DataType.getType(PNGImageCell.class);
 
-    /** PNG image content as byte array. */
+    /** PNG image content as byte array, <code>null</code> if the content is kept in {@link #m_file}. */
     private byte[] m_imageBytes;
 
+    /** File holding the PNG content if created by a {@link PNGImageFileStoreCell}, otherwise <code>null</code>. */
+    private File m_file;
+
+    /** Cache for the bytes of {@link #m_file}, only used if {@link #getByteArrayReference()} is called. */
+    private SoftReference<byte[]> m_fileBytesRef = new SoftReference<>(null);
+
     private SoftReference<Image> m_imageRef;
 
     /** Framework constructor for restoring content. <b>Do not use!</b> */
@@ -118,6 +135,15 @@ public PNGImageContent(final InputStream is) throws IOException {
         this(toByteArray(is));
     }
 
+    /** Creates content backed by a (file store) file. The file is expected to contain a valid PNG image and must not
+     * be changed afterwards. The image is read on first access.
+     * @param file The file containing the image bytes.
+     */
+    PNGImageContent(final File file) {
+        m_file = file;
+        m_imageRef = new SoftReference<Image>(null);
+    }
+
     private static final byte[] toByteArray(final InputStream in)
         throws IOException {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -133,7 +159,19 @@ private static final byte[] toByteArray(final InputStream in)
      * @return Reference to the underlying byte array.
      */
     public byte[] getByteArrayReference() {
-        return m_imageBytes;
+        if (m_file == null) {
+            return m_imageBytes;
+        }
+        byte[] bytes = m_fileBytesRef.get();
+        if (bytes == null) {
+            try {
+                bytes = Files.readAllBytes(m_file.toPath());
+            } catch (IOException e) {
+                throw new IllegalStateException("Image bytes can't be read from " + m_file.getAbsolutePath(), e);
+            }
+            m_fileBytesRef = new SoftReference<byte[]>(bytes);
+        }
+        return bytes;
     }
 
     /** Get a copy of the underlying byte array.
@@ -141,9 +179,19 @@ public byte[] getByteArrayReference() {
      * @see #getByteArrayReference()
      */
     public byte[] getByteArray() {
+        if (m_file != null) {
+            // the cached array is shared, hence return a copy also for file based content
+            byte[] bytes = getByteArrayReference();
+            return Arrays.copyOf(bytes, bytes.length);
+        }
         return Arrays.copyOf(m_imageBytes, m_imageBytes.length);
     }
 
+    /** @return the number of bytes of the PNG content */
+    long getLength() {
+        return m_file != null ? m_file.length() : m_imageBytes.length;
+    }
+
     /** Get the image represented by this object.
      * @return The image.
      * @throws IllegalStateException If the image can't be read from the
@@ -156,7 +204,7 @@ public Image getImage() {
             return image;
         }
         try {
-            image = getImageInternal(m_imageBytes);
+            image = m_file != null ? getImageInternal(m_file) : getImageInternal(m_imageBytes);
             m_imageRef = new SoftReference<Image>(image);
             return image;
         } catch (IllegalArgumentException e) {
@@ -182,13 +230,29 @@ private static Image getImageInternal(final byte[] array) {
         }
     }
 
+    /** Read image from file without loading the file content into a byte[] first.
+     * @return A new image
+     */
+    private static Image getImageInternal(final File file) {
+        try {
+            BufferedImage bufImage = ImageIO.read(file);
+            if (bufImage == null) {
+                throw new IllegalArgumentException("ImageIO returned null while reading image file");
+            } else {
+                return bufImage;
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Image can't be read", e);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void paint(final Graphics2D g, final int width, final int height) {
         BufferedImage image = null;
         String error = null;
         try {
-            image = ImageIO.read(new ByteArrayInputStream(m_imageBytes));
+            image = m_file != null ? ImageIO.read(m_file) : ImageIO.read(new ByteArrayInputStream(m_imageBytes));
             if (image == null) {
                 error = "ImageIO returned null";
             }
@@ -207,7 +271,27 @@ public void paint(final Graphics2D g, final int width, final int height) {
     /** {@inheritDoc} */
     @Override
     public void save(final OutputStream output) throws IOException {
-        output.write(m_imageBytes);
+        if (m_file != null) {
+            transferFile(m_file, Channels.newChannel(output));
+        } else {
+            output.write(m_imageBytes);
+        }
+    }
+
+    /** Writes the content of a file to a channel using {@link FileChannel#transferTo(long, long, WritableByteChannel)},
+     * which avoids copying the bytes to the heap if the target is a file or socket channel.
+     * @param file The file to read from.
+     * @param target The channel to write to, not closed by this method.
+     * @throws IOException If reading or writing fails.
+     */
+    static void transferFile(final File file, final WritableByteChannel target) throws IOException {
+        try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, target);
+            }
+        }
     }
 
     /** Deserialize method for DataCell implementation.
@@ -228,19 +312,32 @@ static PNGImageContent deserialize(final DataCellDataInput input)
      * @throws IOException If that fails for any reason.
      */
     public void serialize(final DataCellDataOutput output) throws IOException {
-        output.writeInt(m_imageBytes.length);
-        output.write(m_imageBytes);
+        if (m_file != null) {
+            final long length = m_file.length();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Image too large to be serialized: " + length + " bytes");
+            }
+            output.writeInt((int)length);
+            transferFile(m_file, Channels.newChannel(new DataOutputAdapter(output)));
+        } else {
+            output.writeInt(m_imageBytes.length);
+            output.write(m_imageBytes);
+        }
     }
 
     /** Minimum size for blobs in bytes. That is, if a given byte[] is at least
      * as large as this value, it will be represented by a blob cell */
-    private static final long BLOB_SIZE_THRESHOLD =
+    static final long BLOB_SIZE_THRESHOLD =
         ConvenienceMethods.readSizeSystemProperty(
                 "org.knime.pngminblobsize", 40 * 1024);
 
     /** {@inheritDoc} */
     @Override
     public DataCell toImageCell() {
+        if (m_file != null) {
+            // file based content can't be turned into a new file store cell without a file store factory
+            return new PNGImageContent(getByteArray()).toImageCell();
+        }
         if (m_imageBytes.length >= BLOB_SIZE_THRESHOLD) {
             return new PNGImageBlobCell(this);
         } else {
@@ -266,10 +363,11 @@ public String getSummary() {
         Dimension dim = getPreferredSize();
         String summary = "PNG Image " + dim.width + " x "
             + dim.height + " with ";
-        if (m_imageBytes.length < 1000) {
-            return summary + m_imageBytes.length + " B";
+        long length = getLength();
+        if (length < 1000) {
+            return summary + length + " B";
         } else {
-            return summary + (m_imageBytes.length / 1024) + " KB";
+            return summary + (length / 1024) + " KB";
         }
     }
 
@@ -278,6 +376,26 @@ public String getSummary() {
      */
     @Override
     public int hashCode() {
-        return Arrays.hashCode(m_imageBytes);
+        return Arrays.hashCode(getByteArrayReference());
+    }
+
+    /** Exposes a {@link DataOutput} as output stream so that file content can be transferred to it. */
+    private static final class DataOutputAdapter extends OutputStream {
+
+        private final DataOutput m_output;
+
+        DataOutputAdapter(final DataOutput output) {
+            m_output = output;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            m_output.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            m_output.write(b, off, len);
+        }
     }
 }
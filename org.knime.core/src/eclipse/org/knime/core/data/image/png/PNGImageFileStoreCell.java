@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.image.png;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellDataInput;
+import org.knime.core.data.DataCellDataOutput;
+import org.knime.core.data.DataCellSerializer;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.filestore.FileStore;
+import org.knime.core.data.filestore.FileStoreCell;
+
+/**
+ * PNG image cell that keeps the image bytes in a KNIME file store rather than on the heap. Copying such a cell into
+ * another table only copies the file store reference; saving and painting the image read from the file. Cells of
+ * this kind are created by {@link PNGImageCellFactory} for large images if a file store factory is available.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ */
+@SuppressWarnings("serial")
+public final class PNGImageFileStoreCell extends FileStoreCell implements PNGImageValue {
+
+    /**
+     * Serializer for {@link PNGImageFileStoreCell}s.
+     *
+     * @noreference This class is not intended to be referenced by clients.
+     */
+    public static final class PNGFileStoreSerializer implements DataCellSerializer<PNGImageFileStoreCell> {
+        @Override
+        public PNGImageFileStoreCell deserialize(final DataCellDataInput input) throws IOException {
+            byte[] md5sum = new byte[input.readInt()];
+            input.readFully(md5sum);
+            return new PNGImageFileStoreCell(md5sum);
+        }
+
+        @Override
+        public void serialize(final PNGImageFileStoreCell cell, final DataCellDataOutput output)
+            throws IOException {
+            output.writeInt(cell.m_md5sum.length);
+            output.write(cell.m_md5sum);
+        }
+    }
+
+    private final byte[] m_md5sum;
+
+    /** Created on first access as the file store is not yet available when the cell is deserialized. */
+    private transient PNGImageContent m_content;
+
+    /** Create new cell based on a file store with an existing file containing a valid PNG image.
+     * @param fs The file store with the image file.
+     * @param md5sum The MD5 sum of the image file (needed for equals &amp; hashcode)
+     */
+    PNGImageFileStoreCell(final FileStore fs, final byte[] md5sum) {
+        super(fs);
+        m_md5sum = md5sum;
+    }
+
+    /** Restore from disk.
+     * @param md5sum The MD5 sum of the image file (needed for equals &amp; hashcode)
+     */
+    private PNGImageFileStoreCell(final byte[] md5sum) {
+        super(); // deserialization constructor
+        m_md5sum = md5sum;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized PNGImageContent getImageContent() {
+        if (m_content == null) {
+            m_content = new PNGImageContent(getFileStores()[0].getFile());
+        }
+        return m_content;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getImageExtension() {
+        return "png";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return getImageContent().toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean equalsDataCell(final DataCell dc) {
+        PNGImageFileStoreCell ic = (PNGImageFileStoreCell)dc;
+        return Arrays.equals(m_md5sum, ic.m_md5sum)
+            && getImageContent().getLength() == ic.getImageContent().getLength();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean equalContent(final DataValue otherValue) {
+        return PNGImageValue.equalContent(this, (PNGImageValue)otherValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(m_md5sum);
+    }
+}
@@ -60,6 +60,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -71,6 +72,7 @@
 import javax.management.NotificationListener;
 
 import org.apache.commons.io.FileUtils;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.NodeContext;
 
@@ -79,6 +81,13 @@
  * {@link #addListener(MemoryAlertListener)} that get notified if free memory gets low. This is useful for cases where
  * memory is kept in some kind of cache. Or you can check {@link #isMemoryLow()} while processing data.
  *
+ * <p>Consumers that know how much memory they are about to use (e.g. sorters or joins deciding how much to keep in
+ * memory before spilling to disk) can request a {@link MemoryBudget} up front via {@link #tryReserve(String, long)}.
+ * The memory available for reservations is the memory below the usage threshold that is neither part of the
+ * (predicted) live set nor reserved by other consumers. If {@link KNIMEConstants#PROPERTY_PREDICTIVE_MEMORY_ALERTS}
+ * is set, alerts are also sent when the live set after garbage collection grows so quickly that it will exceed the
+ * threshold soon, i.e. before the heap is exhausted.
+ *
  * @author Christian Dietz, University of Konstanz
  * @author Thorsten Meinl, KNIME AG, Zurich, Switzerland
  * @since 2.12
@@ -172,6 +181,17 @@ public boolean lowMemoryActionRequired() {
      */
     private static final int CHECK_HEAP_SIZE_INTERVAL = 5;
 
+    /** Whether alerts are sent based on the predicted live set, see
+     * {@link KNIMEConstants#PROPERTY_PREDICTIVE_MEMORY_ALERTS}. */
+    private static final boolean PREDICTIVE_ALERTS =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_PREDICTIVE_MEMORY_ALERTS);
+
+    /** The time span (in milliseconds) by which the live set growth is extrapolated. */
+    static final long PREDICTION_HORIZON_MILLIS = 10000;
+
+    /** Weight of the latest measurement in the exponentially weighted average of the live set growth rate. */
+    private static final double GROWTH_RATE_WEIGHT = 0.3;
+
     private final Map<MemoryAlertListener, Object> m_listeners = new ConcurrentHashMap<>();
 
     /** Dummy object for the listerners map. */
@@ -193,8 +213,22 @@ public boolean lowMemoryActionRequired() {
 
     private final boolean m_checkCollectedMemory;
 
+    /** Whether alerts are sent based on the predicted live set, {@link #PREDICTIVE_ALERTS} unless in test cases. */
+    private final boolean m_predictiveAlerts;
+
     private long m_timeOfLastCheck = System.currentTimeMillis();
 
+    /** Used old generation memory after the last GC, -1 if no GC has been observed yet. */
+    private volatile long m_liveSetAfterGc = -1;
+
+    private volatile long m_lastLiveSetTimestamp;
+
+    /** Average growth of the live set after GC in bytes per millisecond (negative if it shrinks). */
+    private volatile double m_liveSetGrowthRate;
+
+    /** Sum of all memory reserved by {@link MemoryBudget}s. */
+    private final AtomicLong m_reservedMemory = new AtomicLong();
+
     /**
      * Creates a new memory alert system. <b>In almost all cases you should use the instance via {@link #getInstance()}
      * or {@link #getInstanceUncollected()} instead of creating your own instance.</b>
@@ -205,8 +239,7 @@ public boolean lowMemoryActionRequired() {
      * @noreference This constructor is not intended to be referenced by clients. Only used in test cases.
      */
     private MemoryAlertSystem(final double usageThreshold, final boolean checkCollectedMemory) {
-        m_usageThreshold = usageThreshold;
-        m_checkCollectedMemory = checkCollectedMemory;
+        this(usageThreshold, checkCollectedMemory, PREDICTIVE_ALERTS);
         setFractionUsageThreshold(usageThreshold);
 
         for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
@@ -241,6 +274,21 @@ public void handleNotification(final Notification notification, final Object han
         startNotificationThread();
     }
 
+    /**
+     * Creates a memory alert system that doesn't listen to the memory and garbage collection events of the JVM. Only
+     * used in test cases, which feed live set samples via {@link #onLiveSet(long, long, long)}.
+     *
+     * @param usageThreshold the threshold above which a low memory condition will be reported; a value between 0 and 1
+     * @param checkCollectedMemory whether only collected memory or current memory is considered
+     * @param predictiveAlerts whether alerts are sent if the live set is predicted to exceed the threshold
+     */
+    MemoryAlertSystem(final double usageThreshold, final boolean checkCollectedMemory,
+        final boolean predictiveAlerts) {
+        m_usageThreshold = usageThreshold;
+        m_checkCollectedMemory = checkCollectedMemory;
+        m_predictiveAlerts = predictiveAlerts;
+    }
+
     private void usageThresholdEvent(final Notification not) {
         long prev, next;
         do {
@@ -267,18 +315,141 @@ private void gcEvent(final Notification not) {
 
         if (prev < not.getTimeStamp()) {
             final MemoryUsage collectionUsage = m_memPool.getCollectionUsage();
-            final double used = collectionUsage.getUsed();
-            final long max = collectionUsage.getMax();
-            final double currentUsage = used / max;
-            if (currentUsage < m_usageThreshold) {
-                LOGGER.debugWithFormat(
-                    "Tenured gen heap space usage below threshold (%.0f%%) after GC, currently %.0f%% (%.2fGB/%.2fGB)",
-                    m_usageThreshold * 100, currentUsage * 100, used / FileUtils.ONE_GB,
-                    (double)max / FileUtils.ONE_GB);
-                m_lowMemory.set(false);
+            onLiveSet(collectionUsage.getUsed(), collectionUsage.getMax(), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Records the live set after a GC, sends an alert if it is predicted to exceed the threshold soon and resets the
+     * low memory flag if the usage is below the threshold.
+     *
+     * @param liveSet the used old generation memory after the GC in bytes
+     * @param max the maximum old generation memory in bytes
+     * @param timestamp the time of the GC in milliseconds
+     */
+    void onLiveSet(final long liveSet, final long max, final long timestamp) {
+        final double used = liveSet;
+        final double currentUsage = used / max;
+        updateLiveSet(liveSet, timestamp);
+        if (m_predictiveAlerts && m_checkCollectedMemory && isPredictedAboveThreshold()) {
+            LOGGER.debugWithFormat(
+                "Tenured gen heap space usage predicted to exceed threshold (%.0f%%) within %ds, currently %.0f%% "
+                    + "(%.2fGB/%.2fGB), growing by %.0fMB/s, %.2fGB reserved",
+                m_usageThreshold * 100, PREDICTION_HORIZON_MILLIS / 1000, currentUsage * 100,
+                used / FileUtils.ONE_GB, (double)max / FileUtils.ONE_GB,
+                m_liveSetGrowthRate * 1000 / FileUtils.ONE_MB,
+                m_reservedMemory.get() / (double)FileUtils.ONE_GB);
+            if (!m_lowMemory.getAndSet(true)) {
+                sendMemoryAlert();
             }
-            m_timeOfLastCheck = System.currentTimeMillis();
+        } else if (currentUsage < m_usageThreshold) {
+            LOGGER.debugWithFormat(
+                "Tenured gen heap space usage below threshold (%.0f%%) after GC, currently %.0f%% (%.2fGB/%.2fGB)",
+                m_usageThreshold * 100, currentUsage * 100, used / FileUtils.ONE_GB,
+                (double)max / FileUtils.ONE_GB);
+            m_lowMemory.set(false);
+        }
+        m_timeOfLastCheck = System.currentTimeMillis();
+    }
+
+    /** Records the live set after a GC and updates the average growth rate. */
+    void updateLiveSet(final long liveSet, final long timestamp) {
+        final long previous = m_liveSetAfterGc;
+        final long elapsed = timestamp - m_lastLiveSetTimestamp;
+        if (previous >= 0 && elapsed > 0) {
+            final double rate = (liveSet - previous) / (double)elapsed;
+            m_liveSetGrowthRate = GROWTH_RATE_WEIGHT * rate + (1 - GROWTH_RATE_WEIGHT) * m_liveSetGrowthRate;
+        }
+        m_liveSetAfterGc = liveSet;
+        m_lastLiveSetTimestamp = timestamp;
+    }
+
+    /** @return whether the predicted live set plus the reserved memory exceeds the threshold */
+    boolean isPredictedAboveThreshold() {
+        return getPredictedLiveSet() + m_reservedMemory.get() >= getThresholdMemory();
+    }
+
+    private long getThresholdMemory() {
+        return (long)(getMaximumMemory() * m_usageThreshold);
+    }
+
+    /**
+     * Returns the live set (used old generation memory after the last garbage collection) extrapolated by its recent
+     * growth rate over the next {@value #PREDICTION_HORIZON_MILLIS} milliseconds. If no garbage collection has
+     * happened yet, the currently used memory is returned.
+     *
+     * @return the predicted live set in bytes
+     * @since 4.3
+     */
+    public long getPredictedLiveSet() {
+        final long liveSet = m_liveSetAfterGc;
+        if (liveSet < 0) {
+            return getUsedMemory();
         }
+        final double growth = Math.max(0.0, m_liveSetGrowthRate) * PREDICTION_HORIZON_MILLIS;
+        return liveSet + (long)growth;
+    }
+
+    /**
+     * Returns the sum of the memory currently reserved by {@link MemoryBudget}s.
+     *
+     * @return the reserved memory in bytes
+     * @since 4.3
+     */
+    public long getReservedMemory() {
+        return m_reservedMemory.get();
+    }
+
+    /**
+     * Returns the memory that can still be reserved, i.e. the memory up to the usage threshold minus the predicted
+     * live set and the memory already reserved.
+     *
+     * @return the available memory in bytes, never negative
+     * @since 4.3
+     */
+    public long getAvailableMemory() {
+        return Math.max(0L, getThresholdMemory() - getPredictedLiveSet() - m_reservedMemory.get());
+    }
+
+    /**
+     * Reserves memory for a consumer that is about to hold the given amount of data in memory. Reservations are
+     * counted in addition to the live set, so consumers should reserve what they are going to hold and release the
+     * budget (by closing it) as soon as the data has been spilled or discarded. If the memory isn't available the
+     * consumer should use less memory, e.g. spill to disk right away.
+     *
+     * @param consumer a name describing the consumer, used in log messages
+     * @param bytes the number of bytes to reserve, not negative
+     * @return the budget or an empty optional if not enough memory is available
+     * @since 4.3
+     */
+    public Optional<MemoryBudget> tryReserve(final String consumer, final long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Memory to reserve must not be negative: " + bytes);
+        }
+        if (!reserve(bytes)) {
+            LOGGER.debugWithFormat("Unable to reserve %.1fMB for %s, %.1fMB available",
+                bytes / (double)FileUtils.ONE_MB, consumer, getAvailableMemory() / (double)FileUtils.ONE_MB);
+            return Optional.empty();
+        }
+        return Optional.of(new MemoryBudget(this, consumer, bytes));
+    }
+
+    /** Atomically adds the given amount to the reserved memory if it is available. */
+    boolean reserve(final long bytes) {
+        final long limit = getThresholdMemory() - getPredictedLiveSet();
+        long prev;
+        do {
+            prev = m_reservedMemory.get();
+            if (prev + bytes > limit) {
+                return false;
+            }
+        } while (!m_reservedMemory.compareAndSet(prev, prev + bytes));
+        return true;
+    }
+
+    /** Returns previously reserved memory. */
+    void release(final long bytes) {
+        m_reservedMemory.addAndGet(-bytes);
     }
 
     /**
@@ -0,0 +1,142 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.data.util.memory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Memory reserved by a consumer via {@link MemoryAlertSystem#tryReserve(String, long)}. The budget can be grown and
+ * shrunk while the consumer runs and must be closed once the consumer no longer holds the data it reserved memory for.
+ * Closing a budget more than once has no effect.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ */
+public final class MemoryBudget implements AutoCloseable {
+
+    private final MemoryAlertSystem m_memoryAlertSystem;
+
+    private final String m_consumer;
+
+    /** The reserved bytes, -1 once the budget is closed. */
+    private final AtomicLong m_reservedBytes;
+
+    MemoryBudget(final MemoryAlertSystem memoryAlertSystem, final String consumer, final long bytes) {
+        m_memoryAlertSystem = memoryAlertSystem;
+        m_consumer = consumer;
+        m_reservedBytes = new AtomicLong(bytes);
+    }
+
+    /**
+     * @return the name of the consumer that reserved the memory
+     */
+    public String getConsumer() {
+        return m_consumer;
+    }
+
+    /**
+     * @return the number of currently reserved bytes, 0 if the budget is closed
+     */
+    public long getReservedBytes() {
+        return Math.max(0L, m_reservedBytes.get());
+    }
+
+    /**
+     * Tries to reserve additional memory.
+     *
+     * @param bytes the number of additional bytes, not negative
+     * @return <code>true</code> if the memory was reserved, <code>false</code> if not enough memory is available
+     * @throws IllegalStateException if the budget is closed
+     */
+    public boolean tryGrow(final long bytes) {
+        CheckUtils.checkArgument(bytes >= 0, "Memory to reserve must not be negative: %d", bytes);
+        CheckUtils.checkState(m_reservedBytes.get() >= 0, "Memory budget of %s is closed", m_consumer);
+        if (!m_memoryAlertSystem.reserve(bytes)) {
+            return false;
+        }
+        if (m_reservedBytes.getAndUpdate(r -> r < 0 ? r : r + bytes) < 0) {
+            // closed concurrently
+            m_memoryAlertSystem.release(bytes);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns part of the reserved memory, e.g. after data has been spilled to disk.
+     *
+     * @param bytes the number of bytes to return, at most the currently reserved bytes
+     */
+    public void shrink(final long bytes) {
+        CheckUtils.checkArgument(bytes >= 0, "Memory to release must not be negative: %d", bytes);
+        final long prev = m_reservedBytes.getAndUpdate(r -> r < 0 ? r : r - Math.min(r, bytes));
+        if (prev > 0) {
+            m_memoryAlertSystem.release(Math.min(prev, bytes));
+        }
+    }
+
+    /**
+     * Releases all reserved memory.
+     */
+    @Override
+    public void close() {
+        final long prev = m_reservedBytes.getAndSet(-1);
+        if (prev > 0) {
+            m_memoryAlertSystem.release(prev);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "MemoryBudget [" + m_consumer + ", " + getReservedBytes() + " bytes]";
+    }
+}
@@ -71,6 +71,10 @@
  * This class encapsulates a {@link Document}. It is the common content of a
  * {@link XMLCell} and a {@link XMLBlobCell}.
  *
+ * <p>The content is held in its serialized form only; the {@link Document} is parsed on first access and afterwards
+ * cached by means of a soft reference, i.e. it's discarded again if memory gets low. Cells that are only passed
+ * through (e.g. read and written by a node that doesn't look at the XML) never build a DOM tree.
+ *
  * @author Heiko Hofer
  */
 public class XMLCellContent implements XMLValue<Document> {
@@ -79,7 +83,11 @@ public class XMLCellContent implements XMLValue<Document> {
 
     private final String m_xmlString;
 
-    private SoftReference<Document> m_content;
+    /** Cache for the parsed document, <code>null</code> if the document has never been parsed. */
+    private volatile SoftReference<Document> m_content;
+
+    /** Cached {@link XMLValue#hashCode(XMLValue)}, 0 if not computed yet. */
+    private volatile int m_hashCode;
 
     private final ReentrantLock m_lock = new ReentrantLock();
 
@@ -103,7 +111,6 @@ public class XMLCellContent implements XMLValue<Document> {
                 Document doc = parse(xmlString);
                 // store the normalized string as cell content
                 m_xmlString = serialize(doc);
-                m_content = new SoftReference<Document>(doc);
             } catch (IOException ex) {
                 Throwable cause = ex;
                 while ((cause.getCause() != cause) && (cause.getCause() != null)) {
@@ -117,7 +124,6 @@ public class XMLCellContent implements XMLValue<Document> {
             }
         } else {
             m_xmlString = xmlString;
-            m_content = new SoftReference<Document>(null);
         }
     }
 
@@ -135,7 +141,6 @@ public class XMLCellContent implements XMLValue<Document> {
             ParserConfigurationException, SAXException, XMLStreamException {
         try {
             Document doc = parse(is);
-            m_content = new SoftReference<Document>(doc);
             m_xmlString = serialize(doc);
         } catch (IOException ex) {
             Throwable cause = ex;
@@ -156,7 +161,7 @@ public class XMLCellContent implements XMLValue<Document> {
      * @param doc an XML document
      */
     XMLCellContent(final Document doc) {
-        m_content = new SoftReference<Document>(doc);
+        // the document is not cached as it is owned (and possibly modified) by the caller
         // Transform CDATA to text
         DOMConfiguration domConfig = doc.getDomConfig();
         domConfig.setParameter("cdata-sections", Boolean.FALSE);
@@ -194,7 +199,6 @@ public XMLCellContent(final LockedSupplier<Document> documentSupplier) {
             doc.normalizeDocument();
 
             s = serialize(documentSupplier.get());
-            m_content = new SoftReference<Document>(null);
         } catch (IOException ex) {
             // should not happen
         }
@@ -214,18 +218,31 @@ public XMLCellContent(final LockedSupplier<Document> documentSupplier) {
     @Deprecated
     @Override
     public Document getDocument() {
-        Document doc = m_content.get();
-        if (doc == null) {
-            try {
+        Document doc = getCachedDocument();
+        if (doc != null) {
+            return doc;
+        }
+        m_lock.lock();
+        try {
+            // another thread may have parsed the document while we were waiting
+            doc = getCachedDocument();
+            if (doc == null) {
                 doc = parse(m_xmlString);
                 m_content = new SoftReference<Document>(doc);
-            } catch (Exception ex) {
-                LOGGER.error("Error while parsing XML in XML Cell", ex);
             }
+        } catch (Exception ex) {
+            LOGGER.error("Error while parsing XML in XML Cell", ex);
+        } finally {
+            m_lock.unlock();
         }
         return doc;
     }
 
+    private Document getCachedDocument() {
+        final SoftReference<Document> ref = m_content;
+        return ref == null ? null : ref.get();
+    }
+
     /**
      * Returns the XML Document as a string.
      *
@@ -282,6 +299,13 @@ public String toString() {
     public boolean equals(final Object obj) {
         if (obj instanceof XMLCellContent) {
             XMLCellContent that = (XMLCellContent)obj;
+            if (this == that || (m_xmlString != null && m_xmlString.equals(that.m_xmlString))) {
+                // identical serialized forms are equal without parsing them
+                return true;
+            }
+            if (m_hashCode != 0 && that.m_hashCode != 0 && m_hashCode != that.m_hashCode) {
+                return false;
+            }
             return XMLValue.equalContent(this, that);
         } else {
             return false;
@@ -293,7 +317,13 @@ public boolean equals(final Object obj) {
      */
     @Override
     public int hashCode() {
-        return XMLValue.hashCode(this);
+        int h = m_hashCode;
+        if (h == 0) {
+            // cached so that hashing doesn't parse the document again once the cached document has been discarded
+            h = XMLValue.hashCode(this);
+            m_hashCode = h;
+        }
+        return h;
     }
 
     /**
@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ConcatenateTable;
+import org.knime.core.data.container.RowKeyAffixes;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Collects tables, usually one per loop iteration, and combines them into a single table once all of them are
+ * available. Meant to be used by loop end nodes that would otherwise either copy all rows into a container or build a
+ * (nested) concatenation of tables in each iteration.
+ *
+ * <p>
+ * Tables that are entirely owned by the node appending them (i.e. created with the node's {@link ExecutionContext},
+ * possibly in a previous iteration) are adopted by reference. Tables of other nodes, most notably the input table of a
+ * loop end node, are copied once when appended: they are owned by the nodes in the loop body, which clear them when
+ * the loop body is reset for the next iteration, and tables are not reference counted. What the builder saves is
+ * copying the accumulated result of all previous iterations (or nesting concatenations) in each iteration, not the
+ * copy of an iteration's input.
+ *
+ * <p>
+ * If the row keys of the appended tables are known to be disjoint by their common prefix or suffix (see
+ * {@link RowKeyAffixes}), e.g. because they carry the iteration as suffix, the result is built without checking or
+ * renaming any key. Otherwise uniqueness of the row keys is checked once when the result table is
+ * {@link #build(ExecutionContext) built}, in a single pass over all rows (unless a suffix for duplicate row keys is
+ * set, in which case duplicates are renamed while iterating the result).
+ *
+ * <p>
+ * The result is a flat {@link ConcatenateTable} over all appended tables, no matter how many tables were appended.
+ * This class is not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ */
+public final class AppendOnlyTableBuilder {
+
+    private final List<BufferedDataTable> m_tables = new ArrayList<>();
+
+    private final Optional<String> m_rowKeyDuplicateSuffix;
+
+    private long m_rowCount;
+
+    /** Creates a new builder, which fails on duplicate row keys when the result table is built. */
+    public AppendOnlyTableBuilder() {
+        this(Optional.empty());
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @param rowKeyDuplicateSuffix if set, the given suffix will be appended to duplicate row keys in the result table,
+     *            otherwise the result table is checked for duplicates when built.
+     */
+    public AppendOnlyTableBuilder(final Optional<String> rowKeyDuplicateSuffix) {
+        m_rowKeyDuplicateSuffix = CheckUtils.checkArgumentNotNull(rowKeyDuplicateSuffix);
+    }
+
+    /**
+     * Appends the argument table. The table is adopted by reference if it's entirely owned by the node of the argument
+     * context, otherwise its rows are copied into a new table (as the table will be cleared by its owner).
+     *
+     * @param table the table to append, not <code>null</code>
+     * @param exec the context of the node collecting the tables, used to create copies
+     * @throws CanceledExecutionException if canceled while copying the table
+     */
+    public void append(final BufferedDataTable table, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        CheckUtils.checkArgumentNotNull(table, "Table must not be null");
+        final BufferedDataTable adopted;
+        if (isEntirelyOwnedBy(table, exec.getNode())) {
+            adopted = table;
+        } else {
+            adopted = copy(table, exec);
+        }
+        m_tables.add(adopted);
+        m_rowCount += adopted.size();
+    }
+
+    /** @return the number of rows appended so far */
+    public long size() {
+        return m_rowCount;
+    }
+
+    /** @return the number of tables appended so far */
+    public int getNrTables() {
+        return m_tables.size();
+    }
+
+    /**
+     * Combines all appended tables into a single table. The builder can still be used afterwards, a subsequent call
+     * will create a new table containing the tables appended in the meantime.
+     *
+     * @param exec the context of the node collecting the tables, used for progress, cancellation and the table
+     *            creation
+     * @return the combined table
+     * @throws CanceledExecutionException if canceled while checking for duplicate row keys
+     * @throws IllegalStateException if no table has been appended
+     * @throws IllegalArgumentException if the tables contain duplicate row keys (and no suffix has been set)
+     */
+    public BufferedDataTable build(final ExecutionContext exec) throws CanceledExecutionException {
+        CheckUtils.checkState(!m_tables.isEmpty(), "No table has been appended");
+        if (m_tables.size() == 1) {
+            return m_tables.get(0);
+        }
+        final BufferedDataTable[] tables = m_tables.toArray(new BufferedDataTable[m_tables.size()]);
+        if (haveDisjointRowKeys()) {
+            // neither a duplicate check nor renaming required
+            return exec.createConcatenateTable(exec, Optional.empty(), false, tables);
+        }
+        return exec.createConcatenateTable(exec, m_rowKeyDuplicateSuffix, !m_rowKeyDuplicateSuffix.isPresent(),
+            tables);
+    }
+
+    /** Whether the row key affixes of all appended tables are known and prove that the keys are disjoint. */
+    private boolean haveDisjointRowKeys() {
+        final List<RowKeyAffixes> affixes = new ArrayList<>(m_tables.size());
+        for (BufferedDataTable table : m_tables) {
+            final Optional<RowKeyAffixes> tableAffixes = table.getRowKeyAffixes();
+            if (!tableAffixes.isPresent()) {
+                return false;
+            }
+            affixes.add(tableAffixes.get());
+        }
+        return RowKeyAffixes.areDisjoint(affixes);
+    }
+
+    /**
+     * Forgets about all appended tables, e.g. when the loop is reset. The tables themselves are not cleared, they are
+     * owned (and hence cleared) by the node that created them.
+     */
+    public void clear() {
+        m_tables.clear();
+        m_rowCount = 0L;
+    }
+
+    private static boolean isEntirelyOwnedBy(final BufferedDataTable table, final Node node) {
+        if (node == null || table.getOwner() != node) {
+            return false;
+        }
+        final BufferedDataTable[] references = table.getDelegate().getReferenceTables();
+        if (references != null) {
+            for (BufferedDataTable reference : references) {
+                if (!isEntirelyOwnedBy(reference, node)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static BufferedDataTable copy(final BufferedDataTable table, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        final BufferedDataContainer container = exec.createDataContainer(table.getDataTableSpec());
+        try (CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                exec.checkCanceled();
+                final DataRow row = it.next();
+                container.addRowToTable(row);
+            }
+        } finally {
+            container.close();
+        }
+        return container.getTable();
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.helpers.LogLog;
+import org.apache.log4j.spi.LoggingEvent;
+
+/**
+ * Passes log events from the logging threads to a single background thread that calls the Log4J appenders. The events
+ * are stored in a bounded lock-free ring buffer (multiple producers, one consumer), so logging threads neither contend
+ * on the appender locks nor wait for slow appenders. If the buffer is full, events below {@link Level#WARN} are dropped
+ * and more severe events wait until there is space again. Both cases are counted.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class AsyncLogDispatcher {
+
+    /** Time the consumer thread parks if the buffer is empty, it's woken up earlier on new events. */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** Time a producer parks while waiting for free space. */
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final int m_mask;
+
+    private final AtomicReferenceArray<LoggingEvent> m_events;
+
+    /**
+     * Sequence number per slot. A slot with sequence <code>pos</code> is free for the event with position
+     * <code>pos</code>, a slot with sequence <code>pos + 1</code> holds the event with position <code>pos</code>.
+     */
+    private final AtomicLongArray m_sequences;
+
+    private final AtomicLong m_enqueuePos = new AtomicLong();
+
+    /** Only changed by the consumer thread. */
+    private volatile long m_dequeuePos;
+
+    private final AtomicLong m_nrDropped = new AtomicLong();
+
+    private final AtomicLong m_nrBlocked = new AtomicLong();
+
+    private final Thread m_thread;
+
+    private volatile boolean m_consumerWaiting;
+
+    private volatile boolean m_closed;
+
+    /**
+     * Creates a new dispatcher and starts its thread.
+     *
+     * @param capacity the buffer capacity, rounded up to the next power of two
+     */
+    AsyncLogDispatcher(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        m_mask = size - 1;
+        m_events = new AtomicReferenceArray<>(size);
+        m_sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            m_sequences.set(i, i);
+        }
+        m_thread = new Thread(this::run, "KNIME-Log-Dispatcher");
+        m_thread.setDaemon(true);
+        m_thread.start();
+    }
+
+    /**
+     * Queues the event for the appenders. The caller must have taken a snapshot of the thread dependent data of the
+     * event (thread name, NDC, MDC) as it's processed in another thread. Events logged by the appenders themselves,
+     * i.e. in the dispatcher thread, and events logged after {@link #close()} are passed to the appenders directly.
+     *
+     * @param event the event
+     */
+    void dispatch(final LoggingEvent event) {
+        if (m_closed || Thread.currentThread() == m_thread) {
+            callAppenders(event);
+            return;
+        }
+        if (!offer(event)) {
+            if (!event.getLevel().isGreaterOrEqual(Level.WARN)) {
+                m_nrDropped.incrementAndGet();
+                return;
+            }
+            m_nrBlocked.incrementAndGet();
+            do {
+                LockSupport.unpark(m_thread);
+                LockSupport.parkNanos(this, FULL_PARK_NANOS);
+                if (m_closed) {
+                    callAppenders(event);
+                    return;
+                }
+            } while (!offer(event));
+        }
+        if (m_consumerWaiting) {
+            LockSupport.unpark(m_thread);
+        }
+    }
+
+    private boolean offer(final LoggingEvent event) {
+        long pos = m_enqueuePos.get();
+        while (true) {
+            final int index = (int)pos & m_mask;
+            final long diff = m_sequences.get(index) - pos;
+            if (diff == 0) {
+                if (m_enqueuePos.compareAndSet(pos, pos + 1)) {
+                    m_events.lazySet(index, event);
+                    m_sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = m_enqueuePos.get();
+            } else if (diff < 0) {
+                // slot still holds an event from the previous round, i.e. the buffer is full
+                return false;
+            } else {
+                pos = m_enqueuePos.get();
+            }
+        }
+    }
+
+    /** Called by the consumer thread only. */
+    private LoggingEvent poll() {
+        final long pos = m_dequeuePos;
+        final int index = (int)pos & m_mask;
+        if (m_sequences.get(index) != pos + 1) {
+            return null;
+        }
+        final LoggingEvent event = m_events.get(index);
+        m_events.lazySet(index, null);
+        m_sequences.set(index, pos + m_mask + 1);
+        m_dequeuePos = pos + 1;
+        return event;
+    }
+
+    private void run() {
+        while (true) {
+            final LoggingEvent event = poll();
+            if (event != null) {
+                callAppenders(event);
+            } else if (m_closed) {
+                return;
+            } else {
+                m_consumerWaiting = true;
+                // re-check after announcing the wait, a producer that has seen the flag unparks us
+                if (m_sequences.get((int)m_dequeuePos & m_mask) != m_dequeuePos + 1) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                m_consumerWaiting = false;
+            }
+        }
+    }
+
+    private static void callAppenders(final LoggingEvent event) {
+        try {
+            event.getLogger().callAppenders(event);
+        } catch (RuntimeException ex) {
+            LogLog.error("Error while writing log event: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Waits until all events that were queued before this call have been passed to the appenders.
+     *
+     * @param timeoutMillis the maximum time to wait
+     * @return <code>true</code> if all events have been processed, <code>false</code> if the timeout has elapsed
+     */
+    boolean flush(final long timeoutMillis) {
+        if (Thread.currentThread() == m_thread) {
+            return m_dequeuePos >= m_enqueuePos.get();
+        }
+        final long target = m_enqueuePos.get();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (m_dequeuePos < target && m_thread.isAlive()) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.unpark(m_thread);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+        return m_dequeuePos >= target;
+    }
+
+    /**
+     * Processes the remaining events and stops the dispatcher thread. Events dispatched afterwards are passed to the
+     * appenders in the calling thread.
+     *
+     * @param timeoutMillis the maximum time to wait for the remaining events
+     */
+    void close(final long timeoutMillis) {
+        m_closed = true;
+        LockSupport.unpark(m_thread);
+        try {
+            m_thread.join(timeoutMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** @return the number of events dropped because the buffer was full */
+    long getNrDropped() {
+        return m_nrDropped.get();
+    }
+
+    /** @return the number of events that had to wait for free space in the buffer */
+    long getNrBlocked() {
+        return m_nrBlocked.get();
+    }
+
+    /** @return the number of events currently waiting to be processed */
+    int getNrPending() {
+        return (int)Math.max(0, m_enqueuePos.get() - m_dequeuePos);
+    }
+}
@@ -62,6 +62,7 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.swing.JComponent;
@@ -85,6 +86,7 @@
 import org.knime.core.data.container.DefaultTableStoreFormat;
 import org.knime.core.data.container.JoinedTable;
 import org.knime.core.data.container.RearrangeColumnsTable;
+import org.knime.core.data.container.RowKeyAffixes;
 import org.knime.core.data.container.TableSpecReplacerTable;
 import org.knime.core.data.container.VoidTable;
 import org.knime.core.data.container.WrappedTable;
@@ -289,6 +291,27 @@ private BufferedDataTable(final KnowsRowCountTable table, final int id,
         return m_delegate;
     }
 
+    /**
+     * Get the common prefix and suffix of all row keys of this table, provided they were tracked when the underlying
+     * container table was written in this session. Tables that only rearrange or rename the columns of another table
+     * report the affixes of that table.
+     *
+     * @return the row key affixes, empty if unknown
+     * @noreference This method is not intended to be referenced by clients.
+     * @since 4.3
+     */
+    public Optional<RowKeyAffixes> getRowKeyAffixes() {
+        if (m_delegate instanceof BufferedContainerTable) {
+            return Optional.ofNullable(((BufferedContainerTable)m_delegate).getRowKeyAffixes());
+        } else if (m_delegate instanceof ConcatenateTable) {
+            return ((ConcatenateTable)m_delegate).getRowKeyAffixes();
+        } else if (m_delegate instanceof RearrangeColumnsTable || m_delegate instanceof TableSpecReplacerTable
+            || m_delegate instanceof WrappedTable) {
+            return m_delegate.getReferenceTables()[0].getRowKeyAffixes();
+        }
+        return Optional.empty();
+    }
+
     /** Called after execution of node has finished to put the tables that
      * are returned from the execute method into a global table repository.
      * @param dataRepository The repository from the workflow
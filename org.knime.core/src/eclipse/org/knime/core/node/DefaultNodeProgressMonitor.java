@@ -52,6 +52,7 @@
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
@@ -68,6 +69,10 @@
  * <p>
  * This progress monitor uses a static timer task looking every 250 milliseconds if progress information has changed.
  * The <code>ProgressEvent</code> is fired if either the value or message has changed only.
+ * <p>
+ * The progress state is held in volatile fields and atomics rather than guarded by a lock, so that nodes can report
+ * progress per row from multiple threads at little cost. Updates are coalesced by the timer task, which evaluates
+ * lazy messages only when it fires an event.
  *
  * @author Thomas Gabriel, University of Konstanz
  */
@@ -77,17 +82,20 @@ public class DefaultNodeProgressMonitor implements NodeProgressMonitor {
 
     private static final Supplier<String> NULL_SUPPLIER = () -> null;
 
+    /** Value of {@link #m_progress} if no progress is available, not the bits of any value in [0, 1]. */
+    private static final long NO_PROGRESS = -1L;
+
     /** The cancel requested flag. */
-    private boolean m_cancelExecute;
+    private volatile boolean m_cancelExecute;
 
-    /** Progress of the execution between 0 and 1, or null if not available. */
-    private Double m_progress;
+    /** Bits of the progress of the execution between 0 and 1, or {@link #NO_PROGRESS} if not available. */
+    private final AtomicLong m_progress = new AtomicLong(NO_PROGRESS);
 
     /** Lazy setter of new message - generation may be skipped if new messages come in faster than processed. */
-    private Supplier<String> m_messageSupplier;
+    private volatile Supplier<String> m_messageSupplier;
 
     /** Lazy setter of new append message - used by SubNodeProgressMonitor. */
-    private Supplier<String> m_appendSupplier;
+    private volatile Supplier<String> m_appendSupplier;
 
     /** A set of progress listeners. */
     private final CopyOnWriteArrayList<NodeProgressListener> m_listeners;
@@ -102,7 +110,7 @@ public class DefaultNodeProgressMonitor implements NodeProgressMonitor {
     private static final List<WeakReference<DefaultNodeProgressMonitor>> PROGMONS = new CopyOnWriteArrayList<>();
 
     /** If progress has changed. */
-    private boolean m_changed = false;
+    private volatile boolean m_changed = false;
 
     private static final ScheduledExecutorService NOTIFICATION_SERVICE =
             Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "KNIME Progress Updater"));
@@ -166,12 +174,12 @@ public DefaultNodeProgressMonitor(final NodeProgressListener l) {
      * NOTE: No notification is send to listeners! {@inheritDoc}
      */
     @Override
-    public synchronized void reset() {
-        if ((m_progress != null) || (m_messageSupplier.get() != null)) {
-            m_changed = true;
+    public void reset() {
+        if ((m_progress.get() != NO_PROGRESS) || (m_messageSupplier.get() != null)) {
+            markChanged();
         }
         m_cancelExecute = false;
-        m_progress = null;
+        m_progress.set(NO_PROGRESS);
         m_appendSupplier = NULL_SUPPLIER;
         m_messageSupplier = NULL_SUPPLIER;
     }
@@ -213,19 +221,19 @@ public void setExecuteCanceled() {
      * @param message The text message shown in the progress monitor.
      */
     @Override
-    public synchronized void setProgress(final double progress, final String message) {
+    public void setProgress(final double progress, final String message) {
         setProgressIntern(progress);
         setMessageIntern(() -> message, NULL_SUPPLIER);
-        m_changed = true;
+        markChanged();
     }
 
     /** {@inheritDoc}
      * @since 3.2 */
     @Override
-    public synchronized void setProgress(final double progress, final Supplier<String> message) {
+    public void setProgress(final double progress, final Supplier<String> message) {
         setProgressIntern(progress);
         m_messageSupplier = CheckUtils.checkArgumentNotNull(message);
-        m_changed = true;
+        markChanged();
     }
 
     /**
@@ -234,24 +242,24 @@ public synchronized void setProgress(final double progress, final Supplier<Strin
      * @param progress The value between 0 and 1.
      */
     @Override
-    public synchronized void setProgress(final double progress) {
+    public void setProgress(final double progress) {
         if (setProgressIntern(progress)) {
-            m_changed = true;
+            markChanged();
         }
     }
 
     /** {@inheritDoc} */
     @Override
-    public synchronized void setMessage(final String message) {
+    public void setMessage(final String message) {
         setProgress(message);
     }
 
     /** {@inheritDoc}
      * @since 3.2 */
     @Override
-    public synchronized void setMessage(final Supplier<String> message) {
+    public void setMessage(final Supplier<String> message) {
         m_messageSupplier = CheckUtils.checkArgumentNotNull(message);
-        m_changed = true;
+        markChanged();
     }
 
     /**
@@ -260,31 +268,60 @@ public synchronized void setMessage(final Supplier<String> message) {
      * @param message The text message shown in the progress monitor.
      */
     @Override
-    public synchronized void setProgress(final String message) {
+    public void setProgress(final String message) {
         setMessageIntern(() -> message, NULL_SUPPLIER);
-        m_changed = true;
+        markChanged();
     }
 
-    private synchronized void appendMessage(final Supplier<String> appendSupplier) {
-        setMessageIntern(m_messageSupplier, appendSupplier);
-        m_changed = true;
+    private void appendMessage(final Supplier<String> appendSupplier) {
+        if (m_appendSupplier != appendSupplier) {
+            m_appendSupplier = appendSupplier;
+        }
+        markChanged();
+    }
+
+    /**
+     * Atomically adds to the current progress (or to 0 if there is none), used by sub progress monitors reporting
+     * concurrently. The result is capped at 1.
+     *
+     * @param delta the non-negative value to add
+     */
+    void addProgress(final double delta) {
+        long oldBits;
+        long newBits;
+        do {
+            oldBits = m_progress.get();
+            final double oldProgress = oldBits == NO_PROGRESS ? 0.0 : Double.longBitsToDouble(oldBits);
+            newBits = Double.doubleToRawLongBits(Math.min(1.0, oldProgress + delta));
+        } while (oldBits != newBits && !m_progress.compareAndSet(oldBits, newBits));
+        if (oldBits != newBits) {
+            markChanged();
+        }
+    }
+
+    /** Flags the progress as changed, avoiding the (contended) write if it's flagged already. */
+    private void markChanged() {
+        if (!m_changed) {
+            m_changed = true;
+        }
     }
 
     /**
      * Sets progress internally, returns <code>true</code> if old value has changed.
      */
     private boolean setProgressIntern(final double progress) {
-        final Double oldProgress = m_progress;
+        final long oldBits = m_progress.get();
         if (progress >= 0.0 && progress <= 1.0) {
-            m_progress = progress;
+            final long newBits = Double.doubleToRawLongBits(progress);
+            if (newBits != oldBits) {
+                m_progress.set(newBits);
+            }
         }
-        boolean changed = oldProgress == null || oldProgress.doubleValue() != progress;
-        return changed;
+        return oldBits == NO_PROGRESS || Double.longBitsToDouble(oldBits) != progress;
     }
 
     /** Sets message internally. */
     private void setMessageIntern(final Supplier<String> messageSupplier, final Supplier<String> appendSupplier) {
-        assert Thread.holdsLock(this);
         m_messageSupplier = messageSupplier;
         m_appendSupplier = appendSupplier;
     }
@@ -293,15 +330,16 @@ private void setMessageIntern(final Supplier<String> messageSupplier, final Supp
      * @return The current progress value, or <code>null</code> if not yet set.
      */
     @Override
-    public synchronized Double getProgress() {
-        return m_progress;
+    public Double getProgress() {
+        final long bits = m_progress.get();
+        return bits == NO_PROGRESS ? null : Double.longBitsToDouble(bits);
     }
 
     /**
      * @return The current progress message.
      */
     @Override
-    public synchronized String getMessage() {
+    public String getMessage() {
         return m_messageSupplier.get();
     }
 
@@ -372,11 +410,16 @@ static class SubNodeProgressMonitor implements NodeProgressMonitor {
 
         private final double m_maxProg;
 
-        private double m_lastProg;
+        /** Bits of the progress of this monitor in [0, 1] that has been propagated to the parent. */
+        private final AtomicLong m_lastProg = new AtomicLong(Double.doubleToRawLongBits(0.0));
 
-        private Supplier<String> m_innerMessageSupplier;
+        private volatile Supplier<String> m_innerMessageSupplier;
 
-        private Supplier<String> m_innerAppendSupplier;
+        private volatile Supplier<String> m_innerAppendSupplier;
+
+        /** The message of this monitor as appended to the parent's message, reads the current inner suppliers. */
+        private final Supplier<String> m_appendToParentSupplier =
+            () -> createMessage(m_innerMessageSupplier, m_innerAppendSupplier);
 
         /**
          * Creates new sub progress monitor.
@@ -420,7 +463,7 @@ public String getMessage() {
          */
         @Override
         public Double getProgress() {
-            return m_lastProg;
+            return Double.longBitsToDouble(m_lastProg.get());
         }
 
         /** {@inheritDoc} */
@@ -493,10 +536,8 @@ public void setProgress(final double progress, final String message) {
         /** {@inheritDoc} */
         @Override
         public void setProgress(final double progress, final Supplier<String> messageSupplier) {
-            synchronized (m_parent) {
-                this.setProgress(progress);
-                this.setMessage(messageSupplier);
-            }
+            this.setProgress(progress);
+            this.setMessage(messageSupplier);
         }
 
         /**
@@ -506,19 +547,16 @@ public void setProgress(final double progress, final Supplier<String> messageSup
          * @param append whether to append
          */
         void setProgress(final Supplier<String> messageSupplier, final boolean append) {
-            synchronized (m_parent) {
-                m_innerMessageSupplier = CheckUtils.checkArgumentNotNull(messageSupplier);
-                if (append) {
-                    m_innerAppendSupplier = NULL_SUPPLIER;
-                }
-                Supplier<String> createSupplier = () -> createMessage(m_innerMessageSupplier, m_innerAppendSupplier);
-                if (m_parent instanceof DefaultNodeProgressMonitor) {
-                    ((DefaultNodeProgressMonitor)m_parent).appendMessage(createSupplier);
-                } else if (m_parent instanceof SubNodeProgressMonitor) {
-                    ((SubNodeProgressMonitor)m_parent).appendMessage(createSupplier);
-                } else {
-                    m_parent.setMessage(createSupplier);
-                }
+            m_innerMessageSupplier = CheckUtils.checkArgumentNotNull(messageSupplier);
+            if (append) {
+                m_innerAppendSupplier = NULL_SUPPLIER;
+            }
+            if (m_parent instanceof DefaultNodeProgressMonitor) {
+                ((DefaultNodeProgressMonitor)m_parent).appendMessage(m_appendToParentSupplier);
+            } else if (m_parent instanceof SubNodeProgressMonitor) {
+                ((SubNodeProgressMonitor)m_parent).appendMessage(m_appendToParentSupplier);
+            } else {
+                m_parent.setMessage(m_appendToParentSupplier);
             }
         }
 
@@ -534,41 +572,85 @@ public void setProgress(final double progress) {
             if (m_maxProg <= 0.0) { // don't report 0-progress ("unknown")
                 return;
             }
+            final double boundedProgress = Math.max(0.0, Math.min(progress, 1.0));
+            if (!(m_parent instanceof DefaultNodeProgressMonitor || m_parent instanceof SubNodeProgressMonitor)) {
+                setProgressOfUnknownParent(boundedProgress);
+                return;
+            }
+            final boolean parentHasProgress = m_parent.getProgress() != null;
+            while (true) {
+                final long lastBits = m_lastProg.get();
+                final double lastProg = Double.longBitsToDouble(lastBits);
+                // diff to the last progress update
+                final double diff = Math.max(0.0, boundedProgress - lastProg);
+                // we silently swallow small progress updates here as a sequence of updates (and all of which are
+                // scaled using m_maxProg) may lead to a high accumulated rounding error; they are accumulated until
+                // the diff is large enough. If the parent has no progress so far, we still set that small progress,
+                // for the parent to show 0%
+                if (diff < 0.001 && parentHasProgress) {
+                    return;
+                }
+                // multiple sub progresses may report concurrently, the CAS ensures each diff is propagated once
+                if (m_lastProg.compareAndSet(lastBits, Double.doubleToRawLongBits(lastProg + diff))) {
+                    addProgressToParent(Math.min(m_maxProg, diff * m_maxProg));
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Adds to the progress of this monitor on behalf of a sub progress monitor and propagates the scaled value to
+         * the parent.
+         *
+         * @param delta the progress to add, w.r.t. this monitor
+         */
+        void addProgress(final double delta) {
+            long lastBits;
+            long newBits;
+            double lastProg;
+            do {
+                lastBits = m_lastProg.get();
+                lastProg = Double.longBitsToDouble(lastBits);
+                newBits = Double.doubleToRawLongBits(Math.min(1.0, lastProg + delta));
+            } while (!m_lastProg.compareAndSet(lastBits, newBits));
+            if (m_maxProg > 0.0) {
+                addProgressToParent((Double.longBitsToDouble(newBits) - lastProg) * m_maxProg);
+            }
+        }
+
+        private void addProgressToParent(final double delta) {
+            if (m_parent instanceof DefaultNodeProgressMonitor) {
+                ((DefaultNodeProgressMonitor)m_parent).addProgress(delta);
+            } else {
+                ((SubNodeProgressMonitor)m_parent).addProgress(delta);
+            }
+        }
+
+        /** Propagates the progress to a parent of unknown type, which doesn't support atomic increments. */
+        private void setProgressOfUnknownParent(final double boundedProgress) {
             // synchronization is imported here: multiple sub progresses may
             // report to the parent. "getOldProgress" and "setNewProgress" must
             // be an atomic operation
             synchronized (m_parent) {
                 Double progressOfParent = m_parent.getProgress();
-                double boundedProgress = Math.max(0.0, Math.min(progress, 1.0));
                 // diff to the last progress update
-                double diff = Math.max(0.0, boundedProgress - m_lastProg);
+                double diff = Math.max(0.0, boundedProgress - getProgress());
                 double subProgress = Math.min(m_maxProg, diff * m_maxProg);
                 if (progressOfParent != null) {
                     subProgress += progressOfParent;
                 }
-                // we silently swallow small progress updates here as a sequence
-                // of updates (and all of which are scaled using m_maxProg) may
-                // lead to a high accumulated rounding error
                 if (diff < 0.001 && progressOfParent != null) {
-                    // if the parent has no progress so far, we still set
-                    // that small progress, for the parent to show 0%
                     return;
                 }
-                // the following is sort of a workaround: we know our parent's
-                // old progress value, then try(!) to set an updated new value
-                // and if the parent's new progress has indeed changed (this
-                // object is the only one, which can set the parent's progress),
-                // we can also update our internal progress. If
-                // m_parent.setProgress did not result in a change of the
-                // parent's progress, this object's update was too little to get
-                // propagated, that means we stick with the previous propagated
-                // progress
+                // we know our parent's old progress value, then try(!) to set an updated new value and if the
+                // parent's new progress has indeed changed, we can also update our internal progress. Otherwise this
+                // object's update was too little to get propagated and we stick with the previous progress
                 m_parent.setProgress(subProgress);
                 Double newProgressOfParent = m_parent.getProgress();
                 if (newProgressOfParent != null) {
                     if (progressOfParent == null
                         || progressOfParent.doubleValue() != newProgressOfParent.doubleValue()) {
-                        m_lastProg = boundedProgress;
+                        m_lastProg.set(Double.doubleToRawLongBits(boundedProgress));
                     }
                 }
             }
@@ -205,6 +205,16 @@ public final class KNIMEConstants {
      */
     public static final String PROPERTY_DISCOURAGE_GC = "knime.discourage.gc";
 
+    /**
+     * Java property to let the {@link org.knime.core.data.util.memory.MemoryAlertSystem} emit memory alerts already
+     * when the live set after garbage collection, extrapolated by its recent growth rate, is predicted to exceed the
+     * usage threshold within the next seconds. The value should be <code>true</code> or <code>false</code> (which is
+     * the default).
+     *
+     * @since 4.3
+     */
+    public static final String PROPERTY_PREDICTIVE_MEMORY_ALERTS = "knime.memory.predictive";
+
     /**
      * Java property to enable/disable table stream compression. Compression results in smaller temp-file sizes but also
      * (sometimes significant) longer runtime. By default {@code Gzip} is used.
@@ -222,6 +232,27 @@ public final class KNIMEConstants {
     @Deprecated
     public static final String PROPERTY_TABLE_GZIP_COMPRESSION = PROPERTY_TABLE_COMPRESSION;
 
+    /**
+     * Java property to store the blob cells of a table in a few append-only segment files per column (with an index
+     * file) rather than in one file per blob. This avoids creating millions of files for tables with many blobs. The
+     * value should be <code>true</code> or <code>false</code> (which is the default). Tables written with either
+     * setting can be read regardless of the setting, but workflows containing packed blobs can't be read by
+     * versions of KNIME that don't support them.
+     *
+     * @since 4.3
+     */
+    public static final String PROPERTY_PACKED_BLOB_STORE = "knime.container.packedblobs";
+
+    /**
+     * Java property to deduplicate identical file store files and blob files within a workflow by replacing copies
+     * with hard links to a single file. Files are considered identical if their SHA-256 hash and size are equal. The
+     * value should be <code>true</code> or <code>false</code> (which is the default). Only enable it if no node
+     * modifies file store content after its execution has finished.
+     *
+     * @since 4.3
+     */
+    public static final String PROPERTY_CONTENT_DEDUPLICATION = "knime.data.deduplication";
+
     /** Java property to enable/disable row ID duplicate checks on tables.
      * Tables in KNIME are supposed to have unique IDs, whereby the uniqueness
      * is asserted using a duplicate checker. This property will disable this
@@ -231,6 +262,14 @@ public final class KNIMEConstants {
     public static final String PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK =
         "knime.disable.rowid.duplicatecheck";
 
+    /** Java property to check row IDs for duplicates using only 64-bit hashes of the row IDs, which can be updated
+     * concurrently and does not need to write the row IDs to disk (row IDs are only compared in case of hash
+     * collisions). The value should be <code>true</code> or <code>false</code> (which is the default).
+     * @see org.knime.core.util.HashingDuplicateChecker
+     * @since 4.3 */
+    public static final String PROPERTY_HASHING_ROWID_DUPLICATE_CHECK =
+        "knime.rowid.duplicatecheck.hashing";
+
     /** Java property to enable/disable workflow locks. As of KNIME v2.4
      * workflows will be locked when opened; this property will disable the
      * locking (allowing multiple instances to have the same workflow open).
@@ -320,6 +359,29 @@ public final class KNIMEConstants {
      * @since 2.8 */
     public static final String PROPERTY_DATABASE_CONCURRENCY = "knime.database.enable.concurrency";
 
+    /** Java property used to pipeline batch inserts into a database: the next batch is filled while the previous ones
+     * are executed. A value greater than 1 distributes the batches on as many dedicated connections (a connection is
+     * never accessed by two threads at a time), values of 0 and 1 write the batches sequentially on the node's
+     * connection. If writing is canceled or a batch fails, all connections are rolled back; as the connections commit
+     * one after the other, a failing commit leaves the table partially written. Default is 0.
+     * @since 4.3 */
+    public static final String PROPERTY_DATABASE_BATCH_WRITE_CONNECTIONS = "knime.database.batch_write_connections";
+
+    /** Java property used to enable a pool of connections per database (URL, user and workflow user): a positive
+     * value bounds the number of pooled connections, which are leased exclusively for each database operation so
+     * that parallel branches accessing the same database don't serialize on one connection (a pool of one connection
+     * serializes all operations on the database). Stale connections are validated and replaced. Note that
+     * session state (e.g. temporary tables) is then not shared between operations. Default is 0, that is, one cached
+     * connection is shared per database.
+     * @since 4.3 */
+    public static final String PROPERTY_DATABASE_CONNECTION_POOL_SIZE = "knime.database.connection_pool_size";
+
+    /** Java property used to set the time in seconds after which idle pooled database connections are closed,
+     * see {@link #PROPERTY_DATABASE_CONNECTION_POOL_SIZE}. Default is 300.
+     * @since 4.3 */
+    public static final String PROPERTY_DATABASE_CONNECTION_POOL_IDLE_TIMEOUT =
+        "knime.database.connection_pool_idle_timeout";
+
     /** @deprecated Use #PROPERTY_DATABASE_FETCHSIZE instead. */
     @Deprecated
     // obsolete as of v2.3
@@ -358,6 +420,28 @@ public final class KNIMEConstants {
    public static final String PROPERTY_DISABLE_LOG4J_CONFIG =
        "knime.log4j.config.disabled";
 
+    /**
+     * Java property to let the {@link NodeLogger} hand log events to a background thread via a bounded buffer instead
+     * of calling the Log4J appenders in the logging thread. If the buffer is full, debug and info messages are dropped
+     * while more severe messages wait for free space. The value should be <code>true</code> or <code>false</code>
+     * (which is the default).
+     *
+     * @since 4.3
+     */
+    public static final String PROPERTY_ASYNC_LOGGING = "knime.logging.async";
+
+    /**
+     * Java property to enable the parallel zip writer and extractor used by
+     * {@link org.knime.core.util.FileUtil#zipDir(java.io.File, java.util.Collection, int,
+     * org.knime.core.util.FileUtil.ZipFileFilter, ExecutionMonitor) FileUtil#zipDir} and
+     * {@link org.knime.core.util.FileUtil#unzip(java.io.File, java.io.File) FileUtil#unzip}, e.g. when exporting and
+     * importing workflows. If enabled, files are compressed and extracted by threads of the
+     * {@link #GLOBAL_THREAD_POOL}. The value should be <code>true</code> or <code>false</code> (which is the default).
+     *
+     * @since 4.3
+     */
+    public static final String PROPERTY_PARALLEL_ZIP = "knime.parallel.zip";
+
    /**
     * Java property for doing all dialog operations automatically in the
     * AWT event dispatch thread.
@@ -370,6 +454,37 @@ public final class KNIMEConstants {
     * @since 3.0 */
    public static final String PROPERTY_HIGH_DPI_SUPPORT = "knime.highdpi.support";
 
+    /**
+     * Java property to execute the remote chunks of parallel chunk loops without copying the loop body into the
+     * workflow. Each chunk then runs on fresh node instances that share the (immutable) settings of the loop body
+     * nodes. Only loop bodies consisting of plain native nodes whose settings are not controlled by flow variables are
+     * executed this way, all others fall back to the default. The value should be <code>true</code> or
+     * <code>false</code> (which is the default).
+     *
+     * @since 4.3
+     */
+    public static final String PROPERTY_PARALLEL_CHUNKS_OFF_WORKFLOW = "knime.parallelchunks.offworkflow";
+
+    /**
+     * Java property to enable the fast path when restarting loop iterations. If the output specs of the loop start
+     * node did not change from one iteration to the next, the loop body is not configured again as part of the loop
+     * restart but only once the loop start has executed (which is done in any case). The value should be
+     * <code>true</code> or <code>false</code> (which is the default).
+     *
+     * @since 4.3
+     */
+    public static final String PROPERTY_LOOP_FAST_PATH = "knime.loop.fastpath";
+
+    /**
+     * Java property to keep large PNG images created by the framework's cell factories in file stores rather than in
+     * memory (see {@link org.knime.core.data.image.png.PNGImageCellFactory}). Factories created with an execution
+     * context always use file stores. The value should be <code>true</code> or <code>false</code> (which is the
+     * default).
+     *
+     * @since 4.3
+     */
+    public static final String PROPERTY_PNG_FILE_STORE_CELLS = "knime.png.filestorecells";
+
     /**
      * The minimum refresh interval in ms, e.g. to refresh the node progress or the state of the remote job view.
      *
@@ -63,10 +63,14 @@
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Appender;
+import org.apache.log4j.Category;
 import org.apache.log4j.FileAppender;
 import org.apache.log4j.Layout;
 import org.apache.log4j.Level;
@@ -111,6 +115,10 @@
  * the minimum logging level of the default loggers. All other writers' levels
  * have to be set before hand.
  *
+ * <p>If {@link KNIMEConstants#PROPERTY_ASYNC_LOGGING} is set, log events are handed to a background thread that
+ * calls the appenders. Messages that are expensive to build should be passed as {@link Supplier}, e.g.
+ * {@link #debug(Supplier)}, so that they are only built if the level is enabled.
+ *
  * @author Thomas Gabriel, Tobias Koetter, KNIME.com
  */
 public final class NodeLogger {
@@ -273,15 +281,24 @@ public void workflowChanged(final WorkflowEvent event) {
     /** The default log file name, <i>knime.log</i>. */
     public static final String LOG_FILE = "knime.log";
 
-    /** Keeps set of <code>NodeLogger</code> elements by class name as key. */
-    private static final Map<String, NodeLogger> LOGGERS =
-            new HashMap<String, NodeLogger>();
+    /** Keeps set of <code>NodeLogger</code> elements by class name as key. Modifications synchronize on the map. */
+    private static final Map<String, NodeLogger> LOGGERS = new ConcurrentHashMap<>();
 
     /** Map of additionally added writers: Writer -> Appender. */
     private static final Map<Writer, WriterAppender> WRITER =
             new HashMap<Writer, WriterAppender>();
 
-    private static final Map<String, Appender> WF_APPENDER = new HashMap<>();
+    /** Workflow directory appenders by directory path. Modifications synchronize on the map. */
+    private static final Map<String, Appender> WF_APPENDER = new ConcurrentHashMap<>();
+
+    /** Fully qualified name of this class, used by Log4J to determine the caller location. */
+    private static final String FQCN = NodeLogger.class.getName();
+
+    /** Capacity of the buffer of the asynchronous dispatcher. */
+    private static final int ASYNC_BUFFER_SIZE = 8192;
+
+    /** The dispatcher if asynchronous logging is enabled, see {@link KNIMEConstants#PROPERTY_ASYNC_LOGGING}. */
+    private static final AsyncLogDispatcher ASYNC_DISPATCHER;
 
     /**
      * Maximum number of chars (10000) printed on <code>System.out</code> and
@@ -333,6 +350,12 @@ public void workflowChanged(final WorkflowEvent event) {
         } else {
             LOG_FILE_APPENDER = new NullAppender();
         }
+        if (Boolean.getBoolean(KNIMEConstants.PROPERTY_ASYNC_LOGGING)) {
+            ASYNC_DISPATCHER = new AsyncLogDispatcher(ASYNC_BUFFER_SIZE);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> ASYNC_DISPATCHER.close(5000), "KNIME-Log-Flush"));
+        } else {
+            ASYNC_DISPATCHER = null;
+        }
         startMessage();
     }
 
@@ -551,6 +574,9 @@ private static void copyrightMessage() {
     /**Listens to workflow changes e.g. when a workflow is closed to unregister all related workflow directory logger.*/
     private MyWorkflowListener m_listener;
 
+    /** Paths of the workflow directory appenders already added to {@link #m_logger}. */
+    private final Set<String> m_attachedWfAppenders = ConcurrentHashMap.newKeySet();
+
     /**
      * Hidden default constructor, logger created by
      * <code>java.lang.Class</code>.
@@ -595,6 +621,10 @@ public static NodeLogger getLogger(final Class<?> c) {
      * @return A new logger for the given name.
      */
     public static NodeLogger getLogger(final String s) {
+        final NodeLogger existing = LOGGERS.get(s);
+        if (existing != null) {
+            return existing;
+        }
         synchronized (LOGGERS) {
             NodeLogger nodeLogger = LOGGERS.get(s);
             if (nodeLogger != null) {
@@ -629,7 +659,7 @@ public static NodeLogger getLogger(final String s) {
      * @param o The object to print.
      */
     public void warn(final Object o) {
-        getLoggerInternal().warn(getLogObject(o));
+        log(Level.WARN, o, null);
     }
 
     /**
@@ -638,7 +668,7 @@ public void warn(final Object o) {
      * @param o The object to print.
      */
     public void debug(final Object o) {
-        getLoggerInternal().debug(getLogObject(o));
+        log(Level.DEBUG, o, null);
     }
 
 
@@ -650,7 +680,114 @@ public void debug(final Object o) {
      * @since 3.1
      */
     public void debugWithoutContext(final Object o) {
-        m_logger.debug(o);
+        if (m_logger.isDebugEnabled()) {
+            dispatch(m_logger, Level.DEBUG, o, null);
+        }
+    }
+
+    /**
+     * Write debugging message into this logger. The message is only created if debug logging is enabled.
+     *
+     * @param messageSupplier supplies the object to print
+     * @since 4.3
+     */
+    public void debug(final Supplier<?> messageSupplier) {
+        log(Level.DEBUG, messageSupplier, null);
+    }
+
+    /**
+     * Write debugging message and throwable into this logger. The message is only created if debug logging is
+     * enabled.
+     *
+     * @param messageSupplier supplies the object to print
+     * @param t The exception to log, including its stack trace.
+     * @since 4.3
+     */
+    public void debug(final Supplier<?> messageSupplier, final Throwable t) {
+        log(Level.DEBUG, messageSupplier, t);
+    }
+
+    /**
+     * Write info message into this logger. The message is only created if info logging is enabled.
+     *
+     * @param messageSupplier supplies the object to print
+     * @since 4.3
+     */
+    public void info(final Supplier<?> messageSupplier) {
+        log(Level.INFO, messageSupplier, null);
+    }
+
+    /**
+     * Write warning message into this logger. The message is only created if warning logging is enabled.
+     *
+     * @param messageSupplier supplies the object to print
+     * @since 4.3
+     */
+    public void warn(final Supplier<?> messageSupplier) {
+        log(Level.WARN, messageSupplier, null);
+    }
+
+    /**
+     * Writes the message to the logger if the level is enabled.
+     *
+     * @param level the level
+     * @param o the message or a {@link Supplier} of the message
+     * @param t an optional throwable, may be <code>null</code>
+     */
+    private void log(final Level level, final Object o, final Throwable t) {
+        final Logger logger = getLoggerInternal();
+        if (logger.isEnabledFor(level)) {
+            final Object message = o instanceof Supplier ? ((Supplier<?>)o).get() : o;
+            dispatch(logger, level, getLogObject(message), t);
+        }
+    }
+
+    /** Passes the message to the appenders, either directly or via the asynchronous dispatcher. */
+    private static void dispatch(final Logger logger, final Level level, final Object message, final Throwable t) {
+        if (ASYNC_DISPATCHER == null) {
+            logger.log(Category.class.getName(), level, message, t);
+            return;
+        }
+        final LoggingEvent event = new LoggingEvent(FQCN, logger, level, message, t);
+        // take a snapshot of the thread dependent data while still in the logging thread
+        event.getThreadName();
+        event.getNDC();
+        event.getMDCCopy();
+        ASYNC_DISPATCHER.dispatch(event);
+    }
+
+    /**
+     * Returns the number of log messages dropped because the buffer of the asynchronous logging was full, see
+     * {@link KNIMEConstants#PROPERTY_ASYNC_LOGGING}. Only debug and info messages are dropped.
+     *
+     * @return the number of dropped messages, 0 if asynchronous logging is disabled
+     * @since 4.3
+     */
+    public static long getNrDroppedMessages() {
+        return ASYNC_DISPATCHER == null ? 0 : ASYNC_DISPATCHER.getNrDropped();
+    }
+
+    /**
+     * Returns the number of log messages whose logging thread had to wait because the buffer of the asynchronous
+     * logging was full, see {@link KNIMEConstants#PROPERTY_ASYNC_LOGGING}.
+     *
+     * @return the number of blocked messages, 0 if asynchronous logging is disabled
+     * @since 4.3
+     */
+    public static long getNrBlockedMessages() {
+        return ASYNC_DISPATCHER == null ? 0 : ASYNC_DISPATCHER.getNrBlocked();
+    }
+
+    /**
+     * Waits until all messages logged so far have been written by the appenders. Does nothing if asynchronous logging
+     * is disabled.
+     *
+     * @param timeoutMillis the maximum time to wait in milliseconds
+     * @return <code>true</code> if all messages have been written, <code>false</code> if the timeout elapsed
+     * @since 4.3
+     */
+    public static boolean flush(final long timeoutMillis) {
+        return ASYNC_DISPATCHER == null || ASYNC_DISPATCHER.flush(timeoutMillis);
     }
 
 
@@ -756,9 +893,14 @@ private void addWorkflowDirAppender(final File workflowDir) {
         if (workflowDirPath == null) {
             return;
         }
+        if (m_attachedWfAppenders.contains(workflowDirPath)) {
+            // fast path without touching the synchronized appender list of the logger
+            return;
+        }
         Appender wfAppender = WF_APPENDER.get(workflowDirPath);
         if (wfAppender != null) {
             logger.addAppender(wfAppender);
+            m_attachedWfAppenders.add(workflowDirPath);
         } else {
             //we do the getAppender twice to prevent the synchronize block on subsequent calls!!!
             synchronized (WF_APPENDER) {
@@ -795,6 +937,7 @@ public int decide(final LoggingEvent event) {
                     //we have to call this function to activate the writer!!!
                     fileAppender.activateOptions();
                     logger.addAppender(fileAppender);
+                    m_attachedWfAppenders.add(workflowDirPath);
                     WF_APPENDER.put(workflowDirPath, fileAppender);
                     if (m_listener == null) {
                         m_listener = new MyWorkflowListener();
@@ -819,6 +962,9 @@ private void removeWorkflowDirAppender(final File workflowDir) {
             synchronized (WF_APPENDER) {
                 final Appender appender = WF_APPENDER.remove(workflowDirPath);
                 if (appender != null) {
+                    LOGGERS.values().forEach(l -> l.m_attachedWfAppenders.remove(workflowDirPath));
+                    // write pending messages before the appender is closed
+                    flush(1000);
                     appender.close();
                     //Remove the appender from all open node loggers
                     @SuppressWarnings("unchecked")
@@ -837,7 +983,7 @@ private void removeWorkflowDirAppender(final File workflowDir) {
      * @param o The object to print.
      */
     public void info(final Object o) {
-        getLoggerInternal().info(getLogObject(o));
+        log(Level.INFO, o, null);
     }
 
     /**
@@ -846,7 +992,7 @@ public void info(final Object o) {
      * @param o The object to print.
      */
     public void error(final Object o) {
-        getLoggerInternal().error(getLogObject(o));
+        log(Level.ERROR, o, null);
     }
 
     /**
@@ -855,7 +1001,7 @@ public void error(final Object o) {
      * @param o The object to print.
      */
     public void fatal(final Object o) {
-        getLoggerInternal().fatal(getLogObject(o));
+        log(Level.FATAL, o, null);
     }
 
     /**
@@ -865,7 +1011,7 @@ public void fatal(final Object o) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     public void warn(final Object o, final Throwable t) {
-        getLoggerInternal().warn(getLogObject(o), t);
+        log(Level.WARN, o, t);
     }
 
     /**
@@ -875,7 +1021,7 @@ public void warn(final Object o, final Throwable t) {
      * @param t The exception to log, including its stack trace.
      */
     public void debug(final Object o, final Throwable t) {
-        getLoggerInternal().debug(getLogObject(o), t);
+        log(Level.DEBUG, o, t);
     }
 
     /**
@@ -885,7 +1031,7 @@ public void debug(final Object o, final Throwable t) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     public void info(final Object o, final Throwable t) {
-        getLoggerInternal().info(getLogObject(o), t);
+        log(Level.INFO, o, t);
     }
 
     /**
@@ -895,7 +1041,7 @@ public void info(final Object o, final Throwable t) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     public void error(final Object o, final Throwable t) {
-        getLoggerInternal().error(getLogObject(o), t);
+        log(Level.ERROR, o, t);
     }
 
     /**
@@ -906,7 +1052,7 @@ public void error(final Object o, final Throwable t) {
      */
     public void assertLog(final boolean b, final String m) {
         if (KNIMEConstants.ASSERTIONS_ENABLED && !b) {
-            getLoggerInternal().error("ASSERT " + m, new AssertionError(m));
+            log(Level.ERROR, "ASSERT " + m, new AssertionError(m));
         }
     }
 
@@ -920,10 +1066,12 @@ public void assertLog(final boolean b, final String m) {
     public void assertLog(final boolean b, final String m,
             final AssertionError e) {
         if (KNIMEConstants.ASSERTIONS_ENABLED) {
-            getLoggerInternal().assertLog(b, "ASSERT " + m);
+            if (!b) {
+                log(Level.ERROR, "ASSERT " + m, null);
+            }
             // for stacktrace
             if (!b & e != null) {
-                getLoggerInternal().debug("ASSERT\t " + m, e);
+                log(Level.DEBUG, "ASSERT\t " + m, e);
             }
         }
     }
@@ -936,7 +1084,7 @@ public void assertLog(final boolean b, final String m,
      */
     public void coding(final Object o) {
         if (KNIMEConstants.ASSERTIONS_ENABLED || EclipseUtil.isRunFromSDK()) {
-            getLoggerInternal().error(getLogObject("CODING PROBLEM\t" + o));
+            log(Level.ERROR, "CODING PROBLEM\t" + o, null);
         }
     }
 
@@ -949,7 +1097,7 @@ public void coding(final Object o) {
      */
     public void coding(final Object o, final Throwable t) {
         if (KNIMEConstants.ASSERTIONS_ENABLED || EclipseUtil.isRunFromSDK()) {
-            getLoggerInternal().error(getLogObject("CODING PROBLEM\t" + o), t);
+            log(Level.ERROR, "CODING PROBLEM\t" + o, t);
         }
     }
 
@@ -960,7 +1108,7 @@ public void coding(final Object o, final Throwable t) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     public void fatal(final Object o, final Throwable t) {
-        getLoggerInternal().fatal(getLogObject(o), t);
+        log(Level.FATAL, o, t);
     }
 
     /**
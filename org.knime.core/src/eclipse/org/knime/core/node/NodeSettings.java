@@ -48,7 +48,9 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.io.OutputStream;
 
+import org.knime.core.node.config.BinaryConfig;
 import org.knime.core.node.config.Config;
 import org.knime.core.node.config.ConfigWO;
 
@@ -105,6 +107,35 @@ public static NodeSettingsRO loadFromXML(
         return (NodeSettingsRO) Config.loadFromXML(tmp, in);
     }
 
+    /**
+     * Reads <code>NodeSettings</code> from a stream written by {@link #saveToBinary(OutputStream)}. The stream is not
+     * closed by this call.
+     *
+     * @param in binary input stream to read settings from.
+     * @return A new settings object.
+     * @throws IOException If the stream could not be read.
+     * @see BinaryConfig
+     * @since 4.3
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public static NodeSettingsRO loadFromBinary(final InputStream in) throws IOException {
+        return BinaryConfig.load(in, NodeSettings::new);
+    }
+
+    /**
+     * Writes this object in the compact binary format, which is faster to write and read than XML but only meant for
+     * internal purposes (caches, transfer between processes). The stream is not closed by this call.
+     *
+     * @param out the stream to write to.
+     * @throws IOException If the stream could not be written.
+     * @see BinaryConfig
+     * @since 4.3
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public void saveToBinary(final OutputStream out) throws IOException {
+        BinaryConfig.save(this, out);
+    }
+
     /**
      * Makes a deep copy of this Config and all sub-configs.
      *
@@ -0,0 +1,407 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.config;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.crypto.SecretKey;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.config.base.AbstractConfigEntry;
+import org.knime.core.node.config.base.ConfigPasswordEntry;
+import org.knime.core.util.KnimeEncryption;
+
+/**
+ * Compact binary encoding of {@link Config} trees, an alternative to the XML format for internal purposes such as
+ * caches and the transfer of settings between processes. XML remains the interchange format (the
+ * <code>settings.xml</code> files in a workflow).
+ *
+ * <p>
+ * Each entry is written as a type tag, followed by its key and its value. Keys are written only once per stream and
+ * referenced by index afterwards; when reading, equal keys are represented by the same string instance. Numbers are
+ * written in binary form (integral numbers as variable-length integers) and strings as length-prefixed UTF-8.
+ *
+ * <p>
+ * Like the XML format, transient strings are not written and passwords are not written in plain text: password
+ * entries are encrypted by means of {@link KnimeEncryption}, independent of the form the entry holds the password in,
+ * so that passwords don't end up readable in caches or transferred settings.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class BinaryConfig {
+
+    /** "KNBC" - identifies the format. */
+    private static final int MAGIC = 0x4B4E4243;
+
+    /** Version 2: password entries are encrypted. */
+    private static final byte VERSION = 2;
+
+    /** The key password entries are encrypted with. */
+    private static final SecretKey PASSWORD_KEY = KnimeEncryption.createSecretKey("KNBC-xpassword");
+
+    // type tags, not to be changed as they are part of the format
+    private static final byte TAG_END = 0;
+
+    private static final byte TAG_CONFIG = 1;
+
+    private static final byte TAG_STRING = 2;
+
+    private static final byte TAG_INT = 3;
+
+    private static final byte TAG_LONG = 4;
+
+    private static final byte TAG_DOUBLE = 5;
+
+    private static final byte TAG_FLOAT = 6;
+
+    private static final byte TAG_SHORT = 7;
+
+    private static final byte TAG_BYTE = 8;
+
+    private static final byte TAG_CHAR = 9;
+
+    private static final byte TAG_BOOLEAN = 10;
+
+    private static final byte TAG_PASSWORD = 11;
+
+    private BinaryConfig() {
+    }
+
+    /**
+     * Writes the argument config, including all sub-configs, to the stream. The stream is not closed.
+     *
+     * @param config the config to write
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    public static void save(final Config config, final OutputStream out) throws IOException {
+        final Writer writer = new Writer(out);
+        writer.m_out.writeInt(MAGIC);
+        writer.m_out.writeByte(VERSION);
+        writer.writeString(config.getKey());
+        writer.writeConfig(config);
+        writer.m_out.flush();
+    }
+
+    /**
+     * Reads a config written by {@link #save(Config, OutputStream)}. The stream is not closed.
+     *
+     * @param in the stream to read from
+     * @param rootFactory creates the (empty) root config, given its key
+     * @param <C> the type of the root config
+     * @return the root config filled with the content of the stream
+     * @throws IOException if reading fails or the stream content is not in the expected format
+     */
+    public static <C extends Config> C load(final InputStream in, final Function<String, C> rootFactory)
+        throws IOException {
+        final Reader reader = new Reader(in);
+        if (reader.m_in.readInt() != MAGIC) {
+            throw new IOException("Stream does not contain a binary encoded config");
+        }
+        final byte version = reader.m_in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version of binary encoded config: " + version);
+        }
+        final C root = rootFactory.apply(reader.readString());
+        reader.readConfig(root);
+        return root;
+    }
+
+    private static String encrypt(final String password) throws IOException {
+        if (password == null) {
+            return null;
+        }
+        try {
+            return KnimeEncryption.encrypt(PASSWORD_KEY, password.toCharArray());
+        } catch (GeneralSecurityException ex) {
+            throw new IOException("Unable to encrypt password entry: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static String decrypt(final String encrypted) throws IOException {
+        if (encrypted == null) {
+            return null;
+        }
+        try {
+            return KnimeEncryption.decrypt(PASSWORD_KEY, encrypted);
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IOException("Unable to decrypt password entry: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream m_out;
+
+        private final Map<String, Integer> m_keys = new HashMap<>();
+
+        Writer(final OutputStream out) {
+            m_out = new DataOutputStream(out);
+        }
+
+        void writeConfig(final Config config) throws IOException {
+            for (String key : config.keySet()) {
+                final AbstractConfigEntry entry = config.getEntry(key);
+                try {
+                    writeEntry(config, key, entry);
+                } catch (InvalidSettingsException ise) {
+                    // can't happen as the type of the entry is checked
+                    throw new IOException("Can't read entry \"" + key + "\": " + ise.getMessage(), ise);
+                }
+            }
+            m_out.writeByte(TAG_END);
+        }
+
+        private void writeEntry(final Config config, final String key, final AbstractConfigEntry entry)
+            throws IOException, InvalidSettingsException {
+            switch (entry.getType()) {
+                case config:
+                    writeHeader(TAG_CONFIG, key);
+                    writeConfig((Config)entry);
+                    break;
+                case xstring:
+                    writeHeader(TAG_STRING, key);
+                    writeString(config.getString(key));
+                    break;
+                case xint:
+                    writeHeader(TAG_INT, key);
+                    writeVarLong(zigZag(config.getInt(key)));
+                    break;
+                case xlong:
+                    writeHeader(TAG_LONG, key);
+                    writeVarLong(zigZag(config.getLong(key)));
+                    break;
+                case xdouble:
+                    writeHeader(TAG_DOUBLE, key);
+                    m_out.writeDouble(config.getDouble(key));
+                    break;
+                case xfloat:
+                    writeHeader(TAG_FLOAT, key);
+                    m_out.writeFloat(config.getFloat(key));
+                    break;
+                case xshort:
+                    writeHeader(TAG_SHORT, key);
+                    m_out.writeShort(config.getShort(key));
+                    break;
+                case xbyte:
+                    writeHeader(TAG_BYTE, key);
+                    m_out.writeByte(config.getByte(key));
+                    break;
+                case xchar:
+                    writeHeader(TAG_CHAR, key);
+                    m_out.writeChar(config.getChar(key));
+                    break;
+                case xboolean:
+                    writeHeader(TAG_BOOLEAN, key);
+                    m_out.writeBoolean(config.getBoolean(key));
+                    break;
+                case xpassword:
+                    writeHeader(TAG_PASSWORD, key);
+                    writeString(encrypt(((ConfigPasswordEntry)entry).getPassword()));
+                    break;
+                case xtransientstring:
+                    // not persisted, same as in XML
+                    break;
+                default:
+                    throw new IOException("Unsupported entry type " + entry.getType() + " for key \"" + key + "\"");
+            }
+        }
+
+        /** Writes the tag and the key, the latter as index if it was written before. */
+        private void writeHeader(final byte tag, final String key) throws IOException {
+            m_out.writeByte(tag);
+            final Integer index = m_keys.get(key);
+            if (index != null) {
+                writeVarLong(index.longValue() + 1);
+            } else {
+                m_keys.put(key, m_keys.size());
+                writeVarLong(0);
+                writeString(key);
+            }
+        }
+
+        /** Writes the length + 1 (0 for <code>null</code>) followed by the UTF-8 bytes. */
+        void writeString(final String s) throws IOException {
+            if (s == null) {
+                writeVarLong(0);
+                return;
+            }
+            final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            m_out.write(bytes);
+        }
+
+        private void writeVarLong(final long value) throws IOException {
+            long v = value;
+            while ((v & ~0x7FL) != 0) {
+                m_out.writeByte((int)((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            m_out.writeByte((int)v);
+        }
+
+        private static long zigZag(final long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream m_in;
+
+        private final List<String> m_keys = new ArrayList<>();
+
+        Reader(final InputStream in) {
+            m_in = new DataInputStream(in);
+        }
+
+        void readConfig(final Config config) throws IOException {
+            byte tag;
+            while ((tag = m_in.readByte()) != TAG_END) {
+                final String key = readKey();
+                switch (tag) {
+                    case TAG_CONFIG:
+                        readConfig(config.addConfig(key));
+                        break;
+                    case TAG_STRING:
+                        config.addString(key, readString());
+                        break;
+                    case TAG_INT:
+                        config.addInt(key, (int)unZigZag(readVarLong()));
+                        break;
+                    case TAG_LONG:
+                        config.addLong(key, unZigZag(readVarLong()));
+                        break;
+                    case TAG_DOUBLE:
+                        config.addDouble(key, m_in.readDouble());
+                        break;
+                    case TAG_FLOAT:
+                        config.addFloat(key, m_in.readFloat());
+                        break;
+                    case TAG_SHORT:
+                        config.addShort(key, m_in.readShort());
+                        break;
+                    case TAG_BYTE:
+                        config.addByte(key, m_in.readByte());
+                        break;
+                    case TAG_CHAR:
+                        config.addChar(key, m_in.readChar());
+                        break;
+                    case TAG_BOOLEAN:
+                        config.addBoolean(key, m_in.readBoolean());
+                        break;
+                    case TAG_PASSWORD:
+                        config.addEntry(new ConfigPasswordEntry(key, decrypt(readString())));
+                        break;
+                    default:
+                        throw new IOException("Invalid entry type tag " + tag + " for key \"" + key + "\"");
+                }
+            }
+        }
+
+        private String readKey() throws IOException {
+            final long ref = readVarLong();
+            if (ref == 0) {
+                final String key = readString();
+                m_keys.add(key);
+                return key;
+            }
+            if (ref > m_keys.size()) {
+                throw new IOException("Invalid key reference " + ref + ", only " + m_keys.size() + " keys read");
+            }
+            return m_keys.get((int)ref - 1);
+        }
+
+        String readString() throws IOException {
+            final long lengthPlusOne = readVarLong();
+            if (lengthPlusOne == 0) {
+                return null;
+            }
+            if (lengthPlusOne - 1 > Integer.MAX_VALUE) {
+                throw new IOException("Invalid string length " + (lengthPlusOne - 1));
+            }
+            final byte[] bytes = new byte[(int)(lengthPlusOne - 1)];
+            m_in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private long readVarLong() throws IOException {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int b = m_in.read();
+                if (b < 0) {
+                    throw new EOFException("Unexpected end of binary encoded config");
+                }
+                result |= (long)(b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IOException("Malformed variable-length integer");
+        }
+
+        private static long unZigZag(final long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
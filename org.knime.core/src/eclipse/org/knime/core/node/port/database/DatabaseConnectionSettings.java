@@ -257,6 +257,69 @@ private static int initBatchWriteSize() {
         return 1;
     }
 
+    /** Number of dedicated connections used to write batches in a pipelined fashion, 0 if batches are written
+     * sequentially on the node's connection. Pipelining requires at least 2 connections, a value of 1 is treated
+     * as 0.
+     * @see KNIMEConstants#PROPERTY_DATABASE_BATCH_WRITE_CONNECTIONS
+     * @since 4.3 */
+    public static final int BATCH_WRITE_CONNECTIONS = initBatchWriteConnections();
+    private static int initBatchWriteConnections() {
+        String connections = System.getProperty(KNIMEConstants.PROPERTY_DATABASE_BATCH_WRITE_CONNECTIONS);
+        if (connections != null) {
+            try {
+                final int nrConnections = Integer.parseInt(connections);
+                if (nrConnections == 1) {
+                    LOGGER.warn("Database property " + KNIMEConstants.PROPERTY_DATABASE_BATCH_WRITE_CONNECTIONS
+                        + "=1 is not supported, pipelining requires at least 2 connections, writing batches "
+                        + "sequentially.");
+                } else if (nrConnections >= 0) {
+                    LOGGER.debug("Database batch write connections: " + nrConnections + ".");
+                    return nrConnections;
+                } else {
+                    LOGGER.warn("Database property " + KNIMEConstants.PROPERTY_DATABASE_BATCH_WRITE_CONNECTIONS + "="
+                        + nrConnections + " can't be negative, writing batches sequentially.");
+                }
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Database batch write connections not valid '" + connections
+                        + "', writing batches sequentially.");
+            }
+        }
+        return 0;
+    }
+
+    /** Maximum number of pooled connections per database, 0 if connections aren't pooled but one cached connection
+     * is shared per database. A pool of one connection serializes all operations on the database.
+     * @see KNIMEConstants#PROPERTY_DATABASE_CONNECTION_POOL_SIZE
+     * @since 4.3 */
+    public static final int CONNECTION_POOL_SIZE =
+        initPositiveIntProperty(KNIMEConstants.PROPERTY_DATABASE_CONNECTION_POOL_SIZE, 0, "connection pool size");
+
+    /** Time in seconds after which idle pooled connections are closed.
+     * @see KNIMEConstants#PROPERTY_DATABASE_CONNECTION_POOL_IDLE_TIMEOUT
+     * @since 4.3 */
+    public static final int CONNECTION_POOL_IDLE_TIMEOUT = initPositiveIntProperty(
+        KNIMEConstants.PROPERTY_DATABASE_CONNECTION_POOL_IDLE_TIMEOUT, 300, "connection pool idle timeout");
+
+    private static int initPositiveIntProperty(final String property, final int defaultValue,
+        final String description) {
+        final String value = System.getProperty(property);
+        if (value != null) {
+            try {
+                final int intValue = Integer.parseInt(value);
+                if (intValue > 0) {
+                    LOGGER.debug("Database " + description + ": " + intValue + ".");
+                    return intValue;
+                }
+                LOGGER.warn("Database property " + property + "=" + intValue + " must be positive, using "
+                    + defaultValue + " as default.");
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Database " + description + " not valid '" + value + "', using " + defaultValue
+                    + " as default.");
+            }
+        }
+        return defaultValue;
+    }
+
     private String m_driver;
     private String m_credName = null;
 
@@ -662,6 +725,9 @@ private boolean loadConnection(final ConfigRO settings,
      */
     @SuppressWarnings("resource")
     public <T> T execute(final CredentialsProvider cp, final ExecuteStatement<T> stmt) throws SQLException {
+        if (CONNECTION_POOL_SIZE > 0 && getUtility().getConnectionFactory() instanceof CachedConnectionFactory) {
+            return executePooled(cp, stmt, (CachedConnectionFactory)getUtility().getConnectionFactory());
+        }
         try {
             for (int i = 1; i <= MAX_CONNECTION_TRIES; i++) {
                 final Connection conn = createConnection(cp);
@@ -693,6 +759,59 @@ public <T> T execute(final CredentialsProvider cp, final ExecuteStatement<T> stm
         throw new SQLException("Maximum number of retries to get a valid connection reached. JDBC URL: " + getJDBCUrl());
     }
 
+    /**
+     * Executes the statement on a connection exclusively leased from the connection pool of the database. Like the
+     * non-pooled path, the leased connection is validated first; closed or invalid connections are returned as failed,
+     * so that the pool discards them, and another connection is leased up to {@link #MAX_CONNECTION_TRIES} times.
+     */
+    private <T> T executePooled(final CredentialsProvider cp, final ExecuteStatement<T> stmt,
+        final CachedConnectionFactory factory) throws SQLException {
+        Connection conn = null;
+        try {
+            CheckUtils.checkSettingNotNull(m_driver, "No settings available to create database connection.");
+            CheckUtils.checkSettingNotNull(m_jdbcUrl, "No JDBC URL set.");
+            for (int i = 1; i <= MAX_CONNECTION_TRIES && conn == null; i++) {
+                final Connection leased = factory.leaseConnection(cp, this);
+                if (isOpenAndValid(leased)) {
+                    conn = leased;
+                } else {
+                    LOGGER.debug("Invalid or closed pooled connection found. Retry counter: " + i
+                        + ". Retry to get valid connection for JDBC URL: " + getJDBCUrl());
+                    factory.returnConnection(cp, this, leased, true);
+                }
+            }
+        } catch (SQLException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new SQLException(ex);
+        }
+        if (conn == null) {
+            throw new SQLException(
+                "Maximum number of retries to get a valid connection reached. JDBC URL: " + getJDBCUrl());
+        }
+        boolean failed = true;
+        try {
+            final T result = stmt.apply(conn);
+            failed = false;
+            return result;
+        } catch (SQLException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new SQLException(ex);
+        } finally {
+            factory.returnConnection(cp, this, conn, failed);
+        }
+    }
+
+    private boolean isOpenAndValid(final Connection conn) {
+        try {
+            return !conn.isClosed() && getUtility().isValid(conn);
+        } catch (Exception ex) {
+            LOGGER.debug("Exception: " + ex.getMessage() + " during validation of pooled connection", ex);
+            return false;
+        }
+    }
+
     /**
      * Execute statement on current database connection.
      * @param statement to be executed
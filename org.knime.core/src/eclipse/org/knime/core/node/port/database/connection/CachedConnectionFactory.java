@@ -58,12 +58,15 @@
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
@@ -87,6 +90,17 @@ public class CachedConnectionFactory implements DBConnectionFactory {
      * process. */
     private static final Map<ConnectionKey, ConnectionKey> CONNECTION_KEYS = new HashMap<ConnectionKey, ConnectionKey>();
     private static final ExecutorService CONNECTION_CREATOR_EXECUTOR = ThreadUtils.executorServiceWithContext(Executors.newCachedThreadPool());
+    /** Connection pools used if pooling is enabled, see {@link DatabaseConnectionSettings#CONNECTION_POOL_SIZE}. */
+    private static final Map<ConnectionKey, ConnectionPool> CONNECTION_POOLS = new ConcurrentHashMap<>();
+    /** Closes idle pooled connections that exceeded the idle timeout, started with the first pool. */
+    private static final ScheduledExecutorService POOL_EVICTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread t = new Thread(r, "KNIME-DB-Connection-Pool-Evictor");
+        t.setDaemon(true);
+        return t;
+    });
+    private static final AtomicBoolean POOL_EVICTOR_STARTED = new AtomicBoolean();
+    /** Connections leased by the current thread, nested leases of the same thread reuse the connection. */
+    private static final ThreadLocal<Map<ConnectionKey, Lease>> THREAD_LEASES = ThreadLocal.withInitial(HashMap::new);
     private DBDriverFactory m_driverFactory;
 
     /**
@@ -205,44 +219,177 @@ public Connection getConnection(final CredentialsProvider cp, final DatabaseConn
                 CONNECTION_MAP.remove(databaseConnKey);
             }
             LOGGER.debug("Create new connection for key: " + databaseConnKey);
-            final Driver d;
+            conn = openConnection(settings, jdbcUrl, user, pass, kerberos);
+            LOGGER.debug("Add connection to map for key: " + databaseConnKey);
+            CONNECTION_MAP.put(databaseConnKey, conn);
+            return conn;
+        }
+    }
+
+    /**
+     * Opens a new connection that is not cached and hence not shared with other callers, e.g. to read partitions of a
+     * query result in parallel. The caller is responsible for closing the connection.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @return a new {@link Connection}, to be closed by the caller
+     * @throws InvalidSettingsException if the driver can't be loaded or does not accept the URL
+     * @throws SQLException if the connection can't be opened
+     * @throws IOException if opening the connection timed out
+     * @since 4.3
+     */
+    public Connection createDedicatedConnection(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
+        return openConnection(settings, settings.getJDBCUrl(), settings.getUserName(cp), settings.getPassword(cp),
+            settings.useKerberos());
+    }
+
+    /**
+     * Leases a connection from the pool of the database identified by the settings and credentials. The connection is
+     * used exclusively by the caller until it is returned by means of
+     * {@link #returnConnection(CredentialsProvider, DatabaseConnectionSettings, Connection, boolean)}. If all
+     * connections of the pool are leased, the method waits until one is returned. Idle connections are validated
+     * before they are leased again.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @return an exclusively leased {@link Connection}, not to be closed by the caller
+     * @throws InvalidSettingsException if the driver can't be loaded or does not accept the URL
+     * @throws SQLException if the connection can't be opened or the thread is interrupted while waiting
+     * @throws IOException if opening the connection timed out
+     * @see DatabaseConnectionSettings#CONNECTION_POOL_SIZE
+     * @since 4.3
+     */
+    public Connection leaseConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings)
+        throws InvalidSettingsException, SQLException, IOException {
+        final ConnectionKey key = createConnectionKey(cp, settings);
+        final Map<ConnectionKey, Lease> threadLeases = THREAD_LEASES.get();
+        final Lease existingLease = threadLeases.get(key);
+        if (existingLease != null) {
+            // nested operation in the same thread, e.g. executed from within another statement block
+            existingLease.m_count++;
+            return existingLease.m_conn;
+        }
+        final ConnectionPool pool = getPool(key);
+        try {
+            final Connection conn =
+                pool.lease(() -> createDedicatedConnection(cp, settings), settings.getUtility()::isValid);
+            threadLeases.put(key, new Lease(conn));
+            return conn;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Thread was interrupted while waiting for a free database connection");
+        } catch (InvalidSettingsException | SQLException | IOException | RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new SQLException(ex);
+        }
+    }
+
+    /**
+     * Returns a connection leased by means of {@link #leaseConnection(CredentialsProvider, DatabaseConnectionSettings)}
+     * to its pool. If the connection was used by a failed operation, it is closed if it is no longer valid, otherwise a
+     * pending transaction is rolled back.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @param conn the leased connection
+     * @param failed <code>true</code> if the operation using the connection failed
+     * @since 4.3
+     */
+    public void returnConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings,
+        final Connection conn, final boolean failed) {
+        final ConnectionKey key = createConnectionKey(cp, settings);
+        final Map<ConnectionKey, Lease> threadLeases = THREAD_LEASES.get();
+        final Lease lease = threadLeases.get(key);
+        if (lease == null || lease.m_conn != conn) {
+            LOGGER.coding("Connection returned that wasn't leased by this thread, key: " + key);
+            return;
+        }
+        if (--lease.m_count > 0) {
+            return;
+        }
+        threadLeases.remove(key);
+        boolean reusable = true;
+        if (failed) {
             try {
-                d = getDriverFactory().getDriver(settings);
-            } catch (Exception ex1) {
-                throw new InvalidSettingsException(ex1);
+                if (conn.isClosed() || !settings.getUtility().isValid(conn)) {
+                    LOGGER.debug("Closed or invalid connection returned, discarding connection with key: " + key);
+                    reusable = false;
+                } else if (!conn.getAutoCommit()) {
+                    conn.rollback();
+                }
+            } catch (Exception ex) {
+                LOGGER.debug("Rollback of failed operation not possible, closing connection with key: " + key, ex);
+                reusable = false;
+            }
+        }
+        getPool(key).release(conn, reusable);
+    }
+
+    /** A connection leased by a thread, possibly several times by nested operations. */
+    private static final class Lease {
+        private final Connection m_conn;
+        private int m_count = 1;
+
+        private Lease(final Connection conn) {
+            m_conn = conn;
+        }
+    }
+
+    private static ConnectionPool getPool(final ConnectionKey key) {
+        return CONNECTION_POOLS.computeIfAbsent(key, k -> {
+            final long idleTimeout = DatabaseConnectionSettings.CONNECTION_POOL_IDLE_TIMEOUT;
+            final ConnectionPool pool = new ConnectionPool(k.toString(),
+                DatabaseConnectionSettings.CONNECTION_POOL_SIZE, TimeUnit.SECONDS.toMillis(idleTimeout));
+            if (POOL_EVICTOR_STARTED.compareAndSet(false, true)) {
+                final long period = Math.max(1, idleTimeout / 2);
+                POOL_EVICTOR.scheduleWithFixedDelay(
+                    () -> CONNECTION_POOLS.values().forEach(ConnectionPool::evictIdle), period, period,
+                    TimeUnit.SECONDS);
             }
-            if (!d.acceptsURL(jdbcUrl)) {
-                throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
+            LOGGER.debug("Created " + pool);
+            return pool;
+        });
+    }
+
+    private Connection openConnection(final DatabaseConnectionSettings settings, final String jdbcUrl,
+        final String user, final String pass, final boolean kerberos)
+        throws InvalidSettingsException, SQLException, IOException {
+        final Driver d;
+        try {
+            d = getDriverFactory().getDriver(settings);
+        } catch (Exception ex1) {
+            throw new InvalidSettingsException(ex1);
+        }
+        if (!d.acceptsURL(jdbcUrl)) {
+            throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
+        }
+        // if a connection is not available
+        Callable<Connection> callable = new Callable<Connection>() {
+            /** {@inheritDoc} */
+            @Override
+            public Connection call() throws Exception {
+                LOGGER.debug("Opening database connection to \"" + jdbcUrl + "\"...");
+                return createConnection(settings, jdbcUrl, user, pass, kerberos, d);
             }
-            // if a connection is not available
-            Callable<Connection> callable = new Callable<Connection>() {
-                /** {@inheritDoc} */
-                @Override
-                public Connection call() throws Exception {
-                    LOGGER.debug("Opening database connection to \"" + jdbcUrl + "\"...");
-                    return createConnection(settings, jdbcUrl, user, pass, kerberos, d);
-                }
-            };
-            //TODO:this has to be more robust e.g. the thread should terminate when KNIME terminates and should be
-            //cancelable if the user presses cancel. If no credentials are present for Phoenix the thread keeps KNIME
-            //alive for ages
-            Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
-            try {
-                conn = task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
-                LOGGER.debug("Add connection to map for key: " + databaseConnKey);
-                CONNECTION_MAP.put(databaseConnKey, conn);
-                return conn;
-            } catch (ExecutionException ee) {
-                if (ee.getCause() instanceof SQLException) {
-                    throw (SQLException) ee.getCause();
-                } else {
-                    throw new SQLException(ee.getCause());
-                }
-            } catch (InterruptedException ex) {
-                throw new SQLException("Thread was interrupted while waiting for database to respond");
-            } catch (TimeoutException ex) {
-                throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
+        };
+        //TODO:this has to be more robust e.g. the thread should terminate when KNIME terminates and should be
+        //cancelable if the user presses cancel. If no credentials are present for Phoenix the thread keeps KNIME
+        //alive for ages
+        Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
+        try {
+            return task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof SQLException) {
+                throw (SQLException) ee.getCause();
+            } else {
+                throw new SQLException(ee.getCause());
             }
+        } catch (InterruptedException ex) {
+            throw new SQLException("Thread was interrupted while waiting for database to respond");
+        } catch (TimeoutException ex) {
+            throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
         }
     }
 
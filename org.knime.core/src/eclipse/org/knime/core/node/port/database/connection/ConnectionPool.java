@@ -0,0 +1,295 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A bounded pool of connections to one database (that is, for one {@link CachedConnectionFactory.ConnectionKey}).
+ * Connections are leased exclusively and returned after use. Idle connections are reused most-recently-returned first,
+ * validated before they are leased again and closed after being idle for longer than the idle timeout.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ConnectionPool {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ConnectionPool.class);
+
+    /** Connections returned less than this number of milliseconds ago are leased again without validation. */
+    static final long VALIDATION_INTERVAL_MILLIS = 1000;
+
+    /** Opens new connections. */
+    @FunctionalInterface
+    interface ConnectionOpener {
+        /**
+         * @return a new connection
+         * @throws Exception if the connection can't be opened
+         */
+        Connection open() throws Exception;
+    }
+
+    /** Validates idle connections before they are leased again. */
+    @FunctionalInterface
+    interface ConnectionValidator {
+        /**
+         * @param conn an open connection
+         * @return <code>true</code> if the connection can be used
+         * @throws SQLException if the validation fails
+         */
+        boolean isValid(Connection conn) throws SQLException;
+    }
+
+    private final String m_name;
+
+    private final int m_maxSize;
+
+    private final long m_idleTimeoutMillis;
+
+    private final Semaphore m_permits;
+
+    /** Idle connections, most recently returned first. */
+    private final Deque<IdleConnection> m_idle = new ArrayDeque<>();
+
+    private final Set<Connection> m_leased = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * @param name the name of the pool used in log messages
+     * @param maxSize the maximum number of connections (leased and idle)
+     * @param idleTimeoutMillis the time after which idle connections are closed
+     */
+    ConnectionPool(final String name, final int maxSize, final long idleTimeoutMillis) {
+        m_name = name;
+        m_maxSize = maxSize;
+        m_idleTimeoutMillis = idleTimeoutMillis;
+        m_permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Leases a connection, waiting for one to be returned if the maximum number of connections is reached. The
+     * connection must be returned by means of {@link #release(Connection, boolean)}.
+     *
+     * @param opener opens a new connection if no valid idle connection is available
+     * @param validator validates idle connections
+     * @return an exclusively leased connection
+     * @throws Exception if a new connection can't be opened
+     * @throws InterruptedException if interrupted while waiting for a connection
+     */
+    Connection lease(final ConnectionOpener opener, final ConnectionValidator validator) throws Exception {
+        if (!m_permits.tryAcquire()) {
+            LOGGER.debug("All " + m_maxSize + " connections of pool " + m_name + " in use, waiting for free one");
+            m_permits.acquire();
+        }
+        try {
+            Connection conn = pollIdle(validator);
+            if (conn == null) {
+                LOGGER.debug("Opening new connection for pool " + m_name);
+                conn = opener.open();
+                if (conn == null) {
+                    throw new SQLException("Driver returned no connection for pool " + m_name);
+                }
+            }
+            synchronized (this) {
+                m_leased.add(conn);
+            }
+            return conn;
+        } catch (Exception | Error ex) {
+            m_permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns a connection leased from this pool.
+     *
+     * @param conn the leased connection
+     * @param reusable <code>false</code> if the connection is known to be broken and should be closed
+     */
+    void release(final Connection conn, final boolean reusable) {
+        final List<Connection> toClose = new ArrayList<>();
+        synchronized (this) {
+            if (!m_leased.remove(conn)) {
+                LOGGER.coding("Connection returned to pool " + m_name + " which wasn't leased from it");
+                return;
+            }
+            if (reusable) {
+                m_idle.addFirst(new IdleConnection(conn, System.currentTimeMillis()));
+            } else {
+                toClose.add(conn);
+            }
+            collectExpired(System.currentTimeMillis(), toClose);
+        }
+        m_permits.release();
+        closeAll(toClose);
+    }
+
+    /** Closes all connections that have been idle for longer than the idle timeout. */
+    void evictIdle() {
+        final List<Connection> toClose = new ArrayList<>();
+        synchronized (this) {
+            collectExpired(System.currentTimeMillis(), toClose);
+        }
+        closeAll(toClose);
+    }
+
+    /** @return the number of currently leased connections */
+    synchronized int getNrLeased() {
+        return m_leased.size();
+    }
+
+    /** @return the number of idle connections */
+    synchronized int getNrIdle() {
+        return m_idle.size();
+    }
+
+    /** @return <code>true</code> if the pool has neither leased nor idle connections */
+    synchronized boolean isEmpty() {
+        return m_leased.isEmpty() && m_idle.isEmpty();
+    }
+
+    /** Closes all idle connections, leased connections are closed when they are returned. */
+    void close() {
+        final List<Connection> toClose = new ArrayList<>();
+        synchronized (this) {
+            m_idle.forEach(i -> toClose.add(i.m_conn));
+            m_idle.clear();
+        }
+        closeAll(toClose);
+    }
+
+    private Connection pollIdle(final ConnectionValidator validator) {
+        while (true) {
+            final IdleConnection idle;
+            final List<Connection> toClose = new ArrayList<>();
+            final long now = System.currentTimeMillis();
+            synchronized (this) {
+                collectExpired(now, toClose);
+                idle = m_idle.pollFirst();
+            }
+            closeAll(toClose);
+            if (idle == null) {
+                return null;
+            }
+            if (now - idle.m_returnedAt < VALIDATION_INTERVAL_MILLIS || isOpenAndValid(idle.m_conn, validator)) {
+                return idle.m_conn;
+            }
+            closeAll(Collections.singletonList(idle.m_conn));
+        }
+    }
+
+    private boolean isOpenAndValid(final Connection conn, final ConnectionValidator validator) {
+        try {
+            if (!conn.isClosed() && validator.isValid(conn)) {
+                conn.clearWarnings();
+                return true;
+            }
+            LOGGER.debug("Closed or invalid connection found in pool " + m_name);
+        } catch (Exception e) {
+            LOGGER.debug("Invalid connection in pool " + m_name + ": " + e.getMessage(), e);
+        }
+        return false;
+    }
+
+    /** Moves the expired idle connections into the argument list, called while holding the lock. */
+    private void collectExpired(final long now, final List<Connection> toClose) {
+        // the oldest connections are at the end of the deque
+        for (Iterator<IdleConnection> it = m_idle.descendingIterator(); it.hasNext();) {
+            final IdleConnection idle = it.next();
+            if (now - idle.m_returnedAt < m_idleTimeoutMillis) {
+                break;
+            }
+            it.remove();
+            toClose.add(idle.m_conn);
+        }
+    }
+
+    private void closeAll(final List<Connection> connections) {
+        for (Connection conn : connections) {
+            try {
+                if (!conn.isClosed()) {
+                    LOGGER.debug("Closing connection of pool " + m_name);
+                    conn.close();
+                }
+            } catch (Exception ex) {
+                LOGGER.debug("Error closing connection:" + ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized String toString() {
+        return "ConnectionPool [" + m_name + ", leased=" + m_leased.size() + ", idle=" + m_idle.size() + ", max="
+            + m_maxSize + ", idle timeout=" + TimeUnit.MILLISECONDS.toSeconds(m_idleTimeoutMillis) + "s]";
+    }
+
+    private static final class IdleConnection {
+
+        private final Connection m_conn;
+
+        private final long m_returnedAt;
+
+        IdleConnection(final Connection conn, final long returnedAt) {
+            m_conn = conn;
+            m_returnedAt = returnedAt;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A range of values of a numeric or date column, used to split a query into partitions that can be read in parallel.
+ * The lower bound is inclusive, the upper bound exclusive except for the last partition. The first partition also
+ * contains the rows with a missing value in the partition column.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class DBQueryPartition {
+
+    private static final Pattern ORDER_BY = Pattern.compile("\\bORDER\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+
+    private final Object m_lower;
+
+    private final Object m_upper;
+
+    private final boolean m_isFirst;
+
+    private final boolean m_isLast;
+
+    private DBQueryPartition(final Object lower, final Object upper, final boolean isFirst, final boolean isLast) {
+        m_lower = lower;
+        m_upper = upper;
+        m_isFirst = isFirst;
+        m_isLast = isLast;
+    }
+
+    /**
+     * Creates the query selecting the rows of this partition from the argument query. The bounds are bound as
+     * parameters, see {@link #bind(PreparedStatement)}.
+     *
+     * @param selectQuery the (select) query to partition
+     * @param quotedColumn the quoted name of the partition column
+     * @param alias the alias of the sub query
+     * @return the partition query
+     */
+    String createQuery(final String selectQuery, final String quotedColumn, final String alias) {
+        final StringBuilder b = new StringBuilder("SELECT * FROM (").append(selectQuery).append(") ").append(alias);
+        b.append(" WHERE (").append(quotedColumn).append(" >= ? AND ").append(quotedColumn);
+        b.append(m_isLast ? " <= ?)" : " < ?)");
+        if (m_isFirst) {
+            b.append(" OR ").append(quotedColumn).append(" IS NULL");
+        }
+        return b.toString();
+    }
+
+    /**
+     * Binds the bounds of this partition to the statement created for {@link #createQuery(String, String, String)}.
+     *
+     * @param stmt the statement
+     * @throws SQLException if binding fails
+     */
+    void bind(final PreparedStatement stmt) throws SQLException {
+        bind(stmt, 1, m_lower);
+        bind(stmt, 2, m_upper);
+    }
+
+    private static void bind(final PreparedStatement stmt, final int index, final Object value) throws SQLException {
+        if (value instanceof Timestamp) {
+            stmt.setTimestamp(index, (Timestamp)value);
+        } else if (value instanceof Long) {
+            stmt.setLong(index, (Long)value);
+        } else if (value instanceof BigDecimal) {
+            stmt.setBigDecimal(index, (BigDecimal)value);
+        } else {
+            stmt.setDouble(index, (Double)value);
+        }
+    }
+
+    /**
+     * Whether the argument query sorts its result, i.e. has an <code>ORDER BY</code> clause outside of parentheses
+     * and quotes. Such queries are not partitioned as the sub query of the partition queries drops the order (some
+     * databases reject an <code>ORDER BY</code> in a sub query altogether).
+     *
+     * @param query the (select) query
+     * @return true if the query has a top level <code>ORDER BY</code> clause
+     */
+    static boolean hasTopLevelOrderBy(final String query) {
+        // blank out everything in parentheses and quotes, i.e. sub queries, window functions and literals
+        final StringBuilder topLevel = new StringBuilder(query.length());
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < query.length(); i++) {
+            final char c = query.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                topLevel.append(' ');
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+                topLevel.append(' ');
+            } else if (c == '(') {
+                depth++;
+                topLevel.append(' ');
+            } else if (c == ')') {
+                depth = Math.max(0, depth - 1);
+                topLevel.append(' ');
+            } else {
+                topLevel.append(depth == 0 ? c : ' ');
+            }
+        }
+        return ORDER_BY.matcher(topLevel).find();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "[" + m_lower + ", " + m_upper + (m_isLast ? "]" : ")") + (m_isFirst ? " + missing" : "");
+    }
+
+    /**
+     * Splits the range between the argument bounds into (at most) the given number of equally sized partitions.
+     *
+     * Decimal bounds (e.g. of a <code>NUMERIC</code> column) are split and bound exactly, other non-integral numbers as
+     * <code>double</code>.
+     *
+     * @param min the minimum value of the partition column, a {@link Number} or {@link Date}
+     * @param max the maximum value of the partition column, same type as min
+     * @param nrPartitions the maximum number of partitions
+     * @return the partitions, empty if the bounds are not supported (e.g. <code>null</code> for an empty result)
+     */
+    static List<DBQueryPartition> split(final Object min, final Object max, final int nrPartitions) {
+        if (min instanceof Date && max instanceof Date) {
+            final List<DBQueryPartition> result = new ArrayList<>();
+            for (DBQueryPartition p : splitLong(((Date)min).getTime(), ((Date)max).getTime(), nrPartitions)) {
+                result.add(new DBQueryPartition(new Timestamp((Long)p.m_lower), new Timestamp((Long)p.m_upper),
+                    p.m_isFirst, p.m_isLast));
+            }
+            return result;
+        }
+        if (isIntegral(min) && isIntegral(max)) {
+            return splitLong(((Number)min).longValue(), ((Number)max).longValue(), nrPartitions);
+        }
+        if (min instanceof BigDecimal && max instanceof BigDecimal) {
+            return splitDecimal((BigDecimal)min, (BigDecimal)max, nrPartitions);
+        }
+        if (min instanceof Number && max instanceof Number) {
+            return splitDouble(((Number)min).doubleValue(), ((Number)max).doubleValue(), nrPartitions);
+        }
+        return Collections.emptyList();
+    }
+
+    private static boolean isIntegral(final Object o) {
+        return o instanceof Long || o instanceof Integer || o instanceof Short || o instanceof Byte
+            || (o instanceof BigInteger && ((BigInteger)o).bitLength() < Long.SIZE)
+            || (o instanceof BigDecimal && ((BigDecimal)o).scale() <= 0
+                && ((BigDecimal)o).toBigInteger().bitLength() < Long.SIZE);
+    }
+
+    private static List<DBQueryPartition> splitLong(final long min, final long max, final int nrPartitions) {
+        final List<DBQueryPartition> result = new ArrayList<>();
+        // use double arithmetic for the width to avoid overflows with extreme bounds
+        final double width = Math.max(1.0, ((double)max - min + 1) / nrPartitions);
+        long lower = min;
+        for (int i = 0; i < nrPartitions && lower <= max; i++) {
+            final long upper = i == nrPartitions - 1 ? max : (long)Math.min(max, Math.floor(min + (i + 1) * width));
+            final boolean isLast = upper >= max;
+            result.add(new DBQueryPartition(lower, isLast ? max : upper, i == 0, isLast));
+            if (isLast) {
+                break;
+            }
+            lower = upper;
+        }
+        return result;
+    }
+
+    private static List<DBQueryPartition> splitDecimal(final BigDecimal min, final BigDecimal max,
+        final int nrPartitions) {
+        final List<DBQueryPartition> result = new ArrayList<>();
+        final int n = min.compareTo(max) == 0 ? 1 : nrPartitions;
+        final BigDecimal width = max.subtract(min).divide(BigDecimal.valueOf(n), MathContext.DECIMAL128);
+        BigDecimal lower = min;
+        for (int i = 0; i < n; i++) {
+            final boolean isLast = i == n - 1;
+            final BigDecimal upper = isLast ? max : min.add(width.multiply(BigDecimal.valueOf(i + 1L)));
+            result.add(new DBQueryPartition(lower, upper, i == 0, isLast));
+            lower = upper;
+        }
+        return result;
+    }
+
+    private static List<DBQueryPartition> splitDouble(final double min, final double max, final int nrPartitions) {
+        if (Double.isNaN(min) || Double.isNaN(max) || Double.isInfinite(min) || Double.isInfinite(max)) {
+            return Collections.emptyList();
+        }
+        final List<DBQueryPartition> result = new ArrayList<>();
+        final int n = min == max ? 1 : nrPartitions;
+        final double width = (max - min) / n;
+        double lower = min;
+        for (int i = 0; i < n; i++) {
+            final boolean isLast = i == n - 1;
+            final double upper = isLast ? max : min + (i + 1) * width;
+            result.add(new DBQueryPartition(lower, upper, i == 0, isLast));
+            lower = upper;
+        }
+        return result;
+    }
+}
@@ -155,6 +155,33 @@ default BufferedDataTable createTable(final ExecutionContext exec, final Credent
         return exec.createBufferedDataTable(table, exec);
     }
 
+    /**
+     * Read data from database by splitting the query into partitions on the values of a numeric or date column. The
+     * partitions are read in parallel, each using its own connection, and concatenated in the order of the partition
+     * column ranges (rows with a missing value in the partition column come first). The row ids are generated and
+     * carry the partition index as prefix (e.g. "Partition1_Row17"), the ids returned by the database are not used.
+     *
+     * <p>
+     * The order of the query result is not retained within a partition. Queries with a (top level)
+     * <code>ORDER BY</code> clause are therefore not partitioned but read with a single query.
+     *
+     * <p>
+     * The default implementation ignores the partitioning and reads with a single query.
+     *
+     * @param exec used for progress info
+     * @param cp {@link CredentialsProvider} providing user/password
+     * @param partitionColumn the name of the numeric or date column to partition on
+     * @param nrPartitions the maximum number of partitions (and parallel connections)
+     * @return buffered data table read from database
+     * @throws CanceledExecutionException if canceled in between
+     * @throws SQLException if the connection could not be opened
+     * @since 4.3
+     */
+    default BufferedDataTable createPartitionedTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final String partitionColumn, final int nrPartitions) throws CanceledExecutionException, SQLException {
+        return createTable(exec, cp, false);
+    }
+
     /**
      * Read data from database.
      * @param exec used for progress info
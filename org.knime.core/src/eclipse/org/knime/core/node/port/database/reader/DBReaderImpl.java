@@ -50,8 +50,17 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.knime.core.data.DataCell;
@@ -77,9 +86,12 @@
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseHelper;
 import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.port.database.connection.CachedConnectionFactory;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
 import org.knime.core.node.streamable.BufferedDataTableRowOutput;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.util.ThreadUtils;
 import org.knime.core.util.UniqueNameGenerator;
 
 /**
@@ -256,6 +268,196 @@ public RowIterator iterator() {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 4.3
+     */
+    @Override
+    public BufferedDataTable createPartitionedTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final String partitionColumn, final int nrPartitions) throws CanceledExecutionException, SQLException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final String[] oQueries = dbConn.getQuery().split(SQL_QUERY_SEPARATOR);
+        final DBConnectionFactory factory = dbConn.getUtility().getConnectionFactory();
+        if (nrPartitions < 2 || oQueries.length > 1 || !(factory instanceof CachedConnectionFactory)) {
+            LOGGER.debug("Query can't be partitioned, reading it with a single connection");
+            return createTable(exec, cp, false);
+        }
+        final String selectQuery = oQueries[0];
+        if (DBQueryPartition.hasTopLevelOrderBy(selectQuery)) {
+            // the partition queries wrap the query into a sub query, which drops (or for some databases invalidates)
+            // the order
+            LOGGER.debug("Query is sorted (ORDER BY), reading it with a single connection to retain the order");
+            return createTable(exec, cp, false);
+        }
+        final String alias = "partition_" + System.identityHashCode(this);
+        final String column = dbConn.getUtility().getStatementManipulator().quoteColumn(partitionColumn);
+        exec.setMessage("Determining partition bounds of column \"" + partitionColumn + "\"...");
+        final List<DBQueryPartition> partitions = dbConn.execute(cp, conn -> {
+            final boolean autoCommit = conn.getAutoCommit();
+            final String boundsQuery = "SELECT MIN(" + column + "), MAX(" + column + ") FROM (" + selectQuery + ") "
+                + alias;
+            LOGGER.debug("Executing SQL statement as executeQuery: " + boundsQuery);
+            try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(boundsQuery)) {
+                return rs.next() ? DBQueryPartition.split(rs.getObject(1), rs.getObject(2), nrPartitions)
+                    : Collections.<DBQueryPartition> emptyList();
+            } finally {
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+                DatabaseConnectionSettings.setAutoCommit(conn, autoCommit);
+            }
+        });
+        if (partitions.size() < 2) {
+            LOGGER.debug("Column \"" + partitionColumn + "\" yields less than two partitions, "
+                + "reading query with a single connection");
+            return createTable(exec, cp, false);
+        }
+        return readPartitions(exec, cp, (CachedConnectionFactory)factory, selectQuery, column, alias, partitions);
+    }
+
+    private BufferedDataTable readPartitions(final ExecutionContext exec, final CredentialsProvider cp,
+        final CachedConnectionFactory factory, final String selectQuery, final String column, final String alias,
+        final List<DBQueryPartition> partitions) throws CanceledExecutionException, SQLException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final BinaryObjectCellFactory blobFactory = new BinaryObjectCellFactory(exec);
+        final int fetchsize =
+            (DatabaseConnectionSettings.FETCH_SIZE != null) ? DatabaseConnectionSettings.FETCH_SIZE : -1;
+        exec.setMessage("Reading " + partitions.size() + " partitions from database...");
+        // the tables of the partitions read so far; once aborted, partitions finishing later clear their own table
+        final PartitionTables partitionTables = new PartitionTables();
+        final ExecutorService executor = ThreadUtils.executorServiceWithContext(
+            Executors.newFixedThreadPool(Math.min(partitions.size(), Runtime.getRuntime().availableProcessors())));
+        boolean success = false;
+        try {
+            final List<Future<BufferedDataTable>> futures = new ArrayList<>(partitions.size());
+            for (int i = 0; i < partitions.size(); i++) {
+                final DBQueryPartition partition = partitions.get(i);
+                // row ids of different partitions would clash, the partition index as prefix makes them distinct
+                // (and lets the concatenation skip the duplicate check, see RowKeyAffixes)
+                final String keyPrefix = "Partition" + i + "_";
+                futures.add(executor.submit(() -> {
+                    final String query = partition.createQuery(selectQuery, column, alias);
+                    LOGGER.debug("Executing partition " + partition + " as executeQuery: " + query);
+                    BufferedDataContainer cont = null;
+                    try (Connection conn = factory.createDedicatedConnection(cp, dbConn);
+                            PreparedStatement stmt = conn.prepareStatement(query)) {
+                        dbConn.getUtility().getStatementManipulator().setFetchSize(stmt, fetchsize);
+                        partition.bind(stmt);
+                        try (ResultSet result = stmt.executeQuery()) {
+                            final DataTableSpec spec = createTableSpec(result.getMetaData());
+                            final RowIterator it = createDBRowIterator(spec, dbConn, blobFactory, false, result, 0);
+                            synchronized (exec) {
+                                cont = exec.createDataContainer(spec);
+                            }
+                            while (it.hasNext()) {
+                                exec.checkCanceled();
+                                partitionTables.checkAborted();
+                                final DataRow row = it.next();
+                                cont.addRowToTable(new DefaultRow(keyPrefix + row.getKey().getString(), row));
+                            }
+                            cont.close();
+                        }
+                    } catch (Exception ex) {
+                        // release the rows read so far
+                        if (cont != null) {
+                            if (cont.isOpen()) {
+                                cont.close();
+                            }
+                            clearTable(exec, cont.getTable());
+                        }
+                        throw ex;
+                    }
+                    final BufferedDataTable table = cont.getTable();
+                    if (!partitionTables.add(table)) {
+                        clearTable(exec, table);
+                        throw new CanceledExecutionException("Reading partitions was aborted");
+                    }
+                    return table;
+                }));
+            }
+            final BufferedDataTable[] parts = new BufferedDataTable[futures.size()];
+            long rowCount = 0;
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = waitForPartition(exec, futures.get(i));
+                rowCount += parts[i].size();
+                exec.setProgress((i + 1) / (double)parts.length,
+                    "Read partition " + (i + 1) + " of " + parts.length + " (" + rowCount + " rows)");
+            }
+            final BufferedDataTable result = exec.createConcatenateTable(exec, parts);
+            m_spec = result.getDataTableSpec();
+            success = true;
+            return result;
+        } finally {
+            executor.shutdownNow();
+            if (!success) {
+                // also clears the partitions that finished after the failed or canceled one
+                partitionTables.abort().forEach(t -> clearTable(exec, t));
+            }
+        }
+    }
+
+    private static void clearTable(final ExecutionContext exec, final BufferedDataTable table) {
+        synchronized (exec) {
+            exec.clearTable(table);
+        }
+    }
+
+    /**
+     * The tables of the partitions read so far. Once aborted, no more tables are accepted, so that partitions finishing
+     * after a failure clear their table themselves.
+     */
+    private static final class PartitionTables {
+
+        private final List<BufferedDataTable> m_tables = new ArrayList<>();
+
+        private volatile boolean m_isAborted;
+
+        /** @return <code>false</code> if aborted, the table isn't added then and needs to be cleared by the caller */
+        synchronized boolean add(final BufferedDataTable table) {
+            if (m_isAborted) {
+                return false;
+            }
+            m_tables.add(table);
+            return true;
+        }
+
+        /** @return the tables added so far, to be cleared by the caller */
+        synchronized List<BufferedDataTable> abort() {
+            m_isAborted = true;
+            final List<BufferedDataTable> tables = new ArrayList<>(m_tables);
+            m_tables.clear();
+            return tables;
+        }
+
+        void checkAborted() throws CanceledExecutionException {
+            if (m_isAborted) {
+                throw new CanceledExecutionException("Reading partitions was aborted");
+            }
+        }
+    }
+
+    private static BufferedDataTable waitForPartition(final ExecutionContext exec,
+        final Future<BufferedDataTable> future) throws CanceledExecutionException, SQLException {
+        while (true) {
+            try {
+                return future.get(250, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                exec.checkCanceled();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Interrupted while reading partitions");
+            } catch (ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof CanceledExecutionException) {
+                    throw (CanceledExecutionException)cause;
+                } else if (cause instanceof SQLException) {
+                    throw (SQLException)cause;
+                }
+                throw new SQLException(cause.getMessage(), cause);
+            }
+        }
+    }
+
 
 
     /**
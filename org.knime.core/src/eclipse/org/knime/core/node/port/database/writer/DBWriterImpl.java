@@ -44,6 +44,7 @@
  */
 package org.knime.core.node.port.database.writer;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -52,6 +53,7 @@
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
 
@@ -72,6 +74,7 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseHelper;
+import org.knime.core.node.port.database.connection.CachedConnectionFactory;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
 
@@ -321,6 +324,12 @@ public String writeData(final String table, final RowInput input, final long row
             // count number of rows added to current batch
             int curBatchSize = 0;
 
+            if (batchSize > 1 && DatabaseConnectionSettings.BATCH_WRITE_CONNECTIONS > 1
+                && conSettings.getUtility().getConnectionFactory() instanceof CachedConnectionFactory) {
+                return writeDataPipelined(cp, insertStamtement, input, rowCount, exec, spec, mapping,
+                    columnTypes, batchSize, insertNullForMissingCols, failOnError);
+            }
+
             LOGGER.debug("Executing SQL statement as prepareStatement: " + insertStamtement);
             final PreparedStatement stmt = conn.prepareStatement(insertStamtement);
             // remember auto-commit flag
@@ -341,19 +350,7 @@ public String writeData(final String table, final RowInput input, final long row
                             exec.setProgress("Writing Row#" + cnt);
                         }
 
-                    int dbIdx = 1;
-                    for (int i = 0; i < mapping.length; i++) {
-                        if (mapping[i] < 0) {
-                            if (insertNullForMissingCols) {
-                                //insert only null if the insert null for missing col option is enabled
-                                stmt.setNull(dbIdx++, Types.NULL);
-                            }
-                        } else {
-                            final DataColumnSpec cspec = spec.getColumnSpec(mapping[i]);
-                            final DataCell cell = row.getCell(mapping[i]);
-                            fillStatement(stmt, dbIdx++, cspec, cell, timezone, columnTypes);
-                        }
-                    }
+                    fillRow(stmt, row, spec, mapping, insertNullForMissingCols, timezone, columnTypes);
                     // if batch mode
                     if (batchSize > 1) {
                         // a new row will be added
@@ -439,6 +436,80 @@ public String writeData(final String table, final RowInput input, final long row
         });
     }
 
+    /**
+     * Writes the rows in batches on several dedicated connections, filling the next batch while the previous ones are
+     * executed. The node's connection isn't used for writing, as JDBC connections must not be accessed concurrently.
+     *
+     * @see DatabaseConnectionSettings#BATCH_WRITE_CONNECTIONS
+     */
+    private String writeDataPipelined(final CredentialsProvider cp, final String insertStatement,
+        final RowInput input, final long rowCount, final ExecutionMonitor exec, final DataTableSpec spec,
+        final int[] mapping, final Map<Integer, Integer> columnTypes, final int batchSize,
+        final boolean insertNullForMissingCols, final boolean failOnError) throws Exception {
+        final DatabaseConnectionSettings conSettings = getDatabaseConnectionSettings();
+        final int nrConnections = DatabaseConnectionSettings.BATCH_WRITE_CONNECTIONS;
+        final CachedConnectionFactory factory =
+            (CachedConnectionFactory)conSettings.getUtility().getConnectionFactory();
+        exec.setMessage("Opening " + nrConnections + " database connections...");
+        final List<Connection> dedicatedConnections = PipelinedBatchWriter.createConnections(
+            () -> factory.createDedicatedConnection(cp, conSettings), nrConnections);
+        LOGGER.debug("Executing SQL statement as pipelined prepareStatement: " + insertStatement);
+        try (PipelinedBatchWriter writer =
+            new PipelinedBatchWriter(dedicatedConnections, insertStatement, failOnError, exec)) {
+            final TimeZone timezone = conSettings.getTimeZone();
+            long cnt = 0;
+            int curBatchSize = 0;
+            PreparedStatement stmt = writer.nextStatement();
+            DataRow row;
+            while ((row = input.poll()) != null) {
+                cnt++;
+                exec.checkCanceled();
+                if (rowCount > 0) {
+                    exec.setProgress(1.0 * cnt / rowCount, "Row " + "#" + cnt);
+                } else {
+                    exec.setProgress("Writing Row#" + cnt);
+                }
+                fillRow(stmt, row, spec, mapping, insertNullForMissingCols, timezone, columnTypes);
+                stmt.addBatch();
+                if (++curBatchSize == batchSize) {
+                    curBatchSize = 0;
+                    writer.submit(cnt);
+                    stmt = writer.nextStatement();
+                }
+            }
+            if (curBatchSize > 0) {
+                writer.submit(cnt);
+            }
+            writer.finish();
+            final long allErrors = writer.getErrorCount();
+            if (allErrors == 0) {
+                return null;
+            } else {
+                return "Errors \"" + allErrors + "\" writing " + cnt + " rows.";
+            }
+        } finally {
+            PipelinedBatchWriter.closeConnections(dedicatedConnections);
+        }
+    }
+
+    private void fillRow(final PreparedStatement stmt, final DataRow row, final DataTableSpec spec,
+        final int[] mapping, final boolean insertNullForMissingCols, final TimeZone timezone,
+        final Map<Integer, Integer> columnTypes) throws SQLException {
+        int dbIdx = 1;
+        for (int i = 0; i < mapping.length; i++) {
+            if (mapping[i] < 0) {
+                if (insertNullForMissingCols) {
+                    //insert only null if the insert null for missing col option is enabled
+                    stmt.setNull(dbIdx++, Types.NULL);
+                }
+            } else {
+                final DataColumnSpec cspec = spec.getColumnSpec(mapping[i]);
+                final DataCell cell = row.getCell(mapping[i]);
+                fillStatement(stmt, dbIdx++, cspec, cell, timezone, columnTypes);
+            }
+        }
+    }
+
     /** Create connection to update table in database.
      * @param data The data to write.
      * @param setColumns columns part of the SET clause
@@ -0,0 +1,435 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Writes JDBC batches in a pipelined fashion: while a batch is executed in a background thread the caller fills the
+ * statement of the next batch. Batches are distributed round-robin on a number of lanes, each having its own dedicated
+ * connection and prepared statement, so that batches of different lanes are executed concurrently. As most JDBC
+ * drivers are not thread-safe, a connection is never used by two threads at the same time: if only one connection is
+ * given, there is a single lane whose batches are executed synchronously in the caller's thread.
+ *
+ * <p>
+ * Usage: fill the statement returned by {@link #nextStatement()} and call {@link #submit(long)} once the batch is
+ * complete; call {@link #finish()} after the last batch. If the writer is closed without (successfully) finishing,
+ * e.g. on cancel or error, all connections are rolled back. The connections are committed one after the other, hence
+ * if a commit fails the connections committed before keep their rows, i.e. the write is partial then.
+ *
+ * <p>No public API.</p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PipelinedBatchWriter implements AutoCloseable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PipelinedBatchWriter.class);
+
+    private final Lane[] m_lanes;
+
+    private final boolean m_failOnError;
+
+    private final ExecutionMonitor m_exec;
+
+    /** Executes the batches of the lanes, <code>null</code> if batches are executed synchronously. */
+    private final ExecutorService m_executor;
+
+    private final AtomicLong m_executeNanos = new AtomicLong();
+
+    private final long m_startNanos = System.nanoTime();
+
+    private long m_waitNanos;
+
+    private long m_nrRows;
+
+    private long m_errorCnt;
+
+    private long m_allErrors;
+
+    private int m_currentLane;
+
+    /** Set if a batch failed and failOnError is set, pending batches are skipped then. */
+    private volatile boolean m_isFailed;
+
+    /** Set once all batches are executed and committed. */
+    private boolean m_isFinished;
+
+    /**
+     * @param connections the connections to write on, one lane per connection; if only one connection is given,
+     *            batches are executed synchronously
+     * @param insertStatement the (parameterized) insert statement
+     * @param failOnError <code>true</code> if the writing fails with the first erroneous batch, otherwise errors are
+     *            logged and counted
+     * @param exec for error messages
+     * @throws SQLException if the statements can't be prepared
+     */
+    PipelinedBatchWriter(final List<Connection> connections, final String insertStatement,
+        final boolean failOnError, final ExecutionMonitor exec) throws SQLException {
+        m_failOnError = failOnError;
+        m_exec = exec;
+        m_lanes = new Lane[connections.size()];
+        try {
+            for (int i = 0; i < m_lanes.length; i++) {
+                final Connection conn = connections.get(i);
+                m_lanes[i] = new Lane(conn, conn.prepareStatement(insertStatement));
+            }
+        } catch (SQLException ex) {
+            closeStatements();
+            throw ex;
+        }
+        // the statement of a lane is filled while the lane's connection is idle, so one lane can't be pipelined
+        m_executor = m_lanes.length > 1
+            ? ThreadUtils.executorServiceWithContext(Executors.newFixedThreadPool(m_lanes.length)) : null;
+    }
+
+    /**
+     * Returns the statement to fill the next batch into. Waits for the previous batch of the same lane to be
+     * executed.
+     *
+     * @return the statement of the current lane
+     * @throws Exception if the previous batch of the lane failed and failOnError is set
+     */
+    PreparedStatement nextStatement() throws Exception {
+        final Lane lane = m_lanes[m_currentLane];
+        awaitBatch(lane);
+        return lane.m_stmt;
+    }
+
+    /**
+     * Submits the batch filled into the statement returned by {@link #nextStatement()} for execution and moves on to
+     * the next lane. With a single lane the batch is executed before the method returns; errors are reported by the
+     * next call to {@link #nextStatement()} or {@link #finish()} in either case.
+     *
+     * @param lastRow the (1-based) number of the last row in the batch, used for error messages
+     */
+    void submit(final long lastRow) {
+        final Lane lane = m_lanes[m_currentLane];
+        lane.m_firstRow = m_nrRows + 1;
+        lane.m_lastRow = lastRow;
+        m_nrRows = lastRow;
+        final FutureTask<Void> batch = new FutureTask<>(() -> {
+            if (m_isFailed) {
+                return null;
+            }
+            final long start = System.nanoTime();
+            try {
+                lane.m_stmt.executeBatch();
+            } catch (Throwable t) {
+                if (m_failOnError) {
+                    m_isFailed = true;
+                } else if (!lane.m_conn.getAutoCommit()) {
+                    // Postgres will refuse any more commands in this transaction after errors
+                    // Therefore we commit the changes that were possible before the next batch is executed.
+                    lane.m_conn.commit();
+                }
+                throw t;
+            } finally {
+                lane.m_stmt.clearBatch();
+                m_executeNanos.addAndGet(System.nanoTime() - start);
+            }
+            return null;
+        });
+        lane.m_pending = batch;
+        if (m_executor != null) {
+            m_executor.execute(batch);
+        } else {
+            batch.run();
+        }
+        m_currentLane = (m_currentLane + 1) % m_lanes.length;
+    }
+
+    /**
+     * Waits for all pending batches and commits all connections, one after the other.
+     *
+     * @throws Exception if a batch failed and failOnError is set, all connections are rolled back then; or if a
+     *             commit failed, the connections not yet committed are rolled back then and the rows of the
+     *             connections committed before remain in the database (the exception message says so)
+     */
+    void finish() throws Exception {
+        for (int i = 0; i < m_lanes.length; i++) {
+            awaitBatch(m_lanes[(m_currentLane + i) % m_lanes.length]);
+        }
+        for (int i = 0; i < m_lanes.length; i++) {
+            final Connection conn = m_lanes[i].m_conn;
+            try {
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            } catch (SQLException ex) {
+                rollbackConnections(i);
+                if (i == 0) {
+                    throw ex;
+                }
+                throw new SQLException("Commit failed on database connection " + (i + 1) + " of " + m_lanes.length
+                    + " (" + ex.getMessage() + "), the remaining connections are rolled back but the rows of the " + i
+                    + " connection(s) committed before remain, i.e. the data is only partially written",
+                    ex.getSQLState(), ex.getErrorCode(), ex);
+            }
+        }
+        m_isFinished = true;
+        if (LOGGER.isDebugEnabled()) {
+            final long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - m_startNanos);
+            final long waitMillis = TimeUnit.NANOSECONDS.toMillis(m_waitNanos);
+            LOGGER.debug("Wrote " + m_nrRows + " rows on " + m_lanes.length + " connection(s) in " + totalMillis
+                + "ms (" + (m_nrRows * 1000 / Math.max(1, totalMillis)) + " rows/s), converting: "
+                + (totalMillis - waitMillis) + "ms, waiting on database: " + waitMillis + "ms, executing batches: "
+                + TimeUnit.NANOSECONDS.toMillis(m_executeNanos.get()) + "ms");
+        }
+    }
+
+    /** @return the number of failed batches */
+    long getErrorCount() {
+        return m_allErrors;
+    }
+
+    /** @return the number of rows submitted so far */
+    long getRowCount() {
+        return m_nrRows;
+    }
+
+    private void awaitBatch(final Lane lane) throws Exception {
+        if (lane.m_pending == null) {
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
+            lane.m_pending.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            m_isFailed = true;
+            throw ex;
+        } catch (ExecutionException ex) {
+            handleError(lane, ex.getCause());
+        } finally {
+            lane.m_pending = null;
+            m_waitNanos += System.nanoTime() - start;
+        }
+    }
+
+    private void handleError(final Lane lane, final Throwable t) throws Exception {
+        final String errorMsg = "Error while adding rows #" + lane.m_firstRow + " - #" + lane.m_lastRow
+            + ", reason: " + t.getMessage();
+        if (m_failOnError) {
+            m_isFailed = true;
+            rollback();
+            throw new Exception(errorMsg, t);
+        }
+        m_allErrors++;
+        if (m_errorCnt > -1) {
+            m_exec.setMessage(errorMsg);
+            if (m_errorCnt++ < 10) {
+                LOGGER.warn(errorMsg);
+            } else {
+                m_errorCnt = -1;
+                LOGGER.warn(errorMsg + " - more errors...", t);
+            }
+        }
+    }
+
+    private void rollback() {
+        // wait for batches still executing, they are skipped if not yet started
+        for (Lane lane : m_lanes) {
+            if (lane.m_pending != null) {
+                try {
+                    lane.m_pending.get();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (ExecutionException ex) {
+                    LOGGER.debug("Batch failed while rolling back: " + ex.getCause().getMessage(), ex.getCause());
+                }
+                lane.m_pending = null;
+            }
+        }
+        rollbackConnections(0);
+    }
+
+    /** Rolls back the connections starting with the given lane. */
+    private void rollbackConnections(final int fromLane) {
+        for (int i = fromLane; i < m_lanes.length; i++) {
+            try {
+                final Connection conn = m_lanes[i].m_conn;
+                if (!conn.getAutoCommit()) {
+                    conn.rollback();
+                    LOGGER.debug("Rollback complete transaction");
+                }
+            } catch (Throwable ex) {
+                LOGGER.info("Failed rollback after db exception. Rollback error: " + ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Cancels pending batches and closes the statements, the connections are not closed. If the writer wasn't
+     * {@link #finish() finished}, all connections are rolled back, so that closing them afterwards does not commit
+     * (which some drivers do on close).
+     */
+    @Override
+    public void close() {
+        m_isFailed = m_isFailed || hasPending();
+        if (m_executor != null) {
+            m_executor.shutdown();
+            try {
+                if (!m_executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    LOGGER.warn("Pending database batches didn't finish within one minute");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!m_isFinished) {
+            rollbackConnections(0);
+        }
+        closeStatements();
+    }
+
+    private boolean hasPending() {
+        for (Lane lane : m_lanes) {
+            if (lane.m_pending != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void closeStatements() {
+        for (Lane lane : m_lanes) {
+            if (lane != null) {
+                try {
+                    lane.m_stmt.close();
+                } catch (SQLException ex) {
+                    LOGGER.debug("Unable to close statement: " + ex.getMessage(), ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the dedicated connections for the writer, auto-commit is switched off on them.
+     *
+     * @param factory creates the connections
+     * @param nrConnections number of connections to create
+     * @return the connections, to be closed by the caller
+     * @throws Exception if a connection can't be created, connections created so far are closed then
+     */
+    static List<Connection> createConnections(final ConnectionSupplier factory, final int nrConnections)
+        throws Exception {
+        final List<Connection> connections = new ArrayList<>(nrConnections);
+        try {
+            for (int i = 0; i < nrConnections; i++) {
+                final Connection conn = factory.get();
+                connections.add(conn);
+                DatabaseConnectionSettings.setAutoCommit(conn, false);
+            }
+        } catch (Exception ex) {
+            closeConnections(connections);
+            throw ex;
+        }
+        return connections;
+    }
+
+    /**
+     * Closes the argument connections, logging failures.
+     *
+     * @param connections to close
+     */
+    static void closeConnections(final List<Connection> connections) {
+        for (Connection conn : connections) {
+            try {
+                conn.close();
+            } catch (SQLException ex) {
+                LOGGER.debug("Unable to close connection: " + ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /** Supplies new connections. */
+    @FunctionalInterface
+    interface ConnectionSupplier {
+        /**
+         * @return a new connection
+         * @throws Exception if the connection can't be created
+         */
+        Connection get() throws Exception;
+    }
+
+    private static final class Lane {
+
+        private final Connection m_conn;
+
+        private final PreparedStatement m_stmt;
+
+        private Future<?> m_pending;
+
+        private long m_firstRow;
+
+        private long m_lastRow;
+
+        Lane(final Connection conn, final PreparedStatement stmt) {
+            m_conn = conn;
+            m_stmt = stmt;
+        }
+    }
+}
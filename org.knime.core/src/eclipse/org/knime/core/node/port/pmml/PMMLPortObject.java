@@ -202,6 +202,12 @@ public final class PMMLPortObject implements PortObject {
 
     private PMMLDocument m_pmmlDoc;
 
+    /**
+     * The serialized document as loaded, set until the document is accessed and parsed into {@link #m_pmmlDoc}. Only
+     * documents in the current PMML namespace are kept serialized, see {@link SerializedPMML#isCurrentNamespace()}.
+     */
+    private SerializedPMML m_serialized;
+
     private PMMLPortObjectSpec m_spec;
 
     /**
@@ -267,7 +273,11 @@ public PMMLPortObject(final PMMLPortObjectSpec spec,
     public PMMLPortObject(final PMMLPortObjectSpec spec,
             final PMMLPortObject port, final DataTableSpec inData) {
         m_spec = spec;
-        if (port != null) {
+        final SerializedPMML serialized = port == null ? null : port.getSerialized();
+        if (serialized != null) {
+            // the port hasn't been parsed yet, share the bytes and parse them lazily, too
+            m_serialized = serialized;
+        } else if (port != null) {
             try (LockedSupplier<Document> supplier = port.getPMMLValue().getDocumentSupplier()) {
                 parse(supplier.get());
             }
@@ -331,7 +341,7 @@ public void addPMMLModelFromHandler(final PMMLContentHandler handler)
         } finally {
             current.setContextClassLoader(oldLoader);
         }
-        PMML pmmlXml = m_pmmlDoc.getPMML();
+        PMML pmmlXml = getPMMLDocument().getPMML();
         XmlCursor pmmlCursor = pmmlXml.newCursor();
         pmmlCursor.toEndToken();
         XmlCursor modelCursor = model.newCursor();
@@ -350,7 +360,35 @@ public void addPMMLModelFromHandler(final PMMLContentHandler handler)
      * @throws IOException if the file cannot be written to the stream
      */
     public final void save(final OutputStream out) throws IOException {
-        PMMLFormatter.save(m_pmmlDoc, out);
+        final SerializedPMML serialized = getSerialized();
+        if (serialized != null) {
+            serialized.writeTo(out);
+        } else {
+            PMMLFormatter.save(getPMMLDocument(), out);
+        }
+    }
+
+    /** @return the serialized document if it hasn't been parsed yet, otherwise <code>null</code> */
+    private synchronized SerializedPMML getSerialized() {
+        return m_serialized;
+    }
+
+    /**
+     * Returns the PMML document, parsing it first if it was loaded but not yet accessed. As the returned document may
+     * be modified, the serialized form is discarded.
+     *
+     * @return the document
+     */
+    private synchronized PMMLDocument getPMMLDocument() {
+        if (m_serialized != null) {
+            try {
+                m_pmmlDoc = (PMMLDocument)m_serialized.parse();
+            } catch (XmlException e) {
+                throw new IllegalStateException("An error occurred while parsing the PMML document.", e);
+            }
+            m_serialized = null;
+        }
+        return m_pmmlDoc;
     }
 
    /**
@@ -373,7 +411,7 @@ private void initializePMMLDocument(final DataTableSpec inData) {
      * @param translator the model translator to be initialized
      */
     public void initializeModelTranslator(final PMMLTranslator translator) {
-        translator.initializeFrom(m_pmmlDoc);
+        translator.initializeFrom(getPMMLDocument());
     }
 
     /**
@@ -382,7 +420,7 @@ public void initializeModelTranslator(final PMMLTranslator translator) {
      *      added
      */
     public void addModelTranslater(final PMMLTranslator modelTranslator) {
-        SchemaType type = modelTranslator.exportTo(m_pmmlDoc, m_spec);
+        SchemaType type = modelTranslator.exportTo(getPMMLDocument(), m_spec);
         LocalTransformations localTransformations = moveDerivedFields(type);
 
         /* Remove mining fields from mining schema that where created as a
@@ -395,7 +433,7 @@ public void addModelTranslater(final PMMLTranslator modelTranslator) {
         for (DerivedField derivedField : getDerivedFields()) {
             derivedFields.add(derivedField.getName());
         }
-        MiningSchema miningSchema = PMMLUtils.getFirstMiningSchema(m_pmmlDoc,
+        MiningSchema miningSchema = PMMLUtils.getFirstMiningSchema(getPMMLDocument(),
                 type);
         if (miningSchema == null) {
             LOGGER.info("No mining schema found.");
@@ -454,7 +492,12 @@ public void addModelTranslater(final PMMLTranslator modelTranslator) {
     /** Moves the content of the transformation dictionary to local
      * transformations of the model if a model exists. */
     public void moveGlobalTransformationsToModel() {
-        PMML pmml = m_pmmlDoc.getPMML();
+        final SerializedPMML serialized = getSerialized();
+        if (serialized != null && !serialized.hasGlobalDerivedFields()) {
+            // nothing to be moved, keep the document serialized
+            return;
+        }
+        PMML pmml = getPMMLDocument().getPMML();
         TransformationDictionary transDict
                 = pmml.getTransformationDictionary();
         if (transDict == null || transDict.getDerivedFieldArray() == null
@@ -527,7 +570,7 @@ public void moveGlobalTransformationsToModel() {
      *      has to be moved
      */
     private LocalTransformations moveDerivedFields(final SchemaType type) {
-        PMML pmml = m_pmmlDoc.getPMML();
+        PMML pmml = getPMMLDocument().getPMML();
 
         TransformationDictionary transDict
                 = pmml.getTransformationDictionary();
@@ -606,11 +649,19 @@ private LocalTransformations moveDerivedFields(final SchemaType type) {
     public String getSummary() {
         StringBuffer sb = new StringBuffer();
         sb.append("PMML document with version ");
-        sb.append(m_pmmlDoc.getPMML().getVersion());
+        final SerializedPMML serialized = getSerialized();
+        final Set<PMMLModelType> modelTypes;
+        if (serialized != null) {
+            sb.append(serialized.getVersion());
+            modelTypes = serialized.getModelTypes();
+        } else {
+            final PMMLDocument pmmlDoc = getPMMLDocument();
+            sb.append(pmmlDoc.getPMML().getVersion());
+            modelTypes = PMMLUtils.getNumberOfModels(pmmlDoc).keySet();
+        }
         sb.append(" and models: ");
         boolean first = true;
-        for (PMMLModelType modelType
-                : PMMLUtils.getNumberOfModels(m_pmmlDoc).keySet()) {
+        for (PMMLModelType modelType : modelTypes) {
             if (!first) {
                 sb.append(",");
             } else {
@@ -647,7 +698,7 @@ public void loadFrom(final PMMLPortObjectSpec spec, final InputStream in, final
      * Initializes the pmml port object based on the xml input stream.
      * @param spec the referring spec of this object
      * @param is the pmml input stream
-     * @throws IOException if the file cannot be found
+     * @throws IOException if the file cannot be found or the document is not well-formed
      * @throws XmlException if something goes wrong during reading
      */
     public void loadFrom(final PMMLPortObjectSpec spec, final InputStream is)
@@ -657,18 +708,23 @@ public void loadFrom(final PMMLPortObjectSpec spec, final InputStream is)
         // the argument input stream is a NonClosableZipInput, which delegates
         // close to closeEntry(), we have to make sure that close is only
         // called once.
-        // TODO: The document is read twice here. Could we "probe" into the file to check the version?
-
-        XmlObject xmlDoc = null;
-        Thread current = Thread.currentThread();
-        ClassLoader oldLoader = current.getContextClassLoader();
-        current.setContextClassLoader(PMMLDocument.class.getClassLoader());
+        final SerializedPMML serialized;
         try (NonClosableInputStream nonClosableIn = new NonClosableInputStream(is)) {
-            xmlDoc = XmlObject.Factory.parse(nonClosableIn);
+            serialized = SerializedPMML.read(nonClosableIn);
         } finally {
-            current.setContextClassLoader(oldLoader);
             is.close(); // call only once (see above)
         }
+        m_spec = spec;
+        if (serialized.isCurrentNamespace()) {
+            // the document is parsed when its content is first accessed; saving and copying use the bytes
+            synchronized (this) {
+                m_pmmlDoc = null;
+                m_serialized = serialized;
+            }
+            return;
+        }
+        m_serialized = null;
+        final XmlObject xmlDoc = serialized.parse();
         if (xmlDoc instanceof PMMLDocument) {
             m_pmmlDoc = (PMMLDocument)xmlDoc;
         } else {
@@ -693,7 +749,6 @@ public void loadFrom(final PMMLPortObjectSpec spec, final InputStream is)
                         "Parsing of PMML v 3.x/4.0 document failed.");
             }
         }
-        m_spec = spec;
     }
 
     /**
@@ -732,10 +787,10 @@ public void addGlobalTransformations(
         }
 
         TransformationDictionary dict
-            = m_pmmlDoc.getPMML().getTransformationDictionary();
+            = getPMMLDocument().getPMML().getTransformationDictionary();
         if (dict == null) {
-            m_pmmlDoc.getPMML().setTransformationDictionary(dictionary);
-            dict = m_pmmlDoc.getPMML().getTransformationDictionary();
+            getPMMLDocument().getPMML().setTransformationDictionary(dictionary);
+            dict = getPMMLDocument().getPMML().getTransformationDictionary();
         } else {
             // append the transformations to the existing dictionary
             DerivedField[] existingFields = dict.getDerivedFieldArray();
@@ -765,7 +820,7 @@ public void addGlobalTransformations(
          * results in duplicate entries. Those columns should only appear once
          * as derived field in the transformation dictionary or local
          * transformations. */
-        DataDictionary dataDict = m_pmmlDoc.getPMML().getDataDictionary();
+        DataDictionary dataDict = getPMMLDocument().getPMML().getDataDictionary();
         DataField[] dataFieldArray = dataDict.getDataFieldArray();
         List<DataField> dataFields = new ArrayList<DataField>(Arrays.asList(
                 dataFieldArray));
@@ -784,7 +839,7 @@ public void addGlobalTransformations(
         Map<String, String> derivedFieldMap = dfm.getDerivedFieldMap();
         /* Use XPATH to update field names in the model and move the derived
          * fields to local transformations. */
-        PMML pmml = m_pmmlDoc.getPMML();
+        PMML pmml = getPMMLDocument().getPMML();
         if (pmml.getTreeModelArray().length > 0) {
             fixAttributeAtPath(pmml, TREE_PATH, FIELD, derivedFieldMap);
         } else if (pmml.getClusteringModelArray().length > 0) {
@@ -873,7 +928,7 @@ private void fixAttributeAtPath(final PMML pmml, final String xpath,
      *          are defined.
      */
     public DerivedField[] getDerivedFields() {
-        return DerivedFieldMapper.getDerivedFields(m_pmmlDoc.getPMML());
+        return DerivedFieldMapper.getDerivedFields(getPMMLDocument().getPMML());
     }
 
     /**
@@ -883,7 +938,11 @@ public DerivedField[] getDerivedFields() {
      */
     public PMMLValue getPMMLValue() {
         try {
-            return (PMMLValue)PMMLCellFactory.create(PMMLFormatter.xmlText(m_pmmlDoc));
+            final SerializedPMML serialized = getSerialized();
+            if (serialized != null) {
+                return (PMMLValue)PMMLCellFactory.create(serialized.newInputStream());
+            }
+            return (PMMLValue)PMMLCellFactory.create(PMMLFormatter.xmlText(getPMMLDocument()));
         } catch (Exception e) {
             throw new RuntimeException("Could not create PMML value.", e);
         }
@@ -895,7 +954,7 @@ public PMMLValue getPMMLValue() {
      *      valid PMML document
      */
     public void validate() throws IllegalStateException {
-        Map<String, String> errors = PMMLValidator.validatePMML(m_pmmlDoc);
+        Map<String, String> errors = PMMLValidator.validatePMML(getPMMLDocument());
         if (!errors.isEmpty()) {
             StringBuffer sb = new StringBuffer("Invalid PMML document found. "
                     + "Errors: ");
@@ -978,11 +1037,13 @@ public boolean equals(final Object obj) {
             return false;
         }
         PMMLPortObject other = (PMMLPortObject)obj;
-        if (m_pmmlDoc == null) {
-            if (other.m_pmmlDoc != null) {
+        final PMMLDocument pmmlDoc = getPMMLDocument();
+        final PMMLDocument otherPmmlDoc = other.getPMMLDocument();
+        if (pmmlDoc == null) {
+            if (otherPmmlDoc != null) {
                 return false;
             }
-        } else if (!m_pmmlDoc.valueEquals(other.m_pmmlDoc)) {
+        } else if (!pmmlDoc.valueEquals(otherPmmlDoc)) {
             return false;
         }
         if (m_spec == null) {
@@ -1002,8 +1063,9 @@ public boolean equals(final Object obj) {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
+        final PMMLDocument pmmlDoc = getPMMLDocument();
         result = prime * result
-                + ((m_pmmlDoc == null) ? 0 : m_pmmlDoc.hashCode());
+                + ((pmmlDoc == null) ? 0 : pmmlDoc.hashCode());
         result = prime * result + ((m_spec == null) ? 0 : m_spec.hashCode());
         return result;
     }
@@ -0,0 +1,252 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.port.pmml;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.xmlbeans.XmlException;
+import org.apache.xmlbeans.XmlObject;
+import org.dmg.pmml.PMMLDocument;
+import org.knime.core.pmml.PMMLModelType;
+import org.knime.core.pmml.PMMLUtils;
+
+/**
+ * The serialized form of a PMML document in the current PMML namespace. It allows saving and copying the document and
+ * reading its version and the contained model types without building the XMLBeans document, which is only created by
+ * {@link #parse()} once the content is accessed. The document is checked to be well-formed when it is read, hence
+ * truncated or malformed documents are rejected right away and not only when they are parsed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SerializedPMML {
+
+    private static final String PMML_NAMESPACE = PMMLDocument.type.getDocumentElementName().getNamespaceURI();
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private static final String TRANSFORMATION_DICTIONARY = "TransformationDictionary";
+
+    private static final String DERIVED_FIELD = "DerivedField";
+
+    /**
+     * Orders model types by name, which is the order of {@link PMMLUtils#getNumberOfModels(PMMLDocument)} used for
+     * parsed documents.
+     */
+    private static final Comparator<PMMLModelType> MODEL_TYPE_ORDER = Comparator.comparing(PMMLModelType::name);
+
+    private final byte[] m_bytes;
+
+    private final boolean m_currentNamespace;
+
+    private final String m_version;
+
+    private final SortedSet<PMMLModelType> m_modelTypes;
+
+    private final boolean m_hasGlobalDerivedFields;
+
+    private SerializedPMML(final byte[] bytes, final boolean currentNamespace, final String version,
+        final SortedSet<PMMLModelType> modelTypes, final boolean hasGlobalDerivedFields) {
+        m_bytes = bytes;
+        m_currentNamespace = currentNamespace;
+        m_version = version;
+        m_modelTypes = modelTypes;
+        m_hasGlobalDerivedFields = hasGlobalDerivedFields;
+    }
+
+    private static SerializedPMML otherNamespace(final byte[] bytes) {
+        return new SerializedPMML(bytes, false, null, Collections.emptySortedSet(), false);
+    }
+
+    /**
+     * Reads the argument stream (without closing it) and checks the root element. Callers need to check
+     * {@link #isCurrentNamespace()} on the result; documents in other namespaces (or no PMML at all) need to be
+     * converted by parsing them and must not be kept serialized. Documents in the current namespace are streamed over
+     * completely to check that they are well-formed and to determine the contained model types.
+     *
+     * @param in the stream containing the PMML document
+     * @return the serialized document, never <code>null</code>
+     * @throws IOException if reading the stream fails or if the document has a PMML root element in the current
+     *             namespace but is not well-formed, e.g. truncated
+     */
+    static SerializedPMML read(final InputStream in) throws IOException {
+        final byte[] bytes = IOUtils.toByteArray(in);
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(bytes));
+            reader.nextTag();
+        } catch (XMLStreamException ex) {
+            // no root element, let the XMLBeans parser report the problem
+            close(reader);
+            return otherNamespace(bytes);
+        }
+        try {
+            if (!PMMLPortObject.PMML_ELEMENT.equals(reader.getLocalName())
+                || !PMML_NAMESPACE.equals(reader.getNamespaceURI())) {
+                return otherNamespace(bytes);
+            }
+            final String version = reader.getAttributeValue(null, "version");
+            final SortedSet<PMMLModelType> modelTypes = new TreeSet<>(MODEL_TYPE_ORDER);
+            boolean hasGlobalDerivedFields = false;
+            int depth = 0;
+            boolean inDictionary = false;
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    final String name = reader.getLocalName();
+                    if (depth == 0) {
+                        inDictionary = TRANSFORMATION_DICTIONARY.equals(name);
+                        if (PMMLModelType.contains(name)) {
+                            modelTypes.add(PMMLModelType.getType(name));
+                        }
+                    } else if (depth == 1 && inDictionary && DERIVED_FIELD.equals(name)) {
+                        hasGlobalDerivedFields = true;
+                    }
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+            return new SerializedPMML(bytes, true, version, Collections.unmodifiableSortedSet(modelTypes),
+                hasGlobalDerivedFields);
+        } catch (XMLStreamException ex) {
+            throw new IOException("Invalid PMML document: " + ex.getMessage(), ex);
+        } finally {
+            close(reader);
+        }
+    }
+
+    /** @return <code>true</code> if the document has a PMML root element in the current namespace */
+    boolean isCurrentNamespace() {
+        return m_currentNamespace;
+    }
+
+    /**
+     * @return the value of the version attribute of the root element, <code>null</code> if the attribute is missing or
+     *         the document is not in the current namespace
+     */
+    String getVersion() {
+        return m_version;
+    }
+
+    /**
+     * @return the model types contained in the document, in the order of
+     *         {@link PMMLUtils#getNumberOfModels(PMMLDocument)}
+     */
+    SortedSet<PMMLModelType> getModelTypes() {
+        return m_modelTypes;
+    }
+
+    /** @return <code>true</code> if the transformation dictionary contains derived fields */
+    boolean hasGlobalDerivedFields() {
+        return m_hasGlobalDerivedFields;
+    }
+
+    /**
+     * Parses the document into an XMLBeans document.
+     *
+     * @return the parsed document
+     * @throws XmlException if the document can't be parsed
+     */
+    XmlObject parse() throws XmlException {
+        final Thread current = Thread.currentThread();
+        final ClassLoader oldLoader = current.getContextClassLoader();
+        current.setContextClassLoader(PMMLDocument.class.getClassLoader());
+        try {
+            return XmlObject.Factory.parse(newInputStream());
+        } catch (IOException ex) {
+            // can't happen with an in-memory stream
+            throw new XmlException(ex);
+        } finally {
+            current.setContextClassLoader(oldLoader);
+        }
+    }
+
+    /** @return a new stream over the serialized document */
+    InputStream newInputStream() {
+        return new ByteArrayInputStream(m_bytes);
+    }
+
+    /**
+     * @param out the stream to write the serialized document to, not closed
+     * @throws IOException if writing fails
+     */
+    void writeTo(final OutputStream out) throws IOException {
+        out.write(m_bytes);
+    }
+
+    private static void close(final XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException ex) {
+                // nothing to release for in-memory streams
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+}
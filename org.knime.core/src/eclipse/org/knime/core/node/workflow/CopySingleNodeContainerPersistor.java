@@ -129,10 +129,12 @@ public boolean mustComplainIfStateDoesNotMatch() {
         return true;
     }
 
-    /** {@inheritDoc} */
+    /** {@inheritDoc}
+     * <p>Returns a new (shallow) copy on each invocation as the same persistor may be pasted multiple times. The
+     * copies share the model and variable settings with the original node. */
     @Override
     public SingleNodeContainerSettings getSNCSettings() {
-        return m_sncSettings;
+        return m_sncSettings.clone();
     }
 
 }
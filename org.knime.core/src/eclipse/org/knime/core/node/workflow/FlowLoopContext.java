@@ -44,7 +44,10 @@
  */
 package org.knime.core.node.workflow;
 
+import java.util.Arrays;
+
 import org.knime.core.data.filestore.internal.ILoopStartWriteFileStoreHandler;
+import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.util.ConvenienceMethods;
 
 
@@ -59,6 +62,8 @@ public class FlowLoopContext extends FlowScopeContext {
     private int m_iterationIndex = 0;
     private ILoopStartWriteFileStoreHandler m_fileStoreHandler;
     private NodeID m_tailNode;
+    /** Output specs of the loop start as seen on the last loop restart, used to detect spec-stable loop bodies. */
+    private PortObjectSpec[] m_lastIterationSpecs;
 
     public void setTailNode(final NodeID tail) throws IllegalLoopException {
         if (m_tailNode != null && tail != null) {
@@ -103,9 +108,20 @@ protected FlowObject cloneAndUnsetOwner() {
         clone.m_tailNode = null;
         clone.m_iterationIndex = 0;
         clone.m_fileStoreHandler = null;
+        clone.m_lastIterationSpecs = null;
         return clone;
     }
 
+    /** Remembers the output specs of the loop start node and reports whether they are the same as the ones
+     * remembered in the previous iteration.
+     * @param specs the current output specs of the loop start node (including flow variable port).
+     * @return true if specs were remembered before and are equal to the argument. */
+    boolean updateIterationSpecs(final PortObjectSpec[] specs) {
+        final boolean isStable = m_lastIterationSpecs != null && Arrays.equals(m_lastIterationSpecs, specs);
+        m_lastIterationSpecs = specs;
+        return isStable;
+    }
+
     /** @param fileStoreHandler the fileStoreHandler to set */
     void setFileStoreHandler(final ILoopStartWriteFileStoreHandler fileStoreHandler) {
         m_fileStoreHandler = fileStoreHandler;
@@ -48,6 +48,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -55,10 +56,10 @@
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Vector;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.knime.core.internal.KNIMEPath;
@@ -75,6 +76,12 @@
 /**
  * Container for the stack that keeps for an individual node the
  * flow variables and flow loop information.
+ *
+ * <p>The stack is implemented as a persistent linked list: its elements are immutable and shared among the stacks of
+ * consecutive nodes, only the reference to the top element is specific to a stack instance. Hence push and pop don't
+ * affect other stacks, stacks that are merged from a single (or identical) predecessor stack usually share all
+ * elements with the predecessor and lookups of variables by name are answered from a map that is cached on the
+ * (shared) top element.
  * @author Bernd Wiswedel, University of Konstanz
  * @noreference This class is not intended to be referenced by clients.
  */
@@ -86,17 +93,16 @@ public final class FlowObjectStack implements Iterable<FlowObject> {
     /** Root stack with all constants. */
     private static FlowObjectStack rootStack = new FlowObjectStack();
 
-    /** Stack of FlowObjects, which is shared among nodes along the
-     * workflow. */
-    private final Vector<FlowObject> m_stack;
-    /** Owner of FlowObject object, which are put onto m_stack via this
+    /** Top element of the stack, whose elements are shared among nodes along the workflow; <code>null</code> if the
+     * stack is empty. Modifications are synchronized on this object. */
+    private volatile Element m_top;
+    /** Owner of FlowObject object, which are put onto the stack via this
      * StackWrapper. */
     private final NodeID m_nodeID;
 
     /** Root stack. */
     private FlowObjectStack() {
         m_nodeID = WorkflowManager.ROOT.getID();
-        m_stack = new Vector<FlowObject>();
         File wsDirPath = KNIMEPath.getWorkspaceDirPath();
         if (wsDirPath != null) {
             push(new FlowVariable("knime.workspace",
@@ -169,24 +175,29 @@ private FlowObjectStack() {
      * @throws NullPointerException If <code>id</code> is <code>null</code>.
      * @throws IllegalFlowObjectStackException If the stacks can't be merged.
      */
-    @SuppressWarnings("unchecked")
     private FlowObjectStack(final NodeID id, final FlowObjectStack[] predStacks, final boolean ignoredFlag) {
         if (id == null) {
             throw new NullPointerException("NodeID argument must not be null.");
         }
-        List<Vector<FlowObject>> predecessors =
-            new ArrayList<Vector<FlowObject>>();
+        List<Element> predecessors = new ArrayList<Element>();
+        boolean areAllIdentical = true;
         for (int i = 0; i < predStacks.length; i++) {
             if (predStacks[i] != null) {
-                predecessors.add(predStacks[i].m_stack);
+                final Element top = predStacks[i].m_top;
+                areAllIdentical = areAllIdentical && (predecessors.isEmpty() || predecessors.get(0) == top);
+                predecessors.add(top);
             }
         }
         if (predecessors.isEmpty()) {
-            predecessors.add(rootStack.m_stack);
+            predecessors.add(rootStack.m_top);
+        }
+        final Element first = predecessors.get(0);
+        if (areAllIdentical && (first == null || first.isMergeStable())) {
+            // merging identical stacks is the same as merging one stack, which doesn't change a merge-stable stack
+            m_top = first;
+        } else {
+            m_top = merge(resortInputStacks(predecessors.toArray(new Element[predecessors.size()])));
         }
-        Vector<FlowObject>[] sos = predecessors.toArray(
-                new Vector[predecessors.size()]);
-        m_stack = merge(resortInputStacks(sos));
         m_nodeID = id;
     }
 
@@ -201,26 +212,24 @@ private FlowObjectStack(final NodeID id, final FlowObjectStack[] predStacks, fin
      *         a copy, whereby the copy will be shifted by one and the last
      *         element is the first element of sos.
      */
-    private static Vector<FlowObject>[] resortInputStacks(
-            final Vector<FlowObject>[] sos) {
+    private static Element[] resortInputStacks(final Element[] sos) {
         if (sos.length <= 1) {
             return sos;
         }
-        @SuppressWarnings("unchecked")
-        Vector<FlowObject>[] result = new Vector[sos.length];
+        Element[] result = new Element[sos.length];
         System.arraycopy(sos, 1, result, 0, sos.length - 1);
         result[sos.length - 1] = sos[0];
         return result;
     }
 
-    private static Vector<FlowObject> merge(final Vector<FlowObject>[] sos) {
-        Vector<FlowObject> result = new Vector<FlowObject>();
+    private static Element merge(final Element[] sos) {
+        Element result = null;
         @SuppressWarnings("unchecked") // no generics in array definition
         Iterator<FlowObject>[] its = new Iterator[sos.length];
         FlowObject[] nexts = new FlowObject[sos.length];
         boolean hasMoreElements = false;
         for (int i = 0; i < sos.length; i++) {
-            its[i] = new FilteredScopeIterator(sos[i].iterator(), Scope.Local);
+            its[i] = new FilteredScopeIterator(Element.toBottomUpList(sos[i]).iterator(), Scope.Local);
             hasMoreElements = hasMoreElements ||  its[i].hasNext();
         }
         while (hasMoreElements) {
@@ -261,9 +270,11 @@ private static Vector<FlowObject> merge(final Vector<FlowObject>[] sos) {
                     variableSet.add(o);
                 }
             }
-            result.addAll(variableSet);
+            for (FlowObject o : variableSet) {
+                result = new Element(o, result, true);
+            }
             if (commonFlowO != null) {
-                result.add(commonFlowO);
+                result = new Element(commonFlowO, result, true);
                 for (int i = 0; i < nexts.length; i++) {
                     nexts[i] = null;
                 }
@@ -292,15 +303,12 @@ public <T extends FlowObject> T peek(final Class<T> type) {
      * @since 3.4
      */
     public <T extends FlowObject> Optional<T> peekOptional(final Class<T> type) {
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.get(i);
-                if (type.isInstance(e)) {
-                    return Optional.of(type.cast(e));
-                }
+        for (Element e = m_top; e != null; e = e.m_below) {
+            if (type.isInstance(e.m_object)) {
+                return Optional.of(type.cast(e.m_object));
             }
-            return Optional.empty();
         }
+        return Optional.empty();
     }
 
     /**
@@ -314,15 +322,12 @@ public <T extends FlowObject> Optional<T> peekOptional(final Class<T> type) {
      * @since 2.8
      */
     public <T extends FlowScopeContext> T peekScopeContext(final Class<T> type, final boolean isInactiveScope) {
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.get(i);
-                if (type.isInstance(e) && (type.cast(e).isInactiveScope() == isInactiveScope)) {
-                    return type.cast(e);
-                }
+        for (Element e = m_top; e != null; e = e.m_below) {
+            if (type.isInstance(e.m_object) && (type.cast(e.m_object).isInactiveScope() == isInactiveScope)) {
+                return type.cast(e.m_object);
             }
-            return null;
         }
+        return null;
     }
 
     /**
@@ -336,16 +341,15 @@ public <T extends FlowScopeContext> T peekScopeContext(final Class<T> type, fina
      * <code>type</code> or <code>null</code> if no such element is available.
      * @see java.util.Stack#pop()
      */
-    public <T extends FlowObject> T pop(final Class<T> type) {
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.remove(i);
-                if (type.isInstance(e)) {
-                    return type.cast(e);
-                }
+    public synchronized <T extends FlowObject> T pop(final Class<T> type) {
+        for (Element e = m_top; e != null; e = e.m_below) {
+            if (type.isInstance(e.m_object)) {
+                m_top = e.m_below;
+                return type.cast(e.m_object);
             }
-            return null;
         }
+        m_top = null;
+        return null;
     }
 
     /**
@@ -362,16 +366,16 @@ public <T extends FlowObject> T pop(final Class<T> type) {
      * @see java.util.Stack#pop()
      * @since 2.8
      */
-    public <T extends FlowScopeContext> T popScopeContext(final Class<T> type, final boolean isInactiveScope) {
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.remove(i);
-                if (type.isInstance(e) && (type.cast(e).isInactiveScope() == isInactiveScope)) {
-                    return type.cast(e);
-                }
+    public synchronized <T extends FlowScopeContext> T popScopeContext(final Class<T> type,
+        final boolean isInactiveScope) {
+        for (Element e = m_top; e != null; e = e.m_below) {
+            if (type.isInstance(e.m_object) && (type.cast(e.m_object).isInactiveScope() == isInactiveScope)) {
+                m_top = e.m_below;
+                return type.cast(e.m_object);
             }
-            return null;
         }
+        m_top = null;
+        return null;
     }
 
     /** Get the variable with the given name. Throws and exception if
@@ -384,13 +388,18 @@ public <T extends FlowScopeContext> T popScopeContext(final Class<T> type, final
      */
     @Deprecated
     public FlowVariable peekFlowVariable(final String name, final Type type) {
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.get(i);
-                if (!(e instanceof FlowVariable)) {
+        final Element top = m_top;
+        final FlowVariable topMost = Element.getAllVariables(top).get(name);
+        if (topMost != null && topMost.getType().equals(type)) {
+            return topMost;
+        }
+        if (topMost != null) {
+            // shadowed by a variable of a different type, search the entire stack
+            for (Element e = top; e != null; e = e.m_below) {
+                if (!(e.m_object instanceof FlowVariable)) {
                     continue;
                 }
-                FlowVariable v = (FlowVariable)e;
+                FlowVariable v = (FlowVariable)e.m_object;
                 if (v.getName().equals(name) && v.getType().equals(type)) {
                     return v;
                 }
@@ -413,14 +422,17 @@ public FlowVariable peekFlowVariable(final String name, final Type type) {
     public Optional<FlowVariable> peekFlowVariable(final String name, final VariableType<?> type) {
         CheckUtils.checkArgumentNotNull(name, "Variable name must not be null.");
         CheckUtils.checkArgumentNotNull(type, "Variable type must not be null.");
-        synchronized (m_stack) {
-            final int size = m_stack.size();
-            return IntStream.rangeClosed(1, size).mapToObj(i -> m_stack.get(size - i))//
-                .filter(o -> o instanceof FlowVariable)//
-                .map(o -> (FlowVariable)o)//
-                .filter(v -> v.getName().equals(name) && v.getVariableType().equals(type))//
-                .findFirst();
+        final Element top = m_top;
+        final FlowVariable topMost = Element.getAllVariables(top).get(name);
+        if (topMost == null || topMost.getVariableType().equals(type)) {
+            return Optional.ofNullable(topMost);
         }
+        // shadowed by a variable of a different type, search the entire stack
+        return Element.toTopDownStream(top)//
+            .filter(o -> o instanceof FlowVariable)//
+            .map(o -> (FlowVariable)o)//
+            .filter(v -> v.getName().equals(name) && v.getVariableType().equals(type))//
+            .findFirst();
     }
 
     /**
@@ -456,19 +468,16 @@ public Map<String, FlowVariable> getAvailableFlowVariables() {
     public Map<String, FlowVariable> getAvailableFlowVariables(final FlowVariable.Type... types) {
         LinkedHashMap<String, FlowVariable> hash = new LinkedHashMap<String, FlowVariable>();
         List<Type> typesAsList = Arrays.asList(types);
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; i--) {
-                FlowObject e = m_stack.get(i);
-                if (!(e instanceof FlowVariable)) {
-                    continue;
-                }
-                FlowVariable v = (FlowVariable)e;
-                if (!typesAsList.contains(v.getType())) {
-                    continue;
-                }
-                if (!hash.containsKey(v.getName())) {
-                    hash.put(v.getName(), v);
-                }
+        for (Element e = m_top; e != null; e = e.m_below) {
+            if (!(e.m_object instanceof FlowVariable)) {
+                continue;
+            }
+            FlowVariable v = (FlowVariable)e.m_object;
+            if (!typesAsList.contains(v.getType())) {
+                continue;
+            }
+            if (!hash.containsKey(v.getName())) {
+                hash.put(v.getName(), v);
             }
         }
         return Collections.unmodifiableMap(hash);
@@ -483,17 +492,19 @@ public Map<String, FlowVariable> getAvailableFlowVariables(final FlowVariable.Ty
      * @since 4.1
      */
     public Map<String, FlowVariable> getAvailableFlowVariables(final VariableType<?>[] types) {
-        synchronized (m_stack) {
-            final int size = m_stack.size();
-            final List<VariableType<?>> typesAsList = Arrays.asList(types);
-            return Collections.unmodifiableMap(//
-                IntStream.rangeClosed(1, size).mapToObj(i -> m_stack.get(size - i))//
-                    .filter(o -> o instanceof FlowVariable)//
-                    .map(o -> (FlowVariable)o)//
-                    .filter(v -> typesAsList.contains(v.getVariableType()))//
-                    .collect(Collectors.toMap(FlowVariable::getName, Function.identity(), (v1, v2) -> v1,
-                        LinkedHashMap::new)));
+        final Element top = m_top;
+        final List<VariableType<?>> typesAsList = Arrays.asList(types);
+        if (typesAsList.containsAll(Arrays.asList(VariableType.getAllTypes()))) {
+            // no filtering, use the map cached on the top element
+            return Element.getAllVariables(top);
         }
+        return Collections.unmodifiableMap(//
+            Element.toTopDownStream(top)//
+                .filter(o -> o instanceof FlowVariable)//
+                .map(o -> (FlowVariable)o)//
+                .filter(v -> typesAsList.contains(v.getVariableType()))//
+                .collect(Collectors.toMap(FlowVariable::getName, Function.identity(), (v1, v2) -> v1,
+                    LinkedHashMap::new)));
     }
 
     /**
@@ -520,13 +531,11 @@ public Map<String, FlowVariable> getAvailableFlowVariables(final VariableType<?>
     List<FlowObject> getFlowObjectsOwnedBy(final NodeID id,
             final Scope... ignoredScopes) {
         List<FlowObject> result = new ArrayList<FlowObject>();
-        synchronized (m_stack) {
-            FilteredScopeIterator it = new FilteredScopeIterator(m_stack.iterator(), ignoredScopes);
-            while (it.hasNext()) {
-                FlowObject v = it.next();
-                if (v.getOwner().equals(id)) {
-                    result.add(v);
-                }
+        FilteredScopeIterator it = new FilteredScopeIterator(Element.toBottomUpList(m_top).iterator(), ignoredScopes);
+        while (it.hasNext()) {
+            FlowObject v = it.next();
+            if (v.getOwner().equals(id)) {
+                result.add(v);
             }
         }
         return result;
@@ -548,33 +557,32 @@ public void push(final FlowObject item) {
      * null for elements pushed by the sub node right after construction.
      * @param item The null item to push.
      */
-    void pushWithOwner(final FlowObject item) {
+    synchronized void pushWithOwner(final FlowObject item) {
         CheckUtils.checkArgument(item.getOwner() != null, "Item should have owner set at this point: %s", item);
-        m_stack.add(item);
+        m_top = new Element(item, m_top, false);
     }
 
     /**
      * @return true if stack is empty
      */
     boolean isEmpty() {
-        return m_stack.isEmpty();
+        return m_top == null;
     }
 
     /** Get number of elements in the stack.
      * @return size of stack. */
     int size() {
-        return m_stack.size();
+        final Element top = m_top;
+        return top == null ? 0 : top.m_size;
     }
 
     /** Get iterator on elements, top of stack first. The iterator is
      * read only and not affected by potential modifications of the stack
-     * after this method returns (iterator on copy).
+     * after this method returns (the elements are immutable, no copy is made).
      * {@inheritDoc} */
     @Override
     public Iterator<FlowObject> iterator() {
-        Vector<FlowObject> copy = new Vector<FlowObject>(m_stack);
-        Collections.reverse(copy);
-        return Collections.unmodifiableList(copy).iterator();
+        return Element.toTopDownStream(m_top).iterator();
     }
 
     /**
@@ -590,10 +598,8 @@ public String toString() {
     public int hashCode() {
         // stacks are not really used in hashs ... but since we implement equals
         int hash = m_nodeID.hashCode();
-        synchronized (m_stack) {
-            for (FlowObject o : m_stack) {
-                hash += o.hashCode();
-            }
+        for (Element e = m_top; e != null; e = e.m_below) {
+            hash += e.m_object.hashCode();
         }
         return hash;
     }
@@ -608,10 +614,8 @@ public boolean equals(final Object obj) {
             return false;
         }
         FlowObjectStack o = (FlowObjectStack)obj;
-        synchronized (m_stack) {
-            return o.m_nodeID.equals(m_nodeID)
-                && o.m_stack.equals(m_stack); // deep equals!
-        }
+        return o.m_nodeID.equals(m_nodeID)
+            && Element.areEqual(o.m_top, m_top); // deep equals!
     }
 
     /**
@@ -623,12 +627,9 @@ public String toDeepString() {
         b.append(m_nodeID);
         b.append("---");
         b.append('\n');
-        synchronized (m_stack) {
-            for (int i = m_stack.size() - 1; i >= 0; --i) {
-                FlowObject o = m_stack.get(i);
-                b.append(o);
-                b.append('\n');
-            }
+        for (Element e = m_top; e != null; e = e.m_below) {
+            b.append(e.m_object);
+            b.append('\n');
         }
         b.append("--------");
         return b.toString();
@@ -689,6 +690,121 @@ private static final Pair<String, Type> getVariableDefinition(
         return new Pair<String, Type>(varName, varType);
     }
 
+    /** Immutable element of the stack, which links to the element below it. Elements are shared among stacks, they
+     * also cache information derived from the stack they are the top of (variable map, merge stability). */
+    private static final class Element {
+
+        private final FlowObject m_object;
+
+        private final Element m_below;
+
+        /** Number of elements in the stack whose top is this element. */
+        private final int m_size;
+
+        /** Whether merging the stack with top this element (as only stack) returns the same stack, that is, it
+         * contains no local variables and no duplicate objects between two scope contexts. <code>null</code> if not
+         * yet determined. */
+        private volatile Boolean m_isMergeStable;
+
+        /** Top-most variable for each name in the stack whose top is this element, top-most first; lazily
+         * initialized. */
+        private volatile Map<String, FlowVariable> m_allVariables;
+
+        Element(final FlowObject object, final Element below, final boolean isMergeResult) {
+            m_object = object;
+            m_below = below;
+            m_size = below == null ? 1 : (below.m_size + 1);
+            m_isMergeStable = isMergeResult ? Boolean.TRUE : null;
+        }
+
+        /** Determines whether the stack is merge-stable, only scanning the elements up to the next scope context (the
+         * result for the stack below that context is cached). */
+        boolean isMergeStable() {
+            final Boolean cached = m_isMergeStable;
+            if (cached != null) {
+                return cached.booleanValue();
+            }
+            final Set<FlowObject> bucket = new HashSet<>();
+            Element e = this;
+            boolean isStable = true;
+            while (e != null && !(e.m_object instanceof FlowScopeContext)) {
+                if (isLocalVariable(e.m_object) || !bucket.add(e.m_object)) {
+                    isStable = false;
+                    break;
+                }
+                e = e.m_below;
+            }
+            if (isStable && e != null && e.m_below != null) {
+                isStable = e.m_below.isMergeStable();
+            }
+            m_isMergeStable = Boolean.valueOf(isStable);
+            return isStable;
+        }
+
+        private static boolean isLocalVariable(final FlowObject o) {
+            return o instanceof FlowVariable && ((FlowVariable)o).getScope() == Scope.Local;
+        }
+
+        /** @return the top-most variable for each name, top-most first, cached on the argument element */
+        static Map<String, FlowVariable> getAllVariables(final Element top) {
+            if (top == null) {
+                return Collections.emptyMap();
+            }
+            Map<String, FlowVariable> result = top.m_allVariables;
+            if (result != null) {
+                return result;
+            }
+            // collect the variables down to the first element with a cached map, which is then appended
+            final LinkedHashMap<String, FlowVariable> map = new LinkedHashMap<>();
+            Element e = top;
+            while (e != null && e.m_allVariables == null) {
+                if (e.m_object instanceof FlowVariable) {
+                    map.putIfAbsent(((FlowVariable)e.m_object).getName(), (FlowVariable)e.m_object);
+                }
+                e = e.m_below;
+            }
+            if (e != null && map.isEmpty()) {
+                result = e.m_allVariables;
+            } else {
+                if (e != null) {
+                    e.m_allVariables.forEach(map::putIfAbsent);
+                }
+                result = Collections.unmodifiableMap(map);
+            }
+            top.m_allVariables = result;
+            return result;
+        }
+
+        /** @return the objects of the stack, top first */
+        static Stream<FlowObject> toTopDownStream(final Element top) {
+            return Stream.iterate(top, e -> e.m_below).limit(top == null ? 0 : top.m_size).map(e -> e.m_object);
+        }
+
+        /** @return the objects of the stack, bottom first */
+        static List<FlowObject> toBottomUpList(final Element top) {
+            final FlowObject[] result = new FlowObject[top == null ? 0 : top.m_size];
+            int i = result.length;
+            for (Element e = top; e != null; e = e.m_below) {
+                result[--i] = e.m_object;
+            }
+            return Arrays.asList(result);
+        }
+
+        /** @return whether both stacks contain equal objects in the same order */
+        static boolean areEqual(final Element top1, final Element top2) {
+            Element e1 = top1;
+            Element e2 = top2;
+            while (e1 != e2) {
+                if (e1 == null || e2 == null || e1.m_size != e2.m_size || !e1.m_object.equals(e2.m_object)) {
+                    return false;
+                }
+                e1 = e1.m_below;
+                e2 = e2.m_below;
+            }
+            return true;
+        }
+    }
+
     /** Iterator that removes flow variables with given scopes from an
      * underlying iterator. Used, for instance to remove "local" variables when
      * merging stacks of predecessor nodes.
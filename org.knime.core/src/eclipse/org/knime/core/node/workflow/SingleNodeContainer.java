@@ -330,9 +330,10 @@ private Map<String, FlowVariable> applySettingsUsingFlowObjectStack() throws Inv
         if (variablesSettings == null) {
             return Collections.emptyMap();
         }
-        NodeSettings fromModel = m_settings.getModelSettingsClone();
-        List<FlowVariable> newVariableList = overwriteModelSettingsWithFlowVariables(fromModel, variablesSettings,
-            getFlowObjectStack().getAvailableFlowVariables(VariableType.getAllTypes()));
+        final List<FlowVariable> newVariableList = new ArrayList<>();
+        final NodeSettingsRO fromModel = applyFlowVariablesCopyOnWrite(m_settings.getModelSettings(),
+            variablesSettings, getFlowObjectStack().getAvailableFlowVariables(VariableType.getAllTypes()),
+            newVariableList);
 
         NodeContext.pushContext(this);
         try {
@@ -352,18 +353,67 @@ private Map<String, FlowVariable> applySettingsUsingFlowObjectStack() throws Inv
         return newVariableHash;
     }
 
+    /**
+     * Applies the flow variables to the model settings without modifying the argument settings, which are shared
+     * (see {@link SingleNodeContainerSettings}). The model settings are only copied if at least one parameter is
+     * controlled by a flow variable, otherwise the argument instance is returned.
+     *
+     * @param sharedModelSettings the model settings of the node, possibly <code>null</code>
+     * @param variablesSettings the variable settings of the node, not <code>null</code>
+     * @param flowVariablesMap the available flow variables
+     * @param exposedVariables the list to add the exposed variables to
+     * @return the model settings with the flow variable values applied
+     */
+    private static NodeSettingsRO applyFlowVariablesCopyOnWrite(final NodeSettingsRO sharedModelSettings,
+        final NodeSettingsRO variablesSettings, final Map<String, FlowVariable> flowVariablesMap,
+        final List<FlowVariable> exposedVariables) throws InvalidSettingsException {
+        if (!(sharedModelSettings instanceof NodeSettings)) {
+            final NodeSettings copy = copyModelSettings(sharedModelSettings);
+            exposedVariables.addAll(overwriteModelSettingsWithFlowVariables(copy, variablesSettings, flowVariablesMap));
+            return copy;
+        }
+        final NodeSettings shared = (NodeSettings)sharedModelSettings;
+        final ConfigEditTreeModel configEditor = createConfigEditor(shared, variablesSettings);
+        if (configEditor.getVariableControlledParameters().isEmpty()) {
+            // exposing variables only reads the settings, hence they don't need to be copied
+            exposedVariables.addAll(overwriteSettings(configEditor, shared, flowVariablesMap));
+            return shared;
+        }
+        final NodeSettings copy = copyModelSettings(shared);
+        exposedVariables.addAll(overwriteSettings(configEditor, copy, flowVariablesMap));
+        return copy;
+    }
+
+    private static NodeSettings copyModelSettings(final NodeSettingsRO modelSettings) {
+        NodeSettings s = new NodeSettings("ignored");
+        if (modelSettings != null) {
+            modelSettings.copyTo(s);
+        }
+        return s;
+    }
+
     private static List<FlowVariable> overwriteModelSettingsWithFlowVariables(
         final NodeSettings modelSettingsToOverwrite, final NodeSettingsRO variablesSettings,
         final Map<String, FlowVariable> flowVariablesMap) throws InvalidSettingsException {
         if (variablesSettings == null) {
             return Collections.emptyList();
         }
-        ConfigEditTreeModel configEditor;
+        ConfigEditTreeModel configEditor = createConfigEditor(modelSettingsToOverwrite, variablesSettings);
+        return overwriteSettings(configEditor, modelSettingsToOverwrite, flowVariablesMap);
+    }
+
+    private static ConfigEditTreeModel createConfigEditor(final NodeSettings modelSettings,
+        final NodeSettingsRO variablesSettings) throws InvalidSettingsException {
         try {
-            configEditor = ConfigEditTreeModel.create(modelSettingsToOverwrite, variablesSettings);
+            return ConfigEditTreeModel.create(modelSettings, variablesSettings);
         } catch (final InvalidSettingsException e) {
             throw new InvalidSettingsException("Errors reading flow variables: " + e.getMessage(), e);
         }
+    }
+
+    private static List<FlowVariable> overwriteSettings(final ConfigEditTreeModel configEditor,
+        final NodeSettings modelSettingsToOverwrite, final Map<String, FlowVariable> flowVariablesMap)
+        throws InvalidSettingsException {
         List<FlowVariable> newVariableList;
         try {
             newVariableList = configEditor.overwriteSettings(modelSettingsToOverwrite, flowVariablesMap);
@@ -1104,6 +1154,10 @@ protected final boolean isLocalWFM() {
     /**
      * Handles the settings specific to a SingleNodeContainer. Reads and writes
      * them from and into a NodeSettings object.
+     *
+     * <p>The model and variable settings are treated as immutable: they are never modified once assigned but replaced
+     * as a whole. Hence {@link #clone()} doesn't copy them and nodes copied via copy &amp; paste reference the same
+     * settings trees until one of them is changed.
      */
     public static final class SingleNodeContainerSettings implements Cloneable {
 
@@ -1185,7 +1239,7 @@ public MemoryPolicy getMemoryPolicy() {
         }
 
         /**
-         * @return the modelSettings
+         * @return a modifiable deep copy of the modelSettings
          */
         public NodeSettings getModelSettingsClone() {
             NodeSettings s = new NodeSettings("ignored");
@@ -1203,7 +1257,7 @@ public NodeSettingsRO getModelSettings() {
         }
 
         /**
-         * @param modelSettings the modelSettings to set
+         * @param modelSettings the modelSettings to set, kept by reference and not to be modified afterwards
          */
         public void setModelSettings(final NodeSettingsRO modelSettings) {
             m_modelSettings = modelSettings;
@@ -1217,13 +1271,13 @@ public NodeSettingsRO getVariablesSettings() {
         }
 
         /**
-         * @param variablesSettings the variablesSettings to set
+         * @param variablesSettings the variablesSettings to set, kept by reference and not to be modified afterwards
          */
         public void setVariablesSettings(final NodeSettings variablesSettings) {
             m_variablesSettings = variablesSettings;
         }
 
-        /** {@inheritDoc} */
+        /** {@inheritDoc} The copy shares the (immutable) model and variable settings with this instance. */
         @Override
         protected SingleNodeContainerSettings clone() {
             try {
@@ -60,6 +60,7 @@
 
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.filestore.internal.ContentDeduplicator;
 import org.knime.core.data.filestore.internal.IFileStoreHandler;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
 import org.knime.core.node.BufferedDataTable;
@@ -89,6 +90,9 @@ public class WorkflowDataRepository implements IDataRepository {
 
     private final ConcurrentHashMap<UUID, IWriteFileStoreHandler> m_handlerMap;
 
+    /** Deduplicates file store and blob files, null if disabled. */
+    private final ContentDeduplicator m_contentDeduplicator;
+
     /**
      * internal ID for any generated buffered data table.
      */
@@ -99,6 +103,7 @@ public class WorkflowDataRepository implements IDataRepository {
         // (problems with GroupLoop start "forgetting" its sorted table)
         m_globalTableRepository = Collections.synchronizedMap(new HashMap<Integer, ContainerTable>());
         m_handlerMap = new ConcurrentHashMap<UUID, IWriteFileStoreHandler>();
+        m_contentDeduplicator = ContentDeduplicator.ENABLED ? new ContentDeduplicator() : null;
     }
 
     /**
@@ -204,6 +209,16 @@ public void printValidFileStoreHandlersToLogDebug() {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 4.3
+     */
+    @Override
+    public Optional<ContentDeduplicator> getContentDeduplicator() {
+        return Optional.ofNullable(m_contentDeduplicator);
+    }
+
     public Collection<IWriteFileStoreHandler> getWriteFileStoreHandlers() {
         return m_handlerMap.values();
     }
@@ -185,6 +185,7 @@
 import org.knime.core.node.workflow.execresult.NodeContainerExecutionResult;
 import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
 import org.knime.core.node.workflow.execresult.WorkflowExecutionResult;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkBody;
 import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContent;
 import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkContentMaster;
 import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkNodeInput;
@@ -3430,6 +3431,8 @@ private void restartLoop(final FlowLoopContext slc) throws IllegalLoopException
                     ((WorkflowManager)nc).resetNodesInWFMConnectedToInPorts(nai.getInports());
                 }
             }
+            // the specs of the loop start need to be retrieved before its outports are cleaned
+            final boolean isFastPath = isLoopFastPath(headNNC, flc, loopBodyNodes);
             // clean outports of start but do not call reset
             headNNC.cleanOutPorts(true);
             // (5a) configure the nodes from start to rest (it's not
@@ -3437,11 +3440,17 @@ private void restartLoop(final FlowLoopContext slc) throws IllegalLoopException
             //     do NOT configure start of loop because otherwise
             //     we will re-create the FlowObjectStack and
             //     remove the loop-object as well!
-            configureNodeAndPortSuccessors(headNode.getID(), null, false, true, false);
+            //     The body is configured again once the start node has executed; if the specs
+            //     did not change in the last iteration this early configure is redundant (fast path)
+            if (!isFastPath) {
+                configureNodeAndPortSuccessors(headNode.getID(), null, false, true, false);
+            }
             // the tail node may have thrown an exception inside
             // configure, so we have to check here if the node
             // is really configured before. (Failing configures in
             // loop body nodes do NOT affect the state of the tailNode.)
+            // On the fast path the tail keeps the state of the previous iteration, a failing configure
+            // is then detected once the loop start has executed and the body is configured.
             if (tailNode.getInternalState().equals(CONFIGURED_MARKEDFOREXEC)) {
                 // (6a) ... we enable the body to be queued again.
                 for (NodeAndInports nai : loopBodyNodes) {
@@ -3516,6 +3525,38 @@ private void restartLoop(final FlowLoopContext slc) throws IllegalLoopException
         queueIfQueuable(headNode);
     }
 
+    /**
+     * Whether the loop body can skip its configure as part of the loop restart. That is the case if enabled via
+     * {@link KNIMEConstants#PROPERTY_LOOP_FAST_PATH}, the body only consists of native nodes and the output specs of
+     * the loop start did not change since the previous iteration (if they did change, e.g. in the first iteration,
+     * the specs are remembered and the regular path is used).
+     *
+     * @param headNNC the loop start node, executed
+     * @param flc the loop context of the loop
+     * @param loopBodyNodes the nodes in the loop body
+     * @return true if the configure of the loop body can be skipped
+     */
+    private boolean isLoopFastPath(final NativeNodeContainer headNNC, final FlowLoopContext flc,
+        final List<NodeAndInports> loopBodyNodes) {
+        if (!Boolean.getBoolean(KNIMEConstants.PROPERTY_LOOP_FAST_PATH)) {
+            return false;
+        }
+        PortObjectSpec[] specs = new PortObjectSpec[headNNC.getNrOutPorts()];
+        for (int i = 0; i < specs.length; i++) {
+            specs[i] = headNNC.getOutPort(i).getPortObjectSpec();
+        }
+        if (!flc.updateIterationSpecs(specs)) {
+            return false;
+        }
+        for (NodeAndInports nai : loopBodyNodes) {
+            if (!(m_workflow.getNode(nai.getID()) instanceof NativeNodeContainer)) {
+                return false;
+            }
+        }
+        LOGGER.debug("Restarting loop at " + headNNC.getNameWithID() + " without configuring the loop body");
+        return true;
+    }
+
     /* Parallelize this "loop": create appropriate number of parallel
      * branches executing the matching chunks.
      */
@@ -3553,6 +3594,25 @@ private void parallelizeLoop(final NodeID startID) throws IllegalLoopException {
                 extInConnections.put(npi, index);
                 index++;
             }
+            if (startNode.getNrRemoteChunks() > 0 && exposedInports.isEmpty()
+                && Boolean.getBoolean(KNIMEConstants.PROPERTY_PARALLEL_CHUNKS_OFF_WORKFLOW)) {
+                final ParallelizedChunkBody body = createOffWorkflowChunkBody(startID, endID, loopNodes);
+                if (body != null) {
+                    ParallelizedChunkContentMaster pccm =
+                        new ParallelizedChunkContentMaster(null, endNode, startNode.getNrRemoteChunks());
+                    for (int i = 0; i < startNode.getNrRemoteChunks(); i++) {
+                        ParallelizedChunkContent chunk =
+                            new ParallelizedChunkContent(body, startNode.getVirtualNodeInput(i));
+                        // register with master first, chunks may finish any time after being started
+                        pccm.addParallelChunk(i, chunk);
+                        chunk.executeChunk();
+                    }
+                    startNode.setChunkMaster(pccm);
+                    return;
+                }
+                LOGGER.debug("Loop body of " + getNodeContainer(startID).getNameWithID()
+                    + " can't be executed outside the workflow, copying it into the workflow");
+            }
             WorkflowManager subwfm = null;
             if (startNode.getNrRemoteChunks() > 0) {
                 subwfm = createAndAddSubWorkflow(exposedInportTypes, new PortType[0], "Parallel Chunks");
@@ -3587,6 +3647,58 @@ private void parallelizeLoop(final NodeID startID) throws IllegalLoopException {
         }
     }
 
+    /*
+     * Creates the description of a parallel chunk loop body used to execute the chunks without copying the nodes
+     * into the workflow. Returns null if the body doesn't qualify, i.e. if it contains nodes other than plain native
+     * nodes, nodes whose settings are controlled by (or exported as) flow variables, or if any of the nodes (or the
+     * end node) is connected to a node outside the loop.
+     */
+    private ParallelizedChunkBody createOffWorkflowChunkBody(final NodeID startID, final NodeID endID,
+        final NodeID[] bodyIDs) {
+        assert m_workflowLock.isHeldByCurrentThread();
+        ParallelizedChunkBody.Builder builder = ParallelizedChunkBody.builder(
+            (NativeNodeContainer)getNodeContainer(startID), getWorkflowDataRepository());
+        try {
+            for (NodeID id : bodyIDs) {
+                NodeContainer nc = getNodeContainer(id);
+                if (!(nc instanceof NativeNodeContainer)) {
+                    return null;
+                }
+                NativeNodeContainer nnc = (NativeNodeContainer)nc;
+                if (nnc.isModelCompatibleTo(ScopeStartNode.class) || nnc.isModelCompatibleTo(ScopeEndNode.class)
+                    || nnc.getSingleNodeContainerSettings().getVariablesSettings() != null) {
+                    return null;
+                }
+                NodeID[] sourceIDs = new NodeID[nnc.getNrInPorts()];
+                int[] sourcePorts = new int[sourceIDs.length];
+                for (int p = 0; p < sourceIDs.length; p++) {
+                    ConnectionContainer cc = getIncomingConnectionFor(id, p);
+                    if (cc != null) {
+                        sourceIDs[p] = cc.getSource();
+                        sourcePorts[p] = cc.getSourcePort();
+                    }
+                }
+                builder.addBodyNode(nnc, nnc.getModelSettingsUsingFlowObjectStack(), sourceIDs, sourcePorts);
+            }
+            NodeContainer endNC = getNodeContainer(endID);
+            // ignore flow variable port (not forwarded by the virtual output node either)
+            NodeID[] endSourceIDs = new NodeID[endNC.getNrInPorts() - 1];
+            int[] endSourcePorts = new int[endSourceIDs.length];
+            for (int p = 0; p < endSourceIDs.length; p++) {
+                ConnectionContainer cc = getIncomingConnectionFor(endID, p + 1);
+                if (cc != null) {
+                    endSourceIDs[p] = cc.getSource();
+                    endSourcePorts[p] = cc.getSourcePort();
+                }
+            }
+            builder.setEndNodeSources(endSourceIDs, endSourcePorts);
+        } catch (InvalidSettingsException | IllegalArgumentException e) {
+            LOGGER.debug("Can't create parallel chunk body: " + e.getMessage(), e);
+            return null;
+        }
+        return builder.build();
+    }
+
     /*
      * Identify all nodes that have incoming connections which are not part
      * of a given set of nodes.
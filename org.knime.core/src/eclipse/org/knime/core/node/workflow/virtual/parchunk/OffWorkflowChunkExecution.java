@@ -0,0 +1,351 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.workflow.virtual.parchunk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Future;
+
+import org.knime.core.data.filestore.internal.IFileStoreHandler;
+import org.knime.core.data.filestore.internal.WriteFileStoreHandler;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.workflow.FlowObjectStack;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkBody.BodyNode;
+import org.knime.core.node.workflow.virtual.parchunk.ParallelizedChunkBody.PortSource;
+
+/**
+ * Executes a single chunk of a parallel chunk loop on fresh {@link Node} instances that are not part of the workflow.
+ * The nodes are created from a shared {@link ParallelizedChunkBody} and run one after another (in topological order)
+ * in a thread of the {@link KNIMEConstants#GLOBAL_THREAD_POOL}. Output tables are put into the workflow's data
+ * repository so that the end node can concatenate them; they are disposed along with the chunk.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class OffWorkflowChunkExecution {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(OffWorkflowChunkExecution.class);
+
+    private enum State {
+        /** Not (yet) executed or failed. */
+        IDLE,
+        /** Queued or running. */
+        EXECUTING,
+        /** All nodes ran successfully. */
+        EXECUTED
+    }
+
+    private final ParallelizedChunkBody m_body;
+
+    private final VirtualParallelizedChunkNodeInput m_input;
+
+    /** The per-chunk node instances (same order as the body nodes), written while holding the lock on 'this'. */
+    private final Node[] m_nodes;
+
+    /** File store handlers of the per-chunk nodes, guarded by 'this'. */
+    private final IFileStoreHandler[] m_fileStoreHandlers;
+
+    private volatile State m_state = State.IDLE;
+
+    private volatile boolean m_canceled;
+
+    private volatile DefaultNodeProgressMonitor m_currentProgressMonitor;
+
+    private Future<?> m_future;
+
+    private boolean m_started;
+
+    private boolean m_disposed;
+
+    private PortObject[] m_outObjects;
+
+    private ParallelizedChunkContentMaster m_master;
+
+    OffWorkflowChunkExecution(final ParallelizedChunkBody body, final VirtualParallelizedChunkNodeInput input) {
+        m_body = body;
+        m_input = input;
+        m_nodes = new Node[body.getBodyNodes().size()];
+        m_fileStoreHandlers = new IFileStoreHandler[m_nodes.length];
+    }
+
+    /** @param master to be notified upon state changes (or null to unset) */
+    synchronized void setMaster(final ParallelizedChunkContentMaster master) {
+        m_master = master;
+    }
+
+    /** Queues the chunk for execution (ignored if already executing or executed). */
+    synchronized void execute() {
+        if (m_state != State.IDLE || m_disposed) {
+            return;
+        }
+        // discard nodes of a previous (failed) run
+        disposeNodes();
+        m_canceled = false;
+        m_started = false;
+        m_state = State.EXECUTING;
+        m_future = KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(this::run);
+    }
+
+    boolean isExecuted() {
+        return m_state == State.EXECUTED;
+    }
+
+    boolean isExecutionInProgress() {
+        return m_state == State.EXECUTING;
+    }
+
+    /** Cancels the execution, the chunk will end up in failed state. */
+    void cancel() {
+        m_canceled = true;
+        final DefaultNodeProgressMonitor progressMonitor = m_currentProgressMonitor;
+        if (progressMonitor != null) {
+            progressMonitor.setExecuteCanceled();
+        }
+        final ParallelizedChunkContentMaster master;
+        synchronized (this) {
+            if (m_started || m_future == null || !m_future.cancel(false)) {
+                // running nodes react on the canceled monitor, the worker updates the state
+                return;
+            }
+            // removed from queue before it was started
+            m_state = State.IDLE;
+            master = m_master;
+        }
+        if (master != null) {
+            master.chunkStateChanged();
+        }
+    }
+
+    /** @return output objects for the end node inputs (excluding flow variable port), null if not executed */
+    synchronized PortObject[] getOutObjects() {
+        return m_outObjects;
+    }
+
+    /** Cancels the execution and disposes all nodes and their tables (possibly deferred until execution stops). */
+    void dispose() {
+        cancel();
+        synchronized (this) {
+            m_disposed = true;
+            m_master = null;
+            if (m_state != State.EXECUTING) {
+                disposeNodes();
+            }
+            // otherwise the worker thread disposes the nodes once it's done
+        }
+    }
+
+    private void run() {
+        synchronized (this) {
+            m_started = true;
+        }
+        boolean success = false;
+        try {
+            success = executeAllNodes();
+        } catch (Throwable t) {
+            LOGGER.error("Execution of parallel chunk " + m_input.getChunkIndex() + " failed: " + t.getMessage(), t);
+        } finally {
+            m_currentProgressMonitor = null;
+        }
+        final ParallelizedChunkContentMaster master;
+        synchronized (this) {
+            m_state = success && !m_canceled ? State.EXECUTED : State.IDLE;
+            if (m_disposed) {
+                disposeNodes();
+            }
+            master = m_master;
+        }
+        if (master != null) {
+            // outside the lock, the end node may call back into this object
+            master.chunkStateChanged();
+        }
+    }
+
+    private boolean executeAllNodes() throws InvalidSettingsException {
+        final List<BodyNode> bodyNodes = m_body.getBodyNodes();
+        for (int i = 0; i < bodyNodes.size(); i++) {
+            if (m_canceled) {
+                return false;
+            }
+            final BodyNode bodyNode = bodyNodes.get(i);
+            final NativeNodeContainer original = bodyNode.getNodeContainer();
+            NodeContext.pushContext(original);
+            try {
+                final Node node = bodyNode.createNode();
+                final WriteFileStoreHandler fileStoreHandler =
+                    new WriteFileStoreHandler(original.getNameWithID() + " (chunk " + m_input.getChunkIndex() + ")",
+                        UUID.randomUUID());
+                synchronized (this) {
+                    if (m_disposed) {
+                        return false;
+                    }
+                    m_nodes[i] = node;
+                    m_fileStoreHandlers[i] = fileStoreHandler;
+                }
+                if (!executeNode(i, bodyNode, node, fileStoreHandler)) {
+                    LOGGER.debug("Node " + original.getNameWithID() + " failed in parallel chunk "
+                        + m_input.getChunkIndex());
+                    return false;
+                }
+            } finally {
+                NodeContext.removeLastContext();
+            }
+        }
+        final PortSource[] endSources = m_body.getEndNodeSources();
+        final PortObject[] outObjects = new PortObject[endSources.length];
+        for (int p = 0; p < endSources.length; p++) {
+            outObjects[p] = getSourceObject(endSources[p]);
+        }
+        synchronized (this) {
+            m_outObjects = outObjects;
+        }
+        return true;
+    }
+
+    private boolean executeNode(final int index, final BodyNode bodyNode, final Node node,
+        final WriteFileStoreHandler fileStoreHandler) throws InvalidSettingsException {
+        final NativeNodeContainer original = bodyNode.getNodeContainer();
+        final PortSource[] sources = bodyNode.getSources();
+        final PortObject[] inData = new PortObject[node.getNrInPorts()];
+        final PortObjectSpec[] inSpecs = new PortObjectSpec[inData.length];
+        // variables: those of the original node (as of configure), overruled by the chunk's variables, overruled
+        // by the variables pushed by the upstream nodes of this chunk
+        final List<FlowVariable> variables =
+            new ArrayList<>(original.getFlowObjectStack().getAllAvailableFlowVariables().values());
+        variables.addAll(m_input.getFlowVariables());
+        for (int p = 0; p < inData.length; p++) {
+            final PortSource source = p < sources.length ? sources[p] : null;
+            inData[p] = getSourceObject(source);
+            inSpecs[p] = inData[p] == null ? null : inData[p].getSpec();
+            if (source != null && source.getNodeIndex() != ParallelizedChunkBody.START_NODE_INDEX) {
+                final Node upstream = m_nodes[source.getNodeIndex()];
+                variables.addAll(upstream.getOutgoingFlowObjectStack().getAllAvailableFlowVariables().values());
+            }
+        }
+        final List<FlowVariable> clonedVariables = new ArrayList<>(variables.size());
+        for (FlowVariable v : variables) {
+            clonedVariables.add(FlowObjectStack.cloneUnsetOwner(v));
+        }
+        node.setFlowObjectStack(FlowObjectStack.createFromFlowVariableList(clonedVariables, original.getID()),
+            FlowObjectStack.createFromFlowVariableList(Collections.emptyList(), original.getID()));
+        node.loadModelSettingsFrom(bodyNode.getModelSettings());
+        if (!node.configure(inSpecs)) {
+            return false;
+        }
+        fileStoreHandler.addToRepository(m_body.getDataRepository());
+        node.setFileStoreHandler(fileStoreHandler);
+        final DefaultNodeProgressMonitor progressMonitor = new DefaultNodeProgressMonitor();
+        m_currentProgressMonitor = progressMonitor;
+        if (m_canceled) {
+            return false;
+        }
+        final ExecutionContext exec = new ExecutionContext(progressMonitor, node,
+            original.getOutDataMemoryPolicy(), m_body.getDataRepository());
+        node.openFileStoreHandler(exec);
+        final boolean success;
+        try {
+            success = node.execute(inData, exec);
+        } finally {
+            fileStoreHandler.close();
+        }
+        if (success) {
+            // output tables are made publicly available (for blobs), as done for node containers
+            node.putOutputTablesIntoGlobalRepository(m_body.getDataRepository());
+        }
+        return success;
+    }
+
+    private PortObject getSourceObject(final PortSource source) {
+        if (source == null) {
+            return null;
+        }
+        final int port = source.getPortIndex();
+        if (source.getNodeIndex() == ParallelizedChunkBody.START_NODE_INDEX) {
+            // port 0 is the flow variable port of the start node, all others are provided by the chunk input
+            return port == 0 ? FlowVariablePortObject.INSTANCE : m_input.getInputObjects()[port - 1];
+        }
+        return m_nodes[source.getNodeIndex()].getOutputObject(port);
+    }
+
+    /** Disposes all created nodes, called with lock held. */
+    private void disposeNodes() {
+        for (int i = 0; i < m_nodes.length; i++) {
+            final Node node = m_nodes[i];
+            if (node != null) {
+                NodeContext.pushContext(m_body.getBodyNodes().get(i).getNodeContainer());
+                try {
+                    node.removeOutputTablesFromGlobalRepository(m_body.getDataRepository());
+                    node.cleanup();
+                } catch (Exception e) {
+                    LOGGER.error("Disposing node in parallel chunk " + m_input.getChunkIndex() + " failed: "
+                        + e.getMessage(), e);
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+                m_nodes[i] = null;
+            }
+            if (m_fileStoreHandlers[i] != null) {
+                m_fileStoreHandlers[i].clearAndDispose();
+                m_fileStoreHandlers[i] = null;
+            }
+        }
+        m_outObjects = null;
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.node.workflow.virtual.parchunk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowDataRepository;
+
+/**
+ * Immutable description of the body of a parallel chunk loop, used to execute chunks without copying the loop body
+ * into the workflow (see {@link org.knime.core.node.KNIMEConstants#PROPERTY_PARALLEL_CHUNKS_OFF_WORKFLOW}). It keeps,
+ * for each node of the loop body, the node container it was derived from, its (shared, read-only) model settings and
+ * the sources of its inputs. Each chunk creates its own {@link Node} instances from this description, none of which
+ * are part of the workflow.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ParallelizedChunkBody {
+
+    /** Source node index denoting the (virtual) start node of the chunk. */
+    static final int START_NODE_INDEX = -1;
+
+    private final NativeNodeContainer m_startNode;
+
+    private final WorkflowDataRepository m_dataRepository;
+
+    private final List<BodyNode> m_bodyNodes;
+
+    /** Sources of the end node inputs (excluding the flow variable port), elements are null if not connected. */
+    private final PortSource[] m_endNodeSources;
+
+    private ParallelizedChunkBody(final Builder builder) {
+        m_startNode = builder.m_startNode;
+        m_dataRepository = builder.m_dataRepository;
+        m_bodyNodes = Collections.unmodifiableList(new ArrayList<>(builder.m_bodyNodes));
+        m_endNodeSources = builder.m_endNodeSources;
+    }
+
+    /** @return the node container of the loop start node */
+    NativeNodeContainer getStartNode() {
+        return m_startNode;
+    }
+
+    /** @return the data repository of the workflow containing the loop */
+    WorkflowDataRepository getDataRepository() {
+        return m_dataRepository;
+    }
+
+    /** @return the nodes of the loop body, sorted so that each node comes after all of its predecessors */
+    List<BodyNode> getBodyNodes() {
+        return m_bodyNodes;
+    }
+
+    /** @return the sources of the end node inputs (excluding flow variable port), elements may be null */
+    PortSource[] getEndNodeSources() {
+        return m_endNodeSources;
+    }
+
+    /**
+     * @param startNode the loop start node
+     * @param dataRepository the repository of the workflow the loop is contained in
+     * @return a new builder
+     */
+    public static Builder builder(final NativeNodeContainer startNode, final WorkflowDataRepository dataRepository) {
+        return new Builder(startNode, dataRepository);
+    }
+
+    /** Source of an input: index of the body node (or {@link ParallelizedChunkBody#START_NODE_INDEX}) and port. */
+    static final class PortSource {
+
+        private final int m_nodeIndex;
+
+        private final int m_portIndex;
+
+        PortSource(final int nodeIndex, final int portIndex) {
+            m_nodeIndex = nodeIndex;
+            m_portIndex = portIndex;
+        }
+
+        int getNodeIndex() {
+            return m_nodeIndex;
+        }
+
+        int getPortIndex() {
+            return m_portIndex;
+        }
+    }
+
+    /** A single node of the loop body. */
+    static final class BodyNode {
+
+        private final NativeNodeContainer m_nodeContainer;
+
+        private final NodeSettingsRO m_modelSettings;
+
+        /** Sources of all inputs, including the flow variable port, elements are null if not connected. */
+        private final PortSource[] m_sources;
+
+        BodyNode(final NativeNodeContainer nodeContainer, final NodeSettingsRO modelSettings,
+            final PortSource[] sources) {
+            m_nodeContainer = nodeContainer;
+            m_modelSettings = modelSettings;
+            m_sources = sources;
+        }
+
+        /** @return the node container this body node was derived from (used for context and naming) */
+        NativeNodeContainer getNodeContainer() {
+            return m_nodeContainer;
+        }
+
+        /** @return the model settings, shared among all chunks and not to be modified */
+        NodeSettingsRO getModelSettings() {
+            return m_modelSettings;
+        }
+
+        PortSource[] getSources() {
+            return m_sources;
+        }
+
+        /** @return a new node instance, not part of any workflow (settings not yet loaded) */
+        Node createNode() {
+            Node original = m_nodeContainer.getNode();
+            return new Node(original.getFactory(), original.getCopyOfCreationConfig().orElse(null));
+        }
+    }
+
+    /** Builder for {@link ParallelizedChunkBody}. Nodes must be added in topological order. */
+    public static final class Builder {
+
+        private final NativeNodeContainer m_startNode;
+
+        private final WorkflowDataRepository m_dataRepository;
+
+        private final List<BodyNode> m_bodyNodes = new ArrayList<>();
+
+        private final Map<NodeID, Integer> m_nodeIndices = new HashMap<>();
+
+        private PortSource[] m_endNodeSources = new PortSource[0];
+
+        private Builder(final NativeNodeContainer startNode, final WorkflowDataRepository dataRepository) {
+            m_startNode = startNode;
+            m_dataRepository = dataRepository;
+        }
+
+        /**
+         * Adds a node of the loop body. All predecessors in the loop body must have been added before.
+         *
+         * @param nc the node container in the workflow
+         * @param modelSettings its model settings (with flow variables already applied), not copied
+         * @param sourceIDs for each input port (including the flow variable port) the ID of the source node (the
+         *            start node or another body node), or null if not connected
+         * @param sourcePorts for each input port the port index at the source node
+         * @return this
+         * @throws IllegalArgumentException if a source is neither the start node nor a previously added body node
+         */
+        public Builder addBodyNode(final NativeNodeContainer nc, final NodeSettingsRO modelSettings,
+            final NodeID[] sourceIDs, final int[] sourcePorts) {
+            m_nodeIndices.put(nc.getID(), m_bodyNodes.size());
+            m_bodyNodes.add(new BodyNode(nc, modelSettings, toSources(sourceIDs, sourcePorts)));
+            return this;
+        }
+
+        /**
+         * Sets the sources of the end node inputs.
+         *
+         * @param sourceIDs for each input port of the end node (excluding the flow variable port) the ID of the source
+         *            node or null if not connected
+         * @param sourcePorts for each input port the port index at the source node
+         * @return this
+         * @throws IllegalArgumentException if a source is neither the start node nor a body node
+         */
+        public Builder setEndNodeSources(final NodeID[] sourceIDs, final int[] sourcePorts) {
+            m_endNodeSources = toSources(sourceIDs, sourcePorts);
+            return this;
+        }
+
+        private PortSource[] toSources(final NodeID[] sourceIDs, final int[] sourcePorts) {
+            PortSource[] result = new PortSource[sourceIDs.length];
+            for (int i = 0; i < sourceIDs.length; i++) {
+                if (sourceIDs[i] == null) {
+                    continue;
+                }
+                int nodeIndex;
+                if (sourceIDs[i].equals(m_startNode.getID())) {
+                    nodeIndex = START_NODE_INDEX;
+                } else {
+                    Integer index = m_nodeIndices.get(sourceIDs[i]);
+                    if (index == null) {
+                        throw new IllegalArgumentException(
+                            "Source " + sourceIDs[i] + " is neither the loop start nor a (preceding) body node");
+                    }
+                    nodeIndex = index;
+                }
+                result[i] = new PortSource(nodeIndex, sourcePorts[i]);
+            }
+            return result;
+        }
+
+        /** @return the new body description */
+        public ParallelizedChunkBody build() {
+            return new ParallelizedChunkBody(this);
+        }
+    }
+}
@@ -54,7 +54,9 @@
 
 /**
  * An object representing the copied content of a chunk that is executed in
- * parallel.
+ * parallel. The content is either a copy of the loop body in a workflow or,
+ * if created via {@link #ParallelizedChunkContent(ParallelizedChunkBody, VirtualParallelizedChunkNodeInput)},
+ * a set of nodes that are executed outside the workflow.
  * @author wiswedel, University of Konstanz
  */
 public final class ParallelizedChunkContent {
@@ -63,6 +65,8 @@ public final class ParallelizedChunkContent {
 	private final NodeID m_virtualInputID;
 	private final NodeID m_virtualOutputID;
 	private final NodeID[] m_copiedLoopContent;
+	/** Non-null if this chunk is executed outside the workflow (all other fields are null then). */
+	private final OffWorkflowChunkExecution m_offWorkflowExecution;
 
 	/**
 	 * @param manager
@@ -84,13 +88,40 @@ public ParallelizedChunkContent(final WorkflowManager manager,
 		m_virtualInputID = virtualInputID;
 		m_virtualOutputID = virtualOutputID;
 		m_copiedLoopContent = copiedLoopContent;
+		m_offWorkflowExecution = null;
 	}
 
+    /**
+     * Creates a chunk that is executed without copying the loop body into the workflow, see
+     * {@link ParallelizedChunkBody}.
+     *
+     * @param body the shared description of the loop body
+     * @param input the input of this chunk
+     * @since 4.3
+     */
+    public ParallelizedChunkContent(final ParallelizedChunkBody body, final VirtualParallelizedChunkNodeInput input) {
+        m_manager = null;
+        m_virtualInputID = null;
+        m_virtualOutputID = null;
+        m_copiedLoopContent = new NodeID[0];
+        m_offWorkflowExecution = new OffWorkflowChunkExecution(body, input);
+    }
+
+    /**
+     * @return true if the nodes of this chunk are not part of the workflow
+     * @since 4.3
+     */
+    public boolean isOffWorkflow() {
+        return m_offWorkflowExecution != null;
+    }
+
 	/**
 	 * Trigger execution of branch for this chunk.
 	 */
 	public void executeChunk() {
-	    if (m_manager != null) {
+	    if (m_offWorkflowExecution != null) {
+	        m_offWorkflowExecution.execute();
+	    } else if (m_manager != null) {
 	        m_manager.executeUpToHere(m_virtualOutputID);
 	    }
 	}
@@ -114,6 +145,10 @@ public NodeID[] getCopiedLoopContent() {
      */
     public void registerLoopEndStateChangeListener(
             final ParallelizedChunkContentMaster pccm) {
+        if (m_offWorkflowExecution != null) {
+            m_offWorkflowExecution.setMaster(pccm);
+            return;
+        }
         m_manager.getNodeContainer(m_virtualOutputID)
                 .addNodeStateChangeListener(pccm);
     }
@@ -123,15 +158,22 @@ public void registerLoopEndStateChangeListener(
      */
     public void removeLoopEndStateChangeListener(
             final ParallelizedChunkContentMaster pccm) {
+        if (m_offWorkflowExecution != null) {
+            m_offWorkflowExecution.setMaster(null);
+            return;
+        }
         m_manager.getNodeContainer(m_virtualOutputID)
                 .removeNodeStateChangeListener(pccm);
     }
 
     /**
-     * Remove all nodes (and connections) of this chunk.
+     * Remove all nodes (and connections) of this chunk. For chunks executed outside the workflow this disposes the
+     * nodes and their output.
      */
     public void removeAllNodesFromWorkflow() {
-        if (m_manager != null) {
+        if (m_offWorkflowExecution != null) {
+            m_offWorkflowExecution.dispose();
+        } else if (m_manager != null) {
             m_manager.removeNode(m_virtualOutputID);
             for (NodeID id : m_copiedLoopContent) {
                 m_manager.removeNode(id);
@@ -144,6 +186,9 @@ public void removeAllNodesFromWorkflow() {
      * @return true if chunk is completely executed.
      */
     public boolean isExecuted() {
+        if (m_offWorkflowExecution != null) {
+            return m_offWorkflowExecution.isExecuted();
+        }
         return m_manager.getNodeContainer(m_virtualOutputID).getNodeContainerState().isExecuted();
     }
 
@@ -151,6 +196,9 @@ public boolean isExecuted() {
      * @return true if chunk is still being executed (or waiting to be...)
      */
     public boolean executionInProgress() {
+        if (m_offWorkflowExecution != null) {
+            return m_offWorkflowExecution.isExecutionInProgress();
+        }
         return m_manager.getNodeContainer(m_virtualOutputID).getNodeContainerState().isExecutionInProgress();
     }
 
@@ -158,6 +206,10 @@ public boolean executionInProgress() {
      * Cancel execution.
      */
     public void cancelExecution() {
+        if (m_offWorkflowExecution != null) {
+            m_offWorkflowExecution.cancel();
+            return;
+        }
         m_manager.cancelExecution(m_manager.getNodeContainer(m_virtualInputID));
         for (NodeID id : m_copiedLoopContent) {
             m_manager.cancelExecution(m_manager.getNodeContainer(id));
@@ -170,6 +222,9 @@ public void cancelExecution() {
      * @return array with PortObjects at the end node of this chunk.
      */
     public PortObject[] getOutportContent() {
+        if (m_offWorkflowExecution != null) {
+            return m_offWorkflowExecution.getOutObjects();
+        }
         VirtualParallelizedChunkPortObjectOutNodeModel vpoonm = m_manager.castNodeModel(
                 m_virtualOutputID, VirtualParallelizedChunkPortObjectOutNodeModel.class);
         return vpoonm.getOutObjects();
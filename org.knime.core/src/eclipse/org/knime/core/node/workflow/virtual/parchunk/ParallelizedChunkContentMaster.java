@@ -192,6 +192,10 @@ public void cleanupChunks() {
                 ParallelizedChunkContent pbc = m_chunks[i];
                 if (pbc != null) {
                     pbc.removeLoopEndStateChangeListener(this);
+                    if (pbc.isOffWorkflow()) {
+                        // not part of the (sub) workflow, needs to be disposed explicitly
+                        pbc.removeAllNodesFromWorkflow();
+                    }
                     m_chunks[i] = null;
                 }
             }
@@ -214,6 +218,11 @@ public void cleanupChunks() {
      */
     @Override
     public void stateChanged(final NodeStateEvent state) {
+        chunkStateChanged();
+    }
+
+    /** Called when the state of a chunk changes, also by chunks that are executed outside the workflow. */
+    void chunkStateChanged() {
         // notify end node about new status
         m_endNode.updateStatus();
     }
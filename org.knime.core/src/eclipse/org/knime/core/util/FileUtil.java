@@ -72,22 +72,28 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 import javax.swing.filechooser.FileSystemView;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.output.NullOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.Platform;
@@ -408,6 +414,9 @@ private static boolean deleteRecursively(final File dir, final boolean removeFro
     // size of read buffer when reading/writing from/to a zip stream
     private static final int BUFF_SIZE = 16384;
 
+    /** Whether zip files are written and extracted by multiple threads, see {@link ParallelZipWriter}. */
+    private static final boolean PARALLEL_ZIP = Boolean.getBoolean(KNIMEConstants.PROPERTY_PARALLEL_ZIP);
+
     /**
      * Packs all files and directories passed in the includeList into a zip
      * file. Recursively adds all files contained in directories. Files in the
@@ -444,6 +453,10 @@ public static boolean zipDir(final File zipFile,
             final Collection<File> includeList, final int compressionLevel,
             final ZipFileFilter filter, final ExecutionMonitor exec)
             throws IOException, CanceledExecutionException {
+        if (PARALLEL_ZIP) {
+            // files are compressed by multiple threads, already compressed files (e.g. tables) are only stored
+            return ParallelZipWriter.zipDir(zipFile, includeList, compressionLevel, filter, exec);
+        }
         ZipOutputStream zout =
                 new ZipOutputStream(new BufferedOutputStream(
                         new FileOutputStream(zipFile)));
@@ -768,6 +781,27 @@ public static boolean zipDir(final File zipFile, final File rootDir,
      */
     public static void unzip(final File zipFile, final File destDir)
             throws IOException {
+        try {
+            unzip(zipFile, destDir, null);
+        } catch (CanceledExecutionException e) {
+            // doesn't happen as we provide no execution monitor
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Extracts the contents of the given ZIP file into the destination directory. The entries are extracted by
+     * multiple threads if enabled via {@link KNIMEConstants#PROPERTY_PARALLEL_ZIP}.
+     *
+     * @param zipFile a ZIP file
+     * @param destDir the destination directory, must already exist
+     * @param exec receives the progress (in bytes extracted) and is checked for cancel requests, may be null
+     * @throws IOException if an I/O error occurs
+     * @throws CanceledExecutionException if canceled through the <code>exec</code>
+     * @since 4.3
+     */
+    public static void unzip(final File zipFile, final File destDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
         if (!destDir.exists()) {
             throw new IOException("Destination directory does not exist: "
                     + destDir);
@@ -775,8 +809,111 @@ public static void unzip(final File zipFile, final File destDir)
         if (!destDir.isDirectory()) {
             throw new IOException("Destination is not a directory: " + destDir);
         }
-        ZipInputStream in = new ZipInputStream(new FileInputStream(zipFile));
-        unzip(in, destDir, 0);
+        if (PARALLEL_ZIP) {
+            unzipParallel(zipFile, destDir, exec);
+        } else {
+            ZipInputStream in = new ZipInputStream(new FileInputStream(zipFile));
+            unzip(in, destDir, 0);
+        }
+    }
+
+    /** Creates all directories up-front and then extracts the file entries concurrently. */
+    static void unzipParallel(final File zipFile, final File dir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            final List<ZipEntry> fileEntries = new ArrayList<>();
+            long size = 0;
+            for (Enumeration<? extends ZipEntry> en = zip.entries(); en.hasMoreElements();) {
+                final ZipEntry e = en.nextElement();
+                final String name = stripOff(e.getName().replace('\\', '/'), 0);
+                final File d = e.isDirectory() ? new File(dir, name) : new File(dir, name).getParentFile();
+                if (!name.isEmpty() && !name.equals("/") && !d.mkdirs() && !d.isDirectory()) {
+                    throw new IOException("Could not create directory '" + d.getAbsolutePath() + "'.");
+                }
+                if (!e.isDirectory()) {
+                    fileEntries.add(e);
+                    size += Math.max(0, e.getSize());
+                }
+            }
+            final long totalSize = Math.max(1, size);
+            final AtomicLong bytesDone = new AtomicLong();
+            // set if extracting failed, running tasks stop and pending ones are skipped then
+            final AtomicBoolean isAborted = new AtomicBoolean();
+            final ThreadPool pool = ParallelZipWriter.createSubPool();
+            final List<Future<Void>> futures = new ArrayList<>(fileEntries.size());
+            boolean success = false;
+            try {
+                for (ZipEntry e : fileEntries) {
+                    futures.add(pool.enqueue(() -> {
+                        if (isAborted.get()) {
+                            return null;
+                        }
+                        final File f = new File(dir, stripOff(e.getName().replace('\\', '/'), 0));
+                        final byte[] buf = new byte[BUFF_SIZE];
+                        try (InputStream in = zip.getInputStream(e); OutputStream out = new FileOutputStream(f)) {
+                            int read;
+                            while ((read = in.read(buf)) >= 0) {
+                                if (isAborted.get()) {
+                                    throw new CanceledExecutionException("Extracting was aborted");
+                                }
+                                out.write(buf, 0, read);
+                                final long done = bytesDone.addAndGet(read);
+                                if (exec != null) {
+                                    exec.checkCanceled();
+                                    exec.setProgress(done / (double)totalSize, () -> "Extracted "
+                                        + FileUtils.byteCountToDisplaySize(done) + " of "
+                                        + FileUtils.byteCountToDisplaySize(totalSize));
+                                }
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<Void> future : futures) {
+                    ParallelZipWriter.await(future);
+                }
+                success = true;
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Interrupted while extracting " + zipFile.getName());
+            } catch (ExecutionException ee) {
+                final Throwable cause = ee.getCause();
+                if (cause instanceof CanceledExecutionException) {
+                    throw (CanceledExecutionException)cause;
+                } else if (cause instanceof IOException) {
+                    throw (IOException)cause;
+                }
+                throw new IOException("Error while extracting " + zipFile.getName() + ": " + cause.getMessage(),
+                    cause);
+            } finally {
+                if (!success) {
+                    // the zip file must not be closed while tasks still read from it
+                    isAborted.set(true);
+                    awaitAll(futures);
+                }
+            }
+        }
+    }
+
+    /** Waits for all argument tasks to finish, ignoring their failures. Interrupts are restored after waiting. */
+    private static void awaitAll(final List<Future<Void>> futures) {
+        boolean interrupted = false;
+        for (Future<Void> future : futures) {
+            while (true) {
+                try {
+                    ParallelZipWriter.await(future);
+                    break;
+                } catch (InterruptedException ie) {
+                    interrupted = true;
+                } catch (ExecutionException | RuntimeException ex) {
+                    // reported by the task that failed first
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
@@ -0,0 +1,258 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * A {@link DuplicateChecker} that only keeps 64-bit hashes of the added keys in a compact, open addressing hash set
+ * (one <code>long</code> per key) instead of the keys themselves. Keys can be added concurrently from multiple threads,
+ * the hash set is split into independently locked segments.
+ *
+ * <p>
+ * A key whose hash has been seen before is either a duplicate or a hash collision. Such keys are remembered and only if
+ * there are any, {@link #checkForDuplicates()} compares the keys exactly: it iterates all keys once more (using the key
+ * source passed in the constructor) and collects the keys with colliding hashes. In the absence of collisions and
+ * duplicates (the common case) no key is ever written to disk or kept in memory.
+ *
+ * <p>
+ * The duplicate check is disabled if {@link KNIMEConstants#PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK} is set.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ */
+public final class HashingDuplicateChecker extends DuplicateChecker {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashingDuplicateChecker.class);
+
+    private static final boolean DISABLE_DUPLICATE_CHECK =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK);
+
+    /** Number of segments (power of 2), selected by the upper bits of the hash. */
+    private static final int NR_SEGMENTS = 16;
+
+    private static final int SEGMENT_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(NR_SEGMENTS);
+
+    private final Supplier<? extends Iterator<String>> m_keySource;
+
+    private final Segment[] m_segments;
+
+    /** Hashes that have been added more than once, either duplicates or collisions. */
+    private final Set<Long> m_suspectHashes = ConcurrentHashMap.newKeySet();
+
+    /** The keys that were added with a suspect hash (not including the key that was added first). */
+    private final Set<String> m_suspectKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new duplicate checker.
+     *
+     * @param keySource supplies an iterator over all keys that have been added; only used in
+     *            {@link #checkForDuplicates()} if hashes collided, not <code>null</code>. The iterator is closed after
+     *            use if it implements {@link AutoCloseable}.
+     */
+    public HashingDuplicateChecker(final Supplier<? extends Iterator<String>> keySource) {
+        m_keySource = CheckUtils.checkArgumentNotNull(keySource, "Key source must not be null");
+        m_segments = new Segment[NR_SEGMENTS];
+        for (int i = 0; i < NR_SEGMENTS; i++) {
+            m_segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Adds a new key to the duplicate checker. This method can be called concurrently.
+     *
+     * @param s the key
+     * @throws DuplicateKeyException if the key has been added (at least) twice before
+     */
+    @Override
+    public void addKey(final String s) throws DuplicateKeyException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        final long hash = hash(s);
+        if (!m_segments[(int)(hash >>> SEGMENT_SHIFT)].add(hash)) {
+            m_suspectHashes.add(hash);
+            // bug fix #1737: keys may be just wrappers of very large strings, copy the relevant part only
+            if (!m_suspectKeys.add(new String(s))) {
+                throw new DuplicateKeyException(s);
+            }
+        }
+    }
+
+    /**
+     * Checks for duplicates in all added keys. If no hash has been added twice, this method returns immediately,
+     * otherwise the keys are compared exactly, which requires another pass over all keys.
+     *
+     * @throws DuplicateKeyException if a duplicate key has been detected
+     */
+    @Override
+    public void checkForDuplicates() throws DuplicateKeyException, IOException {
+        if (m_suspectHashes.isEmpty()) {
+            return;
+        }
+        final Set<String> keysWithSuspectHash = new HashSet<>();
+        final Iterator<String> it = m_keySource.get();
+        try {
+            while (it.hasNext()) {
+                final String key = it.next();
+                if (m_suspectHashes.contains(hash(key)) && !keysWithSuspectHash.add(key)) {
+                    throw new DuplicateKeyException(key);
+                }
+            }
+        } finally {
+            if (it instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable)it).close();
+                } catch (Exception e) {
+                    LOGGER.debug("Unable to close key source: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /** Nothing to do as keys are never written to disk. */
+    @Override
+    public void flushIfNecessary() {
+        // keys are never written to disk
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        for (Segment s : m_segments) {
+            s.clear();
+        }
+        m_suspectHashes.clear();
+        m_suspectKeys.clear();
+    }
+
+    /**
+     * 64-bit FNV-1a hash over the characters of the argument, finalized with the MurmurHash3 mix function to spread
+     * the bits (the upper bits select the segment, the lower bits the slot).
+     */
+    static long hash(final String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0, length = s.length(); i < length; i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /** Open addressing (linear probing) hash set of <code>long</code> values. 0 marks an empty slot. */
+    private static final class Segment {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] m_table;
+
+        private int m_size;
+
+        private boolean m_containsZero;
+
+        synchronized boolean add(final long value) {
+            if (value == 0L) {
+                final boolean added = !m_containsZero;
+                m_containsZero = true;
+                return added;
+            }
+            if (m_table == null) {
+                m_table = new long[INITIAL_CAPACITY];
+            }
+            if (!insert(m_table, value)) {
+                return false;
+            }
+            m_size++;
+            // keep load factor below 2/3
+            if (3 * m_size > 2 * m_table.length) {
+                final long[] newTable = new long[m_table.length << 1];
+                for (long v : m_table) {
+                    if (v != 0L) {
+                        insert(newTable, v);
+                    }
+                }
+                m_table = newTable;
+            }
+            return true;
+        }
+
+        private static boolean insert(final long[] table, final long value) {
+            final int mask = table.length - 1;
+            int i = (int)value & mask;
+            while (table[i] != 0L) {
+                if (table[i] == value) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = value;
+            return true;
+        }
+
+        synchronized void clear() {
+            m_table = null;
+            m_size = 0;
+            m_containsZero = false;
+        }
+    }
+}
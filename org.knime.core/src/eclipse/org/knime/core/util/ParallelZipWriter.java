@@ -0,0 +1,750 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Stack;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+import org.apache.commons.io.FileUtils;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.FileUtil.ZipFileFilter;
+
+/**
+ * Writes zip archives of files and directories, whereby the file content is read and deflated by multiple threads.
+ * Files are split into chunks that are deflated independently, each chunk but the last ending with a sync flush, so
+ * that the concatenated chunks form one valid deflate stream (as done by <i>pigz</i>). This parallelizes the
+ * compression of single large files as well as of many small ones while only a bounded number of chunks is held in
+ * memory. The calling thread writes the chunks in order and completes each local header once the entry's CRC and
+ * sizes are known, so files whose length changes while they are added are written with the content actually read.
+ * Files that are compressed already (e.g. table files) are stored rather than deflated again. The chunks are
+ * processed by a sub pool of the {@link KNIMEConstants#GLOBAL_THREAD_POOL}.
+ *
+ * <p>
+ * The archive uses the Zip64 extensions if entries, the archive or the number of entries exceed the limits of the
+ * original format.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelZipWriter implements AutoCloseable {
+
+    /** Size of the chunks that files are split into for parallel compression. */
+    static final int CHUNK_SIZE = 1 << 20;
+
+    /** Files with these extensions are stored without compression. */
+    private static final Set<String> COMPRESSED_EXTENSIONS = new HashSet<>(Arrays.asList("zip", "gz", "gzip",
+        "snappy", "bz2", "xz", "7z", "lz4", "zst", "jar", "png", "jpg", "jpeg", "gif", "mp4", "parquet", "orc"));
+
+    /** Files larger than this get Zip64 local headers, leaving room for the deflate overhead of incompressible data. */
+    private static final long ZIP64_LOCAL_THRESHOLD = 0xF0000000L;
+
+    private static final long MAX_32 = 0xFFFFFFFFL;
+
+    /** The maximum number of bytes read into a single chunk, limited by the maximum array size. */
+    private static final int MAX_CHUNK_LENGTH = Integer.MAX_VALUE - 8;
+
+    private static final int MAX_16 = 0xFFFF;
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    /** General purpose flag: names are UTF-8 encoded. */
+    private static final int FLAG_UTF8 = 1 << 11;
+
+    private static final int VERSION_DEFAULT = 20;
+
+    private static final int VERSION_ZIP64 = 45;
+
+    /** Offset of the CRC field in the local header, followed by the compressed and uncompressed size. */
+    private static final int LOCAL_CRC_OFFSET = 14;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+
+    private final File m_zipFile;
+
+    private final FileChannel m_channel;
+
+    private final int m_level;
+
+    private final ThreadPool m_pool;
+
+    /** The maximum number of chunks read or compressed ahead of the writer. */
+    private final int m_maxPendingChunks;
+
+    private final int m_dosTime;
+
+    private final List<CentralEntry> m_entries = new ArrayList<>();
+
+    private final Set<String> m_names = new HashSet<>();
+
+    private long m_position;
+
+    /** Set if adding entries failed or was canceled, the archive is incomplete and deleted on close then. */
+    private boolean m_isFailed;
+
+    /**
+     * @param zipFile the archive to create, overwritten if it exists
+     * @param compressionLevel the deflate level, 0 stores all files
+     * @param pool the pool of the threads reading and compressing files
+     * @throws IOException if the archive can't be created
+     */
+    ParallelZipWriter(final File zipFile, final int compressionLevel, final ThreadPool pool) throws IOException {
+        m_zipFile = zipFile;
+        m_channel = FileChannel.open(zipFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        m_level = compressionLevel;
+        m_pool = pool;
+        m_maxPendingChunks = 2 * pool.getMaxThreads();
+        m_dosTime = toDosTime(System.currentTimeMillis());
+    }
+
+    /** @return a sub pool of the global thread pool as used to write or extract archives */
+    static ThreadPool createSubPool() {
+        return KNIMEConstants.GLOBAL_THREAD_POOL
+            .createSubPool(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8)));
+    }
+
+    /**
+     * Waits for the result of a task submitted to a {@link #createSubPool() sub pool}. If the calling thread is a pool
+     * thread itself, it doesn't count against the pool's thread limit while waiting, so that the task can't starve.
+     *
+     * @param future the future of the task
+     * @return the task's result
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if the task failed
+     */
+    static <T> T await(final Future<T> future) throws InterruptedException, ExecutionException {
+        final ThreadPool currentPool = ThreadPool.currentPool();
+        if (currentPool == null) {
+            return future.get();
+        }
+        try {
+            return currentPool.runInvisible(future::get);
+        } catch (ExecutionException ee) {
+            // runInvisible wraps the exception thrown by Future#get
+            final Throwable cause = ee.getCause();
+            if (cause instanceof ExecutionException) {
+                throw (ExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw ee;
+        }
+    }
+
+    /**
+     * Packs the files and directories of the include list into a zip file, see
+     * {@link FileUtil#zipDir(File, Collection, int, ZipFileFilter, ExecutionMonitor)}.
+     *
+     * @param zipFile the zip file to create
+     * @param includeList files and directories to add
+     * @param compressionLevel the deflate level
+     * @param filter the filter for files and directories
+     * @param exec for progress and cancellation, may be null
+     * @return <code>true</code> if all files and directories accepted by the filter are included, <code>false</code>
+     *         if a directory is unreadable
+     * @throws IOException if an I/O error occurs or an element of the include list doesn't exist
+     * @throws CanceledExecutionException if canceled
+     */
+    static boolean zipDir(final File zipFile, final Collection<File> includeList, final int compressionLevel,
+        final ZipFileFilter filter, final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        final List<Item> items = new ArrayList<>();
+        final boolean complete = collectItems(includeList, filter, items);
+        try (ParallelZipWriter writer = new ParallelZipWriter(zipFile, compressionLevel, createSubPool())) {
+            writer.addAll(items, exec);
+        }
+        return complete;
+    }
+
+    /** Lists the entries in the same order as the sequential implementation in {@link FileUtil}. */
+    private static boolean collectItems(final Collection<File> includeList, final ZipFileFilter filter,
+        final List<Item> items) throws IOException {
+        boolean complete = true;
+        for (File f : includeList) {
+            if (!filter.include(f)) {
+                continue;
+            }
+            if (f.isFile()) {
+                items.add(new Item(f.getName(), f));
+            } else if (f.isDirectory()) {
+                complete &= collectDirItems(f, filter, items);
+            } else {
+                throw new IOException("File " + f.getAbsolutePath() + " not added to zip archive");
+            }
+        }
+        return complete;
+    }
+
+    private static boolean collectDirItems(final File rootDir, final ZipFileFilter filter, final List<Item> items) {
+        boolean complete = true;
+        final String rootName = rootDir.getName();
+        items.add(new Item(rootName + "/", null));
+        final Stack<File> dirs = new Stack<>();
+        dirs.push(rootDir);
+        final int rootEndIdx = rootDir.getAbsolutePath().length() + 1;
+        while (!dirs.isEmpty()) {
+            final File[] ls = dirs.pop().listFiles();
+            if (ls == null) {
+                // the dir was not accessible
+                complete = false;
+                continue;
+            }
+            for (File f : ls) {
+                if (!filter.include(f)) {
+                    continue;
+                }
+                final String entryName = rootName + "/" + f.getAbsolutePath().substring(rootEndIdx).replace('\\', '/');
+                if (f.isFile()) {
+                    items.add(new Item(entryName, f));
+                } else if (f.isDirectory()) {
+                    items.add(new Item(entryName + "/", null));
+                    dirs.push(f);
+                }
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * Adds the argument entries in order. The content of files is read and compressed ahead by the executor threads.
+     *
+     * @param items the entries to add
+     * @param exec for progress and cancellation, may be null
+     * @throws IOException if reading a file or writing the archive fails
+     * @throws CanceledExecutionException if canceled
+     */
+    void addAll(final List<Item> items, final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        final long totalBytes = Math.max(1, items.stream().mapToLong(i -> i.m_length).sum());
+        final String totalString = FileUtils.byteCountToDisplaySize(totalBytes);
+        final Iterator<ChunkTask> tasks = new ChunkTaskIterator(items);
+        final Deque<Future<Chunk>> pending = new ArrayDeque<>();
+        long bytesDone = 0;
+        boolean success = false;
+        try {
+            for (Item item : items) {
+                if (item.m_file == null) {
+                    writeDirectoryEntry(item.m_name);
+                    continue;
+                }
+                final boolean zip64 = item.m_length > ZIP64_LOCAL_THRESHOLD;
+                final boolean deflate = isDeflated(item);
+                final long offset = m_position;
+                final byte[] name = checkName(item.m_name);
+                writeLocalHeader(name, deflate, zip64);
+                final CRC32 crc = new CRC32();
+                long compressedSize = 0;
+                long size = 0;
+                for (int i = 0; i < item.m_nrChunks; i++) {
+                    while (pending.size() < m_maxPendingChunks && tasks.hasNext()) {
+                        pending.add(m_pool.enqueue(tasks.next()));
+                    }
+                    final Chunk chunk = get(pending.poll());
+                    crc.update(chunk.m_data, 0, chunk.m_length);
+                    write(ByteBuffer.wrap(chunk.m_compressed, 0, chunk.m_compressedLength));
+                    compressedSize += chunk.m_compressedLength;
+                    size += chunk.m_length;
+                    bytesDone += chunk.m_length;
+                    if (exec != null) {
+                        exec.checkCanceled();
+                        final long done = bytesDone;
+                        exec.setProgress(Math.min(1, done / (double)totalBytes), () -> "Compressed "
+                            + FileUtils.byteCountToDisplaySize(done) + " of " + totalString);
+                    }
+                }
+                if (!zip64 && (compressedSize > MAX_32 || size > MAX_32)) {
+                    throw new ZipException("Size of " + item.m_name + " exceeds the zip limits");
+                }
+                completeLocalHeader(offset, name.length, zip64, crc.getValue(), compressedSize, size);
+                m_entries.add(new CentralEntry(name, deflate, crc.getValue(), compressedSize, size, offset, zip64));
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                m_isFailed = true;
+            }
+            pending.forEach(f -> f.cancel(true));
+        }
+    }
+
+    private boolean isDeflated(final Item item) {
+        if (m_level == 0) {
+            return false;
+        }
+        final String name = item.m_file.getName();
+        final int dot = name.lastIndexOf('.');
+        return dot < 0 || !COMPRESSED_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static Chunk get(final Future<Chunk> future) throws IOException, CanceledExecutionException {
+        try {
+            return await(future);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while writing zip archive");
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException("Error while compressing file: " + cause.getMessage(), cause);
+        }
+    }
+
+    private byte[] checkName(final String name) throws ZipException {
+        if (!m_names.add(name)) {
+            throw new ZipException("duplicate entry: " + name);
+        }
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void writeDirectoryEntry(final String entryName) throws IOException {
+        final byte[] name = checkName(entryName);
+        final long offset = m_position;
+        writeLocalHeader(name, false, false);
+        m_entries.add(new CentralEntry(name, false, 0, 0, 0, offset, false));
+    }
+
+    /** Writes a local header with zero CRC and sizes, which are set by {@link #completeLocalHeader}. */
+    private void writeLocalHeader(final byte[] name, final boolean deflate, final boolean zip64) throws IOException {
+        final ByteBuffer b = allocate(LOCAL_HEADER_SIZE + name.length + (zip64 ? 20 : 0));
+        b.putInt(LOCAL_HEADER_SIGNATURE);
+        b.putShort((short)(zip64 ? VERSION_ZIP64 : VERSION_DEFAULT));
+        b.putShort((short)FLAG_UTF8);
+        b.putShort((short)(deflate ? Deflater.DEFLATED : 0));
+        b.putInt(m_dosTime);
+        b.putInt(0); // crc
+        b.putInt(zip64 ? (int)MAX_32 : 0); // compressed size
+        b.putInt(zip64 ? (int)MAX_32 : 0); // uncompressed size
+        b.putShort((short)name.length);
+        b.putShort((short)(zip64 ? 20 : 0));
+        b.put(name);
+        if (zip64) {
+            b.putShort((short)ZIP64_EXTRA_ID);
+            b.putShort((short)16);
+            b.putLong(0);
+            b.putLong(0);
+        }
+        b.flip();
+        write(b);
+    }
+
+    private void completeLocalHeader(final long offset, final int nameLength, final boolean zip64, final long crc,
+        final long compressedSize, final long size) throws IOException {
+        final ByteBuffer b = allocate(12);
+        b.putInt((int)crc);
+        b.putInt(zip64 ? (int)MAX_32 : (int)compressedSize);
+        b.putInt(zip64 ? (int)MAX_32 : (int)size);
+        b.flip();
+        writeAt(b, offset + LOCAL_CRC_OFFSET);
+        if (zip64) {
+            final ByteBuffer extra = allocate(16);
+            extra.putLong(size);
+            extra.putLong(compressedSize);
+            extra.flip();
+            writeAt(extra, offset + LOCAL_HEADER_SIZE + nameLength + 4);
+        }
+    }
+
+    /** Writes the central directory and closes the archive. */
+    private void finish() throws IOException {
+        final long centralOffset = m_position;
+        for (CentralEntry e : m_entries) {
+            write(e.toCentralHeader(m_dosTime));
+        }
+        final long centralSize = m_position - centralOffset;
+        final int nrEntries = m_entries.size();
+        final boolean zip64 = nrEntries >= MAX_16 || centralOffset >= MAX_32 || centralSize >= MAX_32;
+        if (zip64) {
+            final long zip64EndOffset = m_position;
+            final ByteBuffer b = allocate(56 + 20);
+            b.putInt(ZIP64_END_SIGNATURE);
+            b.putLong(44); // size of the remaining record
+            b.putShort((short)VERSION_ZIP64);
+            b.putShort((short)VERSION_ZIP64);
+            b.putInt(0); // number of this disk
+            b.putInt(0); // disk with the central directory
+            b.putLong(nrEntries);
+            b.putLong(nrEntries);
+            b.putLong(centralSize);
+            b.putLong(centralOffset);
+            b.putInt(ZIP64_LOCATOR_SIGNATURE);
+            b.putInt(0); // disk with the zip64 end record
+            b.putLong(zip64EndOffset);
+            b.putInt(1); // total number of disks
+            b.flip();
+            write(b);
+        }
+        final ByteBuffer b = allocate(22);
+        b.putInt(END_SIGNATURE);
+        b.putShort((short)0); // number of this disk
+        b.putShort((short)0); // disk with the central directory
+        b.putShort((short)Math.min(nrEntries, MAX_16));
+        b.putShort((short)Math.min(nrEntries, MAX_16));
+        b.putInt((int)Math.min(centralSize, MAX_32));
+        b.putInt((int)Math.min(centralOffset, MAX_32));
+        b.putShort((short)0); // comment length
+        b.flip();
+        write(b);
+    }
+
+    private void write(final ByteBuffer b) throws IOException {
+        while (b.hasRemaining()) {
+            m_position += m_channel.write(b);
+        }
+    }
+
+    private void writeAt(final ByteBuffer b, final long position) throws IOException {
+        long p = position;
+        while (b.hasRemaining()) {
+            p += m_channel.write(b, p);
+        }
+    }
+
+    private static ByteBuffer allocate(final int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /** @return the MS-DOS date (upper 16 bits) and time (lower 16 bits) of the argument time in the local zone */
+    private static int toDosTime(final long millis) {
+        final Calendar c = Calendar.getInstance();
+        c.setTimeInMillis(millis);
+        final int year = c.get(Calendar.YEAR);
+        if (year < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return (year - 1980) << 25 | (c.get(Calendar.MONTH) + 1) << 21 | c.get(Calendar.DAY_OF_MONTH) << 16
+            | c.get(Calendar.HOUR_OF_DAY) << 11 | c.get(Calendar.MINUTE) << 5 | c.get(Calendar.SECOND) >> 1;
+    }
+
+    /**
+     * Writes the central directory and closes the archive. If adding entries failed or was canceled before, or writing
+     * the central directory fails, the incomplete archive is closed and deleted instead.
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        boolean isComplete = false;
+        try (FileChannel channel = m_channel) {
+            if (!m_isFailed) {
+                finish();
+                isComplete = true;
+            }
+        } finally {
+            if (!isComplete) {
+                // not reported, the failure that caused the incomplete archive is (or was) thrown anyway
+                m_zipFile.delete();
+            }
+        }
+    }
+
+    /** A file or directory (without file) to add to the archive. */
+    static final class Item {
+
+        private final String m_name;
+
+        private final File m_file;
+
+        private final long m_length;
+
+        private final int m_nrChunks;
+
+        /**
+         * @param name the entry name, ending with '/' for directories
+         * @param file the file to add or null for directories
+         */
+        Item(final String name, final File file) {
+            m_name = name;
+            m_file = file;
+            m_length = file == null ? 0 : file.length();
+            m_nrChunks = file == null ? 0 : (int)Math.max(1, (m_length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        }
+    }
+
+    /** Creates the chunk tasks of all files in order. */
+    private final class ChunkTaskIterator implements Iterator<ChunkTask> {
+
+        private final Iterator<Item> m_items;
+
+        private Item m_item;
+
+        private int m_chunkIndex;
+
+        ChunkTaskIterator(final List<Item> items) {
+            m_items = items.stream().filter(i -> i.m_file != null).iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (m_item != null && m_chunkIndex < m_item.m_nrChunks) || m_items.hasNext();
+        }
+
+        @Override
+        public ChunkTask next() {
+            if (m_item == null || m_chunkIndex >= m_item.m_nrChunks) {
+                if (!m_items.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                m_item = m_items.next();
+                m_chunkIndex = 0;
+            }
+            final long offset = (long)m_chunkIndex * CHUNK_SIZE;
+            final boolean isLast = ++m_chunkIndex == m_item.m_nrChunks;
+            final int length = (int)Math.min(CHUNK_SIZE, m_item.m_length - offset);
+            return new ChunkTask(m_item.m_file, offset, length, isLast, isDeflated(m_item), m_level);
+        }
+    }
+
+    /**
+     * Reads and (optionally) deflates one chunk of a file. The chunk is shorter than planned if the file was truncated
+     * in the meantime; the last chunk extends to the current end of the file if the file has grown.
+     */
+    private static final class ChunkTask implements Callable<Chunk> {
+
+        private final File m_file;
+
+        private final long m_offset;
+
+        private final int m_length;
+
+        private final boolean m_isLast;
+
+        private final boolean m_deflate;
+
+        private final int m_level;
+
+        ChunkTask(final File file, final long offset, final int length, final boolean isLast, final boolean deflate,
+            final int level) {
+            m_file = file;
+            m_offset = offset;
+            m_length = length;
+            m_isLast = isLast;
+            m_deflate = deflate;
+            m_level = level;
+        }
+
+        @Override
+        public Chunk call() throws IOException {
+            final byte[] data;
+            final int length;
+            try (FileChannel in = FileChannel.open(m_file.toPath(), StandardOpenOption.READ)) {
+                final long available = Math.max(0, in.size() - m_offset);
+                if (m_isLast && available > MAX_CHUNK_LENGTH) {
+                    throw new ZipException("File " + m_file.getAbsolutePath() + " grew by more than "
+                        + FileUtils.byteCountToDisplaySize(MAX_CHUNK_LENGTH) + " while adding it to zip archive");
+                }
+                data = new byte[(int)(m_isLast ? available : Math.min(m_length, available))];
+                final ByteBuffer b = ByteBuffer.wrap(data);
+                while (b.hasRemaining()) {
+                    if (in.read(b, m_offset + b.position()) < 0) {
+                        break; // the file was truncated in the meantime
+                    }
+                }
+                length = b.position();
+            }
+            if (!m_deflate) {
+                return new Chunk(data, length, data, length);
+            }
+            final Deflater deflater = new Deflater(m_level, true);
+            try {
+                deflater.setInput(data, 0, length);
+                byte[] out = new byte[length + (length >> 8) + 64];
+                int pos = 0;
+                if (m_isLast) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        if (pos == out.length) {
+                            out = Arrays.copyOf(out, 2 * out.length);
+                        }
+                        pos += deflater.deflate(out, pos, out.length - pos);
+                    }
+                } else {
+                    // a sync flush ends the chunk on a byte boundary so that the next chunk's blocks can follow
+                    while (true) {
+                        pos += deflater.deflate(out, pos, out.length - pos, Deflater.SYNC_FLUSH);
+                        if (pos < out.length) {
+                            break;
+                        }
+                        out = Arrays.copyOf(out, 2 * out.length);
+                    }
+                }
+                return new Chunk(data, length, out, pos);
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+
+    /** The uncompressed and the compressed data of a chunk. */
+    private static final class Chunk {
+
+        private final byte[] m_data;
+
+        private final int m_length;
+
+        private final byte[] m_compressed;
+
+        private final int m_compressedLength;
+
+        Chunk(final byte[] data, final int length, final byte[] compressed, final int compressedLength) {
+            m_data = data;
+            m_length = length;
+            m_compressed = compressed;
+            m_compressedLength = compressedLength;
+        }
+    }
+
+    /** The information of a written entry required for the central directory. */
+    private static final class CentralEntry {
+
+        private final byte[] m_name;
+
+        private final boolean m_deflate;
+
+        private final long m_crc;
+
+        private final long m_compressedSize;
+
+        private final long m_size;
+
+        private final long m_offset;
+
+        private final boolean m_zip64Local;
+
+        CentralEntry(final byte[] name, final boolean deflate, final long crc, final long compressedSize,
+            final long size, final long offset, final boolean zip64Local) {
+            m_name = name;
+            m_deflate = deflate;
+            m_crc = crc;
+            m_compressedSize = compressedSize;
+            m_size = size;
+            m_offset = offset;
+            m_zip64Local = zip64Local;
+        }
+
+        ByteBuffer toCentralHeader(final int dosTime) {
+            // the zip64 extra field only contains the values that don't fit into the 32 bit fields
+            final boolean sizeOverflow = m_size >= MAX_32;
+            final boolean compressedSizeOverflow = m_compressedSize >= MAX_32;
+            final boolean offsetOverflow = m_offset >= MAX_32;
+            final int extraDataLength =
+                8 * ((sizeOverflow ? 1 : 0) + (compressedSizeOverflow ? 1 : 0) + (offsetOverflow ? 1 : 0));
+            final int extraLength = extraDataLength == 0 ? 0 : 4 + extraDataLength;
+            final int version = extraLength > 0 || m_zip64Local ? VERSION_ZIP64 : VERSION_DEFAULT;
+            final ByteBuffer b = allocate(46 + m_name.length + extraLength);
+            b.putInt(CENTRAL_HEADER_SIGNATURE);
+            b.putShort((short)version); // version made by
+            b.putShort((short)version); // version needed to extract
+            b.putShort((short)FLAG_UTF8);
+            b.putShort((short)(m_deflate ? Deflater.DEFLATED : 0));
+            b.putInt(dosTime);
+            b.putInt((int)m_crc);
+            b.putInt((int)(compressedSizeOverflow ? MAX_32 : m_compressedSize));
+            b.putInt((int)(sizeOverflow ? MAX_32 : m_size));
+            b.putShort((short)m_name.length);
+            b.putShort((short)extraLength);
+            b.putShort((short)0); // comment length
+            b.putShort((short)0); // disk number start
+            b.putShort((short)0); // internal attributes
+            b.putInt(0); // external attributes
+            b.putInt((int)(offsetOverflow ? MAX_32 : m_offset));
+            b.put(m_name);
+            if (extraLength > 0) {
+                b.putShort((short)ZIP64_EXTRA_ID);
+                b.putShort((short)extraDataLength);
+                if (sizeOverflow) {
+                    b.putLong(m_size);
+                }
+                if (compressedSizeOverflow) {
+                    b.putLong(m_compressedSize);
+                }
+                if (offsetOverflow) {
+                    b.putLong(m_offset);
+                }
+            }
+            b.flip();
+            return b;
+        }
+    }
+}
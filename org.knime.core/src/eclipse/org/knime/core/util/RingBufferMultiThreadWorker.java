@@ -0,0 +1,492 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A variant of {@link MultiThreadWorker} for many cheap computations. Instead of submitting one task per element and
+ * re-ordering the results through semaphores and maps, the thread calling {@link #run(Iterable)} places the input
+ * elements into a pre-sized ring buffer indexed by the element's sequence number (as many as fit at once). A fixed
+ * number of worker threads claim elements from the buffer and store the outputs in place. The calling thread is the
+ * single consumer: it passes the finished elements in input order to {@link #processFinished(ComputationResult)} and
+ * computes elements itself if it would otherwise wait for workers that have not started yet.
+ *
+ * <p>Unlike {@link MultiThreadWorker} the {@link #processFinished(ComputationResult)} method is always called in the
+ * thread calling {@link #run(Iterable)}. The {@link #getQueueDepth() queue depth} and the accumulated
+ * {@link #getWorkerIdleTime(TimeUnit) worker idle time} can be used to tune the queue size and number of workers.
+ *
+ * @param <In> The type of input to be processed.
+ * @param <Out> The output type generated by the {@link #compute(Object, long)} method.
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ */
+public abstract class RingBufferMultiThreadWorker<In, Out> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(RingBufferMultiThreadWorker.class);
+
+    /** Upper bound for a single park; threads are usually woken up earlier. */
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final int m_maxQueueSize;
+
+    private final int m_maxActiveInstanceSize;
+
+    private final int m_mask;
+
+    private final Slot<In, Out>[] m_slots;
+
+    /** Number of elements placed into the buffer (only written by the consumer thread). */
+    private volatile long m_published;
+
+    /** Number of elements passed to {@link #processFinished(ComputationResult)} (only written by the consumer). */
+    private volatile long m_consumed;
+
+    /** Sequence number of the next element to be computed, claimed by workers (and the consumer). */
+    private final AtomicLong m_nextToCompute = new AtomicLong();
+
+    private volatile boolean m_inputExhausted;
+
+    /** Set when the run has finished, failed or was canceled; workers terminate. */
+    private volatile boolean m_stopped;
+
+    private volatile boolean m_isCanceled;
+
+    private volatile boolean m_consumerWaiting;
+
+    private volatile Thread m_consumerThread;
+
+    private final ConcurrentLinkedQueue<Thread> m_idleWorkers = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong m_workerIdleNanos = new AtomicLong();
+
+    private long m_maxQueueDepth;
+
+    private Executor m_executor;
+
+    /**
+     * Creates new worker.
+     *
+     * @param maxQueueSize Maximum number of elements in the buffer, i.e. elements that are submitted but not yet
+     *            processed by {@link #processFinished(ComputationResult)}.
+     * @param maxActiveInstanceSize The number of worker threads.
+     * @throws IllegalArgumentException if queue size &lt; worker count or worker count &lt; 1
+     */
+    public RingBufferMultiThreadWorker(final int maxQueueSize, final int maxActiveInstanceSize) {
+        if (maxActiveInstanceSize < 1) {
+            throw new IllegalArgumentException("Worker count must be at least 1: " + maxActiveInstanceSize);
+        }
+        if (maxQueueSize < maxActiveInstanceSize) {
+            throw new IllegalArgumentException("Queue size must be as least as large as running instance count: "
+                + maxQueueSize + " vs. " + maxActiveInstanceSize);
+        }
+        m_maxQueueSize = maxQueueSize;
+        m_maxActiveInstanceSize = maxActiveInstanceSize;
+        final int capacity = Integer.highestOneBit(maxQueueSize - 1) << 1;
+        m_mask = Math.max(1, capacity) - 1;
+        @SuppressWarnings("unchecked")
+        final Slot<In, Out>[] slots = new Slot[m_mask + 1];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot<>();
+        }
+        m_slots = slots;
+    }
+
+    /** @param executor the executor to run the workers, null to use the global
+     * {@link KNIMEConstants#GLOBAL_THREAD_POOL KNIME thread pool} (default). */
+    public void setExecutor(final Executor executor) {
+        m_executor = executor;
+    }
+
+    /** @return the executor
+     * @see #setExecutor(Executor) */
+    public Executor getExecutor() {
+        return m_executor;
+    }
+
+    /** @return the number of elements submitted so far. */
+    public final long getSubmittedCount() {
+        return m_published;
+    }
+
+    /** @return the number of elements passed to {@link #processFinished(ComputationResult)} so far. */
+    public final long getFinishedCount() {
+        return m_consumed;
+    }
+
+    /** @return the number of elements currently submitted but not yet processed. */
+    public final int getQueueDepth() {
+        return (int)(m_published - m_consumed);
+    }
+
+    /** @return the maximum {@link #getQueueDepth() queue depth} observed so far. */
+    public final int getMaxQueueDepth() {
+        return (int)m_maxQueueDepth;
+    }
+
+    /**
+     * Returns the time all workers together have waited for input. A large value relative to the run time means that
+     * the consumer (reading the input and processing the results) is the bottleneck.
+     *
+     * @param unit the unit of the returned value
+     * @return the accumulated idle time of all workers
+     */
+    public final long getWorkerIdleTime(final TimeUnit unit) {
+        return unit.convert(m_workerIdleNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Main run method to process the input. This method is to be called only once per instance.
+     *
+     * @param inputIterable The input elements.
+     * @throws InterruptedException If the calling thread has been interrupted.
+     * @throws ExecutionException If {@link #processFinished(ComputationResult)} throws an exception.
+     * @throws CancellationException If {@link #cancel()} has been called.
+     * @see MultiThreadWorker#run(Iterable)
+     */
+    public void run(final Iterable<In> inputIterable) throws InterruptedException, ExecutionException {
+        // run invisibly in the global thread pool so that the calling thread doesn't block a worker
+        final Callable<Void> c = () -> {
+            innerRun(inputIterable);
+            return null;
+        };
+        try {
+            if (m_executor == null) {
+                KNIMEConstants.GLOBAL_THREAD_POOL.runInvisible(c);
+            } else {
+                c.call();
+            }
+        } catch (Exception ee) {
+            Throwable e = ee.getCause();
+            if (e == null) {
+                e = ee;
+            }
+            if (e instanceof InterruptedException) {
+                throw (InterruptedException)e;
+            } else if (e instanceof CancellationException) {
+                throw (CancellationException)e;
+            } else if (e instanceof ExecutionException) {
+                throw (ExecutionException)e;
+            }
+            throw new ExecutionException(e);
+        }
+    }
+
+    private void innerRun(final Iterable<In> inputIterable) throws Exception {
+        if (m_consumerThread != null) {
+            throw new IllegalStateException("Can only run once");
+        }
+        m_consumerThread = Thread.currentThread();
+        final long start = System.nanoTime();
+        final Iterator<In> it = inputIterable.iterator();
+        try {
+            startWorkers();
+            while (true) {
+                if (m_isCanceled) {
+                    throw new CancellationException();
+                }
+                final boolean published = publish(it);
+                final boolean drained = drain();
+                if (m_inputExhausted && m_consumed == m_published) {
+                    break;
+                }
+                if (!published && !drained && !computeNextInConsumer()) {
+                    m_consumerWaiting = true;
+                    if (!m_slots[(int)m_consumed & m_mask].m_done) {
+                        LockSupport.parkNanos(this, PARK_NANOS);
+                    }
+                    m_consumerWaiting = false;
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+            }
+        } finally {
+            m_stopped = true;
+            wakeIdleWorkers();
+        }
+        LOGGER.debugWithFormat("Processed %d elements with %d workers in %dms, max queue depth %d/%d, "
+            + "worker idle time %dms", m_consumed, m_maxActiveInstanceSize,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), m_maxQueueDepth, m_maxQueueSize,
+            getWorkerIdleTime(TimeUnit.MILLISECONDS));
+    }
+
+    private void startWorkers() {
+        final Runnable worker = this::workerLoop;
+        for (int i = 0; i < m_maxActiveInstanceSize; i++) {
+            if (m_executor == null) {
+                KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(worker);
+            } else {
+                m_executor.execute(ThreadUtils.runnableWithContext(worker));
+            }
+        }
+    }
+
+    /** Places as many input elements into the buffer as fit. Returns whether at least one was added. */
+    private boolean publish(final Iterator<In> it) throws ExecutionException {
+        final long first = m_published;
+        final long limit = m_consumed + m_maxQueueSize;
+        long seq = first;
+        while (seq < limit && it.hasNext()) {
+            final In in = it.next();
+            try {
+                beforeSubmitting(in, seq);
+            } catch (Exception e) {
+                throw new ExecutionException(e);
+            }
+            final Slot<In, Out> slot = m_slots[(int)seq & m_mask];
+            slot.m_in = in;
+            slot.m_out = null;
+            slot.m_error = null;
+            slot.m_done = false;
+            seq += 1;
+            // volatile write makes the slot content visible to the workers
+            m_published = seq;
+        }
+        if (seq - m_consumed > m_maxQueueDepth) {
+            m_maxQueueDepth = seq - m_consumed;
+        }
+        if (!m_inputExhausted && !it.hasNext()) {
+            m_inputExhausted = true;
+        }
+        if (seq > first || m_inputExhausted) {
+            wakeIdleWorkers();
+        }
+        return seq > first;
+    }
+
+    /** Passes the finished elements at the head of the buffer to processFinished. Returns whether there were any. */
+    private boolean drain() throws ExecutionException, InterruptedException {
+        long seq = m_consumed;
+        final long published = m_published;
+        boolean drained = false;
+        while (seq < published) {
+            final Slot<In, Out> slot = m_slots[(int)seq & m_mask];
+            if (!slot.m_done) {
+                break;
+            }
+            final ComputationResult result = new ComputationResult(slot.m_in, seq, slot.m_out, slot.m_error);
+            slot.m_in = null;
+            slot.m_out = null;
+            slot.m_error = null;
+            processFinished(result);
+            seq += 1;
+            m_consumed = seq;
+            drained = true;
+        }
+        return drained;
+    }
+
+    /** Lets the consumer compute the next unclaimed element (if any) instead of waiting. */
+    private boolean computeNextInConsumer() {
+        final long seq = m_nextToCompute.get();
+        if (seq < m_published && m_nextToCompute.compareAndSet(seq, seq + 1)) {
+            computeSlot(seq);
+            return true;
+        }
+        return false;
+    }
+
+    private void workerLoop() {
+        final Thread thread = Thread.currentThread();
+        while (!m_stopped) {
+            final long seq = m_nextToCompute.get();
+            if (seq < m_published) {
+                if (m_nextToCompute.compareAndSet(seq, seq + 1)) {
+                    computeSlot(seq);
+                }
+                continue;
+            }
+            if (m_inputExhausted && m_nextToCompute.get() >= m_published) {
+                return;
+            }
+            final long idleStart = System.nanoTime();
+            m_idleWorkers.add(thread);
+            // re-check after registering, the consumer wakes up registered workers only
+            if (m_nextToCompute.get() >= m_published && !m_inputExhausted && !m_stopped) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            m_idleWorkers.remove(thread);
+            m_workerIdleNanos.addAndGet(System.nanoTime() - idleStart);
+        }
+    }
+
+    private void computeSlot(final long seq) {
+        final Slot<In, Out> slot = m_slots[(int)seq & m_mask];
+        try {
+            slot.m_out = compute(slot.m_in, seq);
+        } catch (Throwable t) { // NOSONAR also report errors to the consumer
+            slot.m_error = t;
+        }
+        slot.m_done = true;
+        if (m_consumerWaiting) {
+            LockSupport.unpark(m_consumerThread);
+        }
+    }
+
+    private void wakeIdleWorkers() {
+        for (Thread t : m_idleWorkers) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    /**
+     * Cancels an ongoing execution. The {@link #run(Iterable)} method throws a {@link CancellationException}, the
+     * workers finish their current computation and terminate.
+     */
+    public void cancel() {
+        final Thread consumer = m_consumerThread;
+        if (consumer == null) {
+            throw new IllegalStateException("Not started");
+        }
+        m_isCanceled = true;
+        LockSupport.unpark(consumer);
+    }
+
+    /**
+     * Callback for subclasses to be informed about a new submission, called in the thread calling
+     * {@link #run(Iterable)}. This default implementation is empty.
+     *
+     * @param in The element.
+     * @param index The index of the element to be submitted.
+     * @throws Exception In case the execution shall be aborted
+     */
+    protected void beforeSubmitting(final In in, final long index) throws Exception {
+        // subclass hook
+    }
+
+    /**
+     * Performs the computation for a given input. This method is called concurrently for different input elements.
+     *
+     * @param in The element.
+     * @param index The index of the element.
+     * @return The computed output
+     * @throws Exception Any exception, to be handled in the {@link #processFinished(ComputationResult)}
+     *             implementation (more specifically in {@link ComputationResult#get()}).
+     */
+    protected abstract Out compute(In in, final long index) throws Exception;
+
+    /**
+     * Post-process a finished computation. This method is called in the thread calling {@link #run(Iterable)}, in the
+     * order of the input.
+     *
+     * @param result The next result to be finally processed.
+     * @throws ExecutionException If the exception of the computation is not further handled -- and causes the entire
+     *             calculation to stop.
+     * @throws CancellationException If canceled (abort)
+     * @throws InterruptedException If canceled (abort)
+     * @see MultiThreadWorker#processFinished(MultiThreadWorker.ComputationTask)
+     */
+    protected abstract void processFinished(ComputationResult result)
+        throws ExecutionException, CancellationException, InterruptedException;
+
+    /** The result of a single computation together with the input element and index. */
+    public final class ComputationResult {
+
+        private final In m_in;
+
+        private final long m_index;
+
+        private final Out m_out;
+
+        private final Throwable m_error;
+
+        private ComputationResult(final In in, final long index, final Out out, final Throwable error) {
+            m_in = in;
+            m_index = index;
+            m_out = out;
+            m_error = error;
+        }
+
+        /** @return the input */
+        public In getInput() {
+            return m_in;
+        }
+
+        /** @return the index */
+        public long getIndex() {
+            return m_index;
+        }
+
+        /**
+         * @return the computed output
+         * @throws ExecutionException If the computation threw an exception (wrapped).
+         */
+        public Out get() throws ExecutionException {
+            if (m_error != null) {
+                throw new ExecutionException(m_error);
+            }
+            return m_out;
+        }
+    }
+
+    /** An element of the ring buffer. */
+    private static final class Slot<In, Out> {
+
+        private In m_in;
+
+        private Out m_out;
+
+        private Throwable m_error;
+
+        /** Set by the computing thread after the output is written, reset by the consumer when publishing. */
+        private volatile boolean m_done;
+    }
+}
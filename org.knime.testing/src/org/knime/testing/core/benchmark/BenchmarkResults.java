@@ -0,0 +1,309 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.testing.core.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.JsonWriter;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * The measurements of a {@link WorkflowBenchmark} run: a list of repetitions per workflow, each of them a JSON object
+ * with the keys defined in this class. Results are written as JSON and can be compared against the results of an
+ * earlier run (the baseline) by the medians of their wall time and allocated bytes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class BenchmarkResults {
+
+    /** Key of the wall time of a repetition in milliseconds. */
+    public static final String WALL_MILLIS = "wallMillis";
+
+    /** Key of the sum of the node execution times of a repetition in milliseconds, as recorded by the node timers. */
+    public static final String NODE_MILLIS = "nodeMillis";
+
+    /**
+     * Key of the wall time not spent in node execution, i.e. the framework overhead of scheduling, state changes and
+     * so on. Zero if nodes executed in parallel for longer than the wall time.
+     */
+    public static final String OVERHEAD_MILLIS = "overheadMillis";
+
+    /** Key of the number of node executions (loop iterations count individually). */
+    public static final String NODE_EXECUTIONS = "nodeExecutions";
+
+    /** Key of the number of node state change events. */
+    public static final String STATE_EVENTS = "stateEvents";
+
+    /** Key of the number of garbage collections. */
+    public static final String GC_COUNT = "gcCount";
+
+    /** Key of the time spent in garbage collections in milliseconds. */
+    public static final String GC_MILLIS = "gcMillis";
+
+    /** Key of the number of bytes allocated on the heap, -1 if the JVM can't measure it. */
+    public static final String ALLOCATED_BYTES = "allocatedBytes";
+
+    /** Key of the number of bytes of temporary files left by the execution (that is, of the tables on disk). */
+    public static final String TEMP_DISK_BYTES = "tempDiskBytes";
+
+    /** Key of the per-node measurements, an object from node ID and name to execution time and count. */
+    public static final String NODES = "nodes";
+
+    /** Key of the execution time of a single node in milliseconds. */
+    public static final String MILLIS = "millis";
+
+    /** Key of the number of executions of a single node. */
+    public static final String EXECUTIONS = "executions";
+
+    /** The measurements that are compared against the baseline. */
+    private static final String[] COMPARED_KEYS = {WALL_MILLIS, ALLOCATED_BYTES};
+
+    private final Map<String, String> m_properties = new LinkedHashMap<>();
+
+    private final Map<String, List<JsonObject>> m_runs = new LinkedHashMap<>();
+
+    private final Map<String, Boolean> m_successful = new LinkedHashMap<>();
+
+    /**
+     * Sets a property describing the environment of the run, such as the Java version or the scale of the workflows.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void setProperty(final String key, final String value) {
+        m_properties.put(key, value);
+    }
+
+    /**
+     * @param key the key of a property
+     * @return the value of the property, <code>null</code> if not set
+     */
+    public String getProperty(final String key) {
+        return m_properties.get(key);
+    }
+
+    /**
+     * Adds the measurements of a repetition.
+     *
+     * @param workflow the name of the workflow
+     * @param run the measurements, see the keys in this class
+     */
+    void addRun(final String workflow, final JsonObject run) {
+        m_runs.computeIfAbsent(workflow, k -> new ArrayList<>()).add(run);
+    }
+
+    /**
+     * Records whether all repetitions of a workflow executed successfully.
+     *
+     * @param workflow the name of the workflow
+     * @param successful whether all nodes were executed
+     */
+    void setSuccessful(final String workflow, final boolean successful) {
+        m_successful.put(workflow, successful);
+        m_runs.computeIfAbsent(workflow, k -> new ArrayList<>());
+    }
+
+    /** @return the names of the measured workflows, in the order they were run */
+    public List<String> getWorkflows() {
+        return new ArrayList<>(m_runs.keySet());
+    }
+
+    /**
+     * @param workflow the name of a workflow
+     * @return the measurements of its repetitions, an empty list if the workflow wasn't run
+     */
+    public List<JsonObject> getRuns(final String workflow) {
+        return Collections.unmodifiableList(m_runs.getOrDefault(workflow, Collections.emptyList()));
+    }
+
+    /**
+     * @param workflow the name of a workflow
+     * @return <code>true</code> if all repetitions of the workflow executed successfully
+     */
+    public boolean isSuccessful(final String workflow) {
+        return m_successful.getOrDefault(workflow, Boolean.FALSE);
+    }
+
+    /**
+     * @param workflow the name of a workflow
+     * @param key the key of a measurement, e.g. {@link #WALL_MILLIS}
+     * @return the median of the measurement over all repetitions, -1 if there are none or if the measurement isn't
+     *         available
+     */
+    public long getMedian(final String workflow, final String key) {
+        final List<Long> values = new ArrayList<>();
+        for (JsonObject run : getRuns(workflow)) {
+            final JsonNumber value = run.getJsonNumber(key);
+            if (value == null || value.longValue() < 0) {
+                return -1;
+            }
+            values.add(value.longValue());
+        }
+        if (values.isEmpty()) {
+            return -1;
+        }
+        Collections.sort(values);
+        final int mid = values.size() / 2;
+        return values.size() % 2 == 1 ? values.get(mid) : (values.get(mid - 1) + values.get(mid)) / 2;
+    }
+
+    /**
+     * Compares the medians of the wall time and allocated bytes with those of a baseline. Workflows or measurements
+     * missing in either of the results are skipped.
+     *
+     * @param baseline the results of an earlier run
+     * @param tolerance the relative increase that is still accepted, e.g. 0.1 for 10%
+     * @return a description of each measurement that got worse by more than the tolerance, an empty list if none
+     */
+    public List<String> findRegressions(final BenchmarkResults baseline, final double tolerance) {
+        final List<String> regressions = new ArrayList<>();
+        for (String workflow : m_runs.keySet()) {
+            if (!isSuccessful(workflow)) {
+                regressions.add(workflow + ": execution failed");
+                continue;
+            }
+            if (baseline.getRuns(workflow).isEmpty()) {
+                continue;
+            }
+            for (String key : COMPARED_KEYS) {
+                final long base = baseline.getMedian(workflow, key);
+                final long current = getMedian(workflow, key);
+                if (base > 0 && current >= 0 && current > base * (1 + tolerance)) {
+                    regressions.add(String.format("%s: median %s increased from %d to %d (%+.1f%%)", workflow, key,
+                        base, current, 100.0 * (current - base) / base));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    /** @return the results as JSON object */
+    public JsonObject toJson() {
+        final JsonObjectBuilder properties = Json.createObjectBuilder();
+        m_properties.forEach(properties::add);
+        final JsonObjectBuilder workflows = Json.createObjectBuilder();
+        for (Map.Entry<String, List<JsonObject>> e : m_runs.entrySet()) {
+            final JsonArrayBuilder runs = Json.createArrayBuilder();
+            e.getValue().forEach(runs::add);
+            final JsonObjectBuilder medians = Json.createObjectBuilder();
+            for (String key : new String[]{WALL_MILLIS, OVERHEAD_MILLIS, ALLOCATED_BYTES, TEMP_DISK_BYTES}) {
+                medians.add(key, getMedian(e.getKey(), key));
+            }
+            workflows.add(e.getKey(), Json.createObjectBuilder() //
+                .add("successful", isSuccessful(e.getKey())) //
+                .add("median", medians) //
+                .add("runs", runs));
+        }
+        return Json.createObjectBuilder().add("properties", properties).add("workflows", workflows).build();
+    }
+
+    /**
+     * Writes the results as JSON.
+     *
+     * @param file the destination file
+     * @throws IOException if the file can't be written
+     */
+    public void write(final File file) throws IOException {
+        final Map<String, Boolean> cfg = Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, Boolean.TRUE);
+        try (FileOutputStream out = new FileOutputStream(file);
+                JsonWriter writer = Json.createWriterFactory(cfg).createWriter(out)) {
+            writer.write(toJson());
+        } catch (JsonException ex) {
+            throw new IOException("Can't write benchmark results to " + file + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Reads results written by {@link #write(File)}.
+     *
+     * @param file the JSON file
+     * @return the results
+     * @throws IOException if the file can't be read or isn't valid
+     */
+    public static BenchmarkResults read(final File file) throws IOException {
+        final JsonObject json;
+        try (FileInputStream in = new FileInputStream(file); JsonReader reader = Json.createReader(in)) {
+            json = reader.readObject();
+        } catch (JsonException | ClassCastException ex) {
+            throw new IOException("Can't read benchmark results from " + file + ": " + ex.getMessage(), ex);
+        }
+        final BenchmarkResults result = new BenchmarkResults();
+        try {
+            final JsonObject properties = json.getJsonObject("properties");
+            if (properties != null) {
+                properties.forEach((k, v) -> result.setProperty(k, ((JsonString)v).getString()));
+            }
+            for (Map.Entry<String, JsonValue> e : json.getJsonObject("workflows").entrySet()) {
+                final JsonObject workflow = (JsonObject)e.getValue();
+                result.setSuccessful(e.getKey(), workflow.getBoolean("successful"));
+                workflow.getJsonArray("runs").getValuesAs(JsonObject.class).forEach(r -> result.addRun(e.getKey(), r));
+            }
+        } catch (NullPointerException | ClassCastException ex) {
+            throw new IOException("Invalid benchmark results in " + file + ": " + ex.getMessage(), ex);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.testing.core.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowContext;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.core.util.LockFailedException;
+import org.knime.testing.node.benchmark.BenchmarkLoopEndNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkLoopStartNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkLoopStartNodeModel;
+import org.knime.testing.node.benchmark.BenchmarkTableCopyNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkTableCreatorNodeFactory;
+import org.knime.testing.node.benchmark.BenchmarkTableCreatorNodeModel;
+import org.knime.testing.node.executioncount.ExecutionCountNodeFactory;
+
+/**
+ * Creates the fixed corpus of synthetic workflows run by the {@link WorkflowBenchmark}. The workflows only use the
+ * benchmark nodes from this plug-in, so their results depend on the framework and not on node implementations that
+ * change independently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class BenchmarkWorkflowCorpus {
+
+    /** The workflows of the corpus. */
+    public enum Scenario {
+        /** A table with 1000 columns copied twice, stresses the per-cell overhead of table creation. */
+        WIDE_TABLE,
+        /** A table with many rows of few columns copied twice, stresses row-wise table creation and disk I/O. */
+        LONG_TABLE,
+        /** Three nested loops with a copy in the innermost body, stresses loop scheduling and flow variables. */
+        DEEP_LOOPS,
+        /** Independent branches copying the same table, stresses the concurrent execution of nodes. */
+        PARALLEL_BRANCHES,
+        /** A long chain of nodes passing a tiny table through, stresses scheduling and state events per node. */
+        MANY_SMALL_NODES;
+
+        /** @return the name of the workflow directory */
+        public String getWorkflowName() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final int PARALLEL_BRANCH_COUNT = 8;
+
+    private static final int LOOP_DEPTH = 3;
+
+    private BenchmarkWorkflowCorpus() {
+    }
+
+    /**
+     * Creates the workflows of all scenarios. Workflows already present in the corpus directory are kept, so that the
+     * same workflows can be run by different versions.
+     *
+     * @param corpusDir the directory into which the workflows are saved, one sub-directory per scenario
+     * @param scale a factor (at least 1) applied to the table sizes and number of nodes or iterations
+     * @return the workflow directories in the order of the {@link Scenario scenarios}
+     * @throws IOException if a workflow can't be saved
+     * @throws InvalidSettingsException if node settings can't be applied (should not happen)
+     * @throws CanceledExecutionException if saving is canceled (should not happen)
+     * @throws LockFailedException if a workflow directory can't be locked
+     */
+    public static List<File> createAll(final File corpusDir, final int scale)
+        throws IOException, InvalidSettingsException, CanceledExecutionException, LockFailedException {
+        final List<File> result = new ArrayList<>();
+        for (Scenario scenario : Scenario.values()) {
+            final File workflowDir = new File(corpusDir, scenario.getWorkflowName());
+            if (new File(workflowDir, WorkflowPersistor.WORKFLOW_FILE).isFile()) {
+                result.add(workflowDir);
+            } else {
+                result.add(create(scenario, workflowDir, scale));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates and saves the workflow of a scenario. The workflow is not executed.
+     *
+     * @param scenario the scenario
+     * @param workflowDir the directory the workflow is saved to, must not contain a workflow already
+     * @param scale a factor (at least 1) applied to the table sizes and number of nodes or iterations
+     * @return the workflow directory
+     * @throws IOException if the workflow can't be saved
+     * @throws InvalidSettingsException if node settings can't be applied (should not happen)
+     * @throws CanceledExecutionException if saving is canceled (should not happen)
+     * @throws LockFailedException if the workflow directory can't be locked
+     */
+    public static File create(final Scenario scenario, final File workflowDir, final int scale)
+        throws IOException, InvalidSettingsException, CanceledExecutionException, LockFailedException {
+        if (scale < 1) {
+            throw new IllegalArgumentException("Scale must be at least 1: " + scale);
+        }
+        if (!workflowDir.isDirectory() && !workflowDir.mkdirs()) {
+            throw new IOException("Can't create workflow directory " + workflowDir.getAbsolutePath());
+        }
+        final WorkflowCreationHelper creationHelper = new WorkflowCreationHelper();
+        creationHelper.setWorkflowContext(new WorkflowContext.Factory(workflowDir).createContext());
+        final WorkflowManager wfm =
+            WorkflowManager.ROOT.createAndAddProject(scenario.getWorkflowName(), creationHelper);
+        try {
+            switch (scenario) {
+                case WIDE_TABLE:
+                    addCopyChain(wfm, addCreator(wfm, 1000 * scale, StringUtils.repeat("idls", 250)), 2);
+                    break;
+                case LONG_TABLE:
+                    addCopyChain(wfm, addCreator(wfm, 200000 * scale, "idls"), 2);
+                    break;
+                case DEEP_LOOPS:
+                    addLoops(wfm, addCreator(wfm, 100, "ids"), LOOP_DEPTH, 4 * scale);
+                    break;
+                case PARALLEL_BRANCHES:
+                    final NodeID creator = addCreator(wfm, 50000 * scale, "idls");
+                    for (int i = 0; i < PARALLEL_BRANCH_COUNT; i++) {
+                        addCopyChain(wfm, creator, 2);
+                    }
+                    break;
+                case MANY_SMALL_NODES:
+                    NodeID predecessor = addCreator(wfm, 10, "is");
+                    for (int i = 0; i < 200 * scale; i++) {
+                        predecessor = addAfter(wfm, predecessor, new ExecutionCountNodeFactory());
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown scenario: " + scenario);
+            }
+            wfm.save(workflowDir, new ExecutionMonitor(), true);
+        } finally {
+            WorkflowManager.ROOT.removeProject(wfm.getID());
+        }
+        return workflowDir;
+    }
+
+    private static NodeID addCreator(final WorkflowManager wfm, final int rowCount, final String columnTypes)
+        throws InvalidSettingsException {
+        final NodeID id = wfm.createAndAddNode(new BenchmarkTableCreatorNodeFactory());
+        final NodeSettings settings = new NodeSettings("benchmark");
+        wfm.saveNodeSettings(id, settings);
+        final NodeSettings model = settings.getNodeSettings(Node.CFG_MODEL);
+        model.addInt(BenchmarkTableCreatorNodeModel.CFG_ROW_COUNT, rowCount);
+        model.addString(BenchmarkTableCreatorNodeModel.CFG_COLUMN_TYPES, columnTypes);
+        wfm.loadNodeSettings(id, settings);
+        return id;
+    }
+
+    private static NodeID addCopyChain(final WorkflowManager wfm, final NodeID source, final int length) {
+        NodeID predecessor = source;
+        for (int i = 0; i < length; i++) {
+            predecessor = addAfter(wfm, predecessor, new BenchmarkTableCopyNodeFactory());
+        }
+        return predecessor;
+    }
+
+    /** Adds nested loops after the source, the outermost loop runs the given number of iterations, all others 4. */
+    private static NodeID addLoops(final WorkflowManager wfm, final NodeID source, final int depth,
+        final int outerIterations) throws InvalidSettingsException {
+        final NodeID start = addAfter(wfm, source, new BenchmarkLoopStartNodeFactory());
+        final NodeSettings settings = new NodeSettings("benchmark");
+        wfm.saveNodeSettings(start, settings);
+        settings.getNodeSettings(Node.CFG_MODEL).addInt(BenchmarkLoopStartNodeModel.CFG_ITERATIONS, outerIterations);
+        wfm.loadNodeSettings(start, settings);
+        final NodeID body = depth > 1 ? addLoops(wfm, start, depth - 1, 4) : addCopyChain(wfm, start, 1);
+        return addAfter(wfm, body, new BenchmarkLoopEndNodeFactory());
+    }
+
+    /** Adds a node with one data in- and output and connects it to the first data output of the predecessor. */
+    private static NodeID addAfter(final WorkflowManager wfm, final NodeID predecessor,
+        final NodeFactory<?> factory) {
+        final NodeID id = wfm.createAndAddNode(factory);
+        // port 0 is the flow variable port
+        wfm.addConnection(predecessor, 1, id, 1);
+        return id;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.testing.core.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeID.NodeIDSuffix;
+import org.knime.core.node.workflow.NodeStateChangeListener;
+import org.knime.core.node.workflow.NodeStateEvent;
+import org.knime.core.node.workflow.NodeTimer;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowContext;
+import org.knime.core.node.workflow.WorkflowManager;
+
+/**
+ * Measures one execution of a workflow. It takes a snapshot of the node timers, garbage collectors, per-thread
+ * allocation counters and temporary directories when {@link #start(WorkflowManager) started} and reports the
+ * differences when {@link #stop() stopped}. In between it counts the state changes of all nodes.
+ *
+ * <p>
+ * Allocated bytes are only available on JVMs providing <code>com.sun.management.ThreadMXBean</code>; bytes allocated
+ * by threads that terminate during the execution are not counted.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RunMeasurement implements NodeStateChangeListener {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(RunMeasurement.class);
+
+    /** <code>com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long[])</code>, <code>null</code> if n/a. */
+    private static final Method GET_THREAD_ALLOCATED_BYTES = findGetThreadAllocatedBytes();
+
+    private final WorkflowManager m_wfm;
+
+    /** All node containers including metanodes and components, and their contents. */
+    private final List<NodeContainer> m_nodes = new ArrayList<>();
+
+    private final long[] m_nodeMillisBefore;
+
+    private final int[] m_nodeExecutionsBefore;
+
+    private final AtomicInteger m_stateEvents = new AtomicInteger();
+
+    private final long m_gcCountBefore;
+
+    private final long m_gcMillisBefore;
+
+    private final Map<Long, Long> m_allocatedBytesBefore;
+
+    private final long m_tempDiskBytesBefore;
+
+    private final long m_startNanos;
+
+    private RunMeasurement(final WorkflowManager wfm) {
+        m_wfm = wfm;
+        collectNodes(wfm, m_nodes);
+        m_nodeMillisBefore = new long[m_nodes.size()];
+        m_nodeExecutionsBefore = new int[m_nodes.size()];
+        for (int i = 0; i < m_nodes.size(); i++) {
+            final NodeTimer timer = m_nodes.get(i).getNodeTimer();
+            m_nodeMillisBefore[i] = timer.getExecutionDurationSinceStart();
+            m_nodeExecutionsBefore[i] = timer.getNrExecsSinceStart();
+        }
+        m_gcCountBefore = getGcCount();
+        m_gcMillisBefore = getGcMillis();
+        m_tempDiskBytesBefore = getTempDiskBytes();
+        m_allocatedBytesBefore = getThreadAllocatedBytes();
+        m_startNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes the initial snapshot and starts counting state events.
+     *
+     * @param wfm the workflow about to be executed
+     * @return the new measurement
+     */
+    static RunMeasurement start(final WorkflowManager wfm) {
+        final RunMeasurement measurement = new RunMeasurement(wfm);
+        measurement.m_nodes.forEach(nc -> nc.addNodeStateChangeListener(measurement));
+        return measurement;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stateChanged(final NodeStateEvent state) {
+        m_stateEvents.incrementAndGet();
+    }
+
+    /**
+     * Stops counting state events and computes the differences to the initial snapshot.
+     *
+     * @return the measurements, with the keys defined in {@link BenchmarkResults}
+     */
+    JsonObject stop() {
+        final long wallMillis = (System.nanoTime() - m_startNanos) / 1_000_000;
+        final Map<Long, Long> allocatedBytesAfter = getThreadAllocatedBytes();
+        m_nodes.forEach(nc -> nc.removeNodeStateChangeListener(this));
+
+        final JsonObjectBuilder nodes = Json.createObjectBuilder();
+        long nodeMillis = 0;
+        long nodeExecutions = 0;
+        for (int i = 0; i < m_nodes.size(); i++) {
+            final NodeContainer nc = m_nodes.get(i);
+            if (!(nc instanceof NativeNodeContainer)) {
+                // times of metanodes and components include those of their contents
+                continue;
+            }
+            final NodeTimer timer = nc.getNodeTimer();
+            final long millis = timer.getExecutionDurationSinceStart() - m_nodeMillisBefore[i];
+            final int executions = timer.getNrExecsSinceStart() - m_nodeExecutionsBefore[i];
+            nodeMillis += millis;
+            nodeExecutions += executions;
+            nodes.add(NodeIDSuffix.create(m_wfm.getID(), nc.getID()) + " " + nc.getName(),
+                Json.createObjectBuilder().add(BenchmarkResults.MILLIS, millis) //
+                    .add(BenchmarkResults.EXECUTIONS, executions));
+        }
+
+        long allocatedBytes = -1;
+        if (m_allocatedBytesBefore != null && allocatedBytesAfter != null) {
+            allocatedBytes = 0;
+            for (Map.Entry<Long, Long> e : allocatedBytesAfter.entrySet()) {
+                allocatedBytes += e.getValue() - m_allocatedBytesBefore.getOrDefault(e.getKey(), 0L);
+            }
+        }
+
+        return Json.createObjectBuilder() //
+            .add(BenchmarkResults.WALL_MILLIS, wallMillis) //
+            .add(BenchmarkResults.NODE_MILLIS, nodeMillis) //
+            .add(BenchmarkResults.OVERHEAD_MILLIS, Math.max(0, wallMillis - nodeMillis)) //
+            .add(BenchmarkResults.NODE_EXECUTIONS, nodeExecutions) //
+            .add(BenchmarkResults.STATE_EVENTS, m_stateEvents.get()) //
+            .add(BenchmarkResults.GC_COUNT, getGcCount() - m_gcCountBefore) //
+            .add(BenchmarkResults.GC_MILLIS, getGcMillis() - m_gcMillisBefore) //
+            .add(BenchmarkResults.ALLOCATED_BYTES, allocatedBytes) //
+            .add(BenchmarkResults.TEMP_DISK_BYTES, Math.max(0, getTempDiskBytes() - m_tempDiskBytesBefore)) //
+            .add(BenchmarkResults.NODES, nodes) //
+            .build();
+    }
+
+    private static void collectNodes(final WorkflowManager wfm, final List<NodeContainer> nodes) {
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            nodes.add(nc);
+            if (nc instanceof WorkflowManager) {
+                collectNodes((WorkflowManager)nc, nodes);
+            } else if (nc instanceof SubNodeContainer) {
+                collectNodes(((SubNodeContainer)nc).getWorkflowManager(), nodes);
+            }
+        }
+    }
+
+    private static long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gcBean.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long getGcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gcBean.getCollectionTime());
+        }
+        return millis;
+    }
+
+    /** The size of the global temp directory and of the workflow's temp directory, if it's located elsewhere. */
+    private long getTempDiskBytes() {
+        final Path globalTemp = KNIMEConstants.getKNIMETempPath();
+        long bytes = getSize(globalTemp);
+        final WorkflowContext context = m_wfm.getContext();
+        if (context != null && context.getTempLocation() != null) {
+            final Path workflowTemp = context.getTempLocation().toPath();
+            if (!workflowTemp.toAbsolutePath().startsWith(globalTemp.toAbsolutePath())) {
+                bytes += getSize(workflowTemp);
+            }
+        }
+        return bytes;
+    }
+
+    private static long getSize(final Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).mapToLong(f -> f.toFile().length()).sum();
+        } catch (IOException | RuntimeException ex) {
+            // files are deleted concurrently by other threads
+            LOGGER.debug("Could not determine size of " + dir + ": " + ex.getMessage(), ex);
+            return 0;
+        }
+    }
+
+    /** @return the allocated bytes per thread ID, <code>null</code> if not supported by the JVM */
+    private static Map<Long, Long> getThreadAllocatedBytes() {
+        if (GET_THREAD_ALLOCATED_BYTES == null) {
+            return null;
+        }
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        final long[] ids = threadBean.getAllThreadIds();
+        final long[] bytes;
+        try {
+            bytes = (long[])GET_THREAD_ALLOCATED_BYTES.invoke(threadBean, ids);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            LOGGER.debug("Could not determine allocated bytes: " + ex.getMessage(), ex);
+            return null;
+        }
+        final Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            // -1 if the thread terminated in the meantime
+            if (bytes[i] >= 0) {
+                result.put(ids[i], bytes[i]);
+            }
+        }
+        return result;
+    }
+
+    private static Method findGetThreadAllocatedBytes() {
+        try {
+            final Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean");
+            final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            if (beanClass.isInstance(threadBean)) {
+                final Method method = beanClass.getMethod("getThreadAllocatedBytes", long[].class);
+                final Method isEnabled = beanClass.getMethod("isThreadAllocatedMemoryEnabled");
+                if (Boolean.TRUE.equals(isEnabled.invoke(threadBean))) {
+                    return method;
+                }
+            }
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            LOGGER.debug("Allocated bytes can't be measured: " + ex.getMessage(), ex);
+        }
+        return null;
+    }
+}
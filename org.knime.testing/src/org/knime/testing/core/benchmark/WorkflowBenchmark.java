@@ -0,0 +1,351 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.testing.core.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.BatchExecutor;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.LockFailedException;
+
+/**
+ * Headless benchmark runner based on the {@link BatchExecutor}. It executes each workflow repeatedly (after some
+ * warm-up executions that are not measured) and records per repetition the wall time, the execution time of every
+ * node from its {@link org.knime.core.node.workflow.NodeTimer}, the number of node state events, garbage
+ * collections, allocated bytes and the size of the temporary files. The wall time not spent in node execution is
+ * reported as overhead, so that the cost of the framework (scheduling, state events, table creation) can be tracked
+ * separately from node algorithms.
+ *
+ * <p>
+ * Besides the options of the batch executor it accepts:
+ * <ul>
+ * <li><code>-corpus=dir</code>: runs the synthetic workflows of the {@link BenchmarkWorkflowCorpus}, which are
+ * created in the directory unless present already. Replaces <code>-workflowDir</code> and
+ * <code>-workflowFile</code>.</li>
+ * <li><code>-scale=n</code>: scale factor of the created corpus workflows, default 1</li>
+ * <li><code>-repetitions=n</code>: number of measured executions per workflow, default 5</li>
+ * <li><code>-warmup=n</code>: number of executions before the measured ones, default 1</li>
+ * <li><code>-result=file</code>: JSON file the {@link BenchmarkResults} are written to</li>
+ * <li><code>-baseline=file</code>: JSON file with results of an earlier run to compare against</li>
+ * <li><code>-tolerance=x</code>: accepted relative increase of the median wall time and allocated bytes compared to
+ * the baseline, default 0.1</li>
+ * </ul>
+ * Workflows are never saved.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowBenchmark extends BatchExecutor {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowBenchmark.class);
+
+    /** Return code if a measurement got worse than the baseline by more than the tolerance: {@value}. */
+    public static final int EXIT_REGRESSION = 5;
+
+    private File m_corpusDir;
+
+    private int m_scale = 1;
+
+    private int m_repetitions = 5;
+
+    private int m_warmup = 1;
+
+    private File m_resultFile;
+
+    private File m_baselineFile;
+
+    private double m_tolerance = 0.1;
+
+    private final BenchmarkResults m_results = new BenchmarkResults();
+
+    /**
+     * Creates a new benchmark runner.
+     *
+     * @param args the command line arguments
+     * @throws IOException if an I/O error occurs
+     * @throws CoreException if the preference cannot be read from the specified file
+     * @throws IllegalOptionException if a setting is missing or invalid
+     * @throws BatchException if the corpus workflows can't be created
+     */
+    public WorkflowBenchmark(final String[] args)
+        throws IOException, CoreException, IllegalOptionException, BatchException {
+        // BatchExecutor(String[]) would process the arguments before the fields of this class are initialized
+        super();
+        if (args.length == 0) {
+            throw new IllegalOptionException("No arguments provided");
+        }
+        processArguments(args);
+        for (WorkflowConfiguration config : m_workflows) {
+            checkConfiguration(config);
+        }
+    }
+
+    private WorkflowBenchmark() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void processArguments(final String[] args)
+        throws IOException, CoreException, IllegalOptionException, BatchException {
+        final List<String> batchArgs = new ArrayList<>();
+        for (String s : args) {
+            if (!handleBenchmarkArgument(s.split("=", 2))) {
+                batchArgs.add(s);
+            }
+        }
+        final String[] batchArgsArray = batchArgs.toArray(new String[batchArgs.size()]);
+        if (m_corpusDir == null) {
+            parseConfigFromArguments(batchArgsArray);
+        } else {
+            final List<File> workflows;
+            try {
+                workflows = BenchmarkWorkflowCorpus.createAll(m_corpusDir, m_scale);
+            } catch (InvalidSettingsException | CanceledExecutionException | LockFailedException ex) {
+                throw new BatchException("Could not create benchmark workflows: " + ex.getMessage(), ex,
+                    EXIT_ERR_PRESTART);
+            }
+            for (File workflow : workflows) {
+                parseConfigFromArguments(batchArgsArray).inputWorkflow = workflow;
+            }
+        }
+        for (WorkflowConfiguration config : m_workflows) {
+            config.noSave = true;
+        }
+        m_results.setProperty("knimeVersion", KNIMEConstants.VERSION);
+        m_results.setProperty("javaVersion", System.getProperty("java.version"));
+        m_results.setProperty("availableProcessors", Integer.toString(Runtime.getRuntime().availableProcessors()));
+        m_results.setProperty("maxHeapBytes", Long.toString(Runtime.getRuntime().maxMemory()));
+        m_results.setProperty("scale", Integer.toString(m_scale));
+        m_results.setProperty("repetitions", Integer.toString(m_repetitions));
+        m_results.setProperty("warmup", Integer.toString(m_warmup));
+    }
+
+    /**
+     * Handles the options specific to the benchmark.
+     *
+     * @param parts the option name and, if present, its value
+     * @return <code>true</code> if the option was handled, <code>false</code> if it's an option of the batch executor
+     * @throws IllegalOptionException if the value is missing or invalid
+     */
+    private boolean handleBenchmarkArgument(final String[] parts) throws IllegalOptionException {
+        switch (parts[0]) {
+            case "-corpus":
+                m_corpusDir = new File(getValue(parts));
+                return true;
+            case "-scale":
+                m_scale = getIntAtLeast(parts, 1);
+                return true;
+            case "-repetitions":
+                m_repetitions = getIntAtLeast(parts, 1);
+                return true;
+            case "-warmup":
+                m_warmup = getIntAtLeast(parts, 0);
+                return true;
+            case "-result":
+                m_resultFile = new File(getValue(parts));
+                return true;
+            case "-baseline":
+                m_baselineFile = new File(getValue(parts));
+                if (!m_baselineFile.isFile()) {
+                    throw new IllegalOptionException("Baseline file " + m_baselineFile + " does not exist");
+                }
+                return true;
+            case "-tolerance":
+                try {
+                    m_tolerance = Double.parseDouble(getValue(parts));
+                } catch (NumberFormatException ex) {
+                    throw new IllegalOptionException("Invalid tolerance: " + parts[1], ex);
+                }
+                if (!(m_tolerance >= 0)) {
+                    throw new IllegalOptionException("Tolerance must not be negative: " + parts[1]);
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static String getValue(final String[] parts) throws IllegalOptionException {
+        if (parts.length < 2 || parts[1].isEmpty()) {
+            throw new IllegalOptionException("No value given for option " + parts[0]);
+        }
+        return parts[1];
+    }
+
+    private static int getIntAtLeast(final String[] parts, final int min) throws IllegalOptionException {
+        final String value = getValue(parts);
+        try {
+            final int result = Integer.parseInt(value);
+            if (result < min) {
+                throw new IllegalOptionException("Value of " + parts[0] + " must be at least " + min + ": " + value);
+            }
+            return result;
+        } catch (NumberFormatException ex) {
+            throw new IllegalOptionException("Invalid value of " + parts[0] + ": " + value, ex);
+        }
+    }
+
+    /**
+     * Resets and executes the workflow {@link #m_warmup} plus {@link #m_repetitions} times and measures the latter.
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean executeWorkflow(final WorkflowManager wfm, final WorkflowConfiguration config)
+        throws CanceledExecutionException, BatchException {
+        if (config.noExecute) {
+            return super.executeWorkflow(wfm, config);
+        }
+        final String name = config.inputWorkflow.getName();
+        boolean successful = true;
+        for (int i = 0; i < m_warmup + m_repetitions && successful; i++) {
+            wfm.resetAndConfigureAll();
+            final boolean measured = i >= m_warmup;
+            final RunMeasurement measurement = measured ? RunMeasurement.start(wfm) : null;
+            successful = super.executeWorkflow(wfm, config);
+            if (measured) {
+                m_results.addRun(name, measurement.stop());
+                LOGGER.info("Benchmark " + name + " repetition " + (i - m_warmup + 1) + ": "
+                    + m_results.getRuns(name).get(i - m_warmup));
+            }
+        }
+        m_results.setSuccessful(name, successful);
+        return successful;
+    }
+
+    /**
+     * Runs all workflows, writes the results and compares them with the baseline if given.
+     *
+     * @return {@link #EXIT_REGRESSION} if a measurement got worse than the baseline, or any other exit code of
+     *         {@link BatchExecutor#runAll()}
+     */
+    @Override
+    public int runAll() {
+        int retVal = super.runAll();
+        try {
+            if (m_resultFile != null) {
+                m_results.write(m_resultFile);
+                LOGGER.info("Benchmark results written to " + m_resultFile.getAbsolutePath());
+            }
+            if (m_baselineFile != null) {
+                final List<String> regressions =
+                    m_results.findRegressions(BenchmarkResults.read(m_baselineFile), m_tolerance);
+                regressions.forEach(LOGGER::warn);
+                if (!regressions.isEmpty() && retVal == EXIT_SUCCESS) {
+                    retVal = EXIT_REGRESSION;
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.error(ex.getMessage(), ex);
+            return EXIT_ERR_EXECUTION;
+        }
+        return retVal;
+    }
+
+    /** @return the results of the workflows run so far */
+    public BenchmarkResults getResults() {
+        return m_results;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void usage() {
+        System.err.println(getOptionsString() + "\n"
+            + " -corpus=...       => directory with the synthetic benchmark workflows, created\n"
+            + "                      if not present; replaces -workflowDir and -workflowFile\n"
+            + " -scale=n          => scale factor of the created benchmark workflows (default 1)\n"
+            + " -repetitions=n    => number of measured executions per workflow (default 5)\n"
+            + " -warmup=n         => number of executions before the measured ones (default 1)\n"
+            + " -result=...       => JSON file the benchmark results are written to\n"
+            + " -baseline=...     => JSON file with results to compare against\n"
+            + " -tolerance=x      => accepted relative increase compared to the baseline (default 0.1)\n"
+            + getPropertiesString() + "\n" + getReturnCodesHelp());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected String getReturnCodesHelp() {
+        return super.getReturnCodesHelp() + "\t" + EXIT_REGRESSION
+            + "\tif a measurement got worse than the baseline by more than the tolerance\n";
+    }
+
+    /**
+     * Parses the command line and runs the benchmark.
+     *
+     * @param args command line arguments, see output of {@link #usage()}
+     * @return an exit code, one of the codes of {@link BatchExecutor#mainRun(String...)} or {@link #EXIT_REGRESSION}
+     */
+    public static int mainRun(final String... args) {
+        if (args.length == 0) {
+            new WorkflowBenchmark().usage();
+            return EXIT_SUCCESS;
+        }
+        try {
+            return new WorkflowBenchmark(args).runAll();
+        } catch (IOException ex) {
+            LOGGER.error("Error while creating benchmark workflows: " + ex.getMessage(), ex);
+            return EXIT_ERR_PRESTART;
+        } catch (CoreException ex) {
+            LOGGER.error("Error while reading preferences file: " + ex.getMessage(), ex);
+            return EXIT_ERR_PRESTART;
+        } catch (IllegalOptionException ex) {
+            LOGGER.error(ex.getMessage(), ex);
+            return EXIT_ERR_PRESTART;
+        } catch (BatchException ex) {
+            LOGGER.error(ex.getMessage(), ex);
+            return ex.getDetailCode();
+        }
+    }
+}
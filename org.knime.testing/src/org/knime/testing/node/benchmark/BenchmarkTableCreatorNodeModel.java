@@ -0,0 +1,217 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.testing.node.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+
+/**
+ * Creates a table of a given shape with random values from a fixed seed. The column types are given as a string of
+ * type codes, one character per column: <code>i</code> (int), <code>l</code> (long), <code>d</code> (double) and
+ * <code>s</code> (string).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class BenchmarkTableCreatorNodeModel extends NodeModel {
+
+    /** Config key of the number of rows. */
+    public static final String CFG_ROW_COUNT = "rowCount";
+
+    /** Config key of the column type codes. */
+    public static final String CFG_COLUMN_TYPES = "columnTypes";
+
+    /** Config key of the number of distinct values per column. */
+    public static final String CFG_DISTINCT_VALUES = "distinctValues";
+
+    private static final long SEED = 42;
+
+    private final SettingsModelIntegerBounded m_rowCount =
+        new SettingsModelIntegerBounded(CFG_ROW_COUNT, 1000, 0, Integer.MAX_VALUE);
+
+    private final SettingsModelString m_columnTypes = new SettingsModelString(CFG_COLUMN_TYPES, "idls");
+
+    private final SettingsModelIntegerBounded m_distinctValues =
+        new SettingsModelIntegerBounded(CFG_DISTINCT_VALUES, 1000, 1, Integer.MAX_VALUE);
+
+    /** No input, one data output. */
+    BenchmarkTableCreatorNodeModel() {
+        super(0, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+        return new DataTableSpec[]{createSpec(m_columnTypes.getStringValue())};
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+        throws Exception {
+        final String columnTypes = m_columnTypes.getStringValue();
+        final int rowCount = m_rowCount.getIntValue();
+        final int distinctValues = m_distinctValues.getIntValue();
+        final Random random = new Random(SEED);
+        final BufferedDataContainer container = exec.createDataContainer(createSpec(columnTypes));
+        for (int r = 0; r < rowCount; r++) {
+            final DataCell[] cells = new DataCell[columnTypes.length()];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = createCell(columnTypes.charAt(c), random.nextInt(distinctValues));
+            }
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey((long)r), cells));
+            exec.checkCanceled();
+            exec.setProgress(r / (double)rowCount);
+        }
+        container.close();
+        return new BufferedDataTable[]{container.getTable()};
+    }
+
+    private static DataTableSpec createSpec(final String columnTypes) throws InvalidSettingsException {
+        final DataColumnSpec[] colSpecs = new DataColumnSpec[columnTypes.length()];
+        for (int i = 0; i < colSpecs.length; i++) {
+            colSpecs[i] = new DataColumnSpecCreator("c" + i, toType(columnTypes.charAt(i))).createSpec();
+        }
+        return new DataTableSpec(colSpecs);
+    }
+
+    private static DataType toType(final char typeCode) throws InvalidSettingsException {
+        switch (typeCode) {
+            case 'i':
+                return IntCell.TYPE;
+            case 'l':
+                return LongCell.TYPE;
+            case 'd':
+                return DoubleCell.TYPE;
+            case 's':
+                return StringCell.TYPE;
+            default:
+                throw new InvalidSettingsException("Unknown column type code '" + typeCode + "'");
+        }
+    }
+
+    private static DataCell createCell(final char typeCode, final int value) {
+        switch (typeCode) {
+            case 'i':
+                return new IntCell(value);
+            case 'l':
+                return new LongCell(value * 1_000_003L);
+            case 'd':
+                return new DoubleCell(value / 7.0);
+            default:
+                return new StringCell("value_" + value);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void reset() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void saveSettingsTo(final NodeSettingsWO settings) {
+        m_rowCount.saveSettingsTo(settings);
+        m_columnTypes.saveSettingsTo(settings);
+        m_distinctValues.saveSettingsTo(settings);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_rowCount.validateSettings(settings);
+        m_distinctValues.validateSettings(settings);
+        final SettingsModelString columnTypes = m_columnTypes.createCloneWithValidatedValue(settings);
+        createSpec(columnTypes.getStringValue());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_rowCount.loadSettingsFrom(settings);
+        m_columnTypes.loadSettingsFrom(settings);
+        m_distinctValues.loadSettingsFrom(settings);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+    }
+
+}